@@ -19,7 +19,11 @@ import java.util.concurrent.CompletionStage;
 
 import com.holonplatform.async.datastore.AsyncDatastore;
 import com.holonplatform.core.datastore.DatastoreCommodity;
+import com.holonplatform.core.property.Property;
+import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.core.property.PropertySet;
 import com.holonplatform.core.query.QueryBuilder;
+import com.holonplatform.core.query.QueryPage;
 import com.holonplatform.core.query.QueryProjection;
 
 /**
@@ -37,4 +41,40 @@ import com.holonplatform.core.query.QueryProjection;
  */
 public interface AsyncQuery extends QueryBuilder<AsyncQuery>, AsyncQueryResults, DatastoreCommodity {
 
+	/**
+	 * Execute the query and get a {@link QueryPage} of at most <code>pageSize</code> results as {@link PropertyBox},
+	 * using given <code>properties</code> as projection.
+	 * <p>
+	 * The next page can be obtained using the {@link QueryPage#getNextCursor()} row as
+	 * {@link #seekAfter(PropertyBox)} argument. For this reason, the projection properties must include the query
+	 * sort paths.
+	 * </p>
+	 * @param <P> Property type
+	 * @param pageSize The page size, must be greater than <code>0</code>
+	 * @param properties Property set to use as projection (not null)
+	 * @return A {@link CompletionStage} which can be used to handle the asynchronous operation outcome and the query
+	 *         results page
+	 */
+	@SuppressWarnings("rawtypes")
+	default <P extends Property> CompletionStage<QueryPage> page(int pageSize, Iterable<P> properties) {
+		if (pageSize <= 0) {
+			throw new IllegalArgumentException("Page size must be greater than 0");
+		}
+		return limit(pageSize + 1).list(properties).thenApply(results -> QueryPage.create(results, pageSize));
+	}
+
+	/**
+	 * Execute the query and get a {@link QueryPage} of at most <code>pageSize</code> results as {@link PropertyBox},
+	 * using given <code>properties</code> as projection.
+	 * @param pageSize The page size, must be greater than <code>0</code>
+	 * @param properties Property set to use as projection (not null)
+	 * @return A {@link CompletionStage} which can be used to handle the asynchronous operation outcome and the query
+	 *         results page
+	 * @see #page(int, Iterable)
+	 */
+	@SuppressWarnings("rawtypes")
+	default CompletionStage<QueryPage> page(int pageSize, Property... properties) {
+		return page(pageSize, PropertySet.of(properties));
+	}
+
 }
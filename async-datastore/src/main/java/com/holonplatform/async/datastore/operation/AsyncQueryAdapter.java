@@ -18,6 +18,7 @@ package com.holonplatform.async.datastore.operation;
 import java.util.concurrent.CompletionStage;
 import java.util.stream.Stream;
 
+import com.holonplatform.async.internal.datastore.operation.DefaultQueryResultsPublisher;
 import com.holonplatform.core.query.QueryConfiguration;
 import com.holonplatform.core.query.QueryOperation;
 import com.holonplatform.core.query.QueryProjection;
@@ -46,4 +47,21 @@ public interface AsyncQueryAdapter<C extends QueryConfiguration> {
 	 */
 	<R> CompletionStage<Stream<R>> stream(QueryOperation<C, R> queryOperation);
 
+	/**
+	 * Execute a query using provided {@link QueryOperation} and return the results as a demand-driven
+	 * {@link QueryResultsPublisher}.
+	 * <p>
+	 * By default, the publisher consumes the {@link #stream(QueryOperation)} results stream as the results are
+	 * requested and closes the stream when the subscription is cancelled. Concrete adapters backed by a database
+	 * cursor should return a lazy results stream, or override this method to fetch the results on demand.
+	 * </p>
+	 * @param <R> Query results type
+	 * @param queryOperation Query operation (not null)
+	 * @return Query results publisher
+	 * @since 5.2.0
+	 */
+	default <R> QueryResultsPublisher<R> publisher(QueryOperation<C, R> queryOperation) {
+		return new DefaultQueryResultsPublisher<>(() -> stream(queryOperation));
+	}
+
 }
@@ -21,6 +21,7 @@ import java.util.concurrent.CompletionStage;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import com.holonplatform.async.internal.datastore.operation.DefaultQueryResultsPublisher;
 import com.holonplatform.core.exceptions.DataAccessException;
 import com.holonplatform.core.internal.query.QueryUtils;
 import com.holonplatform.core.property.Property;
@@ -210,4 +211,46 @@ public interface AsyncQueryResults
 		return list(PropertySet.of(properties));
 	}
 
+	/**
+	 * Get a {@link QueryResultsPublisher} of the query results, using given <code>projection</code> to map the results
+	 * to the required type.
+	 * <p>
+	 * The query is executed when a subscriber requests the first results, and the results are emitted according to
+	 * the subscriber demand. Cancelling the subscription closes the query results. Each subscription executes the
+	 * query independently.
+	 * </p>
+	 * @param <R> Results type
+	 * @param projection Query projection (not null)
+	 * @return The query results publisher
+	 * @since 5.2.0
+	 */
+	default <R> QueryResultsPublisher<R> publisher(QueryProjection<R> projection) {
+		return new DefaultQueryResultsPublisher<>(() -> stream(projection));
+	}
+
+	/**
+	 * Get a {@link QueryResultsPublisher} of the query results as {@link PropertyBox} instances, using given
+	 * <code>properties</code> as projection.
+	 * @param <P> Property type
+	 * @param properties Property set to use as projection (not null)
+	 * @return The query results publisher
+	 * @since 5.2.0
+	 * @see #publisher(QueryProjection)
+	 */
+	default <P extends Property> QueryResultsPublisher<PropertyBox> publisher(Iterable<P> properties) {
+		return publisher(PropertySetProjection.of(properties));
+	}
+
+	/**
+	 * Get a {@link QueryResultsPublisher} of the query results as {@link PropertyBox} instances, using given
+	 * <code>properties</code> as projection.
+	 * @param properties Property set to use as projection (not null)
+	 * @return The query results publisher
+	 * @since 5.2.0
+	 * @see #publisher(QueryProjection)
+	 */
+	default QueryResultsPublisher<PropertyBox> publisher(Property... properties) {
+		return publisher(PropertySet.of(properties));
+	}
+
 }
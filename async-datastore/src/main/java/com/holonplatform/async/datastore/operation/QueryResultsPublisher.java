@@ -0,0 +1,95 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.async.datastore.operation;
+
+/**
+ * A demand-driven publisher of query results, which emits the results to a {@link Subscriber} only as they are
+ * requested through the {@link Subscription}.
+ * <p>
+ * The API follows the <em>Reactive Streams</em> protocol: the query is executed when the first results are requested,
+ * the results are fetched according to the demand signaled by the subscriber and cancelling the subscription releases
+ * the underlying query resources, for example the results cursor. The publisher can be adapted to any Reactive Streams
+ * compliant library, such as the <code>java.util.concurrent.Flow</code> API.
+ * </p>
+ * 
+ * @param <R> Query results type
+ * 
+ * @since 5.2.0
+ * 
+ * @see AsyncQueryResults#publisher(com.holonplatform.core.query.QueryProjection)
+ */
+@FunctionalInterface
+public interface QueryResultsPublisher<R> {
+
+	/**
+	 * Subscribe given {@link Subscriber} to the query results. Each subscription executes the query independently.
+	 * @param subscriber The subscriber (not null)
+	 */
+	void subscribe(Subscriber<? super R> subscriber);
+
+	/**
+	 * Query results subscriber.
+	 * @param <R> Query results type
+	 */
+	public interface Subscriber<R> {
+
+		/**
+		 * Invoked when the subscription is available. No results are emitted until
+		 * {@link Subscription#request(long)} is invoked.
+		 * @param subscription The subscription
+		 */
+		void onSubscribe(Subscription subscription);
+
+		/**
+		 * Invoked for each query result, never more times than the requested ones.
+		 * @param item The query result
+		 */
+		void onNext(R item);
+
+		/**
+		 * Invoked when the query execution fails. No other method is invoked afterwards.
+		 * @param error The error
+		 */
+		void onError(Throwable error);
+
+		/**
+		 * Invoked when all the query results were emitted. No other method is invoked afterwards.
+		 */
+		void onComplete();
+
+	}
+
+	/**
+	 * The link between a {@link QueryResultsPublisher} and a {@link Subscriber}, used to signal the demand of query
+	 * results and to cancel the subscription.
+	 */
+	public interface Subscription {
+
+		/**
+		 * Request given number of query results.
+		 * @param n The number of results to request, must be greater than <code>0</code>
+		 */
+		void request(long n);
+
+		/**
+		 * Cancel the subscription, releasing the query resources. Some results may still be emitted after this
+		 * method invocation, if they were already requested.
+		 */
+		void cancel();
+
+	}
+
+}
@@ -20,6 +20,7 @@ import java.util.stream.Stream;
 
 import com.holonplatform.async.datastore.operation.AsyncQuery;
 import com.holonplatform.async.datastore.operation.AsyncQueryAdapter;
+import com.holonplatform.async.datastore.operation.QueryResultsPublisher;
 import com.holonplatform.core.internal.query.QueryDefinition;
 import com.holonplatform.core.internal.utils.ObjectUtils;
 import com.holonplatform.core.query.QueryOperation;
@@ -79,4 +80,14 @@ public class AsyncQueryAdapterQuery<D extends QueryDefinition> extends AbstractA
 		return getQueryAdapter().stream(QueryOperation.create(getQueryDefinition(), projection));
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.async.datastore.operation.AsyncQueryResults#publisher(com.holonplatform.core.query.
+	 * QueryProjection)
+	 */
+	@Override
+	public <R> QueryResultsPublisher<R> publisher(QueryProjection<R> projection) {
+		return getQueryAdapter().publisher(QueryOperation.create(getQueryDefinition(), projection));
+	}
+
 }
@@ -0,0 +1,250 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.async.internal.datastore.operation;
+
+import java.util.Iterator;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import com.holonplatform.async.datastore.operation.QueryResultsPublisher;
+import com.holonplatform.core.internal.utils.ObjectUtils;
+
+/**
+ * Default {@link QueryResultsPublisher} implementation, which emits the results of a query results {@link Stream}
+ * according to the subscriber demand.
+ * <p>
+ * The query is executed when the first results are requested and the results stream is consumed only as the results
+ * are requested, so the results are fetched lazily if the stream is backed by a lazy cursor. The results stream is
+ * closed when all the results were emitted, when an error occurs or when the subscription is cancelled.
+ * </p>
+ * <p>
+ * The results stream is never advanced without an outstanding demand, so the completion is signalled only when more
+ * results are requested than the available ones.
+ * </p>
+ * 
+ * @param <R> Query results type
+ * 
+ * @since 5.2.0
+ */
+public class DefaultQueryResultsPublisher<R> implements QueryResultsPublisher<R> {
+
+	/*
+	 * Query results supplier
+	 */
+	private final Supplier<CompletionStage<Stream<R>>> results;
+
+	/**
+	 * Constructor.
+	 * @param results The function to use to execute the query and obtain the results stream (not null)
+	 */
+	public DefaultQueryResultsPublisher(Supplier<CompletionStage<Stream<R>>> results) {
+		super();
+		ObjectUtils.argumentNotNull(results, "Query results supplier must be not null");
+		this.results = results;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.async.datastore.operation.QueryResultsPublisher#subscribe(com.holonplatform.async.
+	 * datastore.operation.QueryResultsPublisher.Subscriber)
+	 */
+	@Override
+	public void subscribe(Subscriber<? super R> subscriber) {
+		ObjectUtils.argumentNotNull(subscriber, "Subscriber must be not null");
+		subscriber.onSubscribe(new ResultsSubscription<>(results, subscriber));
+	}
+
+	/**
+	 * Subscription which serializes the results emission using a drain loop, so that {@link #request(long)} can be
+	 * safely invoked from any thread and from within {@link Subscriber#onNext(Object)}.
+	 * @param <R> Query results type
+	 */
+	private static final class ResultsSubscription<R> implements Subscription {
+
+		private final Supplier<CompletionStage<Stream<R>>> results;
+
+		private final Subscriber<? super R> subscriber;
+
+		private final AtomicLong requested = new AtomicLong();
+
+		private final AtomicInteger wip = new AtomicInteger();
+
+		private final AtomicBoolean executed = new AtomicBoolean(false);
+
+		private volatile boolean cancelled = false;
+
+		private volatile Throwable error;
+
+		private volatile Stream<R> stream;
+
+		private Iterator<R> iterator;
+
+		private boolean terminated = false;
+
+		ResultsSubscription(Supplier<CompletionStage<Stream<R>>> results, Subscriber<? super R> subscriber) {
+			super();
+			this.results = results;
+			this.subscriber = subscriber;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.async.datastore.operation.QueryResultsPublisher.Subscription#request(long)
+		 */
+		@Override
+		public void request(long n) {
+			if (n <= 0) {
+				error = new IllegalArgumentException("The number of requested results must be greater than 0");
+				drain();
+				return;
+			}
+			long current;
+			do {
+				current = requested.get();
+				if (current == Long.MAX_VALUE) {
+					break;
+				}
+			} while (!requested.compareAndSet(current, (current + n < 0) ? Long.MAX_VALUE : current + n));
+			if (executed.compareAndSet(false, true)) {
+				execute();
+			} else {
+				drain();
+			}
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.async.datastore.operation.QueryResultsPublisher.Subscription#cancel()
+		 */
+		@Override
+		public void cancel() {
+			cancelled = true;
+			drain();
+		}
+
+		/**
+		 * Execute the query.
+		 */
+		private void execute() {
+			final CompletionStage<Stream<R>> stage;
+			try {
+				stage = results.get();
+			} catch (Throwable e) {
+				error = e;
+				drain();
+				return;
+			}
+			stage.whenComplete((s, e) -> {
+				if (e != null) {
+					error = (e instanceof CompletionException && e.getCause() != null) ? e.getCause() : e;
+				} else {
+					stream = (s != null) ? s : Stream.empty();
+				}
+				drain();
+			});
+		}
+
+		/**
+		 * Emit the requested results, if available. Only one thread at a time runs the emission loop.
+		 */
+		private void drain() {
+			if (wip.getAndIncrement() != 0) {
+				return;
+			}
+			int missed = 1;
+			do {
+				if (terminated) {
+					// close a results stream provided after termination
+					terminate();
+				} else {
+					emit();
+				}
+				missed = wip.addAndGet(-missed);
+			} while (missed != 0);
+		}
+
+		/**
+		 * Emit the requested results and the terminal signals.
+		 */
+		private void emit() {
+			if (cancelled) {
+				terminate();
+				return;
+			}
+			final Throwable e = error;
+			if (e != null) {
+				terminate();
+				subscriber.onError(e);
+				return;
+			}
+			final Stream<R> s = stream;
+			if (s == null) {
+				// query not executed yet
+				return;
+			}
+			try {
+				if (iterator == null) {
+					iterator = s.iterator();
+				}
+				long emitted = 0L;
+				long demand = requested.get();
+				while (!cancelled && error == null) {
+					if (emitted == demand) {
+						demand = requested.addAndGet(-emitted);
+						emitted = 0L;
+						if (demand == 0L) {
+							// do not fetch further results until requested
+							return;
+						}
+					}
+					if (!iterator.hasNext()) {
+						terminate();
+						subscriber.onComplete();
+						return;
+					}
+					subscriber.onNext(iterator.next());
+					emitted++;
+				}
+				requested.addAndGet(-emitted);
+			} catch (Throwable ex) {
+				terminate();
+				subscriber.onError(ex);
+				return;
+			}
+			// cancelled or failed while emitting
+			emit();
+		}
+
+		/**
+		 * Mark the subscription as terminated and close the results stream, if available. The stream closing is
+		 * idempotent.
+		 */
+		private void terminate() {
+			terminated = true;
+			final Stream<R> s = stream;
+			if (s != null) {
+				s.close();
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,271 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.async.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.junit.Test;
+
+import com.holonplatform.async.datastore.operation.QueryResultsPublisher;
+import com.holonplatform.async.datastore.operation.QueryResultsPublisher.Subscriber;
+import com.holonplatform.async.datastore.operation.QueryResultsPublisher.Subscription;
+import com.holonplatform.async.internal.datastore.operation.DefaultQueryResultsPublisher;
+
+public class TestQueryResultsPublisher {
+
+	@Test
+	public void testBoundedRequest() {
+		final TestResults results = new TestResults(1, 2, 3, 4, 5);
+		final TestSubscriber<Integer> subscriber = new TestSubscriber<>();
+		new DefaultQueryResultsPublisher<>(() -> CompletableFuture.completedFuture(results.stream()))
+				.subscribe(subscriber);
+
+		assertEquals(0, results.executed.get());
+
+		subscriber.subscription.request(2);
+		assertEquals(1, results.executed.get());
+		assertEquals(Arrays.asList(1, 2), subscriber.items);
+		assertEquals(2, results.fetched.get());
+		assertFalse(subscriber.completed);
+		assertFalse(results.closed.get());
+
+		subscriber.subscription.request(2);
+		assertEquals(Arrays.asList(1, 2, 3, 4), subscriber.items);
+		assertEquals(4, results.fetched.get());
+		assertFalse(subscriber.completed);
+
+		subscriber.subscription.request(5);
+		assertEquals(Arrays.asList(1, 2, 3, 4, 5), subscriber.items);
+		assertTrue(subscriber.completed);
+		assertNull(subscriber.error);
+		assertTrue(results.closed.get());
+		assertEquals(1, results.executed.get());
+	}
+
+	@Test
+	public void testRequestFromOnNext() {
+		final TestResults results = new TestResults(1, 2, 3);
+		final TestSubscriber<Integer> subscriber = new TestSubscriber<Integer>() {
+
+			@Override
+			public void onNext(Integer item) {
+				super.onNext(item);
+				subscription.request(1);
+			}
+
+		};
+		new DefaultQueryResultsPublisher<>(() -> CompletableFuture.completedFuture(results.stream()))
+				.subscribe(subscriber);
+
+		subscriber.subscription.request(1);
+		assertEquals(Arrays.asList(1, 2, 3), subscriber.items);
+		assertTrue(subscriber.completed);
+		assertTrue(results.closed.get());
+	}
+
+	@Test
+	public void testCancel() {
+		final TestResults results = new TestResults(1, 2, 3);
+		final TestSubscriber<Integer> subscriber = new TestSubscriber<>();
+		new DefaultQueryResultsPublisher<>(() -> CompletableFuture.completedFuture(results.stream()))
+				.subscribe(subscriber);
+
+		subscriber.subscription.request(1);
+		assertEquals(Collections.singletonList(1), subscriber.items);
+
+		subscriber.subscription.cancel();
+		assertTrue(results.closed.get());
+
+		subscriber.subscription.request(2);
+		assertEquals(Collections.singletonList(1), subscriber.items);
+		assertEquals(1, results.fetched.get());
+		assertFalse(subscriber.completed);
+		assertNull(subscriber.error);
+	}
+
+	@Test
+	public void testCancelBeforeExecution() {
+		final TestResults results = new TestResults(1, 2, 3);
+		final CompletableFuture<Stream<Integer>> pending = new CompletableFuture<>();
+		final TestSubscriber<Integer> subscriber = new TestSubscriber<>();
+		new DefaultQueryResultsPublisher<>(() -> pending).subscribe(subscriber);
+
+		subscriber.subscription.request(1);
+		subscriber.subscription.cancel();
+
+		// the results stream provided after cancellation is closed
+		pending.complete(results.stream());
+		assertTrue(results.closed.get());
+		assertTrue(subscriber.items.isEmpty());
+		assertEquals(0, results.fetched.get());
+	}
+
+	@Test
+	public void testError() {
+		// query execution failure
+		TestSubscriber<Integer> subscriber = new TestSubscriber<>();
+		final CompletableFuture<Stream<Integer>> failed = new CompletableFuture<>();
+		new DefaultQueryResultsPublisher<>(() -> failed).subscribe(subscriber);
+		subscriber.subscription.request(1);
+		failed.completeExceptionally(new IllegalStateException("query failed"));
+		assertTrue(subscriber.error instanceof IllegalStateException);
+		assertEquals("query failed", subscriber.error.getMessage());
+		assertFalse(subscriber.completed);
+
+		// results fetch failure
+		final TestResults results = new TestResults(1, 2, 3);
+		results.failAt = 2;
+		subscriber = new TestSubscriber<>();
+		new DefaultQueryResultsPublisher<>(() -> CompletableFuture.completedFuture(results.stream()))
+				.subscribe(subscriber);
+		subscriber.subscription.request(3);
+		assertEquals(Collections.singletonList(1), subscriber.items);
+		assertTrue(subscriber.error instanceof IllegalStateException);
+		assertFalse(subscriber.completed);
+		assertTrue(results.closed.get());
+
+		// invalid request
+		final TestResults results2 = new TestResults(1, 2, 3);
+		subscriber = new TestSubscriber<>();
+		new DefaultQueryResultsPublisher<>(() -> CompletableFuture.completedFuture(results2.stream()))
+				.subscribe(subscriber);
+		subscriber.subscription.request(0);
+		assertTrue(subscriber.error instanceof IllegalArgumentException);
+		assertTrue(subscriber.items.isEmpty());
+	}
+
+	@Test
+	public void testCompletion() {
+		// empty results
+		final TestResults empty = new TestResults();
+		TestSubscriber<Integer> subscriber = new TestSubscriber<>();
+		new DefaultQueryResultsPublisher<>(() -> CompletableFuture.completedFuture(empty.stream()))
+				.subscribe(subscriber);
+		subscriber.subscription.request(1);
+		assertTrue(subscriber.items.isEmpty());
+		assertTrue(subscriber.completed);
+		assertTrue(empty.closed.get());
+
+		// null results stream
+		subscriber = new TestSubscriber<>();
+		new DefaultQueryResultsPublisher<Integer>(() -> CompletableFuture.completedFuture(null)).subscribe(subscriber);
+		subscriber.subscription.request(1);
+		assertTrue(subscriber.completed);
+
+		// unbounded demand
+		final TestResults results = new TestResults(1, 2, 3);
+		subscriber = new TestSubscriber<>();
+		new DefaultQueryResultsPublisher<>(() -> CompletableFuture.completedFuture(results.stream()))
+				.subscribe(subscriber);
+		subscriber.subscription.request(Long.MAX_VALUE);
+		subscriber.subscription.request(Long.MAX_VALUE);
+		assertEquals(Arrays.asList(1, 2, 3), subscriber.items);
+		assertTrue(subscriber.completed);
+		assertNull(subscriber.error);
+		assertTrue(results.closed.get());
+	}
+
+	private static class TestResults {
+
+		final List<Integer> values;
+
+		final AtomicInteger executed = new AtomicInteger();
+
+		final AtomicInteger fetched = new AtomicInteger();
+
+		final AtomicBoolean closed = new AtomicBoolean(false);
+
+		int failAt = -1;
+
+		TestResults(Integer... values) {
+			this.values = Arrays.asList(values);
+		}
+
+		Stream<Integer> stream() {
+			executed.incrementAndGet();
+			final Iterator<Integer> cursor = new Iterator<Integer>() {
+
+				private int index = 0;
+
+				@Override
+				public boolean hasNext() {
+					return index < values.size();
+				}
+
+				@Override
+				public Integer next() {
+					if (++index == failAt) {
+						throw new IllegalStateException("fetch failed");
+					}
+					fetched.incrementAndGet();
+					return values.get(index - 1);
+				}
+
+			};
+			return StreamSupport.stream(Spliterators.spliteratorUnknownSize(cursor, 0), false)
+					.onClose(() -> closed.set(true));
+		}
+
+	}
+
+	private static class TestSubscriber<R> implements Subscriber<R> {
+
+		final List<R> items = new ArrayList<>();
+
+		Subscription subscription;
+
+		boolean completed = false;
+
+		Throwable error;
+
+		@Override
+		public void onSubscribe(Subscription subscription) {
+			this.subscription = subscription;
+		}
+
+		@Override
+		public void onNext(R item) {
+			items.add(item);
+		}
+
+		@Override
+		public void onError(Throwable error) {
+			this.error = error;
+		}
+
+		@Override
+		public void onComplete() {
+			completed = true;
+		}
+
+	}
+
+}
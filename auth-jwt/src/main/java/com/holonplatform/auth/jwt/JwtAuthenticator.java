@@ -17,6 +17,7 @@ package com.holonplatform.auth.jwt;
 
 import java.util.Collection;
 
+import com.holonplatform.auth.Authentication;
 import com.holonplatform.auth.Authenticator;
 import com.holonplatform.auth.jwt.internal.DefaultJwtAuthenticator;
 import com.holonplatform.auth.token.BearerAuthenticationToken;
@@ -47,6 +48,26 @@ public interface JwtAuthenticator extends Authenticator<BearerAuthenticationToke
 	 */
 	Collection<String> getRequiredClaims();
 
+	/**
+	 * Revoke the cached {@link Authentication} obtained from given JWT token, if the authentication cache is enabled
+	 * (see {@link JwtConfiguration#getAuthenticationCacheSize()}). The token will be verified again at next
+	 * authentication.
+	 * @param jwt The JWT token (not null)
+	 * @return <code>true</code> if a cached authentication was revoked
+	 * @since 5.2.0
+	 */
+	default boolean revokeCachedAuthentication(String jwt) {
+		return false;
+	}
+
+	/**
+	 * Revoke all the cached {@link Authentication}s, if the authentication cache is enabled (see
+	 * {@link JwtConfiguration#getAuthenticationCacheSize()}).
+	 * @since 5.2.0
+	 */
+	default void revokeCachedAuthentications() {
+	}
+
 	/**
 	 * Builder to create a JwtAuthenticator.
 	 * @return JwtAuthenticator builder
@@ -228,6 +228,24 @@ public interface JwtConfigProperties extends ConfigPropertySet {
 	 */
 	public static final ConfigProperty<Boolean> NOT_BEFORE_NOW = ConfigProperty.create("not-before-now", boolean.class);
 
+	// ------ Validation
+
+	/**
+	 * Allowed clock skew in seconds to use when validating the JWT token <code>exp</code> and <code>nbf</code> claims
+	 * (numeric)
+	 * @since 5.2.0
+	 */
+	public static final ConfigProperty<Long> ALLOWED_CLOCK_SKEW = ConfigProperty.create("allowed-clock-skew-seconds",
+			Long.class);
+
+	/**
+	 * Max size of the cache of the {@link Authentication}s obtained from verified JWT tokens (numeric). The cache is
+	 * disabled if not specified or <code>0</code>.
+	 * @since 5.2.0
+	 */
+	public static final ConfigProperty<Integer> AUTHENTICATION_CACHE_SIZE = ConfigProperty
+			.create("authentication-cache-size", Integer.class);
+
 	// ------ Authentication
 
 	/**
@@ -80,6 +80,27 @@ public interface JwtConfiguration extends Serializable {
 	 */
 	boolean isNotBeforeNow();
 
+	/**
+	 * Get the allowed clock skew to use when validating the JWT token expiration (<code>exp</code>) and not before
+	 * (<code>nbf</code>) claims.
+	 * @return The allowed clock skew in seconds, <code>0</code> if no clock skew is allowed
+	 * @since 5.2.0
+	 */
+	default long getAllowedClockSkew() {
+		return 0L;
+	}
+
+	/**
+	 * Get the max size of the cache used to hold the {@link Authentication}s obtained from the verified JWT tokens, so
+	 * that the same token is verified only once until it expires. The authentications obtained from tokens without an
+	 * expiration date are cached for at most 5 minutes.
+	 * @return The authentication cache max size, <code>0</code> if the authentication cache is disabled
+	 * @since 5.2.0
+	 */
+	default int getAuthenticationCacheSize() {
+		return 0;
+	}
+
 	/**
 	 * Get whether to include {@link Authentication} details in JWT token at token generation time.
 	 * @return <code>true</code> to include {@link Authentication} details in JWT token, <code>false</code> otherwise
@@ -191,6 +212,24 @@ public interface JwtConfiguration extends Serializable {
 		 */
 		Builder notBeforeNow(boolean notBeforeNow);
 
+		/**
+		 * Set the allowed clock skew to use when validating the JWT token expiration (<code>exp</code>) and not before
+		 * (<code>nbf</code>) claims.
+		 * @param allowedClockSkew The allowed clock skew in seconds
+		 * @return this
+		 * @since 5.2.0
+		 */
+		Builder allowedClockSkew(long allowedClockSkew);
+
+		/**
+		 * Set the max size of the cache used to hold the {@link Authentication}s obtained from the verified JWT
+		 * tokens. The cache is disabled by default.
+		 * @param authenticationCacheSize The authentication cache max size, <code>0</code> to disable the cache
+		 * @return this
+		 * @since 5.2.0
+		 */
+		Builder authenticationCacheSize(int authenticationCacheSize);
+
 		/**
 		 * Set whether to include {@link Authentication} details in JWT token generation
 		 * @param includeDetails <code>true</code> to include {@link Authentication} details
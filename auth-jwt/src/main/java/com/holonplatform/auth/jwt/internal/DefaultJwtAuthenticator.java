@@ -37,7 +37,6 @@ import com.holonplatform.core.internal.utils.ObjectUtils;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtParser;
-import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureException;
 import io.jsonwebtoken.UnsupportedJwtException;
@@ -64,6 +63,11 @@ public class DefaultJwtAuthenticator implements JwtAuthenticator {
 	 */
 	private final Collection<String> requiredClaims = new LinkedList<>();
 
+	/**
+	 * Verified tokens authentication cache, if enabled
+	 */
+	private JwtAuthenticationCache authenticationCache;
+
 	/**
 	 * Constructor
 	 */
@@ -72,19 +76,21 @@ public class DefaultJwtAuthenticator implements JwtAuthenticator {
 	}
 
 	/**
-	 * Add an allowed JWT issuer
+	 * Add an allowed JWT issuer. The cached authentications, if any, are revoked.
 	 * @param issuer Issuer to add
 	 */
 	protected void addIssuer(String issuer) {
 		issuers.add(issuer);
+		revokeCachedAuthentications();
 	}
 
 	/**
-	 * Add a required claim
+	 * Add a required claim. The cached authentications, if any, are revoked.
 	 * @param requiredClaim Claim to add
 	 */
 	protected void addRequiredClaim(String requiredClaim) {
 		requiredClaims.add(requiredClaim);
+		revokeCachedAuthentications();
 	}
 
 	/**
@@ -93,6 +99,10 @@ public class DefaultJwtAuthenticator implements JwtAuthenticator {
 	 */
 	protected void setConfiguration(JwtConfiguration configuration) {
 		this.configuration = configuration;
+		this.authenticationCache = (configuration != null && configuration.getAuthenticationCacheSize() > 0)
+				? new JwtAuthenticationCache(configuration.getAuthenticationCacheSize(),
+						configuration.getAllowedClockSkew())
+				: null;
 	}
 
 	/*
@@ -122,6 +132,27 @@ public class DefaultJwtAuthenticator implements JwtAuthenticator {
 		return requiredClaims;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.auth.jwt.JwtAuthenticator#revokeCachedAuthentication(java.lang.String)
+	 */
+	@Override
+	public boolean revokeCachedAuthentication(String jwt) {
+		ObjectUtils.argumentNotNull(jwt, "JWT token must be not null");
+		return (authenticationCache != null) ? authenticationCache.evict(jwt) : false;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.auth.jwt.JwtAuthenticator#revokeCachedAuthentications()
+	 */
+	@Override
+	public void revokeCachedAuthentications() {
+		if (authenticationCache != null) {
+			authenticationCache.clear();
+		}
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see com.holonplatform.auth.authc.AuthenticationTokenResolver#getTokenType()
@@ -157,29 +188,26 @@ public class DefaultJwtAuthenticator implements JwtAuthenticator {
 			throw new UnexpectedAuthenticationException("Missing JWT token");
 		}
 
+		// check cache
+		final JwtAuthenticationCache cache = authenticationCache;
+		if (cache != null) {
+			final Authentication cached = cache.get(jwt);
+			if (cached != null) {
+				return cached;
+			}
+		}
+
 		// decode and get claims
 
 		Claims claims = null;
 
 		try {
 
-			JwtParser parser = Jwts.parser();
+			// pre-configured parser
+			final JwtParser parser = JwtUtils.getJwtParser(getConfiguration());
 
 			if (getConfiguration().getSignatureAlgorithm() != JwtSignatureAlgorithm.NONE) {
 				// Token expected to be signed (JWS)
-				if (getConfiguration().getSignatureAlgorithm().isSymmetric()) {
-					parser = parser.setSigningKey(getConfiguration().getSharedKey()
-							.orElseThrow(() -> new UnexpectedAuthenticationException(
-									"JWT authenticator not correctly configured: missing shared key for symmetric signature algorithm ["
-											+ getConfiguration().getSignatureAlgorithm().getDescription()
-											+ "] - JWT configuration: [" + getConfiguration() + "]")));
-				} else {
-					parser = parser.setSigningKey(getConfiguration().getPublicKey()
-							.orElseThrow(() -> new UnexpectedAuthenticationException(
-									"JWT authenticator not correctly configured: missing public key for asymmetric signature algorithm ["
-											+ getConfiguration().getSignatureAlgorithm().getDescription()
-											+ "] - JWT configuration: [" + getConfiguration() + "]")));
-				}
 				claims = parser.parseClaimsJws(jwt).getBody();
 			} else {
 				// not signed (JWT)
@@ -247,7 +275,13 @@ public class DefaultJwtAuthenticator implements JwtAuthenticator {
 			}
 		});
 
-		return auth.build();
+		final Authentication authentication = auth.build();
+
+		if (cache != null) {
+			cache.put(jwt, authentication, claims.getExpiration());
+		}
+
+		return authentication;
 	}
 
 	// Builder
@@ -20,9 +20,12 @@ import java.util.Arrays;
 import java.util.Optional;
 
 import com.holonplatform.auth.Authentication;
+import com.holonplatform.auth.exceptions.UnexpectedAuthenticationException;
 import com.holonplatform.auth.jwt.JwtConfiguration;
 import com.holonplatform.auth.jwt.JwtSignatureAlgorithm;
 
+import io.jsonwebtoken.JwtParser;
+
 /**
  * {@link JwtConfiguration} implementation
  * 
@@ -67,6 +70,16 @@ public class DefaultJwtConfiguration implements JwtConfiguration {
 	 */
 	private boolean notBeforeNow;
 
+	/*
+	 * Allowed clock skew in seconds
+	 */
+	private long allowedClockSkew;
+
+	/*
+	 * Authentication cache size
+	 */
+	private int authenticationCacheSize;
+
 	/*
 	 * Include authentication details
 	 */
@@ -77,6 +90,11 @@ public class DefaultJwtConfiguration implements JwtConfiguration {
 	 */
 	private boolean includePermissions;
 
+	/*
+	 * Pre-configured JWT parser, built at first use and reset when the configuration changes
+	 */
+	private transient volatile JwtParser parser;
+
 	/*
 	 * (non-Javadoc)
 	 * @see com.holonplatform.jaxrs.server.jwt.JwtConfiguration#getIssuer()
@@ -140,6 +158,24 @@ public class DefaultJwtConfiguration implements JwtConfiguration {
 		return notBeforeNow;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.auth.jwt.JwtConfiguration#getAllowedClockSkew()
+	 */
+	@Override
+	public long getAllowedClockSkew() {
+		return allowedClockSkew;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.auth.jwt.JwtConfiguration#getAuthenticationCacheSize()
+	 */
+	@Override
+	public int getAuthenticationCacheSize() {
+		return authenticationCacheSize;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see com.holonplatform.jaxrs.server.jwt.JwtConfiguration#isIncludeDetails()
@@ -172,6 +208,7 @@ public class DefaultJwtConfiguration implements JwtConfiguration {
 	 */
 	public void setSignatureAlgorithm(JwtSignatureAlgorithm signatureAlgorithm) {
 		this.signatureAlgorithm = signatureAlgorithm;
+		this.parser = null;
 	}
 
 	/**
@@ -180,6 +217,7 @@ public class DefaultJwtConfiguration implements JwtConfiguration {
 	 */
 	public void setSharedKey(byte[] sharedKey) {
 		this.sharedKey = sharedKey;
+		this.parser = null;
 	}
 
 	/**
@@ -188,6 +226,7 @@ public class DefaultJwtConfiguration implements JwtConfiguration {
 	 */
 	public void setPublicKey(Key publicKey) {
 		this.publicKey = publicKey;
+		this.parser = null;
 	}
 
 	/**
@@ -215,6 +254,23 @@ public class DefaultJwtConfiguration implements JwtConfiguration {
 		this.notBeforeNow = notBeforeNow;
 	}
 
+	/**
+	 * Set the allowed clock skew to use when validating the JWT token <code>exp</code> and <code>nbf</code> claims.
+	 * @param allowedClockSkew The allowed clock skew in seconds
+	 */
+	public void setAllowedClockSkew(long allowedClockSkew) {
+		this.allowedClockSkew = allowedClockSkew;
+		this.parser = null;
+	}
+
+	/**
+	 * Set the max size of the cache of the {@link Authentication}s obtained from verified JWT tokens.
+	 * @param authenticationCacheSize The authentication cache max size, <code>0</code> to disable the cache
+	 */
+	public void setAuthenticationCacheSize(int authenticationCacheSize) {
+		this.authenticationCacheSize = authenticationCacheSize;
+	}
+
 	/**
 	 * Set whether to include {@link Authentication} details in JWT token generation
 	 * @param includeDetails <code>true</code> to include {@link Authentication} details
@@ -231,6 +287,24 @@ public class DefaultJwtConfiguration implements JwtConfiguration {
 		this.includePermissions = includePermissions;
 	}
 
+	/**
+	 * Get the {@link JwtParser} to use to parse and validate the JWT tokens according to this configuration.
+	 * <p>
+	 * The parser is built at first invocation and then reused, until the configuration is changed.
+	 * </p>
+	 * @return The pre-configured JWT parser
+	 * @throws UnexpectedAuthenticationException If the configuration is not valid to build a JWT parser
+	 * @since 5.2.0
+	 */
+	public JwtParser getJwtParser() {
+		JwtParser jwtParser = parser;
+		if (jwtParser == null) {
+			jwtParser = JwtUtils.buildJwtParser(this);
+			parser = jwtParser;
+		}
+		return jwtParser;
+	}
+
 	// ------ Builder
 
 	/*
@@ -241,7 +315,8 @@ public class DefaultJwtConfiguration implements JwtConfiguration {
 	public String toString() {
 		return "JwtConfiguration [issuer=" + issuer + ", signatureAlgorithm=" + signatureAlgorithm + ", sharedKey="
 				+ Arrays.toString(sharedKey) + ", publicKey=" + publicKey + ", privateKey=" + privateKey
-				+ ", expireTime=" + expireTime + ", includeDetails=" + includeDetails + ", includePermissions="
+				+ ", expireTime=" + expireTime + ", allowedClockSkew=" + allowedClockSkew + ", authenticationCacheSize="
+				+ authenticationCacheSize + ", includeDetails=" + includeDetails + ", includePermissions="
 				+ includePermissions + "]";
 	}
 
@@ -330,6 +405,26 @@ public class DefaultJwtConfiguration implements JwtConfiguration {
 			return this;
 		}
 
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.auth.jwt.JwtConfiguration.Builder#allowedClockSkew(long)
+		 */
+		@Override
+		public Builder allowedClockSkew(long allowedClockSkew) {
+			this.configuration.setAllowedClockSkew(allowedClockSkew);
+			return this;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.auth.jwt.JwtConfiguration.Builder#authenticationCacheSize(int)
+		 */
+		@Override
+		public Builder authenticationCacheSize(int authenticationCacheSize) {
+			this.configuration.setAuthenticationCacheSize(authenticationCacheSize);
+			return this;
+		}
+
 		/*
 		 * (non-Javadoc)
 		 * @see com.holonplatform.auth.jwt.internal.JwtConfigurationBuilder#includeDetails(boolean)
@@ -37,7 +37,6 @@ import com.holonplatform.core.internal.utils.ObjectUtils;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtParser;
-import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureException;
 import io.jsonwebtoken.UnsupportedJwtException;
@@ -69,23 +68,11 @@ public enum DefaultJwtTokenParser implements JwtTokenParser {
 
 		try {
 
-			JwtParser parser = Jwts.parser();
+			// pre-configured parser
+			final JwtParser parser = JwtUtils.getJwtParser(configuration);
 
 			if (configuration.getSignatureAlgorithm() != JwtSignatureAlgorithm.NONE) {
 				// Token expected to be signed (JWS)
-				if (configuration.getSignatureAlgorithm().isSymmetric()) {
-					parser = parser.setSigningKey(configuration.getSharedKey()
-							.orElseThrow(() -> new UnexpectedAuthenticationException(
-									"JWT authenticator not correctly configured: missing shared key for symmetric signature algorithm ["
-											+ configuration.getSignatureAlgorithm().getDescription()
-											+ "] - JWT configuration: [" + configuration + "]")));
-				} else {
-					parser = parser.setSigningKey(configuration.getPublicKey()
-							.orElseThrow(() -> new UnexpectedAuthenticationException(
-									"JWT authenticator not correctly configured: missing public key for asymmetric signature algorithm ["
-											+ configuration.getSignatureAlgorithm().getDescription()
-											+ "] - JWT configuration: [" + configuration + "]")));
-				}
 				claims = parser.parseClaimsJws(jwt).getBody();
 			} else {
 				// not signed (JWT)
@@ -0,0 +1,252 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.auth.jwt.internal;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+import com.holonplatform.auth.Authentication;
+import com.holonplatform.core.internal.utils.ObjectUtils;
+
+/**
+ * Bounded cache of the {@link Authentication}s obtained from verified JWT tokens.
+ * <p>
+ * The cache keys are the SHA-256 digests of the JWT tokens, so the tokens are not retained. A cached entry is evicted
+ * when the token expires, taking into account the allowed clock skew, or when its max age is reached if the token has
+ * no expiration date.
+ * </p>
+ * <p>
+ * The cache lookups are lock-free. When the maximum cache size is exceeded, the expired entries are purged and then the
+ * least recently used entries are evicted. Since concurrent insertions are not serialized, the eviction is approximate
+ * and the cache size may briefly exceed the maximum size.
+ * </p>
+ *
+ * @since 5.2.0
+ */
+public class JwtAuthenticationCache {
+
+	/**
+	 * Digest algorithm
+	 */
+	private static final String DIGEST_ALGORITHM = "SHA-256";
+
+	/**
+	 * Default max age in milliseconds of the entries bound to tokens without an expiration date
+	 */
+	public static final long DEFAULT_MAX_AGE = 5 * 60 * 1000L;
+
+	/**
+	 * Per-thread message digest
+	 */
+	private static final ThreadLocal<MessageDigest> DIGEST = ThreadLocal.withInitial(() -> {
+		try {
+			return MessageDigest.getInstance(DIGEST_ALGORITHM);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("Digest algorithm " + DIGEST_ALGORITHM + " not available", e);
+		}
+	});
+
+	/**
+	 * Cache entries
+	 */
+	private final Map<String, CachedAuthentication> entries = new ConcurrentHashMap<>();
+
+	/**
+	 * Cache max size
+	 */
+	private final int maxSize;
+
+	/**
+	 * Allowed clock skew in milliseconds
+	 */
+	private final long allowedClockSkew;
+
+	/**
+	 * Max age in milliseconds of the entries bound to tokens without an expiration date
+	 */
+	private final long maxAge;
+
+	/**
+	 * Time source in milliseconds
+	 */
+	private final LongSupplier timeSource;
+
+	/**
+	 * Constructor, using {@link #DEFAULT_MAX_AGE} for the tokens without an expiration date.
+	 * @param maxSize Cache max size, must be greater than 0
+	 * @param allowedClockSkew Allowed clock skew in seconds
+	 */
+	public JwtAuthenticationCache(int maxSize, long allowedClockSkew) {
+		this(maxSize, allowedClockSkew, DEFAULT_MAX_AGE, null);
+	}
+
+	/**
+	 * Constructor.
+	 * @param maxSize Cache max size, must be greater than 0
+	 * @param allowedClockSkew Allowed clock skew in seconds
+	 * @param maxAge Max age in milliseconds of the entries bound to tokens without an expiration date, must be greater
+	 *        than 0
+	 * @param timeSource The time source which provides the current time in milliseconds, if <code>null</code> the
+	 *        system clock is used
+	 */
+	public JwtAuthenticationCache(int maxSize, long allowedClockSkew, long maxAge, LongSupplier timeSource) {
+		super();
+		if (maxSize <= 0) {
+			throw new IllegalArgumentException("Cache max size must be greater than 0");
+		}
+		if (maxAge <= 0) {
+			throw new IllegalArgumentException("Cache entries max age must be greater than 0");
+		}
+		this.maxSize = maxSize;
+		this.allowedClockSkew = (allowedClockSkew > 0) ? allowedClockSkew * 1000L : 0L;
+		this.maxAge = maxAge;
+		this.timeSource = (timeSource != null) ? timeSource : System::currentTimeMillis;
+	}
+
+	/**
+	 * Get the cached {@link Authentication} bound to given JWT token, if available and not expired.
+	 * @param jwt The JWT token (not null)
+	 * @return The cached {@link Authentication}, or <code>null</code> if not available
+	 */
+	public Authentication get(String jwt) {
+		ObjectUtils.argumentNotNull(jwt, "JWT token must be not null");
+		final String key = digest(jwt);
+		final CachedAuthentication cached = entries.get(key);
+		if (cached != null) {
+			if (!cached.isExpired(timeSource.getAsLong())) {
+				cached.lastAccess = System.nanoTime();
+				return cached.authentication;
+			}
+			entries.remove(key, cached);
+		}
+		return null;
+	}
+
+	/**
+	 * Cache given {@link Authentication}, obtained from given JWT token.
+	 * @param jwt The JWT token (not null)
+	 * @param authentication The authentication to cache (not null)
+	 * @param expiration The JWT token expiration date (may be null)
+	 */
+	public void put(String jwt, Authentication authentication, Date expiration) {
+		ObjectUtils.argumentNotNull(jwt, "JWT token must be not null");
+		ObjectUtils.argumentNotNull(authentication, "Authentication must be not null");
+		final long now = timeSource.getAsLong();
+		final long expiresAt = (expiration != null) ? expiration.getTime() + allowedClockSkew : now + maxAge;
+		entries.put(digest(jwt), new CachedAuthentication(authentication, expiresAt));
+		if (entries.size() > maxSize) {
+			evict(now);
+		}
+	}
+
+	/**
+	 * Remove the cached {@link Authentication} bound to given JWT token, if any.
+	 * @param jwt The JWT token (not null)
+	 * @return <code>true</code> if a cached entry was removed
+	 */
+	public boolean evict(String jwt) {
+		ObjectUtils.argumentNotNull(jwt, "JWT token must be not null");
+		return entries.remove(digest(jwt)) != null;
+	}
+
+	/**
+	 * Remove all the cached entries.
+	 */
+	public void clear() {
+		entries.clear();
+	}
+
+	/**
+	 * Get the number of cached entries.
+	 * @return The cache size
+	 */
+	public int size() {
+		return entries.size();
+	}
+
+	/**
+	 * Purge the expired entries and then evict the least recently used entries until the cache size does not exceed
+	 * the max size.
+	 * @param now Current time in milliseconds
+	 */
+	private void evict(long now) {
+		final Iterator<CachedAuthentication> iterator = entries.values().iterator();
+		while (iterator.hasNext()) {
+			if (iterator.next().isExpired(now)) {
+				iterator.remove();
+			}
+		}
+		while (entries.size() > maxSize) {
+			Entry<String, CachedAuthentication> eldest = null;
+			for (Entry<String, CachedAuthentication> entry : entries.entrySet()) {
+				if (eldest == null || entry.getValue().lastAccess - eldest.getValue().lastAccess < 0) {
+					eldest = entry;
+				}
+			}
+			if (eldest == null) {
+				return;
+			}
+			entries.remove(eldest.getKey(), eldest.getValue());
+		}
+	}
+
+	/**
+	 * Get the cache key for given JWT token.
+	 * @param jwt The JWT token
+	 * @return The token digest
+	 */
+	private static String digest(String jwt) {
+		return Base64.getEncoder().encodeToString(DIGEST.get().digest(jwt.getBytes(StandardCharsets.US_ASCII)));
+	}
+
+	/**
+	 * Cached authentication.
+	 */
+	private static final class CachedAuthentication {
+
+		final Authentication authentication;
+
+		/**
+		 * Expiration timestamp
+		 */
+		private final long expiresAt;
+
+		/**
+		 * Last access time, as provided by {@link System#nanoTime()}
+		 */
+		volatile long lastAccess = System.nanoTime();
+
+		CachedAuthentication(Authentication authentication, long expiresAt) {
+			super();
+			this.authentication = authentication;
+			this.expiresAt = expiresAt;
+		}
+
+		boolean isExpired(long now) {
+			return now >= expiresAt;
+		}
+
+	}
+
+}
@@ -25,6 +25,7 @@ import java.util.Map;
 import java.util.Optional;
 
 import com.holonplatform.auth.exceptions.ExpiredCredentialsException;
+import com.holonplatform.auth.exceptions.UnexpectedAuthenticationException;
 import com.holonplatform.auth.jwt.JwtConfigProperties;
 import com.holonplatform.auth.jwt.JwtConfiguration;
 import com.holonplatform.auth.jwt.JwtConfiguration.InvalidJwtConfigurationException;
@@ -34,6 +35,7 @@ import com.holonplatform.auth.keys.KeyFormat;
 import com.holonplatform.auth.keys.KeyReader;
 import com.holonplatform.auth.keys.KeySource;
 import com.holonplatform.core.config.ConfigPropertyProvider;
+import com.holonplatform.core.internal.utils.ObjectUtils;
 
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtParser;
@@ -125,6 +127,59 @@ public final class JwtUtils implements Serializable {
 		return false;
 	}
 
+	/**
+	 * Get the {@link JwtParser} to use to parse and validate the JWT tokens according to given configuration.
+	 * <p>
+	 * If the configuration is a {@link DefaultJwtConfiguration}, the parser instance held by the configuration is
+	 * returned, so it is built only once and reused. Otherwise, a new parser is built.
+	 * </p>
+	 * @param configuration JWT configuration (not null)
+	 * @return The pre-configured JWT parser
+	 * @throws UnexpectedAuthenticationException If the configuration is not valid to build a JWT parser
+	 * @since 5.2.0
+	 */
+	public static JwtParser getJwtParser(JwtConfiguration configuration) {
+		ObjectUtils.argumentNotNull(configuration, "JwtConfiguration must be not null");
+		if (configuration instanceof DefaultJwtConfiguration) {
+			return ((DefaultJwtConfiguration) configuration).getJwtParser();
+		}
+		return buildJwtParser(configuration);
+	}
+
+	/**
+	 * Build a new {@link JwtParser} using given configuration signature algorithm, signing key and allowed clock skew.
+	 * @param configuration JWT configuration (not null)
+	 * @return A new JWT parser
+	 * @throws UnexpectedAuthenticationException If the configuration is not valid to build a JWT parser
+	 * @since 5.2.0
+	 */
+	static JwtParser buildJwtParser(JwtConfiguration configuration) {
+		JwtParser parser = Jwts.parser();
+
+		if (configuration.getSignatureAlgorithm() != JwtSignatureAlgorithm.NONE) {
+			// Token expected to be signed (JWS)
+			if (configuration.getSignatureAlgorithm().isSymmetric()) {
+				parser = parser.setSigningKey(configuration.getSharedKey()
+						.orElseThrow(() -> new UnexpectedAuthenticationException(
+								"JWT authenticator not correctly configured: missing shared key for symmetric signature algorithm ["
+										+ configuration.getSignatureAlgorithm().getDescription()
+										+ "] - JWT configuration: [" + configuration + "]")));
+			} else {
+				parser = parser.setSigningKey(configuration.getPublicKey()
+						.orElseThrow(() -> new UnexpectedAuthenticationException(
+								"JWT authenticator not correctly configured: missing public key for asymmetric signature algorithm ["
+										+ configuration.getSignatureAlgorithm().getDescription()
+										+ "] - JWT configuration: [" + configuration + "]")));
+			}
+		}
+
+		if (configuration.getAllowedClockSkew() > 0) {
+			parser = parser.setAllowedClockSkewSeconds(configuration.getAllowedClockSkew());
+		}
+
+		return parser;
+	}
+
 	/**
 	 * Build a {@link JwtConfiguration} instance form given {@link ConfigPropertyProvider} using configuration property
 	 * keys listed in {@link JwtConfiguration}.
@@ -190,6 +245,18 @@ public final class JwtUtils implements Serializable {
 				cfg.setNotBeforeNow(true);
 			}
 
+			// clock skew
+			Long clockSkew = config.getConfigPropertyValue(JwtConfigProperties.ALLOWED_CLOCK_SKEW, null);
+			if (clockSkew != null && clockSkew.longValue() > 0) {
+				cfg.setAllowedClockSkew(clockSkew.longValue());
+			}
+
+			// authentication cache
+			Integer cacheSize = config.getConfigPropertyValue(JwtConfigProperties.AUTHENTICATION_CACHE_SIZE, null);
+			if (cacheSize != null && cacheSize.intValue() > 0) {
+				cfg.setAuthenticationCacheSize(cacheSize.intValue());
+			}
+
 			// inclusions
 			cfg.setIncludeDetails(config.getConfigPropertyValue(JwtConfigProperties.INCLUDE_DETAILS, Boolean.TRUE));
 			cfg.setIncludePermissions(
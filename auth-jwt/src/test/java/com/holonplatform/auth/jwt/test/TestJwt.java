@@ -34,6 +34,7 @@ import java.util.Properties;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.crypto.SecretKey;
 
@@ -55,6 +56,9 @@ import com.holonplatform.auth.jwt.JwtSignatureAlgorithm;
 import com.holonplatform.auth.jwt.JwtTokenBuilder;
 import com.holonplatform.auth.jwt.JwtTokenParser;
 import com.holonplatform.auth.jwt.internal.AuthenticationClaimsImpl;
+import com.holonplatform.auth.jwt.internal.DefaultJwtConfiguration;
+import com.holonplatform.auth.jwt.internal.JwtAuthenticationCache;
+import com.holonplatform.auth.jwt.internal.JwtUtils;
 import com.holonplatform.core.internal.utils.TestUtils;
 
 import io.jsonwebtoken.Claims;
@@ -182,6 +186,122 @@ public class TestJwt {
 		assertEquals("testuser", authc.getName());
 	}
 
+	@Test
+	public void testParserReuse() {
+
+		Properties props = new Properties();
+		props.put(JwtConfigProperties.NAME + "." + JwtConfigProperties.ALLOWED_CLOCK_SKEW.getKey(), "30");
+
+		JwtConfiguration configuration = JwtConfiguration
+				.build(JwtConfigProperties.builder().withPropertySource(props).build());
+		assertEquals(30L, configuration.getAllowedClockSkew());
+
+		final String sharedKey = Base64.getEncoder()
+				.encodeToString(MacProvider.generateKey(SignatureAlgorithm.HS256).getEncoded());
+
+		final DefaultJwtConfiguration cfg = (DefaultJwtConfiguration) JwtConfiguration.builder()
+				.signatureAlgorithm(JwtSignatureAlgorithm.HS256).sharedKeyBase64(sharedKey).allowedClockSkew(10)
+				.build();
+
+		final JwtParser parser = JwtUtils.getJwtParser(cfg);
+		assertNotNull(parser);
+		assertTrue(parser == JwtUtils.getJwtParser(cfg));
+
+		cfg.setAllowedClockSkew(20);
+		assertFalse(parser == JwtUtils.getJwtParser(cfg));
+
+		final String jwt = JwtTokenBuilder.get().buildJwt(cfg, Authentication.builder("testuser").build());
+
+		final Realm realm = Realm.builder().authenticator(JwtAuthenticator.builder().configuration(cfg).build())
+				.build();
+		for (int i = 0; i < 3; i++) {
+			assertEquals("testuser", realm.authenticate(AuthenticationToken.bearer(jwt)).getName());
+		}
+
+		TestUtils.expectedException(UnexpectedAuthenticationException.class, () -> JwtUtils
+				.getJwtParser(JwtConfiguration.builder().signatureAlgorithm(JwtSignatureAlgorithm.HS256).build()));
+	}
+
+	@Test
+	public void testAuthenticationCache() {
+
+		Properties props = new Properties();
+		props.put(JwtConfigProperties.NAME + "." + JwtConfigProperties.AUTHENTICATION_CACHE_SIZE.getKey(), "2");
+		assertEquals(2, JwtConfiguration.build(JwtConfigProperties.builder().withPropertySource(props).build())
+				.getAuthenticationCacheSize());
+
+		final JwtConfiguration cfg = JwtConfiguration.builder().authenticationCacheSize(2).build();
+		final JwtAuthenticator authenticator = JwtAuthenticator.builder().configuration(cfg).build();
+		final Realm realm = Realm.builder().authenticator(authenticator).build();
+
+		final String jwt = JwtTokenBuilder.get().buildJwt(cfg, Authentication.builder("testuser").build());
+
+		final Authentication authc = realm.authenticate(AuthenticationToken.bearer(jwt));
+		assertNotNull(authc);
+		assertTrue(authc == realm.authenticate(AuthenticationToken.bearer(jwt)));
+
+		assertTrue(authenticator.revokeCachedAuthentication(jwt));
+		assertFalse(authenticator.revokeCachedAuthentication(jwt));
+		assertFalse(authc == realm.authenticate(AuthenticationToken.bearer(jwt)));
+
+		// expired tokens are not served from cache
+		final JwtConfiguration expiring = JwtConfiguration.builder().authenticationCacheSize(2).expireTime(1000L)
+				.build();
+		final JwtAuthenticator expiringAuthenticator = JwtAuthenticator.builder().configuration(expiring).build();
+		final Realm expiringRealm = Realm.builder().authenticator(expiringAuthenticator).build();
+		final String expiringJwt = JwtTokenBuilder.get().buildJwt(expiring,
+				Authentication.builder("testuser").build());
+		assertNotNull(expiringRealm.authenticate(AuthenticationToken.bearer(expiringJwt)));
+
+		TestUtils.expectedException(ExpiredCredentialsException.class, () -> {
+			Thread.sleep(1500L);
+			return expiringRealm.authenticate(AuthenticationToken.bearer(expiringJwt));
+		});
+
+		// LRU eviction
+		final JwtAuthenticationCache cache = new JwtAuthenticationCache(2, 0);
+		cache.put("t1", authc, null);
+		cache.put("t2", authc, null);
+		assertNotNull(cache.get("t1"));
+		cache.put("t3", authc, null);
+		assertEquals(2, cache.size());
+		assertNotNull(cache.get("t1"));
+		assertNull(cache.get("t2"));
+		cache.put("t4", authc, new Date(System.currentTimeMillis() - 1000L));
+		assertNull(cache.get("t4"));
+
+		// max age of the tokens without expiration
+		final AtomicLong time = new AtomicLong(1000L);
+		final JwtAuthenticationCache aging = new JwtAuthenticationCache(10, 0, 500L, time::get);
+		aging.put("t1", authc, null);
+		aging.put("t2", authc, new Date(2000L));
+		time.set(1499L);
+		assertNotNull(aging.get("t1"));
+		time.set(1500L);
+		assertNull(aging.get("t1"));
+		assertNotNull(aging.get("t2"));
+		time.set(2000L);
+		assertNull(aging.get("t2"));
+
+		// expired entries are purged before evicting the least recently used ones
+		final JwtAuthenticationCache purging = new JwtAuthenticationCache(2, 0, 500L, time::get);
+		purging.put("t1", authc, null);
+		purging.put("t2", authc, new Date(2100L));
+		time.set(2200L);
+		purging.put("t3", authc, null);
+		assertEquals(2, purging.size());
+		assertNotNull(purging.get("t1"));
+		assertNull(purging.get("t2"));
+
+		// configuration changes revoke the cached authentications
+		final JwtAuthenticator.Builder builder = JwtAuthenticator.builder().configuration(cfg);
+		final Realm issuerRealm = Realm.builder().authenticator(builder.build()).build();
+		assertNotNull(issuerRealm.authenticate(AuthenticationToken.bearer(jwt)));
+		builder.issuer("otherIssuer");
+		TestUtils.expectedException(InvalidTokenException.class,
+				() -> issuerRealm.authenticate(AuthenticationToken.bearer(jwt)));
+	}
+
 	@Test
 	public void testTokenParser() {
 
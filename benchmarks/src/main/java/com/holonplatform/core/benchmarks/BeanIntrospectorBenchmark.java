@@ -0,0 +1,127 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.core.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.holonplatform.core.beans.BeanIntrospector;
+import com.holonplatform.core.beans.BeanPropertySet;
+import com.holonplatform.core.property.PropertyBox;
+
+/**
+ * {@link BeanIntrospector} bean introspection, read and write benchmarks.
+ * 
+ * @since 5.2.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BeanIntrospectorBenchmark {
+
+	private BeanIntrospector introspector;
+
+	private BeanPropertySet<Item> propertySet;
+
+	private Item item;
+
+	private PropertyBox box;
+
+	@Setup
+	public void setup() {
+		introspector = BeanIntrospector.get();
+		propertySet = introspector.getPropertySet(Item.class);
+		item = new Item();
+		item.setCode(1L);
+		item.setName("test");
+		item.setAmount(12.5d);
+		item.setEnabled(true);
+		box = introspector.read(PropertyBox.create(propertySet), item);
+	}
+
+	@Benchmark
+	public BeanPropertySet<Item> introspect() {
+		return introspector.getPropertySet(Item.class);
+	}
+
+	@Benchmark
+	public PropertyBox read() {
+		return introspector.read(PropertyBox.create(propertySet), item);
+	}
+
+	@Benchmark
+	public Item write() {
+		return introspector.write(box, new Item());
+	}
+
+	/**
+	 * Benchmark bean class.
+	 */
+	public static class Item {
+
+		private Long code;
+		private String name;
+		private Double amount;
+		private boolean enabled;
+
+		public Long getCode() {
+			return code;
+		}
+
+		public void setCode(Long code) {
+			this.code = code;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public Double getAmount() {
+			return amount;
+		}
+
+		public void setAmount(Double amount) {
+			this.amount = amount;
+		}
+
+		public boolean isEnabled() {
+			return enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+	}
+
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.core.benchmarks;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmarks runner with baseline comparison support.
+ * <p>
+ * Runs the benchmarks which match the regular expression provided as first argument (all the benchmarks of this
+ * package if not specified) and stores the scores in a properties file. If a baseline scores file is available, each
+ * score is compared with its baseline and the runner exits with status <code>1</code> when at least one benchmark
+ * regressed more than the configured threshold.
+ * </p>
+ * <p>
+ * The runner is configured using the following system properties:
+ * <ul>
+ * <li><code>benchmarks.output</code>: the scores output file, <code>benchmarks.properties</code> by default</li>
+ * <li><code>benchmarks.baseline</code>: the baseline scores file, for example the output of a run on the previous
+ * version. If not specified, no comparison is performed</li>
+ * <li><code>benchmarks.threshold</code>: the allowed regression percentage, <code>10</code> by default</li>
+ * </ul>
+ * Example: <code>java -Dbenchmarks.baseline=baseline.properties -jar benchmarks.jar Realm</code>
+ * </p>
+ * 
+ * @since 5.2.0
+ */
+public final class BenchmarkRunner {
+
+	public static final String OUTPUT_PROPERTY = "benchmarks.output";
+	public static final String BASELINE_PROPERTY = "benchmarks.baseline";
+	public static final String THRESHOLD_PROPERTY = "benchmarks.threshold";
+
+	private static final String DEFAULT_OUTPUT = "benchmarks.properties";
+	private static final double DEFAULT_THRESHOLD = 10d;
+
+	private BenchmarkRunner() {
+	}
+
+	public static void main(String[] args) throws RunnerException, IOException {
+		final String include = (args != null && args.length > 0) ? args[0]
+				: BenchmarkRunner.class.getPackage().getName() + ".*";
+
+		final Collection<RunResult> results = new Runner(
+				new OptionsBuilder().include(include).shouldFailOnError(true).build()).run();
+
+		// scores
+		final Map<String, Double> scores = new TreeMap<>();
+		final Properties output = new Properties();
+		for (RunResult result : results) {
+			final String key = getKey(result.getParams());
+			final double score = result.getPrimaryResult().getScore();
+			scores.put(key, score);
+			output.setProperty(key, String.valueOf(score));
+		}
+		final File outputFile = new File(System.getProperty(OUTPUT_PROPERTY, DEFAULT_OUTPUT));
+		try (OutputStream os = new FileOutputStream(outputFile)) {
+			output.store(os, "Benchmark scores");
+		}
+		System.out.println("Benchmark scores written to: " + outputFile.getAbsolutePath());
+
+		// baseline comparison
+		final String baseline = System.getProperty(BASELINE_PROPERTY);
+		if (baseline != null) {
+			final double threshold = Double.parseDouble(
+					System.getProperty(THRESHOLD_PROPERTY, String.valueOf(DEFAULT_THRESHOLD)));
+			if (compare(scores, load(new File(baseline)), threshold) > 0) {
+				System.exit(1);
+			}
+		}
+	}
+
+	/**
+	 * Compare the scores with the baseline scores and print the comparison report.
+	 * @param scores Scores
+	 * @param baseline Baseline scores
+	 * @param threshold Allowed regression percentage
+	 * @return The number of regressed benchmarks
+	 */
+	static int compare(Map<String, Double> scores, Properties baseline, double threshold) {
+		int regressions = 0;
+		System.out.println();
+		System.out.println(String.format("%-90s %14s %14s %9s", "Benchmark", "Baseline", "Current", "Change"));
+		for (Map.Entry<String, Double> entry : scores.entrySet()) {
+			final String value = baseline.getProperty(entry.getKey());
+			if (value == null) {
+				System.out.println(
+						String.format("%-90s %14s %14.3f %9s", entry.getKey(), "-", entry.getValue(), "NEW"));
+				continue;
+			}
+			final double base = Double.parseDouble(value);
+			final double current = entry.getValue();
+			// positive change means worse performance
+			final double change = (base == 0d) ? 0d
+					: (isHigherBetter(entry.getKey()) ? (base - current) : (current - base)) * 100d / base;
+			final boolean regressed = change > threshold;
+			if (regressed) {
+				regressions++;
+			}
+			System.out.println(String.format("%-90s %14.3f %14.3f %8.1f%%%s", entry.getKey(), base, current, change,
+					regressed ? " REGRESSION" : ""));
+		}
+		System.out.println();
+		System.out.println((regressions > 0)
+				? regressions + " benchmark(s) regressed more than " + threshold + "% with respect to the baseline"
+				: "No regressions with respect to the baseline");
+		return regressions;
+	}
+
+	/**
+	 * Get the score key of a benchmark run, composed by the benchmark name, the mode and the parameters, if any.
+	 * @param params Benchmark parameters
+	 * @return The score key
+	 */
+	private static String getKey(BenchmarkParams params) {
+		final StringBuilder sb = new StringBuilder();
+		sb.append(params.getBenchmark());
+		for (String key : params.getParamsKeys()) {
+			sb.append(':');
+			sb.append(key);
+			sb.append('=');
+			sb.append(params.getParam(key));
+		}
+		sb.append('@');
+		sb.append(params.getMode().shortLabel());
+		return sb.toString();
+	}
+
+	/**
+	 * Checks whether higher scores are better for the benchmark mode encoded in given score key.
+	 * @param key Score key
+	 * @return <code>true</code> for throughput benchmarks, <code>false</code> for time based benchmarks
+	 */
+	private static boolean isHigherBetter(String key) {
+		return key.endsWith("@" + Mode.Throughput.shortLabel());
+	}
+
+	private static Properties load(File file) throws IOException {
+		final Properties properties = new Properties();
+		try (InputStream is = new FileInputStream(file)) {
+			properties.load(is);
+		}
+		return properties;
+	}
+
+}
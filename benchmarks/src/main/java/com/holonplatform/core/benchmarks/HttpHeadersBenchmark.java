@@ -0,0 +1,160 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.core.benchmarks;
+
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.holonplatform.http.Cookie;
+import com.holonplatform.http.HttpHeaders;
+import com.holonplatform.http.HttpMethod;
+import com.holonplatform.http.internal.AbstractHttpRequest;
+import com.holonplatform.http.internal.HttpUtils;
+
+/**
+ * HTTP headers parsing benchmarks, measuring both the single {@link HttpUtils} parsing methods and the per-request
+ * overhead of reading the parsed headers more than once, as it happens when a request flows through a filters chain.
+ * 
+ * @since 5.2.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HttpHeadersBenchmark {
+
+	static final String DATE = "Sun, 06 Nov 1994 08:49:37 GMT";
+
+	static final String ACCEPT_LANGUAGE = "it-IT,it;q=0.9,en-US;q=0.8,en;q=0.7,de;q=0.5";
+
+	static final String CONTENT_TYPE = "application/json; charset=UTF-8";
+
+	static final Map<String, List<String>> HEADERS;
+
+	static {
+		final Map<String, List<String>> headers = new HashMap<>();
+		headers.put(HttpHeaders.DATE, Collections.singletonList(DATE));
+		headers.put(HttpHeaders.ACCEPT_LANGUAGE, Collections.singletonList(ACCEPT_LANGUAGE));
+		headers.put(HttpHeaders.CONTENT_TYPE, Collections.singletonList(CONTENT_TYPE));
+		HEADERS = Collections.unmodifiableMap(headers);
+	}
+
+	@Benchmark
+	public Date parseDate() {
+		return HttpUtils.parseHeaderDate(DATE);
+	}
+
+	@Benchmark
+	public List<Locale> parseAcceptLanguage() {
+		return HttpUtils.getAcceptLanguageLocales(ACCEPT_LANGUAGE);
+	}
+
+	@Benchmark
+	public String parseContentTypeCharset() {
+		return HttpUtils.getContentTypeCharset(CONTENT_TYPE);
+	}
+
+	@Benchmark
+	public void readRequestHeaders(Blackhole blackhole) {
+		final BenchmarkHttpRequest request = new BenchmarkHttpRequest(HEADERS);
+		// each filter of a typical chain reads the same headers again
+		for (int i = 0; i < 4; i++) {
+			blackhole.consume(request.getLocale());
+			blackhole.consume(request.getLocales());
+			blackhole.consume(request.getDate());
+		}
+	}
+
+	/**
+	 * A {@link AbstractHttpRequest} backed by a headers map.
+	 */
+	static class BenchmarkHttpRequest extends AbstractHttpRequest {
+
+		private final Map<String, List<String>> headers;
+
+		BenchmarkHttpRequest(Map<String, List<String>> headers) {
+			super();
+			this.headers = headers;
+		}
+
+		@Override
+		public HttpMethod getMethod() {
+			return HttpMethod.GET;
+		}
+
+		@Override
+		public String getRequestPath() {
+			return "/";
+		}
+
+		@Override
+		public String getRequestHost() {
+			return "localhost";
+		}
+
+		@Override
+		public Optional<String> getRequestParameter(String name) {
+			return Optional.empty();
+		}
+
+		@Override
+		public Optional<List<String>> getMultiValueRequestParameter(String name) {
+			return Optional.empty();
+		}
+
+		@Override
+		public Map<String, List<String>> getRequestParameters() {
+			return Collections.emptyMap();
+		}
+
+		@Override
+		public Optional<Cookie> getRequestCookie(String name) {
+			return Optional.empty();
+		}
+
+		@Override
+		public InputStream getBody() throws UnsupportedOperationException {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Map<String, List<String>> getHeaders() {
+			return headers;
+		}
+
+	}
+
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.core.benchmarks;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.holonplatform.core.i18n.LocalizationContext;
+import com.holonplatform.core.i18n.NumberFormatFeature;
+import com.holonplatform.core.i18n.TemporalFormat;
+import com.holonplatform.core.temporal.TemporalType;
+
+/**
+ * {@link LocalizationContext} numbers and dates formatting benchmarks.
+ * 
+ * @since 5.2.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LocalizationContextBenchmark {
+
+	private LocalizationContext context;
+
+	private final Date date = new Date();
+
+	private final LocalDate localDate = LocalDate.now();
+
+	private final LocalDateTime localDateTime = LocalDateTime.now();
+
+	@Setup
+	public void setup() {
+		context = LocalizationContext.builder().withInitialLocale(Locale.ITALY).build();
+	}
+
+	@Benchmark
+	public String formatInteger() {
+		return context.format(1234567);
+	}
+
+	@Benchmark
+	public String formatDecimal() {
+		return context.format(1234567.891d, 2);
+	}
+
+	@Benchmark
+	public String formatPercent() {
+		return context.format(0.25d, NumberFormatFeature.PERCENT_STYLE);
+	}
+
+	@Benchmark
+	public String formatDate() {
+		return context.format(date, TemporalType.DATE_TIME);
+	}
+
+	@Benchmark
+	public String formatLocalDate() {
+		return context.format(localDate, TemporalFormat.MEDIUM);
+	}
+
+	@Benchmark
+	public String formatLocalDateTime() {
+		return context.format(localDateTime);
+	}
+
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.core.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.holonplatform.core.property.BooleanProperty;
+import com.holonplatform.core.property.NumericProperty;
+import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.core.property.PropertySet;
+import com.holonplatform.core.property.StringProperty;
+
+/**
+ * {@link PropertyBox} property values access benchmarks.
+ * 
+ * @since 5.2.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PropertyBoxBenchmark {
+
+	static final NumericProperty<Long> CODE = NumericProperty.longType("code");
+	static final StringProperty NAME = StringProperty.create("name");
+	static final NumericProperty<Double> AMOUNT = NumericProperty.doubleType("amount");
+	static final BooleanProperty ENABLED = BooleanProperty.create("enabled");
+
+	static final PropertySet<?> PROPERTIES = PropertySet.builderOf(CODE, NAME, AMOUNT, ENABLED).identifier(CODE)
+			.build();
+
+	private PropertyBox box;
+
+	@Setup
+	public void setup() {
+		box = PropertyBox.builder(PROPERTIES).set(CODE, 1L).set(NAME, "test").set(AMOUNT, 12.5d).set(ENABLED, true)
+				.build();
+	}
+
+	@Benchmark
+	public PropertyBox build() {
+		return PropertyBox.builder(PROPERTIES).set(CODE, 1L).set(NAME, "test").set(AMOUNT, 12.5d).set(ENABLED, true)
+				.build();
+	}
+
+	@Benchmark
+	public void get(Blackhole blackhole) {
+		blackhole.consume(box.getValue(CODE));
+		blackhole.consume(box.getValue(NAME));
+		blackhole.consume(box.getValue(AMOUNT));
+		blackhole.consume(box.getValue(ENABLED));
+	}
+
+	@Benchmark
+	public PropertyBox set() {
+		box.setValue(NAME, "updated");
+		box.setValue(AMOUNT, 7.3d);
+		return box;
+	}
+
+	@Benchmark
+	public PropertyBox cloneBox() {
+		return box.cloneBox();
+	}
+
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.core.benchmarks;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.holonplatform.core.Expression;
+import com.holonplatform.core.Expression.InvalidExpressionException;
+import com.holonplatform.core.ExpressionResolver;
+import com.holonplatform.core.ExpressionResolver.ResolutionContext;
+import com.holonplatform.core.ExpressionResolverRegistry;
+import com.holonplatform.core.query.QueryFilter;
+import com.holonplatform.core.query.QueryFilter.QueryFilterResolver;
+
+/**
+ * {@link QueryFilter} construction and resolution benchmarks.
+ * 
+ * @since 5.2.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QueryFilterBenchmark {
+
+	private ExpressionResolverRegistry registry;
+
+	private ResolutionContext context;
+
+	private QueryFilter filter;
+
+	@Setup
+	public void setup() {
+		registry = ExpressionResolverRegistry.create();
+		registry.addExpressionResolver(QueryFilterResolver.create(EnabledFilter.class,
+				(f, ctx) -> Optional.of(PropertyBoxBenchmark.ENABLED.isNotNull()
+						.and(PropertyBoxBenchmark.ENABLED.eq(Boolean.TRUE)))));
+		final ExpressionResolverRegistry handler = registry;
+		context = new ResolutionContext() {
+
+			@Override
+			public <E extends Expression, R extends Expression> Optional<R> resolve(E expression,
+					Class<R> resolutionType, ResolutionContext context) throws InvalidExpressionException {
+				return handler.resolve(expression, resolutionType, context);
+			}
+
+			@SuppressWarnings("rawtypes")
+			@Override
+			public Iterable<ExpressionResolver> getExpressionResolvers() {
+				return handler.getExpressionResolvers();
+			}
+
+		};
+		filter = build();
+	}
+
+	@Benchmark
+	public QueryFilter build() {
+		return PropertyBoxBenchmark.CODE.gt(10L).and(PropertyBoxBenchmark.NAME.startsWith("te"))
+				.or(PropertyBoxBenchmark.AMOUNT.between(1d, 100d)).and(new EnabledFilter());
+	}
+
+	@Benchmark
+	public Optional<QueryFilter> resolveStandard() {
+		return registry.resolve(filter, QueryFilter.class, context);
+	}
+
+	@Benchmark
+	public Optional<QueryFilter> resolveCustom() {
+		return registry.resolve(new EnabledFilter(), QueryFilter.class, context);
+	}
+
+	/**
+	 * A custom filter, resolved into standard filters using a {@link QueryFilterResolver}.
+	 */
+	public static class EnabledFilter implements QueryFilter {
+
+		@Override
+		public void validate() throws InvalidExpressionException {
+		}
+
+	}
+
+}
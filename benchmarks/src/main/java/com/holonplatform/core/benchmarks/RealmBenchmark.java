@@ -0,0 +1,103 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.core.benchmarks;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.holonplatform.auth.Account;
+import com.holonplatform.auth.Authentication;
+import com.holonplatform.auth.AuthenticationToken;
+import com.holonplatform.auth.Credentials;
+import com.holonplatform.auth.Realm;
+import com.holonplatform.auth.jwt.JwtAuthenticator;
+import com.holonplatform.auth.jwt.JwtConfiguration;
+import com.holonplatform.auth.jwt.JwtSignatureAlgorithm;
+import com.holonplatform.auth.jwt.JwtTokenBuilder;
+
+/**
+ * {@link Realm} authentication benchmarks, using account credentials (Basic) and JWT bearer tokens.
+ * <p>
+ * The JWT authentication is measured both without and with the verified authentications cache.
+ * </p>
+ * 
+ * @since 5.2.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RealmBenchmark {
+
+	private static final String ACCOUNT_ID = "usr";
+	private static final String SECRET = "pwd";
+
+	private static final byte[] SHARED_KEY = "holon-benchmarks-jwt-shared-key!".getBytes(StandardCharsets.UTF_8);
+
+	@Param({ "0", "128" })
+	public int jwtCacheSize;
+
+	private Realm realm;
+
+	private AuthenticationToken basicToken;
+
+	private AuthenticationToken jwtToken;
+
+	@Setup
+	public void setup() {
+		final Account account = Account.builder(ACCOUNT_ID).credentials(Credentials.builder().secret(SECRET).build())
+				.enabled(true).permission("role1").build();
+		final JwtConfiguration configuration = JwtConfiguration.builder().issuer("benchmarks")
+				.signatureAlgorithm(JwtSignatureAlgorithm.HS256).sharedKey(SHARED_KEY).expireTime(3600000L)
+				.includePermissions(true).authenticationCacheSize(jwtCacheSize).build();
+
+		realm = Realm.builder()
+				.authenticator(
+						Account.authenticator(id -> ACCOUNT_ID.equals(id) ? Optional.of(account) : Optional.empty()))
+				.authenticator(JwtAuthenticator.builder().configuration(configuration).issuer("benchmarks").build())
+				.withDefaultAuthorizer().build();
+
+		basicToken = AuthenticationToken.accountCredentials(ACCOUNT_ID, SECRET);
+		jwtToken = AuthenticationToken.bearer(JwtTokenBuilder.get().buildJwt(configuration,
+				Authentication.builder(ACCOUNT_ID).permission("role1").build()));
+	}
+
+	@Benchmark
+	public Authentication authenticateBasic() {
+		return realm.authenticate(basicToken);
+	}
+
+	@Benchmark
+	public Authentication authenticateJwt() {
+		return realm.authenticate(jwtToken);
+	}
+
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.core.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.holonplatform.core.Validator;
+import com.holonplatform.core.Validator.ValidationException;
+import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.core.property.PropertySet;
+import com.holonplatform.core.property.StringProperty;
+
+/**
+ * {@link Validator} chains benchmarks, using properties with a set of builtin validators, validated either alone or
+ * through a {@link PropertyBox}.
+ * 
+ * @since 5.2.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidatorBenchmark {
+
+	static final StringProperty EMAIL = StringProperty.create("email").validator(Validator.notNull())
+			.validator(Validator.notBlank()).validator(Validator.max(64))
+			.validator(Validator.pattern("[a-z0-9._%+-]+@[a-z0-9.-]+\\.[a-z]{2,}")).validator(Validator.email());
+
+	static final StringProperty CODE = StringProperty.create("code").validator(Validator.pattern("[A-Z]{3}-\\d{4}"));
+
+	static final StringProperty NAME = StringProperty.create("name").validator(Validator.notBlank())
+			.validator(Validator.max(32));
+
+	static final PropertySet<?> PROPERTIES = PropertySet.of(CODE, NAME, EMAIL);
+
+	static final PropertyBox VALID_BOX = PropertyBox.builder(PROPERTIES).set(CODE, "ABC-1234").set(NAME, "John Doe")
+			.set(EMAIL, "john.doe@holon-platform.com").build();
+
+	static final PropertyBox INVALID_BOX = PropertyBox.builder(PROPERTIES).invalidAllowed(true).set(CODE, "abc")
+			.set(NAME, " ").set(EMAIL, "not an email address").build();
+
+	@Benchmark
+	public boolean validateValid() {
+		return validate("john.doe@holon-platform.com");
+	}
+
+	@Benchmark
+	public boolean validateInvalid() {
+		return validate("not an email address");
+	}
+
+	@Benchmark
+	public boolean validatePattern() {
+		try {
+			CODE.validate("ABC-1234");
+			return true;
+		} catch (ValidationException e) {
+			return false;
+		}
+	}
+
+	@Benchmark
+	public boolean validatePropertyBoxValid() {
+		return validate(VALID_BOX);
+	}
+
+	@Benchmark
+	public boolean validatePropertyBoxInvalid() {
+		return validate(INVALID_BOX);
+	}
+
+	@Benchmark
+	public boolean validateAllPropertyBoxInvalid() {
+		return INVALID_BOX.validateAll().isValid();
+	}
+
+	@Benchmark
+	public boolean validateAllInvalid() {
+		return EMAIL.validateAll("not an email address").isValid();
+	}
+
+	private static boolean validate(PropertyBox box) {
+		try {
+			box.validate();
+			return true;
+		} catch (ValidationException e) {
+			return false;
+		}
+	}
+
+	private static boolean validate(String value) {
+		try {
+			EMAIL.validate(value);
+			return true;
+		} catch (ValidationException e) {
+			return false;
+		}
+	}
+
+}
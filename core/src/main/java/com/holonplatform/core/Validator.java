@@ -34,6 +34,7 @@ import com.holonplatform.core.i18n.Localizable;
 import com.holonplatform.core.i18n.LocalizationContext;
 import com.holonplatform.core.i18n.MessageProvider;
 import com.holonplatform.core.internal.BuiltinValidator;
+import com.holonplatform.core.internal.DefaultValidationResult;
 import com.holonplatform.core.internal.DefaultValidator;
 import com.holonplatform.core.internal.ValidatorDescriptor;
 import com.holonplatform.core.internal.utils.CalendarUtils;
@@ -72,6 +73,19 @@ public interface Validator<T> extends Serializable {
 	 */
 	void validate(T value) throws ValidationException;
 
+	/**
+	 * Checks whether given <code>value</code> is valid, without throwing a {@link ValidationException}.
+	 * <p>
+	 * Any {@link ValidationException} created during the validation does not fill in its stack trace.
+	 * </p>
+	 * @param value The value to validate (may be null)
+	 * @return <code>true</code> if the value is valid, <code>false</code> otherwise
+	 * @since 5.2.0
+	 */
+	default boolean test(T value) {
+		return validateAll(value, Collections.singletonList(this)).isValid();
+	}
+
 	/**
 	 * Declares support for adding and removing {@link Validator}s.
 	 * @param <T> Validation data type
@@ -115,22 +129,103 @@ public interface Validator<T> extends Serializable {
 		 * @throws ValidationException If the value is not valid, providing the validation error message.
 		 */
 		default void validate(T value) throws ValidationException {
-			LinkedList<ValidationException> failures = new LinkedList<>();
+			List<ValidationException> failures = null;
 			for (Validator<T> validator : getValidators()) {
 				try {
 					validator.validate(value);
 				} catch (ValidationException ve) {
+					if (failures == null) {
+						failures = new ArrayList<>(2);
+					}
 					failures.add(ve);
 				}
 			}
+			if (failures != null) {
+				throw (failures.size() == 1) ? failures.get(0)
+						: new ValidationException(failures.toArray(new ValidationException[failures.size()]));
+			}
+		}
+
+		/**
+		 * Checks the validity of the given <code>value</code> against every registered validator, if any, collecting
+		 * all the validation failures in a {@link ValidationResult} instead of throwing a {@link ValidationException}.
+		 * <p>
+		 * Any {@link ValidationException} created during the validation does not fill in its stack trace.
+		 * </p>
+		 * @param value Value to validate
+		 * @return The validation result
+		 * @since 5.2.0
+		 */
+		default ValidationResult validateAll(T value) {
+			return Validator.validateAll(value, getValidators());
+		}
+
+	}
+
+	/**
+	 * The result of a value validation which collects all the validation failures, if any.
+	 * 
+	 * @since 5.2.0
+	 */
+	public interface ValidationResult extends Serializable {
+
+		/**
+		 * Gets whether the validated value is valid, i.e. no validation failure was collected.
+		 * @return <code>true</code> if the value is valid, <code>false</code> otherwise
+		 */
+		boolean isValid();
+
+		/**
+		 * Get the validation failures.
+		 * @return The validation failures, an empty list if none
+		 */
+		List<ValidationException> getFailures();
+
+		/**
+		 * Get all the validation error messages.
+		 * @return The validation error messages, an empty list if none
+		 */
+		default List<Localizable> getValidationMessages() {
+			final List<ValidationException> failures = getFailures();
+			final List<Localizable> messages = new ArrayList<>(failures.size());
+			for (ValidationException failure : failures) {
+				messages.addAll(failure.getValidationMessages());
+			}
+			return messages;
+		}
+
+		/**
+		 * Throw a {@link ValidationException} if the validated value is not valid. If more than one validation
+		 * failure is available, the thrown {@link ValidationException} wraps all the failures as causes.
+		 * @throws ValidationException If the validated value is not valid
+		 */
+		default void throwIfInvalid() throws ValidationException {
+			final List<ValidationException> failures = getFailures();
 			if (!failures.isEmpty()) {
-				throw (failures.size() == 1) ? failures.getFirst()
+				throw (failures.size() == 1) ? failures.get(0)
 						: new ValidationException(failures.toArray(new ValidationException[failures.size()]));
 			}
 		}
 
 	}
 
+	/**
+	 * Validate given <code>value</code> using given <code>validators</code>, collecting all the validation failures in
+	 * a {@link ValidationResult} instead of throwing a {@link ValidationException}.
+	 * <p>
+	 * Any {@link ValidationException} created during the validation does not fill in its stack trace, so this method
+	 * is suitable for high volume validations.
+	 * </p>
+	 * @param <T> Value type
+	 * @param value The value to validate (may be null)
+	 * @param validators The validators to use (not null)
+	 * @return The validation result
+	 * @since 5.2.0
+	 */
+	static <T> ValidationResult validateAll(T value, Iterable<? extends Validator<T>> validators) {
+		return DefaultValidationResult.validate(value, validators);
+	}
+
 	// Builders
 
 	/**
@@ -274,6 +369,7 @@ public interface Validator<T> extends Serializable {
 	 */
 	@SuppressWarnings("serial")
 	static <T> Validator<T> notNull(String message, String messageCode) {
+		final ValidatorDescriptor descriptor = ValidatorDescriptor.builder().required().build();
 		return new BuiltinValidator<T>() {
 
 			@Override
@@ -284,7 +380,7 @@ public interface Validator<T> extends Serializable {
 
 			@Override
 			public Optional<ValidatorDescriptor> getDescriptor() {
-				return Optional.of(ValidatorDescriptor.builder().required().build());
+				return Optional.of(descriptor);
 			}
 		};
 	}
@@ -334,6 +430,7 @@ public interface Validator<T> extends Serializable {
 	 */
 	@SuppressWarnings("serial")
 	static <T> Validator<T> notEmpty(String message, String messageCode) {
+		final ValidatorDescriptor descriptor = ValidatorDescriptor.builder().required().build();
 		return new BuiltinValidator<T>() {
 
 			@Override
@@ -341,26 +438,19 @@ public interface Validator<T> extends Serializable {
 				if (v == null) {
 					throw new ValidationException(message, messageCode);
 				}
-				if (!v.getClass().isArray() && !CharSequence.class.isAssignableFrom(v.getClass())
-						&& !Collection.class.isAssignableFrom(v.getClass())
-						&& !Map.class.isAssignableFrom(v.getClass())) {
+				final int size = BuiltinValidator.getSize(v);
+				if (size < 0) {
 					// unsupported type
 					throw new UnsupportedValidationTypeException(
 							"Data type not supported by noEmpty validator: " + v.getClass().getName());
 				}
-				if (CharSequence.class.isAssignableFrom(v.getClass()) && ((CharSequence) v).length() == 0)
-					throw new ValidationException(message, messageCode);
-				if (Collection.class.isAssignableFrom(v.getClass()) && ((Collection<?>) v).isEmpty())
-					throw new ValidationException(message, messageCode);
-				if (Map.class.isAssignableFrom(v.getClass()) && ((Map<?, ?>) v).isEmpty())
-					throw new ValidationException(message, messageCode);
-				if (v.getClass().isArray() && ((Object[]) v).length == 0)
+				if (size == 0)
 					throw new ValidationException(message, messageCode);
 			}
 
 			@Override
 			public Optional<ValidatorDescriptor> getDescriptor() {
-				return Optional.of(ValidatorDescriptor.builder().required().build());
+				return Optional.of(descriptor);
 			}
 		};
 	}
@@ -407,17 +497,24 @@ public interface Validator<T> extends Serializable {
 	 */
 	@SuppressWarnings("serial")
 	static <T extends CharSequence> Validator<T> notBlank(String message, String messageCode) {
+		final ValidatorDescriptor descriptor = ValidatorDescriptor.builder().required().build();
 		return new BuiltinValidator<T>() {
 
 			@Override
 			public void validate(T v) throws ValidationException {
-				if (v == null || v.toString().trim().length() == 0)
-					throw new ValidationException(message, messageCode);
+				if (v != null) {
+					for (int i = 0; i < v.length(); i++) {
+						if (v.charAt(i) > ' ') {
+							return;
+						}
+					}
+				}
+				throw new ValidationException(message, messageCode);
 			}
 
 			@Override
 			public Optional<ValidatorDescriptor> getDescriptor() {
-				return Optional.of(ValidatorDescriptor.builder().required().build());
+				return Optional.of(descriptor);
 			}
 		};
 	}
@@ -500,22 +597,13 @@ public interface Validator<T> extends Serializable {
 	 */
 	@SuppressWarnings("serial")
 	static <T> Validator<T> max(double max, String message, String messageCode) {
+		final ValidatorDescriptor descriptor = ValidatorDescriptor.builder().max(max).build();
 		return new BuiltinValidator<T>() {
 
 			@Override
 			public void validate(T v) throws ValidationException {
 				if (v != null) {
-
-					if (!v.getClass().isArray() && !TypeUtils.isNumber(v.getClass())
-							&& !CharSequence.class.isAssignableFrom(v.getClass())
-							&& !Collection.class.isAssignableFrom(v.getClass())
-							&& !Map.class.isAssignableFrom(v.getClass())) {
-						// unsupported type
-						throw new UnsupportedValidationTypeException(
-								"Data type not supported by max validator: " + v.getClass().getName());
-					}
-
-					if (TypeUtils.isNumber(v.getClass())) {
+					if (v instanceof Number) {
 						if (TypeUtils.isDecimalNumber(v.getClass())) {
 							if (((Number) v).doubleValue() > max) {
 								throw new ValidationException(message, messageCode, max);
@@ -525,21 +613,22 @@ public interface Validator<T> extends Serializable {
 								throw new ValidationException(message, messageCode, (long) max);
 							}
 						}
+					} else {
+						final int size = BuiltinValidator.getSize(v);
+						if (size < 0) {
+							// unsupported type
+							throw new UnsupportedValidationTypeException(
+									"Data type not supported by max validator: " + v.getClass().getName());
+						}
+						if (size > (int) max)
+							throw new ValidationException(message, messageCode, (long) max);
 					}
-					if (CharSequence.class.isAssignableFrom(v.getClass()) && ((CharSequence) v).length() > (int) max)
-						throw new ValidationException(message, messageCode, (long) max);
-					if (Collection.class.isAssignableFrom(v.getClass()) && ((Collection<?>) v).size() > (int) max)
-						throw new ValidationException(message, messageCode, (long) max);
-					if (Map.class.isAssignableFrom(v.getClass()) && ((Map<?, ?>) v).size() > (int) max)
-						throw new ValidationException(message, messageCode, (long) max);
-					if (v.getClass().isArray() && ((Object[]) v).length > (int) max)
-						throw new ValidationException(message, messageCode, (long) max);
 				}
 			}
 
 			@Override
 			public Optional<ValidatorDescriptor> getDescriptor() {
-				return Optional.of(ValidatorDescriptor.builder().max(max).build());
+				return Optional.of(descriptor);
 			}
 		};
 	}
@@ -631,22 +720,13 @@ public interface Validator<T> extends Serializable {
 	 */
 	@SuppressWarnings("serial")
 	static <T> Validator<T> min(double min, String message, String messageCode) {
+		final ValidatorDescriptor descriptor = ValidatorDescriptor.builder().min(min).build();
 		return new BuiltinValidator<T>() {
 
 			@Override
 			public void validate(T v) throws ValidationException {
 				if (v != null) {
-
-					if (!v.getClass().isArray() && !TypeUtils.isNumber(v.getClass())
-							&& !CharSequence.class.isAssignableFrom(v.getClass())
-							&& !Collection.class.isAssignableFrom(v.getClass())
-							&& !Map.class.isAssignableFrom(v.getClass())) {
-						// unsupported type
-						throw new UnsupportedValidationTypeException(
-								"Data type not supported by min validator: " + v.getClass().getName());
-					}
-
-					if (TypeUtils.isNumber(v.getClass())) {
+					if (v instanceof Number) {
 						if (TypeUtils.isDecimalNumber(v.getClass())) {
 							if (((Number) v).doubleValue() < min) {
 								throw new ValidationException(message, messageCode, min);
@@ -656,21 +736,22 @@ public interface Validator<T> extends Serializable {
 								throw new ValidationException(message, messageCode, (long) min);
 							}
 						}
+					} else {
+						final int size = BuiltinValidator.getSize(v);
+						if (size < 0) {
+							// unsupported type
+							throw new UnsupportedValidationTypeException(
+									"Data type not supported by min validator: " + v.getClass().getName());
+						}
+						if (size < (int) min)
+							throw new ValidationException(message, messageCode, (long) min);
 					}
-					if (CharSequence.class.isAssignableFrom(v.getClass()) && ((CharSequence) v).length() < (int) min)
-						throw new ValidationException(message, messageCode, (long) min);
-					if (Collection.class.isAssignableFrom(v.getClass()) && ((Collection<?>) v).size() < (int) min)
-						throw new ValidationException(message, messageCode, (long) min);
-					if (Map.class.isAssignableFrom(v.getClass()) && ((Map<?, ?>) v).size() < (int) min)
-						throw new ValidationException(message, messageCode, (long) min);
-					if (v.getClass().isArray() && ((Object[]) v).length < (int) min)
-						throw new ValidationException(message, messageCode, (long) min);
 				}
 			}
 
 			@Override
 			public Optional<ValidatorDescriptor> getDescriptor() {
-				return Optional.of(ValidatorDescriptor.builder().min(min).build());
+				return Optional.of(descriptor);
 			}
 		};
 	}
@@ -725,12 +806,14 @@ public interface Validator<T> extends Serializable {
 	static <T extends CharSequence> Validator<T> pattern(String regex, String message, String messageCode,
 			PatternFlag... flags) {
 		ObjectUtils.argumentNotNull(regex, "Regular expression must be not null");
+		final ValidatorDescriptor descriptor = ValidatorDescriptor.builder().pattern(regex).build();
+		final Pattern pattern = Pattern.compile(regex, PatternFlag.asBitValue(flags));
 		return new BuiltinValidator<T>() {
 
 			@Override
 			public void validate(T v) throws ValidationException {
 				if (v != null) {
-					if (!Pattern.compile(regex, PatternFlag.asBitValue(flags)).matcher(v).matches()) {
+					if (!pattern.matcher(v).matches()) {
 						throw new ValidationException(message, messageCode);
 					}
 				}
@@ -738,7 +821,7 @@ public interface Validator<T> extends Serializable {
 
 			@Override
 			public Optional<ValidatorDescriptor> getDescriptor() {
-				return Optional.of(ValidatorDescriptor.builder().pattern(regex).build());
+				return Optional.of(descriptor);
 			}
 		};
 	}
@@ -794,6 +877,7 @@ public interface Validator<T> extends Serializable {
 		if (values == null || values.length == 0) {
 			throw new IllegalArgumentException("Value must be not null and not empty");
 		}
+		final ValidatorDescriptor descriptor = ValidatorDescriptor.builder().in(values).build();
 		return new BuiltinValidator<T>() {
 
 			@Override
@@ -810,7 +894,7 @@ public interface Validator<T> extends Serializable {
 
 			@Override
 			public Optional<ValidatorDescriptor> getDescriptor() {
-				return Optional.of(ValidatorDescriptor.builder().in(values).build());
+				return Optional.of(descriptor);
 			}
 		};
 	}
@@ -866,6 +950,7 @@ public interface Validator<T> extends Serializable {
 		if (values == null || values.length == 0) {
 			throw new IllegalArgumentException("Value must be not null and not empty");
 		}
+		final ValidatorDescriptor descriptor = ValidatorDescriptor.builder().notIn(values).build();
 		return new BuiltinValidator<T>() {
 
 			@Override
@@ -881,7 +966,7 @@ public interface Validator<T> extends Serializable {
 
 			@Override
 			public Optional<ValidatorDescriptor> getDescriptor() {
-				return Optional.of(ValidatorDescriptor.builder().notIn(values).build());
+				return Optional.of(descriptor);
 			}
 		};
 	}
@@ -928,6 +1013,7 @@ public interface Validator<T> extends Serializable {
 	 */
 	@SuppressWarnings("serial")
 	static <T extends Number> Validator<T> notZero(String message, String messageCode) {
+		final ValidatorDescriptor descriptor = ValidatorDescriptor.builder().notIn(0).build();
 		return new BuiltinValidator<T>() {
 
 			@Override
@@ -939,7 +1025,7 @@ public interface Validator<T> extends Serializable {
 
 			@Override
 			public Optional<ValidatorDescriptor> getDescriptor() {
-				return Optional.of(ValidatorDescriptor.builder().notIn(0).build());
+				return Optional.of(descriptor);
 			}
 		};
 	}
@@ -986,6 +1072,7 @@ public interface Validator<T> extends Serializable {
 	 */
 	@SuppressWarnings("serial")
 	static <T extends Number> Validator<T> notNegative(String message, String messageCode) {
+		final ValidatorDescriptor descriptor = ValidatorDescriptor.builder().min(0).build();
 		return new BuiltinValidator<T>() {
 
 			@Override
@@ -997,7 +1084,7 @@ public interface Validator<T> extends Serializable {
 
 			@Override
 			public Optional<ValidatorDescriptor> getDescriptor() {
-				return Optional.of(ValidatorDescriptor.builder().min(0).build());
+				return Optional.of(descriptor);
 			}
 		};
 	}
@@ -1056,41 +1143,45 @@ public interface Validator<T> extends Serializable {
 		if (fractional < 0) {
 			throw new IllegalArgumentException("Fractional digits max number cannot be negative");
 		}
+		final ValidatorDescriptor descriptor = ValidatorDescriptor.builder().integerDigits(integral)
+				.fractionDigits(fractional).build();
 		return new BuiltinValidator<T>() {
 
 			@Override
 			public void validate(T v) throws ValidationException {
 				if (v != null) {
-					String string = null;
+					final int itg;
+					final int fct;
 					if (TypeUtils.isDecimalNumber(v.getClass())) {
-						BigDecimal bd = (v instanceof BigDecimal) ? (BigDecimal) v
-								: BigDecimal.valueOf(v.doubleValue());
-						string = bd.stripTrailingZeros().toPlainString();
+						BigDecimal bd = ((v instanceof BigDecimal) ? (BigDecimal) v
+								: BigDecimal.valueOf(v.doubleValue())).stripTrailingZeros();
+						fct = Math.max(bd.scale(), 0);
+						itg = Math.max(bd.precision() - bd.scale(), 1);
+					} else if (v instanceof BigInteger) {
+						itg = ((BigInteger) v).abs().toString().length();
+						fct = 0;
 					} else {
-						BigInteger bi = (v instanceof BigInteger) ? (BigInteger) v : BigInteger.valueOf(v.longValue());
-						string = bi.toString();
-					}
-					if (string != null) {
-						if (string.startsWith("-")) {
-							string = string.substring(1);
-						}
-						int index = string.indexOf(".");
-						int itg = index < 0 ? string.length() : index;
-						int fct = index < 0 ? 0 : string.length() - index - 1;
-						if (itg > integral) {
-							throw new ValidationException(message, messageCode);
-						}
-						if (fct > fractional) {
-							throw new ValidationException(message, messageCode);
+						// count the integer digits without converting the number into a String
+						long value = v.longValue();
+						int digits = 1;
+						while ((value /= 10) != 0) {
+							digits++;
 						}
+						itg = digits;
+						fct = 0;
+					}
+					if (itg > integral) {
+						throw new ValidationException(message, messageCode);
+					}
+					if (fct > fractional) {
+						throw new ValidationException(message, messageCode);
 					}
 				}
 			}
 
 			@Override
 			public Optional<ValidatorDescriptor> getDescriptor() {
-				return Optional
-						.of(ValidatorDescriptor.builder().integerDigits(integral).fractionDigits(fractional).build());
+				return Optional.of(descriptor);
 			}
 		};
 	}
@@ -1143,6 +1234,7 @@ public interface Validator<T> extends Serializable {
 	 */
 	@SuppressWarnings("serial")
 	static <T extends Date> Validator<T> past(boolean includeTime, String message, String messageCode) {
+		final ValidatorDescriptor descriptor = ValidatorDescriptor.builder().past().build();
 		return new BuiltinValidator<T>() {
 
 			@Override
@@ -1164,7 +1256,7 @@ public interface Validator<T> extends Serializable {
 
 			@Override
 			public Optional<ValidatorDescriptor> getDescriptor() {
-				return Optional.of(ValidatorDescriptor.builder().past().build());
+				return Optional.of(descriptor);
 			}
 		};
 	}
@@ -1217,6 +1309,7 @@ public interface Validator<T> extends Serializable {
 	 */
 	@SuppressWarnings("serial")
 	static <T extends Date> Validator<T> future(boolean includeTime, String message, String messageCode) {
+		final ValidatorDescriptor descriptor = ValidatorDescriptor.builder().future().build();
 		return new BuiltinValidator<T>() {
 
 			@Override
@@ -1238,7 +1331,7 @@ public interface Validator<T> extends Serializable {
 
 			@Override
 			public Optional<ValidatorDescriptor> getDescriptor() {
-				return Optional.of(ValidatorDescriptor.builder().future().build());
+				return Optional.of(descriptor);
 			}
 		};
 	}
@@ -1289,6 +1382,8 @@ public interface Validator<T> extends Serializable {
 	@SuppressWarnings("serial")
 	static <T extends Comparable<T>> Validator<T> lessThan(T compareTo, String message, String messageCode) {
 		ObjectUtils.argumentNotNull(compareTo, "Value to compare must be not null");
+		final ValidatorDescriptor descriptor = TypeUtils.isNumber(compareTo.getClass())
+				? ValidatorDescriptor.builder().max(((Number) compareTo)).exclusiveMax().build() : null;
 		return new BuiltinValidator<T>() {
 
 			@Override
@@ -1300,10 +1395,7 @@ public interface Validator<T> extends Serializable {
 
 			@Override
 			public Optional<ValidatorDescriptor> getDescriptor() {
-				if (TypeUtils.isNumber(compareTo.getClass())) {
-					return Optional.of(ValidatorDescriptor.builder().max(((Number) compareTo)).exclusiveMax().build());
-				}
-				return Optional.empty();
+				return Optional.ofNullable(descriptor);
 			}
 		};
 	}
@@ -1347,6 +1439,8 @@ public interface Validator<T> extends Serializable {
 	@SuppressWarnings("serial")
 	static <T extends Comparable<T>> Validator<T> lessOrEqual(T compareTo, String message, String messageCode) {
 		ObjectUtils.argumentNotNull(compareTo, "Value to compare must be not null");
+		final ValidatorDescriptor descriptor = TypeUtils.isNumber(compareTo.getClass())
+				? ValidatorDescriptor.builder().max(((Number) compareTo)).build() : null;
 		return new BuiltinValidator<T>() {
 
 			@Override
@@ -1358,10 +1452,7 @@ public interface Validator<T> extends Serializable {
 
 			@Override
 			public Optional<ValidatorDescriptor> getDescriptor() {
-				if (TypeUtils.isNumber(compareTo.getClass())) {
-					return Optional.of(ValidatorDescriptor.builder().max(((Number) compareTo)).build());
-				}
-				return Optional.empty();
+				return Optional.ofNullable(descriptor);
 			}
 		};
 	}
@@ -1412,6 +1503,8 @@ public interface Validator<T> extends Serializable {
 	@SuppressWarnings("serial")
 	static <T extends Comparable<T>> Validator<T> greaterThan(T compareTo, String message, String messageCode) {
 		ObjectUtils.argumentNotNull(compareTo, "Value to compare must be not null");
+		final ValidatorDescriptor descriptor = TypeUtils.isNumber(compareTo.getClass())
+				? ValidatorDescriptor.builder().min(((Number) compareTo)).exclusiveMin().build() : null;
 		return new BuiltinValidator<T>() {
 
 			@Override
@@ -1423,10 +1516,7 @@ public interface Validator<T> extends Serializable {
 
 			@Override
 			public Optional<ValidatorDescriptor> getDescriptor() {
-				if (TypeUtils.isNumber(compareTo.getClass())) {
-					return Optional.of(ValidatorDescriptor.builder().min(((Number) compareTo)).exclusiveMin().build());
-				}
-				return Optional.empty();
+				return Optional.ofNullable(descriptor);
 			}
 		};
 	}
@@ -1470,6 +1560,8 @@ public interface Validator<T> extends Serializable {
 	@SuppressWarnings("serial")
 	static <T extends Comparable<T>> Validator<T> greaterOrEqual(T compareTo, String message, String messageCode) {
 		ObjectUtils.argumentNotNull(compareTo, "Value to compare must be not null");
+		final ValidatorDescriptor descriptor = TypeUtils.isNumber(compareTo.getClass())
+				? ValidatorDescriptor.builder().min(((Number) compareTo)).build() : null;
 		return new BuiltinValidator<T>() {
 
 			@Override
@@ -1481,10 +1573,7 @@ public interface Validator<T> extends Serializable {
 
 			@Override
 			public Optional<ValidatorDescriptor> getDescriptor() {
-				if (TypeUtils.isNumber(compareTo.getClass())) {
-					return Optional.of(ValidatorDescriptor.builder().min(((Number) compareTo)).build());
-				}
-				return Optional.empty();
+				return Optional.ofNullable(descriptor);
 			}
 		};
 	}
@@ -1531,12 +1620,13 @@ public interface Validator<T> extends Serializable {
 	 */
 	@SuppressWarnings("serial")
 	static <T extends CharSequence> Validator<T> email(String message, String messageCode) {
+		final ValidatorDescriptor descriptor = ValidatorDescriptor.builder().email().build();
 		return new BuiltinValidator<T>() {
 
 			@Override
 			public void validate(T v) throws ValidationException {
 				if (v != null) {
-					if (!Pattern.compile(FormatUtils.EMAIL_RFC822_REGEXP_PATTERN).matcher(v).matches()) {
+					if (!FormatUtils.getEmailPattern().matcher(v).matches()) {
 						throw new ValidationException(message, messageCode);
 					}
 				}
@@ -1544,7 +1634,7 @@ public interface Validator<T> extends Serializable {
 
 			@Override
 			public Optional<ValidatorDescriptor> getDescriptor() {
-				return Optional.of(ValidatorDescriptor.builder().email().build());
+				return Optional.of(descriptor);
 			}
 		};
 	}
@@ -1800,11 +1890,28 @@ public interface Validator<T> extends Serializable {
 	 * ValidationException may act as a wrapper for multiple validation errors, accessible through {@link #getCauses()}
 	 * method.
 	 * </p>
+	 * <p>
+	 * The <em>stackless</em> mode can be enabled using the {@link #STACKLESS_MODE_PROPERTY} system property or the
+	 * {@link #setStacklessMode(boolean)} method: in this mode, the validation exceptions do not fill in their stack
+	 * trace, which makes them much cheaper to create.
+	 * </p>
 	 */
 	public class ValidationException extends RuntimeException implements Localizable {
 
 		private static final long serialVersionUID = -6564869827469114206L;
 
+		/**
+		 * System property name which can be set to <code>true</code> to enable the validation exceptions stackless
+		 * mode.
+		 * @since 5.2.0
+		 */
+		public static final String STACKLESS_MODE_PROPERTY = "holon.validation.stackless";
+
+		/**
+		 * Whether the stackless mode is enabled
+		 */
+		private static volatile boolean stacklessMode = Boolean.getBoolean(STACKLESS_MODE_PROPERTY);
+
 		/**
 		 * Localization message code
 		 */
@@ -1862,6 +1969,36 @@ public interface Validator<T> extends Serializable {
 			this.causes = causes;
 		}
 
+		/**
+		 * Gets whether the stackless mode is enabled, i.e. the validation exceptions do not fill in their stack trace.
+		 * @return <code>true</code> if the stackless mode is enabled, <code>false</code> otherwise
+		 * @since 5.2.0
+		 */
+		public static boolean isStacklessMode() {
+			return stacklessMode;
+		}
+
+		/**
+		 * Set whether to enable the stackless mode, i.e. the validation exceptions do not fill in their stack trace.
+		 * @param stacklessMode <code>true</code> to enable the stackless mode, <code>false</code> to disable it
+		 * @since 5.2.0
+		 */
+		public static void setStacklessMode(boolean stacklessMode) {
+			ValidationException.stacklessMode = stacklessMode;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Throwable#fillInStackTrace()
+		 */
+		@Override
+		public synchronized Throwable fillInStackTrace() {
+			if (stacklessMode || DefaultValidationResult.isCollecting()) {
+				return this;
+			}
+			return super.fillInStackTrace();
+		}
+
 		private static String buildMultipleMessage(ValidationException... causes) {
 			if (causes != null) {
 				StringBuilder sb = new StringBuilder();
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.core.beans;
+
+import com.holonplatform.core.Path;
+import com.holonplatform.core.exceptions.TypeMismatchException;
+import com.holonplatform.core.internal.beans.DefaultBeanPropertyMapper;
+import com.holonplatform.core.property.Property;
+import com.holonplatform.core.property.Property.PropertyAccessException;
+import com.holonplatform.core.property.Property.PropertyNotFoundException;
+import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.core.property.PropertySet;
+import com.holonplatform.core.property.PropertyValueConverter;
+
+/**
+ * Maps the values of a bean instance to and from {@link PropertyBox} instances with a given {@link PropertySet}.
+ * <p>
+ * The mapping between the property set properties and the bean properties is resolved only once, when the mapper is
+ * created, including the nested bean properties hierarchy and the {@link PropertyValueConverter}s to use. For this
+ * reason, a mapper should be preferred to the {@link BeanPropertySet} read and write methods when a large number of
+ * bean instances has to be mapped using the same property set, for example when processing query results.
+ * </p>
+ * <p>
+ * As for the {@link BeanPropertySet} read and write methods, the matching between the property set properties and the
+ * bean properties is performed by property name, so only the properties which implements {@link Path} and which are
+ * not read-only are taken into account.
+ * </p>
+ * <p>
+ * A mapper instance is immutable and can be safely shared among threads.
+ * </p>
+ *
+ * @param <T> Bean type
+ * 
+ * @since 5.2.0
+ * 
+ * @see BeanPropertySet#mapper(PropertySet, boolean)
+ */
+public interface BeanPropertyMapper<T> {
+
+	/**
+	 * Get the bean property set to which this mapper is bound.
+	 * @return The bean property set
+	 */
+	BeanPropertySet<T> getBeanPropertySet();
+
+	/**
+	 * Get the property set which this mapper uses to read and write {@link PropertyBox} values.
+	 * @return The property set
+	 */
+	PropertySet<?> getPropertySet();
+
+	/**
+	 * Read the property values from given bean instance into the given {@link PropertyBox}.
+	 * <p>
+	 * Any {@link PropertyValueConverter} will be applied to read values from bean data model.
+	 * </p>
+	 * @param propertyBox PropertyBox into which to write the property values (not null). It must contain all the
+	 *        mapped properties of the mapper property set.
+	 * @param instance Bean instance from which read the property values (not null)
+	 * @return The updated PropertyBox
+	 * @throws PropertyNotFoundException If a mapped property is not part of the PropertyBox property set
+	 * @throws PropertyAccessException Error accessing bean properties
+	 * @throws TypeMismatchException If the bean property type and the PropertyBox property type mismatch for a property
+	 */
+	PropertyBox read(PropertyBox propertyBox, T instance);
+
+	/**
+	 * Read the property values from given bean instance into a new {@link PropertyBox} with the mapper property set.
+	 * <p>
+	 * The created PropertyBox allows invalid values, so no property value validation is performed.
+	 * </p>
+	 * @param instance Bean instance from which read the property values (not null)
+	 * @return The PropertyBox containing the property values read from the given bean instance
+	 * @throws PropertyAccessException Error accessing bean properties
+	 */
+	PropertyBox read(T instance);
+
+	/**
+	 * Write the property values contained into given {@link PropertyBox} into given bean instance.
+	 * <p>
+	 * Any {@link PropertyValueConverter} will be applied to write values to bean data model.
+	 * </p>
+	 * @param propertyBox PropertyBox from which read the property values (not null)
+	 * @param instance Bean instance to which to write the property values (not null)
+	 * @return The updated bean instance
+	 * @throws PropertyAccessException Error accessing bean properties
+	 * @throws TypeMismatchException If the bean property type and the PropertyBox property type mismatch for a property
+	 */
+	T write(PropertyBox propertyBox, T instance);
+
+	/**
+	 * Create a new {@link BeanPropertyMapper}.
+	 * @param <T> Bean type
+	 * @param <P> Property type
+	 * @param beanPropertySet The bean property set (not null)
+	 * @param propertySet The property set to map (not null)
+	 * @param ignoreMissing <code>true</code> to ignore the property set properties which are not present as bean
+	 *        property. If <code>false</code>, when a property does not match with any of the bean properties, a
+	 *        {@link PropertyNotFoundException} is thrown.
+	 * @return A new {@link BeanPropertyMapper}
+	 * @throws PropertyNotFoundException If <code>ignoreMissing</code> is <code>false</code> and a property of the
+	 *         property set does not match with any of the bean properties
+	 */
+	@SuppressWarnings("rawtypes")
+	static <T, P extends Property> BeanPropertyMapper<T> create(BeanPropertySet<T> beanPropertySet,
+			PropertySet<P> propertySet, boolean ignoreMissing) {
+		return new DefaultBeanPropertyMapper<>(beanPropertySet, propertySet, ignoreMissing);
+	}
+
+}
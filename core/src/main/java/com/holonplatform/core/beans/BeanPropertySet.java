@@ -27,6 +27,7 @@ import com.holonplatform.core.config.ConfigProperty;
 import com.holonplatform.core.exceptions.TypeMismatchException;
 import com.holonplatform.core.internal.utils.ObjectUtils;
 import com.holonplatform.core.property.PathProperty;
+import com.holonplatform.core.property.Property;
 import com.holonplatform.core.property.Property.PropertyAccessException;
 import com.holonplatform.core.property.Property.PropertyNotFoundException;
 import com.holonplatform.core.property.PropertyBox;
@@ -212,6 +213,45 @@ public interface BeanPropertySet<T> extends PropertySet<PathProperty<?>>, BeanPr
 		return write(propertyBox, instance, false);
 	}
 
+	/**
+	 * Create a {@link BeanPropertyMapper} to read and write the values of given <code>propertySet</code> properties
+	 * from and to the bean instances of this bean property set.
+	 * <p>
+	 * The mapping between the property set properties and the bean properties is resolved once, at mapper creation
+	 * time, so the mapper should be used when a large number of bean instances has to be mapped using the same property
+	 * set.
+	 * </p>
+	 * @param <P> Property type
+	 * @param propertySet The property set to map (not null)
+	 * @param ignoreMissing <code>true</code> to ignore the property set properties which are not present as bean
+	 *        property. If <code>false</code>, when a property does not match with any of the bean properties, a
+	 *        {@link PropertyNotFoundException} is thrown.
+	 * @return A new {@link BeanPropertyMapper}
+	 * @throws PropertyNotFoundException If <code>ignoreMissing</code> is <code>false</code> and a property of the
+	 *         property set does not match with any of the bean properties
+	 * @since 5.2.0
+	 */
+	@SuppressWarnings("rawtypes")
+	default <P extends Property> BeanPropertyMapper<T> mapper(PropertySet<P> propertySet, boolean ignoreMissing) {
+		return BeanPropertyMapper.create(this, propertySet, ignoreMissing);
+	}
+
+	/**
+	 * Create a {@link BeanPropertyMapper} to read and write the values of given <code>propertySet</code> properties
+	 * from and to the bean instances of this bean property set.
+	 * @param <P> Property type
+	 * @param propertySet The property set to map (not null)
+	 * @return A new {@link BeanPropertyMapper}
+	 * @throws PropertyNotFoundException If a property of the property set does not match with any of the bean
+	 *         properties
+	 * @since 5.2.0
+	 * @see #mapper(PropertySet, boolean)
+	 */
+	@SuppressWarnings("rawtypes")
+	default <P extends Property> BeanPropertyMapper<T> mapper(PropertySet<P> propertySet) {
+		return mapper(propertySet, false);
+	}
+
 	// ------- Data mappings
 
 	/**
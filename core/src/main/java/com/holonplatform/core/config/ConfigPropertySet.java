@@ -16,6 +16,7 @@
 package com.holonplatform.core.config;
 
 import java.io.InputStream;
+import java.util.Collection;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
@@ -105,6 +106,41 @@ public interface ConfigPropertySet {
 	 */
 	Map<String, String> getSubPropertiesUsingPrefix(String prefix);
 
+	/**
+	 * Reload the configuration property values from the property sources, if this property set is in
+	 * <em>snapshot</em> mode.
+	 * <p>
+	 * The reloaded values replace the current ones atomically and the registered {@link ChangeListener}s are notified
+	 * about the changed properties. If the property set is not in snapshot mode, the property values are always read
+	 * from the property sources and this method has no effect.
+	 * </p>
+	 * @since 5.2.0
+	 * @see Builder#snapshotMode(boolean)
+	 */
+	default void refresh() {
+		// no-op by default
+	}
+
+	// ------- Listeners
+
+	/**
+	 * A listener which can be registered to a {@link ConfigPropertySet} in snapshot mode to be notified when the
+	 * configuration property values change as a consequence of a {@link ConfigPropertySet#refresh()}.
+	 * 
+	 * @since 5.2.0
+	 */
+	@FunctionalInterface
+	public interface ChangeListener {
+
+		/**
+		 * Triggered when the value of one or more configuration properties changed.
+		 * @param configPropertySet The property set (never null)
+		 * @param properties The changed configuration properties, identified by key (never null)
+		 */
+		void configPropertiesChanged(ConfigPropertySet configPropertySet, Collection<ConfigProperty<?>> properties);
+
+	}
+
 	// ------- Builder
 
 	/**
@@ -191,6 +227,44 @@ public interface ConfigPropertySet {
 		 */
 		<T> Builder<C> withProperty(ConfigProperty<T> property, T value);
 
+		/**
+		 * Set whether to enable the <em>snapshot</em> mode.
+		 * <p>
+		 * In snapshot mode, all the configuration property values are read from the property sources when the
+		 * property set is built and then served from an immutable snapshot, so that the values are consistent with
+		 * each other. The snapshot is replaced as a whole only when {@link ConfigPropertySet#refresh()} is invoked.
+		 * The property sources which are not able to list their property names are not included in the snapshot and
+		 * they are read at each lookup.
+		 * </p>
+		 * <p>
+		 * The default implementation does not support the snapshot mode.
+		 * </p>
+		 * @param snapshotMode <code>true</code> to enable the snapshot mode
+		 * @return this
+		 * @throws UnsupportedOperationException If the snapshot mode is not supported
+		 * @since 5.2.0
+		 */
+		default Builder<C> snapshotMode(boolean snapshotMode) {
+			if (snapshotMode) {
+				throw new UnsupportedOperationException("Snapshot mode is not supported by this builder");
+			}
+			return this;
+		}
+
+		/**
+		 * Add a {@link ChangeListener} to be notified when the configuration property values change as a
+		 * consequence of a {@link ConfigPropertySet#refresh()}. Only meaningful in snapshot mode.
+		 * <p>
+		 * The default implementation ignores the listener, since the snapshot mode is not supported by default.
+		 * </p>
+		 * @param listener The listener to add (not null)
+		 * @return this
+		 * @since 5.2.0
+		 */
+		default Builder<C> withChangeListener(ChangeListener listener) {
+			return this;
+		}
+
 		/**
 		 * Build the {@link ConfigPropertySet} instance
 		 * @return ConfigPropertySet instance
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.core.datastore.memory;
+
+import com.holonplatform.core.ExpressionResolver.ExpressionResolverBuilder;
+import com.holonplatform.core.Path;
+import com.holonplatform.core.datastore.DataTarget;
+import com.holonplatform.core.datastore.Datastore;
+import com.holonplatform.core.internal.datastore.memory.DefaultInMemoryDatastore;
+import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.core.query.QueryAggregation;
+import com.holonplatform.core.query.QueryFilter;
+import com.holonplatform.core.query.QuerySort;
+
+/**
+ * A {@link Datastore} which stores the data in memory, as {@link PropertyBox} rows bound to a {@link DataTarget} name.
+ * <p>
+ * The {@link QueryFilter}, {@link QuerySort} and {@link QueryAggregation} query clauses and the query projections are
+ * natively evaluated against the stored rows. Each row value is bound to the {@link Path#relativeName()} of the
+ * property path it was written with, and the PropertyBox identifier properties are used to identify a row when
+ * performing update, save, delete and refresh operations.
+ * </p>
+ * <p>
+ * To avoid full scans, a {@link IndexType#HASH} index can be declared on a data target {@link Path} to speed up the
+ * equality lookups and a {@link IndexType#SORTED} index to speed up both the equality lookups and the range scans.
+ * When none of the PropertyBox identifier paths is indexed, a hash index is implicitly bound to one of them at the
+ * first insert, so the rows are identified without a full scan.
+ * </p>
+ * <p>
+ * The Datastore is thread-safe: each data target is guarded by its own read/write lock.
+ * </p>
+ * 
+ * @since 5.2.0
+ */
+public interface InMemoryDatastore extends Datastore {
+
+	/**
+	 * Get the number of rows currently stored for given data target.
+	 * @param target Data target (not null)
+	 * @return The data target rows count
+	 */
+	long count(DataTarget<?> target);
+
+	/**
+	 * Remove all the rows stored for given data target.
+	 * @param target Data target (not null)
+	 */
+	void clear(DataTarget<?> target);
+
+	/**
+	 * Remove all the rows stored for any data target.
+	 */
+	void clear();
+
+	/**
+	 * Index types.
+	 */
+	public enum IndexType {
+
+		/**
+		 * Hash index, used for equality and <code>IN</code> lookups.
+		 */
+		HASH,
+
+		/**
+		 * Sorted index, used for equality and <code>IN</code> lookups and for range scans.
+		 */
+		SORTED;
+
+	}
+
+	// Builders
+
+	/**
+	 * Create a new {@link InMemoryDatastore} with default configuration.
+	 * @return A new {@link InMemoryDatastore}
+	 */
+	static InMemoryDatastore create() {
+		return builder().build();
+	}
+
+	/**
+	 * Get a builder to create and configure a new {@link InMemoryDatastore}.
+	 * @return A new {@link InMemoryDatastore} builder
+	 */
+	static Builder builder() {
+		return new DefaultInMemoryDatastore.DefaultBuilder();
+	}
+
+	/**
+	 * {@link InMemoryDatastore} builder.
+	 */
+	public interface Builder extends ExpressionResolverBuilder<Builder> {
+
+		/**
+		 * Set the data context id to which the Datastore is bound.
+		 * @param dataContextId The data context id to set
+		 * @return this
+		 */
+		Builder dataContextId(String dataContextId);
+
+		/**
+		 * Set whether to trace Datastore operations.
+		 * @param trace Whether to trace Datastore operations
+		 * @return this
+		 */
+		Builder traceEnabled(boolean trace);
+
+		/**
+		 * Declare an index on given data target path.
+		 * @param target Data target (not null)
+		 * @param path Path to index (not null)
+		 * @param indexType Index type (not null)
+		 * @return this
+		 */
+		Builder withIndex(DataTarget<?> target, Path<?> path, IndexType indexType);
+
+		/**
+		 * Declare a {@link IndexType#HASH} index on given data target path.
+		 * @param target Data target (not null)
+		 * @param path Path to index (not null)
+		 * @return this
+		 */
+		default Builder withHashIndex(DataTarget<?> target, Path<?> path) {
+			return withIndex(target, path, IndexType.HASH);
+		}
+
+		/**
+		 * Declare a {@link IndexType#SORTED} index on given data target path.
+		 * @param target Data target (not null)
+		 * @param path Path to index (not null)
+		 * @return this
+		 */
+		default Builder withSortedIndex(DataTarget<?> target, Path<?> path) {
+			return withIndex(target, path, IndexType.SORTED);
+		}
+
+		/**
+		 * Build the {@link InMemoryDatastore} instance.
+		 * @return A new {@link InMemoryDatastore} instance
+		 */
+		InMemoryDatastore build();
+
+	}
+
+}
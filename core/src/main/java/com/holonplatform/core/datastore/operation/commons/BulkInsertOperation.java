@@ -15,9 +15,13 @@
  */
 package com.holonplatform.core.datastore.operation.commons;
 
+import java.io.Serializable;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import com.holonplatform.core.Path;
+import com.holonplatform.core.internal.utils.ObjectUtils;
 import com.holonplatform.core.property.Property;
 import com.holonplatform.core.property.PropertyBox;
 import com.holonplatform.core.property.PropertySet;
@@ -60,6 +64,83 @@ public interface BulkInsertOperation<R, O extends BulkInsertOperation<R, O>>
 	 */
 	O add(PropertyBox propertyBox);
 
+	/**
+	 * Set a source of {@link PropertyBox} values to insert.
+	 * <p>
+	 * The source is lazily consumed at operation execution and, if a {@link #batchSize(int)} is configured, the values
+	 * are flushed to the persistence store in batches, so that at most one batch of values is retained in memory.
+	 * The values added using {@link #add(PropertyBox)} are inserted before the source values.
+	 * </p>
+	 * <p>
+	 * Batched execution is currently supported only by the in-memory Datastore: the other Datastore implementations
+	 * fully consume the source before the execution and insert all the values at once.
+	 * </p>
+	 * <p>
+	 * The default implementation eagerly consumes the source, adding each value using {@link #add(PropertyBox)}.
+	 * </p>
+	 * @param values The values source (not null)
+	 * @return this
+	 * @since 5.2.0
+	 */
+	@SuppressWarnings("unchecked")
+	default O values(Iterator<? extends PropertyBox> values) {
+		ObjectUtils.argumentNotNull(values, "Values source must be not null");
+		values.forEachRemaining(value -> add(value));
+		return (O) this;
+	}
+
+	/**
+	 * Set a {@link Stream} of {@link PropertyBox} values to insert.
+	 * <p>
+	 * The stream is lazily consumed at operation execution, see {@link #values(Iterator)}. The stream is not closed
+	 * by the operation.
+	 * </p>
+	 * @param values The values stream (not null)
+	 * @return this
+	 * @since 5.2.0
+	 */
+	default O values(Stream<? extends PropertyBox> values) {
+		ObjectUtils.argumentNotNull(values, "Values stream must be not null");
+		return values(values.iterator());
+	}
+
+	/**
+	 * Set the operation batch size, i.e. the maximum number of values to insert at each batch execution. The
+	 * affected count of the operation result is the sum of the affected counts of all the batches.
+	 * <p>
+	 * When the values are inserted in more than one batch, the operation is no longer atomic: if a batch execution
+	 * fails, the values inserted by the previous batches are not rolled back, unless the operation is executed within
+	 * a transaction.
+	 * </p>
+	 * <p>
+	 * The batch size is currently supported only by the in-memory Datastore and it is ignored by the other Datastore
+	 * implementations, which insert all the values in a single batch. The default implementation ignores it.
+	 * </p>
+	 * @param batchSize The batch size, <code>0</code> to insert all the values in a single batch
+	 * @return this
+	 * @since 5.2.0
+	 */
+	@SuppressWarnings("unchecked")
+	default O batchSize(int batchSize) {
+		return (O) this;
+	}
+
+	/**
+	 * Set the listener to notify about the operation progress at each batch execution.
+	 * <p>
+	 * The progress listener is currently supported only by the in-memory Datastore and it is ignored by the other
+	 * Datastore implementations. The default implementation ignores it.
+	 * </p>
+	 * @param progressListener The progress listener (not null)
+	 * @return this
+	 * @since 5.2.0
+	 */
+	@SuppressWarnings("unchecked")
+	default O progressListener(ProgressListener progressListener) {
+		ObjectUtils.argumentNotNull(progressListener, "ProgressListener must be not null");
+		return (O) this;
+	}
+
 	/**
 	 * Add a path - value map to insert.
 	 * @param values Value map to add to the bulk insert operation (not null)
@@ -90,4 +171,22 @@ public interface BulkInsertOperation<R, O extends BulkInsertOperation<R, O>>
 	@Deprecated
 	O operationPaths(PropertySet<?> propertySet);
 
+	/**
+	 * Listener to track the progress of a bulk insert operation.
+	 * 
+	 * @since 5.2.0
+	 */
+	@FunctionalInterface
+	public interface ProgressListener extends Serializable {
+
+		/**
+		 * Invoked after each batch execution.
+		 * @param batch The executed batch number, starting from <code>1</code>
+		 * @param affectedCount The batch affected count
+		 * @param totalAffectedCount The operation affected count so far, including the executed batch
+		 */
+		void onBatchExecuted(int batch, long affectedCount, long totalAffectedCount);
+
+	}
+
 }
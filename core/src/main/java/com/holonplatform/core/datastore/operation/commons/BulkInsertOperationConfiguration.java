@@ -15,9 +15,12 @@
  */
 package com.holonplatform.core.datastore.operation.commons;
 
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 
+import com.holonplatform.core.datastore.operation.commons.BulkInsertOperation.ProgressListener;
 import com.holonplatform.core.property.PropertyBox;
 import com.holonplatform.core.property.PropertySet;
 
@@ -30,10 +33,51 @@ public interface BulkInsertOperationConfiguration extends DatastoreOperationConf
 
 	/**
 	 * Get the values to insert.
+	 * <p>
+	 * If a values source was configured using {@link BulkInsertOperation#values(Iterator)}, the source is fully
+	 * consumed and its values are retained in memory. Use {@link #getBatches()} to process the operation values
+	 * without loading all of them in memory.
+	 * </p>
 	 * @return The operation values, an empty List if none
 	 */
 	List<PropertyBox> getValues();
 
+	/**
+	 * Get the operation batch size, i.e. the maximum number of values to insert at each batch execution.
+	 * @return The operation batch size, <code>0</code> if the values should be inserted in a single batch
+	 * @since 5.2.0
+	 */
+	default int getBatchSize() {
+		return 0;
+	}
+
+	/**
+	 * Get the listener to notify about the operation progress at each batch execution, if available.
+	 * @return Optional operation {@link ProgressListener}
+	 * @since 5.2.0
+	 */
+	default Optional<ProgressListener> getProgressListener() {
+		return Optional.empty();
+	}
+
+	/**
+	 * Get the operation values split into batches of at most {@link #getBatchSize()} values each.
+	 * <p>
+	 * Each batch is provided as a {@link BulkInsertOperationConfiguration} which shares the data target, the
+	 * parameters and the property set of this configuration and which {@link #getValues()} method returns only the
+	 * batch values. The batches are lazily created, so that at most one batch of values is retained in memory when a
+	 * values source is used. The values source is consumed while iterating, so the batches can be iterated only once.
+	 * </p>
+	 * <p>
+	 * The default implementation provides this configuration as the only batch.
+	 * </p>
+	 * @return The operation batches iterator
+	 * @since 5.2.0
+	 */
+	default Iterator<BulkInsertOperationConfiguration> getBatches() {
+		return Collections.<BulkInsertOperationConfiguration>singletonList(this).iterator();
+	}
+
 	/**
 	 * Get the operation property set.
 	 * @return Optional operation property set
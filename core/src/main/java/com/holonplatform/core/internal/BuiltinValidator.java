@@ -15,6 +15,9 @@
  */
 package com.holonplatform.core.internal;
 
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 
 import com.holonplatform.core.Validator;
@@ -34,4 +37,27 @@ public interface BuiltinValidator<T> extends Validator<T> {
 	 */
 	Optional<ValidatorDescriptor> getDescriptor();
 
+	/**
+	 * Get the size of given value, i.e. the length of a {@link CharSequence} or of an array (including arrays of
+	 * primitive types) or the size of a {@link Collection} or a {@link Map}.
+	 * @param value The value (not null)
+	 * @return The value size, or <code>-1</code> if the value type has not a size
+	 * @since 5.2.0
+	 */
+	static int getSize(Object value) {
+		if (value instanceof CharSequence) {
+			return ((CharSequence) value).length();
+		}
+		if (value instanceof Collection) {
+			return ((Collection<?>) value).size();
+		}
+		if (value instanceof Map) {
+			return ((Map<?, ?>) value).size();
+		}
+		if (value.getClass().isArray()) {
+			return Array.getLength(value);
+		}
+		return -1;
+	}
+
 }
@@ -15,19 +15,17 @@
  */
 package com.holonplatform.core.internal;
 
+import java.lang.ref.WeakReference;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashSet;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.ServiceLoader;
-import java.util.Set;
 import java.util.WeakHashMap;
 
 import com.holonplatform.core.Context;
@@ -160,6 +158,12 @@ public final class ContextManager {
 
 	/**
 	 * {@link ContextScope}s registry by {@link ClassLoader}.
+	 * <p>
+	 * The registrations are guarded by the registry lock, while the scopes lookup relies on an immutable snapshot of
+	 * the scopes resolved for each {@link ClassLoader}, taking into account the ClassLoader hierarchy if enabled. The
+	 * snapshot is rebuilt and atomically replaced each time a scope is registered or unregistered, so the scopes
+	 * lookup is lock-free once the scopes of a ClassLoader have been resolved.
+	 * </p>
 	 */
 	private static class ScopeRegistry {
 
@@ -168,7 +172,12 @@ public final class ContextManager {
 		 */
 		private final WeakHashMap<ClassLoader, LinkedHashMap<String, ContextScope>> scopes;
 
-		private boolean useClassLoaderHierarchy = true;
+		/**
+		 * Resolved scopes snapshot, one element for each resolved {@link ClassLoader}.
+		 */
+		private volatile ResolvedScopes[] resolved;
+
+		private volatile boolean useClassLoaderHierarchy = true;
 
 		/**
 		 * The default {@link ClassLoader}. When <code>null</code>, the {@link Thread#getContextClassLoader()} will be
@@ -179,6 +188,7 @@ public final class ContextManager {
 		public ScopeRegistry() {
 			super();
 			this.scopes = new WeakHashMap<>(4);
+			this.resolved = new ResolvedScopes[0];
 			this.classLoader = null;
 		}
 
@@ -196,8 +206,11 @@ public final class ContextManager {
 		 * @param useClassLoaderHierarchy <code>true</code> to scan the ClassLoader hierarchy when looking for available
 		 *        context scopes, <code>false</code> if only the current ClassLoader must be taken into account
 		 */
-		public void setUseClassLoaderHierarchy(boolean useClassLoaderHierarchy) {
-			this.useClassLoaderHierarchy = useClassLoaderHierarchy;
+		public synchronized void setUseClassLoaderHierarchy(boolean useClassLoaderHierarchy) {
+			if (this.useClassLoaderHierarchy != useClassLoaderHierarchy) {
+				this.useClassLoaderHierarchy = useClassLoaderHierarchy;
+				refresh();
+			}
 		}
 
 		/**
@@ -247,6 +260,8 @@ public final class ContextManager {
 			contextScopes.put(scope.getName(), scope);
 			sortScopes(contextScopes);
 
+			refresh();
+
 			LOGGER.debug(() -> "Registered scope [" + scope + "] with name [" + scope.getName() + "] for classloader ["
 					+ cl + "]");
 		}
@@ -262,13 +277,9 @@ public final class ContextManager {
 
 			final ClassLoader cl = classLoader == null ? getDefaultClassLoader() : classLoader;
 
-			final boolean removed;
-			LinkedHashMap<String, ContextScope> contextScopes = ensureInited(cl);
-			if (contextScopes.containsKey(name)) {
-				contextScopes.remove(name);
-				removed = true;
-			} else {
-				removed = false;
+			final boolean removed = ensureInited(cl).remove(name) != null;
+			if (removed) {
+				refresh();
 			}
 
 			LOGGER.debug(() -> "Unregistered scope with name [" + name + "] for classloader [" + cl
@@ -290,42 +301,8 @@ public final class ContextManager {
 		 * @param classLoader ClassLoader
 		 * @return ContextScopes iterator, preserving the order defined using {@link ContextScope#getOrder()}
 		 */
-		public synchronized Iterable<ContextScope> getScopes(ClassLoader classLoader) {
-			ClassLoader cl = classLoader == null ? getDefaultClassLoader() : classLoader;
-
-			if (isUseClassLoaderHierarchy()) {
-
-				final Set<String> scopeNames = new HashSet<>();
-				final List<ContextScope> scopes = new LinkedList<>();
-
-				while (cl != null) {
-					getScopesForClassLoader(cl).forEach(scope -> {
-						if (!scopeNames.contains(scope.getName())) {
-							scopes.add(scope);
-						}
-					});
-
-					// get parent ClassLoader
-					try {
-						final ClassLoader currentClassLoader = cl;
-						cl = AccessController.doPrivileged(new PrivilegedAction<ClassLoader>() {
-
-							@Override
-							public ClassLoader run() {
-								return currentClassLoader.getParent();
-							}
-
-						});
-					} catch (Exception e) {
-						LOGGER.debug(() -> "Failed to obtain parent ClassLoader", e);
-					}
-				}
-
-				return scopes;
-
-			}
-
-			return getScopesForClassLoader(cl);
+		public Iterable<ContextScope> getScopes(ClassLoader classLoader) {
+			return getResolvedScopes(classLoader).getScopes();
 		}
 
 		/**
@@ -343,70 +320,115 @@ public final class ContextManager {
 		 * @param classLoader ClassLoader
 		 * @return ContextScope, or <code>null</code> if not registered
 		 */
-		public synchronized ContextScope getScope(String name, ClassLoader classLoader) {
+		public ContextScope getScope(String name, ClassLoader classLoader) {
 			ObjectUtils.argumentNotNull(name, "Scope name must be not null");
+			return getResolvedScopes(classLoader).getScope(name);
+		}
 
-			ClassLoader cl = classLoader == null ? getDefaultClassLoader() : classLoader;
-
-			ContextScope scope = null;
+		/**
+		 * Get the resolved scopes for given ClassLoader, using the current snapshot if available or resolving and
+		 * adding them to the snapshot otherwise.
+		 * @param classLoader ClassLoader
+		 * @return The resolved scopes
+		 */
+		private ResolvedScopes getResolvedScopes(ClassLoader classLoader) {
+			final ClassLoader cl = classLoader == null ? getDefaultClassLoader() : classLoader;
+			// lock-free lookup
+			ResolvedScopes scopes = lookup(resolved, cl);
+			if (scopes != null) {
+				return scopes;
+			}
+			synchronized (this) {
+				final ResolvedScopes[] current = resolved;
+				scopes = lookup(current, cl);
+				if (scopes == null) {
+					scopes = resolve(cl);
+					final List<ResolvedScopes> snapshot = new ArrayList<>(current.length + 1);
+					for (ResolvedScopes rs : current) {
+						if (rs.getClassLoader() != null) {
+							snapshot.add(rs);
+						}
+					}
+					snapshot.add(scopes);
+					resolved = snapshot.toArray(new ResolvedScopes[snapshot.size()]);
+				}
+				return scopes;
+			}
+		}
 
-			while (cl != null) {
-				scope = getScopeForClassLoader(name, cl);
-				if (scope != null) {
-					break;
+		/**
+		 * Rebuild the resolved scopes snapshot for the ClassLoaders which are still reachable. Must be invoked holding
+		 * the registry lock.
+		 */
+		private void refresh() {
+			final List<ResolvedScopes> snapshot = new ArrayList<>(resolved.length);
+			for (ResolvedScopes rs : resolved) {
+				final ClassLoader cl = rs.getClassLoader();
+				if (cl != null) {
+					snapshot.add(resolve(cl));
 				}
-				if (isUseClassLoaderHierarchy()) {
-					// get parent ClassLoader
-					try {
-						final ClassLoader currentClassLoader = cl;
-						cl = AccessController.doPrivileged(new PrivilegedAction<ClassLoader>() {
+			}
+			resolved = snapshot.toArray(new ResolvedScopes[snapshot.size()]);
+		}
 
-							@Override
-							public ClassLoader run() {
-								return currentClassLoader.getParent();
-							}
+		/**
+		 * Resolve the scopes available for given ClassLoader, scanning the ClassLoader hierarchy if enabled. When a
+		 * scope name is registered for more than one ClassLoader of the hierarchy, the nearest one is used. Must be
+		 * invoked holding the registry lock.
+		 * @param classLoader ClassLoader
+		 * @return The resolved scopes
+		 */
+		private ResolvedScopes resolve(ClassLoader classLoader) {
+			final Map<String, ContextScope> scopesByName = new HashMap<>(8);
+			final List<ContextScope> scopes = new ArrayList<>(4);
 
-						});
-					} catch (Exception e) {
-						LOGGER.debug(() -> "Failed to obtain parent ClassLoader", e);
+			ClassLoader cl = classLoader;
+			while (cl != null) {
+				for (ContextScope scope : ensureInited(cl).values()) {
+					if (scopesByName.putIfAbsent(scope.getName(), scope) == null) {
+						scopes.add(scope);
 					}
-				} else {
-					cl = null;
 				}
+				cl = isUseClassLoaderHierarchy() ? getParent(cl) : null;
 			}
 
-			return scope;
+			return new ResolvedScopes(classLoader, scopes, scopesByName);
 		}
 
 		/**
-		 * Get the the context scopes registered with given ClassLoader, ensuring scopes are inited using service
-		 * loaders.
-		 * @param cl The ClassLoader
-		 * @return The context scopes bound to given ClassLoader, an empty collection if none
+		 * Get the {@link ResolvedScopes} bound to given ClassLoader from given snapshot.
+		 * @param snapshot Resolved scopes snapshot
+		 * @param classLoader ClassLoader
+		 * @return The {@link ResolvedScopes} bound to given ClassLoader, or <code>null</code> if not available
 		 */
-		private Collection<ContextScope> getScopesForClassLoader(ClassLoader cl) {
-			if (cl != null) {
-				Collection<ContextScope> classLoaderScopes = ensureInited(cl).values();
-				if (classLoaderScopes != null) {
-					return classLoaderScopes;
+		private static ResolvedScopes lookup(ResolvedScopes[] snapshot, ClassLoader classLoader) {
+			for (ResolvedScopes rs : snapshot) {
+				if (rs.getClassLoader() == classLoader) {
+					return rs;
 				}
 			}
-			return Collections.emptyList();
+			return null;
 		}
 
 		/**
-		 * Get the context scope with given <code>name</code> registered with given ClassLoader, ensuring scopes are
-		 * inited using service loaders.
-		 * @param name Scope name
-		 * @param cl The ClassLoader
-		 * @return The {@link ContextScope} with given name, or <code>null</code> if not found
+		 * Get the parent of given ClassLoader.
+		 * @param classLoader ClassLoader
+		 * @return The parent ClassLoader, <code>null</code> if none or if it cannot be obtained
 		 */
-		private ContextScope getScopeForClassLoader(String name, ClassLoader cl) {
-			if (cl != null) {
-				LinkedHashMap<String, ContextScope> contextScopes = ensureInited(cl);
-				return contextScopes.get(name);
+		private static ClassLoader getParent(final ClassLoader classLoader) {
+			try {
+				return AccessController.doPrivileged(new PrivilegedAction<ClassLoader>() {
+
+					@Override
+					public ClassLoader run() {
+						return classLoader.getParent();
+					}
+
+				});
+			} catch (Exception e) {
+				LOGGER.debug(() -> "Failed to obtain parent ClassLoader", e);
+				return null;
 			}
-			return null;
 		}
 
 		/**
@@ -462,4 +484,49 @@ public final class ContextManager {
 
 	}
 
+	/**
+	 * Immutable snapshot of the {@link ContextScope}s resolved for a {@link ClassLoader}.
+	 */
+	private static final class ResolvedScopes {
+
+		private final WeakReference<ClassLoader> classLoader;
+
+		private final List<ContextScope> scopes;
+
+		private final Map<String, ContextScope> scopesByName;
+
+		ResolvedScopes(ClassLoader classLoader, List<ContextScope> scopes, Map<String, ContextScope> scopesByName) {
+			super();
+			this.classLoader = new WeakReference<>(classLoader);
+			this.scopes = Collections.unmodifiableList(scopes);
+			this.scopesByName = scopesByName;
+		}
+
+		/**
+		 * Get the ClassLoader to which the scopes are bound.
+		 * @return the ClassLoader, <code>null</code> if it was garbage collected
+		 */
+		ClassLoader getClassLoader() {
+			return classLoader.get();
+		}
+
+		/**
+		 * Get the resolved scopes, in resolution order.
+		 * @return the resolved scopes
+		 */
+		List<ContextScope> getScopes() {
+			return scopes;
+		}
+
+		/**
+		 * Get the resolved scope with given name.
+		 * @param name Scope name
+		 * @return the scope with given name, or <code>null</code> if not available
+		 */
+		ContextScope getScope(String name) {
+			return scopesByName.get(name);
+		}
+
+	}
+
 }
@@ -15,12 +15,14 @@
  */
 package com.holonplatform.core.internal;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
-import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
 
 import javax.annotation.Priority;
@@ -34,6 +36,12 @@ import com.holonplatform.core.internal.utils.ObjectUtils;
 
 /**
  * Default {@link ExpressionResolverRegistry} implementation.
+ * <p>
+ * The registry is thread-safe. When the cache is enabled, the suitable resolvers for each expression type and
+ * resolution type pair are cached and the lookup is performed without locking. The cache is atomically invalidated
+ * when an {@link ExpressionResolver} is added or removed. Cache hit and miss counters can be optionally enabled using
+ * the {@link #DefaultExpressionResolverRegistry(boolean, boolean)} constructor.
+ * </p>
  *
  * @since 5.0.0
  */
@@ -48,9 +56,24 @@ public class DefaultExpressionResolverRegistry implements ExpressionResolverRegi
 	private static final Logger LOGGER = CoreLogger.create();
 
 	/**
-	 * Expression resolvers cache
+	 * Whether the expression resolvers cache is enabled
 	 */
-	private final WeakHashMap<Class<?>, WeakHashMap<Class<?>, List<ExpressionResolver>>> cache;
+	private final boolean cacheEnabled;
+
+	/**
+	 * Expression resolvers cache, replaced when invalidated
+	 */
+	private transient volatile ResolversCache cache;
+
+	/**
+	 * Cache hits counter, if statistics are enabled
+	 */
+	private final LongAdder cacheHits;
+
+	/**
+	 * Cache misses counter, if statistics are enabled
+	 */
+	private final LongAdder cacheMisses;
 
 	/**
 	 * {@link ExpressionResolver} comparator using {@link Priority} annotation.
@@ -62,7 +85,7 @@ public class DefaultExpressionResolverRegistry implements ExpressionResolverRegi
 	/**
 	 * Registered resolvers.
 	 */
-	private final List<ExpressionResolver> resolvers = new ArrayList<>();
+	private final List<ExpressionResolver> resolvers = new CopyOnWriteArrayList<>();
 
 	/**
 	 * Contructor with cache enabled by default.
@@ -76,8 +99,21 @@ public class DefaultExpressionResolverRegistry implements ExpressionResolverRegi
 	 * @param cacheEnabled Whether to enable the expression resolvers cache
 	 */
 	public DefaultExpressionResolverRegistry(boolean cacheEnabled) {
+		this(cacheEnabled, false);
+	}
+
+	/**
+	 * Contructor with cache and cache statistics enabling flags.
+	 * @param cacheEnabled Whether to enable the expression resolvers cache
+	 * @param statisticsEnabled Whether to enable the cache hit and miss counters
+	 * @since 5.2.0
+	 */
+	public DefaultExpressionResolverRegistry(boolean cacheEnabled, boolean statisticsEnabled) {
 		super();
-		cache = cacheEnabled ? new WeakHashMap<>() : null;
+		this.cacheEnabled = cacheEnabled;
+		this.cache = cacheEnabled ? new ResolversCache() : null;
+		this.cacheHits = (cacheEnabled && statisticsEnabled) ? new LongAdder() : null;
+		this.cacheMisses = (cacheEnabled && statisticsEnabled) ? new LongAdder() : null;
 	}
 
 	/*
@@ -90,6 +126,7 @@ public class DefaultExpressionResolverRegistry implements ExpressionResolverRegi
 			ExpressionResolver<E, R> expressionResolver) {
 		ObjectUtils.argumentNotNull(expressionResolver, "ExpressionResolver to add must be not null");
 		resolvers.add(expressionResolver);
+		invalidateCache();
 		LOGGER.debug(() -> "Added ExpressionResolver [" + expressionResolver + "] to registry [" + this + "]");
 	}
 
@@ -103,6 +140,7 @@ public class DefaultExpressionResolverRegistry implements ExpressionResolverRegi
 			ExpressionResolver<E, R> expressionResolver) {
 		ObjectUtils.argumentNotNull(expressionResolver, "ExpressionResolver to remove must be not null");
 		resolvers.remove(expressionResolver);
+		invalidateCache();
 		LOGGER.debug(() -> "Removed ExpressionResolver [" + expressionResolver + "] from registry [" + this + "]");
 	}
 
@@ -139,30 +177,86 @@ public class DefaultExpressionResolverRegistry implements ExpressionResolverRegi
 		return resolved;
 	}
 
+	/**
+	 * Invalidate the expression resolvers cache, if enabled.
+	 * @since 5.2.0
+	 */
+	public void invalidateCache() {
+		if (cacheEnabled) {
+			cache = new ResolversCache();
+		}
+	}
+
+	/**
+	 * Get the number of expression resolvers cache hits.
+	 * @return The cache hits count, <code>-1</code> if the cache statistics are not enabled
+	 * @since 5.2.0
+	 */
+	public long getCacheHits() {
+		return (cacheHits != null) ? cacheHits.sum() : -1;
+	}
+
+	/**
+	 * Get the number of expression resolvers cache misses.
+	 * @return The cache misses count, <code>-1</code> if the cache statistics are not enabled
+	 * @since 5.2.0
+	 */
+	public long getCacheMisses() {
+		return (cacheMisses != null) ? cacheMisses.sum() : -1;
+	}
+
 	/**
 	 * Get a priority-ordered list of the suitable {@link ExpressionResolver} for given expression and resolution type.
 	 * @param expressionType Expression type
 	 * @param resolvedType Resolution type
 	 * @return Expression resolvers list, empty if none
 	 */
-	@SuppressWarnings("unchecked")
 	private List<ExpressionResolver> getResolversForExpressionType(Class<?> expressionType, Class<?> resolvedType) {
+		if (!cacheEnabled) {
+			return lookupResolvers(expressionType, resolvedType);
+		}
+
+		ResolversCache resolversCache = cache;
+		if (resolversCache == null) {
+			// deserialized instance
+			resolversCache = new ResolversCache();
+			cache = resolversCache;
+		}
 
 		// check cache
-		if (cache != null && cache.containsKey(expressionType) && cache.get(expressionType).containsKey(resolvedType)) {
-			return cache.get(expressionType).get(resolvedType);
+		final ConcurrentMap<Class<?>, List<ExpressionResolver>> byResolvedType = resolversCache.get(expressionType);
+		List<ExpressionResolver> expressionResolvers = byResolvedType.get(resolvedType);
+		if (expressionResolvers != null) {
+			if (cacheHits != null) {
+				cacheHits.increment();
+			}
+			return expressionResolvers;
 		}
 
-		List<ExpressionResolver> expressionResolvers = resolvers.stream().filter(
-				r -> r.getExpressionType().isAssignableFrom(expressionType) && r.getResolvedType() == resolvedType)
-				.sorted(PRIORITY_COMPARATOR).collect(Collectors.toList());
+		if (cacheMisses != null) {
+			cacheMisses.increment();
+		}
 
 		// cache resolvers
-		if (cache != null) {
-			cache.computeIfAbsent(expressionType, k -> new WeakHashMap<>()).put(resolvedType, expressionResolvers);
-		}
+		expressionResolvers = lookupResolvers(expressionType, resolvedType);
+		final List<ExpressionResolver> existing = byResolvedType.putIfAbsent(resolvedType, expressionResolvers);
+		return (existing != null) ? existing : expressionResolvers;
+	}
 
-		return expressionResolvers;
+	/**
+	 * Lookup the registered resolvers to obtain a priority-ordered list of the suitable {@link ExpressionResolver} for
+	 * given expression and resolution type.
+	 * @param expressionType Expression type
+	 * @param resolvedType Resolution type
+	 * @return Expression resolvers immutable list, empty if none
+	 */
+	@SuppressWarnings("unchecked")
+	private List<ExpressionResolver> lookupResolvers(Class<?> expressionType, Class<?> resolvedType) {
+		final List<ExpressionResolver> expressionResolvers = resolvers.stream().filter(
+				r -> r.getExpressionType().isAssignableFrom(expressionType) && r.getResolvedType() == resolvedType)
+				.sorted(PRIORITY_COMPARATOR).collect(Collectors.toList());
+		return expressionResolvers.isEmpty() ? Collections.emptyList()
+				: Collections.unmodifiableList(expressionResolvers);
 	}
 
 	/**
@@ -195,4 +289,21 @@ public class DefaultExpressionResolverRegistry implements ExpressionResolverRegi
 		return resolved;
 	}
 
+	/**
+	 * Expression resolvers cache, by expression type and resolution type. A {@link ClassValue} is used to not prevent
+	 * expression classes unloading.
+	 */
+	private static final class ResolversCache extends ClassValue<ConcurrentMap<Class<?>, List<ExpressionResolver>>> {
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.ClassValue#computeValue(java.lang.Class)
+		 */
+		@Override
+		protected ConcurrentMap<Class<?>, List<ExpressionResolver>> computeValue(Class<?> type) {
+			return new ConcurrentHashMap<>(4, 0.75f, 1);
+		}
+
+	}
+
 }
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.core.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.holonplatform.core.Validator;
+import com.holonplatform.core.Validator.ValidationException;
+import com.holonplatform.core.Validator.ValidationResult;
+import com.holonplatform.core.internal.utils.ObjectUtils;
+
+/**
+ * Default {@link ValidationResult} implementation.
+ * <p>
+ * Provides the {@link #validate(Object, Iterable)} method to collect the validation failures of a set of validators.
+ * While collecting, the {@link ValidationException}s created by the current thread do not fill in their stack trace.
+ * </p>
+ * 
+ * @since 5.2.0
+ */
+public class DefaultValidationResult implements ValidationResult {
+
+	private static final long serialVersionUID = -2283862573180981917L;
+
+	/**
+	 * Current thread collecting depth
+	 */
+	private static final ThreadLocal<int[]> COLLECTING = new ThreadLocal<>();
+
+	/**
+	 * Validation failures
+	 */
+	private List<ValidationException> failures;
+
+	/**
+	 * Constructor.
+	 */
+	public DefaultValidationResult() {
+		super();
+	}
+
+	/**
+	 * Add a validation failure.
+	 * @param failure The validation failure to add (not null)
+	 */
+	public void addFailure(ValidationException failure) {
+		ObjectUtils.argumentNotNull(failure, "Validation failure must be not null");
+		if (failures == null) {
+			failures = new ArrayList<>(2);
+		}
+		failures.add(failure);
+	}
+
+	/**
+	 * Add all the failures of given validation result.
+	 * @param result The validation result (not null)
+	 */
+	public void addFailures(ValidationResult result) {
+		ObjectUtils.argumentNotNull(result, "Validation result must be not null");
+		result.getFailures().forEach(f -> addFailure(f));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.core.Validator.ValidationResult#isValid()
+	 */
+	@Override
+	public boolean isValid() {
+		return failures == null;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.core.Validator.ValidationResult#getFailures()
+	 */
+	@Override
+	public List<ValidationException> getFailures() {
+		return (failures != null) ? Collections.unmodifiableList(failures) : Collections.emptyList();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "DefaultValidationResult [failures=" + getFailures() + "]";
+	}
+
+	/**
+	 * Validate given value using given validators, collecting all the validation failures.
+	 * @param <T> Value type
+	 * @param value The value to validate
+	 * @param validators The validators to use (not null)
+	 * @return The validation result
+	 */
+	public static <T> ValidationResult validate(T value, Iterable<? extends Validator<T>> validators) {
+		ObjectUtils.argumentNotNull(validators, "Validators must be not null");
+		final DefaultValidationResult result = new DefaultValidationResult();
+		final int[] depth = enter();
+		try {
+			for (Validator<T> validator : validators) {
+				try {
+					validator.validate(value);
+				} catch (ValidationException e) {
+					result.addFailure(e);
+				}
+			}
+		} finally {
+			exit(depth);
+		}
+		return result;
+	}
+
+	/**
+	 * Checks whether the current thread is collecting validation failures using
+	 * {@link #validate(Object, Iterable)}.
+	 * @return <code>true</code> if the current thread is collecting validation failures
+	 */
+	public static boolean isCollecting() {
+		return COLLECTING.get() != null;
+	}
+
+	private static int[] enter() {
+		int[] depth = COLLECTING.get();
+		if (depth == null) {
+			depth = new int[1];
+			COLLECTING.set(depth);
+		}
+		depth[0]++;
+		return depth;
+	}
+
+	private static void exit(int[] depth) {
+		if (--depth[0] == 0) {
+			COLLECTING.remove();
+		}
+	}
+
+}
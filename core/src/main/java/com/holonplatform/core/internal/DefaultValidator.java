@@ -55,4 +55,13 @@ public class DefaultValidator<T> implements Validator<T> {
 		}
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.core.Validator#test(java.lang.Object)
+	 */
+	@Override
+	public boolean test(T value) {
+		return predicate.test(value);
+	}
+
 }
@@ -56,6 +56,12 @@ public abstract class AbstractBeanProperty<T> extends AbstractPathProperty<T, Be
 	 */
 	private transient WeakReference<Field> field;
 
+	/**
+	 * Property value accessor. Strongly held for the property lifetime, since the property is already cached per bean
+	 * class through its {@link com.holonplatform.core.beans.BeanPropertySet}.
+	 */
+	private transient volatile BeanPropertyAccessor accessor;
+
 	/**
 	 * Declared field annotations
 	 */
@@ -135,6 +141,24 @@ public abstract class AbstractBeanProperty<T> extends AbstractPathProperty<T, Be
 		return Optional.ofNullable(field != null ? field.get() : null);
 	}
 
+	/**
+	 * Get the {@link BeanPropertyAccessor} to use to read and write this property value on a bean instance.
+	 * <p>
+	 * The accessor is lazily created once and then held by this property. It is reset when the property read method,
+	 * write method or field changes.
+	 * </p>
+	 * @return The property value accessor
+	 * @since 5.2.0
+	 */
+	public BeanPropertyAccessor getAccessor() {
+		BeanPropertyAccessor a = accessor;
+		if (a == null) {
+			a = BeanPropertyAccessor.create(this);
+			accessor = a;
+		}
+		return a;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see com.holonplatform.core.beans.BeanProperty#getSequence()
@@ -174,6 +198,7 @@ public abstract class AbstractBeanProperty<T> extends AbstractPathProperty<T, Be
 	@Override
 	public BeanProperty.Builder<T> readMethod(Method method) {
 		this.readMethod = (method != null) ? new WeakReference<>(method) : null;
+		this.accessor = null;
 		return this;
 	}
 
@@ -184,6 +209,7 @@ public abstract class AbstractBeanProperty<T> extends AbstractPathProperty<T, Be
 	@Override
 	public BeanProperty.Builder<T> writeMethod(Method method) {
 		this.writeMethod = (method != null) ? new WeakReference<>(method) : null;
+		this.accessor = null;
 		return this;
 	}
 
@@ -194,6 +220,7 @@ public abstract class AbstractBeanProperty<T> extends AbstractPathProperty<T, Be
 	@Override
 	public BeanProperty.Builder<T> field(Field field) {
 		this.field = (field != null) ? new WeakReference<>(field) : null;
+		this.accessor = null;
 		return this;
 	}
 
@@ -0,0 +1,456 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.core.internal.beans;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+import org.apache.commons.lang3.reflect.FieldUtils;
+
+import com.holonplatform.core.beans.BeanProperty;
+import com.holonplatform.core.internal.Logger;
+import com.holonplatform.core.internal.Logger.Level;
+import com.holonplatform.core.internal.utils.ObjectUtils;
+import com.holonplatform.core.property.Property.PropertyReadException;
+import com.holonplatform.core.property.Property.PropertyWriteException;
+
+/**
+ * Bean property value accessor, which reads and writes a {@link BeanProperty} value on a bean instance.
+ * <p>
+ * The read and write functions are generated once, when the accessor is created, using the {@link LambdaMetafactory}
+ * when the bean property read/write methods are accessible, or a {@link MethodHandle} otherwise. Reflection is used
+ * only when neither of them can be obtained.
+ * </p>
+ * 
+ * @since 5.2.0
+ */
+public final class BeanPropertyAccessor {
+
+	/**
+	 * Logger
+	 */
+	private static final Logger LOGGER = BeanLogger.create();
+
+	/**
+	 * Lookup to use to generate the accessor functions
+	 */
+	private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+	/**
+	 * Bean property
+	 */
+	private final BeanProperty<?> property;
+
+	/**
+	 * Read method or field
+	 */
+	private final Member readMember;
+
+	/**
+	 * Write method or field
+	 */
+	private final Member writeMember;
+
+	/**
+	 * Value reader
+	 */
+	private final ValueReader reader;
+
+	/**
+	 * Value writer
+	 */
+	private final ValueWriter writer;
+
+	/**
+	 * The (boxed) type of the values accepted by the writer
+	 */
+	private final Class<?> writeType;
+
+	/**
+	 * Whether the write method parameter or the field is of a primitive type
+	 */
+	private final boolean primitiveWriteType;
+
+	/**
+	 * Constructor.
+	 * @param property Bean property (not null)
+	 */
+	private BeanPropertyAccessor(BeanProperty<?> property) {
+		super();
+		this.property = property;
+		// read
+		final Method readMethod = property.getReadMethod().orElse(null);
+		if (readMethod != null) {
+			this.readMember = readMethod;
+			this.reader = getMethodReader(readMethod);
+		} else {
+			final Field field = property.getField().orElse(null);
+			this.readMember = field;
+			this.reader = (field != null) ? getFieldReader(field) : null;
+		}
+		// write
+		final Method writeMethod = property.getWriteMethod().orElse(null);
+		if (writeMethod != null) {
+			final Class<?> type = writeMethod.getParameterTypes()[0];
+			this.writeMember = writeMethod;
+			this.writeType = wrap(type);
+			this.primitiveWriteType = type.isPrimitive();
+			this.writer = getMethodWriter(writeMethod);
+		} else {
+			final Field field = property.getField().orElse(null);
+			this.writeMember = field;
+			this.writeType = (field != null) ? wrap(field.getType()) : Object.class;
+			this.primitiveWriteType = field != null && field.getType().isPrimitive();
+			this.writer = (field != null) ? getFieldWriter(field) : null;
+		}
+	}
+
+	/**
+	 * Create a new {@link BeanPropertyAccessor} for given bean property.
+	 * @param property Bean property (not null)
+	 * @return A new {@link BeanPropertyAccessor}
+	 */
+	public static BeanPropertyAccessor create(BeanProperty<?> property) {
+		ObjectUtils.argumentNotNull(property, "Property must be not null");
+		return new BeanPropertyAccessor(property);
+	}
+
+	/**
+	 * Get the bean property to which this accessor is bound.
+	 * @return the bean property
+	 */
+	public BeanProperty<?> getProperty() {
+		return property;
+	}
+
+	/**
+	 * Read the property value from given bean instance.
+	 * @param instance Bean instance (if <code>null</code>, <code>null</code> is returned)
+	 * @return The property value
+	 * @throws PropertyReadException If an error occurred reading the property value
+	 */
+	public Object read(Object instance) {
+		if (instance == null) {
+			return null;
+		}
+		if (reader == null) {
+			throw new PropertyReadException(property,
+					"No read method and no accessible field available to read property [" + property
+							+ "] on bean class [" + instance.getClass().getName() + "]");
+		}
+
+		final Object value;
+		try {
+			value = reader.read(instance);
+		} catch (Error e) {
+			throw e;
+		} catch (Throwable e) {
+			throw new PropertyReadException(property, "Failed to read bean property [" + property
+					+ "] from instance [" + instance + "] using [" + readMember + "]", e);
+		}
+
+		if (LOGGER.isEnabled(Level.DEBUG)) {
+			LOGGER.debug(() -> "BeanPropertySet: read property [" + property + "] value [" + value
+					+ "] from instance [" + instance + "] using [" + readMember + "]");
+		}
+
+		return value;
+	}
+
+	/**
+	 * Write the property value into given bean instance.
+	 * <p>
+	 * A <code>null</code> value is converted to <code>false</code> or <code>0</code> for primitive types.
+	 * </p>
+	 * @param instance Bean instance (not null)
+	 * @param value The value to write
+	 * @return The written value
+	 * @throws PropertyWriteException If an error occurred writing the property value
+	 */
+	public Object write(Object instance, Object value) {
+		if (writer == null) {
+			throw new PropertyReadException(property,
+					"No write method and no accessible field available to write property [" + property
+							+ "] on bean class [" + instance.getClass().getName() + "]");
+		}
+
+		final Object valueToWrite = (value == null && primitiveWriteType) ? getPrimitiveDefault(writeType) : value;
+		try {
+			if (valueToWrite == null || writeType.isInstance(valueToWrite)) {
+				writer.write(instance, valueToWrite);
+			} else {
+				// let reflection handle any widening conversion or report the type mismatch
+				writeUsingReflection(instance, valueToWrite);
+			}
+		} catch (Error e) {
+			throw e;
+		} catch (Throwable e) {
+			throw new PropertyWriteException(property,
+					"Cannot write property [" + property + "] value of type ["
+							+ ((value != null) ? value.getClass().getName() : "null") + "] on bean instance ["
+							+ instance + "] using [" + writeMember + "]",
+					e);
+		}
+
+		if (LOGGER.isEnabled(Level.DEBUG)) {
+			LOGGER.debug(() -> "BeanPropertySet: written property [" + property + "] value [" + value
+					+ "] into instance [" + instance + "] using [" + writeMember + "]");
+		}
+
+		return value;
+	}
+
+	/**
+	 * Write given value using reflection.
+	 * @param instance Bean instance
+	 * @param value Value to write
+	 * @throws Exception If an error occurred
+	 */
+	private void writeUsingReflection(Object instance, Object value) throws Exception {
+		if (writeMember instanceof Method) {
+			((Method) writeMember).invoke(instance, new Object[] { value });
+		} else {
+			FieldUtils.writeField((Field) writeMember, instance, value, true);
+		}
+	}
+
+	// ------- Generation
+
+	/**
+	 * Get a reader for given read method.
+	 * @param method Read method
+	 * @return Value reader
+	 */
+	private static ValueReader getMethodReader(Method method) {
+		// lambda
+		if (isLambdaCompatible(method, method.getReturnType())) {
+			try {
+				final MethodHandle handle = LOOKUP.unreflect(method);
+				final CallSite site = LambdaMetafactory.metafactory(LOOKUP, "read",
+						MethodType.methodType(ValueReader.class), MethodType.methodType(Object.class, Object.class),
+						handle, MethodType.methodType(wrap(method.getReturnType()), method.getDeclaringClass()));
+				return (ValueReader) site.getTarget().invoke();
+			} catch (Throwable e) {
+				LOGGER.debug(() -> "Failed to generate a lambda reader for method [" + method + "]", e);
+			}
+		}
+		// method handle
+		try {
+			if (!method.isAccessible()) {
+				method.setAccessible(true);
+			}
+			final MethodHandle handle = LOOKUP.unreflect(method)
+					.asType(MethodType.methodType(Object.class, Object.class));
+			return instance -> handle.invokeExact(instance);
+		} catch (Exception e) {
+			LOGGER.debug(() -> "Failed to obtain a method handle reader for method [" + method + "]", e);
+		}
+		// reflection
+		return instance -> method.invoke(instance);
+	}
+
+	/**
+	 * Get a writer for given write method.
+	 * @param method Write method
+	 * @return Value writer
+	 */
+	private static ValueWriter getMethodWriter(Method method) {
+		final Class<?> type = method.getParameterTypes()[0];
+		// lambda
+		if (isLambdaCompatible(method, type)) {
+			try {
+				final MethodHandle handle = LOOKUP.unreflect(method);
+				final CallSite site = LambdaMetafactory.metafactory(LOOKUP, "write",
+						MethodType.methodType(ValueWriter.class),
+						MethodType.methodType(void.class, Object.class, Object.class), handle,
+						MethodType.methodType(void.class, method.getDeclaringClass(), wrap(type)));
+				return (ValueWriter) site.getTarget().invoke();
+			} catch (Throwable e) {
+				LOGGER.debug(() -> "Failed to generate a lambda writer for method [" + method + "]", e);
+			}
+		}
+		// method handle
+		try {
+			if (!method.isAccessible()) {
+				method.setAccessible(true);
+			}
+			final MethodHandle handle = LOOKUP.unreflect(method)
+					.asType(MethodType.methodType(void.class, Object.class, Object.class));
+			return (instance, value) -> {
+				handle.invokeExact(instance, value);
+			};
+		} catch (Exception e) {
+			LOGGER.debug(() -> "Failed to obtain a method handle writer for method [" + method + "]", e);
+		}
+		// reflection
+		return (instance, value) -> method.invoke(instance, new Object[] { value });
+	}
+
+	/**
+	 * Get a reader for given field.
+	 * @param field Field
+	 * @return Value reader
+	 */
+	private static ValueReader getFieldReader(Field field) {
+		try {
+			if (!field.isAccessible()) {
+				field.setAccessible(true);
+			}
+			final MethodHandle handle = LOOKUP.unreflectGetter(field)
+					.asType(MethodType.methodType(Object.class, Object.class));
+			return instance -> handle.invokeExact(instance);
+		} catch (Exception e) {
+			LOGGER.debug(() -> "Failed to obtain a method handle reader for field [" + field + "]", e);
+		}
+		return instance -> FieldUtils.readField(field, instance, true);
+	}
+
+	/**
+	 * Get a writer for given field.
+	 * @param field Field
+	 * @return Value writer
+	 */
+	private static ValueWriter getFieldWriter(Field field) {
+		if (!Modifier.isFinal(field.getModifiers())) {
+			try {
+				if (!field.isAccessible()) {
+					field.setAccessible(true);
+				}
+				final MethodHandle handle = LOOKUP.unreflectSetter(field)
+						.asType(MethodType.methodType(void.class, Object.class, Object.class));
+				return (instance, value) -> {
+					handle.invokeExact(instance, value);
+				};
+			} catch (Exception e) {
+				LOGGER.debug(() -> "Failed to obtain a method handle writer for field [" + field + "]", e);
+			}
+		}
+		return (instance, value) -> FieldUtils.writeField(field, instance, value, true);
+	}
+
+	/**
+	 * Checks whether a lambda function can be generated for given method, i.e. if the method and its declaring class
+	 * are public and the declaring class and value type are visible from this class ClassLoader.
+	 * @param method Method
+	 * @param valueType Method value type
+	 * @return <code>true</code> if a lambda function can be generated
+	 */
+	private static boolean isLambdaCompatible(Method method, Class<?> valueType) {
+		return Modifier.isPublic(method.getModifiers()) && !Modifier.isStatic(method.getModifiers())
+				&& Modifier.isPublic(method.getDeclaringClass().getModifiers())
+				&& isVisible(method.getDeclaringClass()) && (valueType.isPrimitive() || isVisible(valueType));
+	}
+
+	/**
+	 * Checks whether given class is visible from this class ClassLoader.
+	 * @param cls Class to check
+	 * @return <code>true</code> if visible
+	 */
+	private static boolean isVisible(Class<?> cls) {
+		if (cls.isArray()) {
+			return isVisible(cls.getComponentType());
+		}
+		if (cls.isPrimitive()) {
+			return true;
+		}
+		try {
+			return Class.forName(cls.getName(), false, BeanPropertyAccessor.class.getClassLoader()) == cls;
+		} catch (ClassNotFoundException | LinkageError e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Get the wrapper type of given type, if it is a primitive type.
+	 * @param type Type
+	 * @return The wrapper type if given type is primitive, the type itself otherwise
+	 */
+	private static Class<?> wrap(Class<?> type) {
+		return type.isPrimitive() ? MethodType.methodType(type).wrap().returnType() : type;
+	}
+
+	/**
+	 * Get the default value for given primitive wrapper type.
+	 * @param type Primitive wrapper type
+	 * @return Default value
+	 */
+	private static Object getPrimitiveDefault(Class<?> type) {
+		if (Boolean.class == type) {
+			return Boolean.FALSE;
+		}
+		if (Character.class == type) {
+			return Character.valueOf((char) 0);
+		}
+		if (Long.class == type) {
+			return Long.valueOf(0L);
+		}
+		if (Double.class == type) {
+			return Double.valueOf(0d);
+		}
+		if (Float.class == type) {
+			return Float.valueOf(0f);
+		}
+		if (Short.class == type) {
+			return Short.valueOf((short) 0);
+		}
+		if (Byte.class == type) {
+			return Byte.valueOf((byte) 0);
+		}
+		return Integer.valueOf(0);
+	}
+
+	// ------- Functions
+
+	/**
+	 * Bean property value reader.
+	 */
+	@FunctionalInterface
+	interface ValueReader {
+
+		/**
+		 * Read the value from given instance.
+		 * @param instance Bean instance
+		 * @return Value
+		 * @throws Throwable If an error occurred
+		 */
+		Object read(Object instance) throws Throwable;
+
+	}
+
+	/**
+	 * Bean property value writer.
+	 */
+	@FunctionalInterface
+	interface ValueWriter {
+
+		/**
+		 * Write the value into given instance.
+		 * @param instance Bean instance
+		 * @param value Value to write
+		 * @throws Throwable If an error occurred
+		 */
+		void write(Object instance, Object value) throws Throwable;
+
+	}
+
+}
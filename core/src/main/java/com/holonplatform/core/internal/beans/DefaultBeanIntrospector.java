@@ -61,7 +61,8 @@ import com.holonplatform.core.property.PropertyBox;
  * 
  * <p>
  * Cache is supported and active by default. Use {@link BeanConfigProperties#BEAN_INTROSPECTOR_CACHE_ENABLED} to disable
- * cache in the case of memory consumption issues.
+ * cache in the case of memory consumption issues. Cached property sets are looked up without locking and each bean class
+ * is introspected only once, while different bean classes can be introspected concurrently.
  * </p>
  * 
  * @since 5.0.0
@@ -314,8 +315,9 @@ public class DefaultBeanIntrospector implements BeanIntrospector {
 	@Override
 	public boolean clearCache() {
 		LOGGER.debug(() -> "Clear cache");
-		synchronized (cache) {
-			cache.clear();
+		synchronized (cachedClasses) {
+			cache = new BeanPropertySetCache();
+			cachedClasses.clear();
 		}
 		return true;
 	}
@@ -325,14 +327,21 @@ public class DefaultBeanIntrospector implements BeanIntrospector {
 	 * @return Cache size
 	 */
 	public int getCacheSize() {
-		return cache.size();
+		synchronized (cachedClasses) {
+			return cachedClasses.size();
+		}
 	}
 
 	/**
-	 * Cache: bean class <-> BeanPropertyContext
+	 * Cache: bean class <-> BeanPropertySet. The cache is replaced when cleared.
 	 */
-	@SuppressWarnings("rawtypes")
-	private final Map<Class<?>, BeanPropertySet> cache = new WeakHashMap<>(16, 0.9f);
+	private volatile BeanPropertySetCache cache = new BeanPropertySetCache();
+
+	/**
+	 * Bean classes for which a {@link BeanPropertySet} has been cached, used to track the cache size. The map monitor
+	 * is also used to serialize cache clearing.
+	 */
+	private final Map<Class<?>, Boolean> cachedClasses = new WeakHashMap<>(16, 0.9f);
 
 	/*
 	 * (non-Javadoc)
@@ -388,25 +397,47 @@ public class DefaultBeanIntrospector implements BeanIntrospector {
 	public <T> BeanPropertySet<T> getPropertySet(Class<? extends T> beanClass) {
 		ObjectUtils.argumentNotNull(beanClass, "Bean class must be not null");
 		LOGGER.debug(() -> "Get BeanPropertySet for bean class [" + beanClass + "]");
-		synchronized (cache) {
-			if (CACHE_ENABLED && cache.containsKey(beanClass)) {
-				return cache.get(beanClass);
+		if (CACHE_ENABLED) {
+			final BeanPropertySetCache currentCache = cache;
+			final BeanPropertySetCacheEntry entry = currentCache.get(beanClass);
+			// lock-free cache hit
+			final BeanPropertySet cached = entry.propertySet;
+			if (cached != null) {
+				return cached;
+			}
+			// compute once per bean class
+			synchronized (entry) {
+				if (entry.propertySet == null) {
+					entry.propertySet = introspect(beanClass);
+					synchronized (cachedClasses) {
+						if (cache == currentCache) {
+							cachedClasses.put(beanClass, Boolean.TRUE);
+						}
+					}
+				}
+				return entry.propertySet;
 			}
+		}
+		return introspect(beanClass);
+	}
 
-			// get bean path
-			final FinalPathBuilder<T> rootBeanPath = FinalPath.of(beanClass.getName(), beanClass);
+	/**
+	 * Introspect given bean class and build the corresponding {@link BeanPropertySet}.
+	 * @param beanClass Bean class to introspect
+	 * @return BeanPropertySet instance
+	 * @throws BeanIntrospectionException Error during bean introspection
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private <T> BeanPropertySet<T> introspect(Class<? extends T> beanClass) throws BeanIntrospectionException {
+		// get bean path
+		final FinalPathBuilder<T> rootBeanPath = FinalPath.of(beanClass.getName(), beanClass);
 
-			final BeanPropertySet beanPropertySet = buildBeanPropertySet(beanClass, rootBeanPath);
+		final BeanPropertySet beanPropertySet = buildBeanPropertySet(beanClass, rootBeanPath);
 
-			// check data path
-			((BeanPropertySet<?>) beanPropertySet).getDataPath().ifPresent(dp -> rootBeanPath.dataPath(dp));
+		// check data path
+		((BeanPropertySet<?>) beanPropertySet).getDataPath().ifPresent(dp -> rootBeanPath.dataPath(dp));
 
-			if (CACHE_ENABLED) {
-				BeanPropertySet existing = cache.putIfAbsent(beanClass, beanPropertySet);
-				return (existing != null ? existing : beanPropertySet);
-			}
-			return beanPropertySet;
-		}
+		return beanPropertySet;
 	}
 
 	/**
@@ -626,4 +657,31 @@ public class DefaultBeanIntrospector implements BeanIntrospector {
 
 	}
 
+	/**
+	 * {@link BeanPropertySet} cache, backed by a {@link ClassValue} to obtain lock-free lookups and to avoid preventing
+	 * bean classes unloading.
+	 */
+	private static final class BeanPropertySetCache extends ClassValue<BeanPropertySetCacheEntry> {
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.ClassValue#computeValue(java.lang.Class)
+		 */
+		@Override
+		protected BeanPropertySetCacheEntry computeValue(Class<?> type) {
+			return new BeanPropertySetCacheEntry();
+		}
+
+	}
+
+	/**
+	 * {@link BeanPropertySet} cache entry. The entry monitor is used to introspect each bean class only once.
+	 */
+	@SuppressWarnings("rawtypes")
+	private static final class BeanPropertySetCacheEntry {
+
+		volatile BeanPropertySet propertySet;
+
+	}
+
 }
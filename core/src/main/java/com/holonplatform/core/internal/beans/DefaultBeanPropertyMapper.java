@@ -0,0 +1,308 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.core.internal.beans;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
+import com.holonplatform.core.Path;
+import com.holonplatform.core.beans.BeanProperty;
+import com.holonplatform.core.beans.BeanPropertyMapper;
+import com.holonplatform.core.beans.BeanPropertySet;
+import com.holonplatform.core.internal.utils.ObjectUtils;
+import com.holonplatform.core.internal.utils.TypeUtils;
+import com.holonplatform.core.property.PathProperty;
+import com.holonplatform.core.property.Property;
+import com.holonplatform.core.property.Property.PropertyNotFoundException;
+import com.holonplatform.core.property.Property.PropertyWriteException;
+import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.core.property.PropertySet;
+import com.holonplatform.core.property.PropertyValueConverter;
+
+/**
+ * Default {@link BeanPropertyMapper} implementation.
+ * <p>
+ * The mapping plan is resolved at construction time as an array of {@link MappedProperty}s, each one providing the
+ * nested bean properties hierarchy accessors and the converters to use.
+ * </p>
+ *
+ * @param <T> Bean type
+ *
+ * @since 5.2.0
+ */
+public class DefaultBeanPropertyMapper<T> implements BeanPropertyMapper<T> {
+
+	/**
+	 * Bean property set
+	 */
+	private final BeanPropertySet<T> beanPropertySet;
+
+	/**
+	 * Mapped property set
+	 */
+	private final PropertySet<?> propertySet;
+
+	/**
+	 * Mapping plan
+	 */
+	private final MappedProperty[] mappings;
+
+	/**
+	 * Constructor.
+	 * @param <P> Property type
+	 * @param beanPropertySet The bean property set (not null)
+	 * @param propertySet The property set to map (not null)
+	 * @param ignoreMissing Whether to ignore the properties which are not present as bean property
+	 * @throws PropertyNotFoundException If <code>ignoreMissing</code> is <code>false</code> and a property of the
+	 *         property set does not match with any of the bean properties
+	 */
+	@SuppressWarnings("rawtypes")
+	public <P extends Property> DefaultBeanPropertyMapper(BeanPropertySet<T> beanPropertySet,
+			PropertySet<P> propertySet, boolean ignoreMissing) {
+		super();
+		ObjectUtils.argumentNotNull(beanPropertySet, "Bean property set must be not null");
+		ObjectUtils.argumentNotNull(propertySet, "Property set must be not null");
+		this.beanPropertySet = beanPropertySet;
+		this.propertySet = propertySet;
+
+		final List<MappedProperty> mappings = new ArrayList<>(propertySet.size());
+		for (P property : propertySet) {
+			if (!property.isReadOnly() && property instanceof Path) {
+				final BeanProperty<?> beanProperty = getBeanProperty((Path<?>) property, ignoreMissing);
+				if (beanProperty != null) {
+					mappings.add(new MappedProperty(property, beanProperty));
+				}
+			}
+		}
+		this.mappings = mappings.toArray(new MappedProperty[mappings.size()]);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.core.beans.BeanPropertyMapper#getBeanPropertySet()
+	 */
+	@Override
+	public BeanPropertySet<T> getBeanPropertySet() {
+		return beanPropertySet;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.core.beans.BeanPropertyMapper#getPropertySet()
+	 */
+	@Override
+	public PropertySet<?> getPropertySet() {
+		return propertySet;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.core.beans.BeanPropertyMapper#read(com.holonplatform.core.property.PropertyBox,
+	 * java.lang.Object)
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	public PropertyBox read(PropertyBox propertyBox, T instance) {
+		ObjectUtils.argumentNotNull(propertyBox, "PropertyBox must be not null");
+		ObjectUtils.argumentNotNull(instance, "Bean instance must be not null");
+		for (MappedProperty mapping : mappings) {
+			propertyBox.setValue(mapping.property, mapping.read(instance));
+		}
+		return propertyBox;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.core.beans.BeanPropertyMapper#read(java.lang.Object)
+	 */
+	@Override
+	public PropertyBox read(T instance) {
+		return read(PropertyBox.builder(propertySet).invalidAllowed(true).build(), instance);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.core.beans.BeanPropertyMapper#write(com.holonplatform.core.property.PropertyBox,
+	 * java.lang.Object)
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	public T write(PropertyBox propertyBox, T instance) {
+		ObjectUtils.argumentNotNull(propertyBox, "PropertyBox must be not null");
+		ObjectUtils.argumentNotNull(instance, "Bean instance must be not null");
+		for (MappedProperty mapping : mappings) {
+			mapping.write(propertyBox.getValue(mapping.property), instance);
+		}
+		return instance;
+	}
+
+	/**
+	 * Get the bean property which matches with given property path, using the properties relative name as matching
+	 * rule.
+	 * @param propertyPath Property path
+	 * @param ignoreMissing <code>true</code> to ignore mismatches
+	 * @return The matching bean property, or <code>null</code> if none and <code>ignoreMissing</code> is
+	 *         <code>true</code>
+	 * @throws PropertyNotFoundException If ignoreMissing is false and a matching bean property was not found
+	 */
+	private BeanProperty<?> getBeanProperty(Path<?> propertyPath, boolean ignoreMissing) {
+		final String name = propertyPath.relativeName();
+		for (PathProperty<?> property : beanPropertySet) {
+			if (name.equals(property.relativeName())) {
+				return (BeanProperty<?>) property;
+			}
+		}
+		if (!ignoreMissing) {
+			throw new PropertyNotFoundException((propertyPath instanceof Property) ? (Property<?>) propertyPath : null,
+					"Property with name [" + name + "] was not found in bean [" + beanPropertySet.getBeanClass()
+							+ "] property set");
+		}
+		return null;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "DefaultBeanPropertyMapper [beanClass=" + beanPropertySet.getBeanClass() + ", mapped properties="
+				+ mappings.length + "]";
+	}
+
+	/**
+	 * A property mapping, bound to the matching bean property.
+	 */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private static final class MappedProperty {
+
+		/**
+		 * Mapped property
+		 */
+		final Property property;
+
+		/**
+		 * Mapped property type
+		 */
+		private final Class<?> type;
+
+		/**
+		 * Bean property
+		 */
+		private final BeanProperty<?> beanProperty;
+
+		/**
+		 * Bean properties hierarchy, from the root bean property to the mapped bean property
+		 */
+		private final BeanProperty<?>[] hierarchy;
+
+		/**
+		 * Bean properties hierarchy accessors
+		 */
+		private final BeanPropertyAccessor[] accessors;
+
+		/**
+		 * Converter to use when reading the bean property value, if any
+		 */
+		private final PropertyValueConverter readConverter;
+
+		/**
+		 * Converter to use to convert the property value into the bean property model type when writing, if any
+		 */
+		private final PropertyValueConverter propertyConverter;
+
+		/**
+		 * Bean property converter to use when writing the bean property value, if any
+		 */
+		private final PropertyValueConverter writeConverter;
+
+		MappedProperty(Property<?> property, BeanProperty<?> beanProperty) {
+			super();
+			this.property = property;
+			this.type = property.getType();
+			this.beanProperty = beanProperty;
+
+			final List<BeanProperty<?>> properties = new LinkedList<>();
+			BeanProperty<?> current = beanProperty;
+			while (current != null) {
+				properties.add(0, current);
+				current = current.getParentProperty().orElse(null);
+			}
+			this.hierarchy = properties.toArray(new BeanProperty<?>[properties.size()]);
+			this.accessors = new BeanPropertyAccessor[hierarchy.length];
+			for (int i = 0; i < hierarchy.length; i++) {
+				this.accessors[i] = DefaultBeanPropertySet.getAccessor(hierarchy[i]);
+			}
+
+			this.readConverter = beanProperty.getConverter().orElse(null);
+			this.propertyConverter = TypeUtils.isAssignable(beanProperty.getType(), type) ? null
+					: property.getConverter()
+							.filter(c -> TypeUtils.isAssignable(beanProperty.getType(), c.getModelType())).orElse(null);
+			this.writeConverter = beanProperty.getConverter()
+					.filter(c -> type != null && TypeUtils.isAssignable(type, c.getModelType())).orElse(null);
+		}
+
+		/**
+		 * Read the bean property value from given bean instance, applying the read converter if required.
+		 * @param instance Bean instance
+		 * @return The property value
+		 */
+		Object read(Object instance) {
+			Object value = instance;
+			for (BeanPropertyAccessor accessor : accessors) {
+				value = accessor.read(value);
+			}
+			if (readConverter != null && (value == null || (!TypeUtils.isAssignable(value.getClass(), type)
+					&& TypeUtils.isAssignable(value.getClass(), readConverter.getPropertyType())))) {
+				return readConverter.toModel(value, beanProperty);
+			}
+			return value;
+		}
+
+		/**
+		 * Write given property value into the bean instance, instantiating any missing nested bean instance.
+		 * @param propertyValue The property value
+		 * @param instance Bean instance
+		 */
+		void write(Object propertyValue, Object instance) {
+			Object value = (propertyConverter != null) ? propertyConverter.toModel(propertyValue, property)
+					: propertyValue;
+			if (writeConverter != null) {
+				value = writeConverter.fromModel(value, beanProperty);
+			}
+			// nested instances
+			Object instanceToWrite = instance;
+			final int last = accessors.length - 1;
+			for (int i = 0; i < last; i++) {
+				Object read = accessors[i].read(instanceToWrite);
+				if (read == null) {
+					try {
+						// try to istantiate
+						read = accessors[i].write(instanceToWrite, hierarchy[i].getType().newInstance());
+					} catch (Exception e) {
+						throw new PropertyWriteException(beanProperty,
+								"Failed to istantiate nested class " + hierarchy[i].getType().getName(), e);
+					}
+				}
+				instanceToWrite = read;
+			}
+			accessors[last].write(instanceToWrite, value);
+		}
+
+	}
+
+}
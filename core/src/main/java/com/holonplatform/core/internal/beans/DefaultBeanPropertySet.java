@@ -16,8 +16,6 @@
 package com.holonplatform.core.internal.beans;
 
 import java.lang.ref.WeakReference;
-import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
 import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
@@ -25,8 +23,6 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
-import org.apache.commons.lang3.reflect.FieldUtils;
-
 import com.holonplatform.core.ParameterSet;
 import com.holonplatform.core.Path;
 import com.holonplatform.core.beans.BeanProperty;
@@ -41,7 +37,6 @@ import com.holonplatform.core.property.NumericProperty;
 import com.holonplatform.core.property.PathProperty;
 import com.holonplatform.core.property.Property;
 import com.holonplatform.core.property.Property.PropertyNotFoundException;
-import com.holonplatform.core.property.Property.PropertyReadException;
 import com.holonplatform.core.property.Property.PropertyWriteException;
 import com.holonplatform.core.property.PropertyBox;
 import com.holonplatform.core.property.PropertyValueConverter;
@@ -433,53 +428,15 @@ public class DefaultBeanPropertySet<T> extends DefaultPropertySet<PathProperty<?
 	}
 
 	/**
-	 * Read the <code>property</code> value from given instance (if not null), using BeanProperty configuration read
-	 * method or field, if available.
+	 * Read the <code>property</code> value from given instance (if not null), using the property
+	 * {@link BeanPropertyAccessor}.
 	 * @param property Property to read
 	 * @param instance Instance to read from
 	 * @return Property value
 	 */
 	private static Object readValue(BeanProperty<?> property, Object instance) {
-
 		ObjectUtils.argumentNotNull(property, "Property must be not null");
-
-		if (instance == null) {
-			return null;
-		}
-
-		final Object value;
-
-		if (property.getReadMethod().isPresent()) {
-			try {
-				value = property.getReadMethod().get().invoke(instance);
-
-				LOGGER.debug(() -> "BeanPropertySet: read property [" + property + "] value [" + value
-						+ "] from instance [" + instance + "] using method [" + property.getReadMethod() + "]");
-
-			} catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
-				throw new PropertyReadException(property, "Failed to read bean property [" + property
-						+ "] from instance [" + instance + "] using method [" + property.getReadMethod() + "]", e);
-			}
-		} else {
-			Field field = property.getField()
-					.orElseThrow(() -> new PropertyReadException(property,
-							"No read method and no accessible field available to read property [" + property
-									+ "] on bean class [" + instance.getClass().getName() + "]"));
-			try {
-				value = FieldUtils.readField(field, instance, true);
-
-				LOGGER.debug(() -> "BeanPropertySet: read property [" + property + "] value [" + value
-						+ "] from instance [" + instance + "] using field [" + field + "]");
-
-			} catch (IllegalAccessException e) {
-				throw new PropertyReadException(property, "Failed to read bean property [" + property
-						+ "] from instance [" + instance + "] using field [" + field + "]", e);
-			}
-
-		}
-
-		return value;
-
+		return getAccessor(property).read(instance);
 	}
 
 	/**
@@ -524,8 +481,8 @@ public class DefaultBeanPropertySet<T> extends DefaultPropertySet<PathProperty<?
 	}
 
 	/**
-	 * Write the <code>property</code> value into given instance using given value, using BeanProperty configuration
-	 * write method or field, if available.
+	 * Write the <code>property</code> value into given instance using given value, using the property
+	 * {@link BeanPropertyAccessor}.
 	 * @param property Property to write
 	 * @param value Value to write
 	 * @param instance Instance to write
@@ -533,59 +490,19 @@ public class DefaultBeanPropertySet<T> extends DefaultPropertySet<PathProperty<?
 	 */
 	private static Object writeValue(BeanProperty<?> property, Object value, Object instance) {
 		ObjectUtils.argumentNotNull(property, "Property must be not null");
-
-		if (property.getWriteMethod().isPresent()) {
-			try {
-				property.getWriteMethod().get().invoke(instance, new Object[] {
-						getValueToWrite(property.getWriteMethod().get().getParameters()[0].getType(), value) });
-
-				LOGGER.debug(() -> "BeanPropertySet: written property [" + property + "] value [" + value
-						+ "] from instance [" + instance + "] using method [" + property.getWriteMethod() + "]");
-
-			} catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
-				throw new PropertyWriteException(property,
-						"Cannot write property [" + property + "] value of type ["
-								+ ((value != null) ? value.getClass().getName() : "null") + "] on bean instance ["
-								+ instance + "]",
-						e);
-			}
-		} else {
-			Field field = property.getField()
-					.orElseThrow(() -> new PropertyReadException(property,
-							"No write method and no accessible field available to write property [" + property
-									+ "] on bean class [" + instance.getClass().getName() + "]"));
-			try {
-				FieldUtils.writeField(field, instance, getValueToWrite(field.getType(), value), true);
-
-				LOGGER.debug(() -> "BeanPropertySet: read property [" + property + "] value [" + value
-						+ "] from instance [" + instance + "] using field [" + field + "]");
-
-			} catch (IllegalAccessException e) {
-				throw new PropertyWriteException(property, e);
-			}
-		}
-
-		return value;
+		return getAccessor(property).write(instance, value);
 	}
 
 	/**
-	 * Get the value to write on bean property, converting <code>null</code> values to <code>false</code> or
-	 * <code>0</code> for primitive types.
-	 * @param valueType Value type
-	 * @param value Value to write
-	 * @return Actual value
-	 */
-	private static Object getValueToWrite(Class<?> valueType, Object value) {
-		if (value == null) {
-			// check primitive types
-			if (valueType != null && valueType.isPrimitive()) {
-				if (boolean.class == valueType) {
-					return false;
-				}
-				return 0;
-			}
+	 * Get the {@link BeanPropertyAccessor} to use with given bean property.
+	 * @param property Bean property
+	 * @return The property accessor, cached by the property itself when it is an {@link AbstractBeanProperty}
+	 */
+	static BeanPropertyAccessor getAccessor(BeanProperty<?> property) {
+		if (property instanceof AbstractBeanProperty) {
+			return ((AbstractBeanProperty<?>) property).getAccessor();
 		}
-		return value;
+		return BeanPropertyAccessor.create(property);
 	}
 
 	/**
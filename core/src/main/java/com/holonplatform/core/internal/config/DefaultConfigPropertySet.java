@@ -17,13 +17,20 @@ package com.holonplatform.core.internal.config;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Stream;
 
 import com.holonplatform.core.config.ConfigProperty;
@@ -54,6 +61,16 @@ public class DefaultConfigPropertySet implements ConfigPropertySet {
 	 */
 	private final List<String> aliasNames = new LinkedList<>();
 
+	/**
+	 * Snapshot mode values, <code>null</code> if the snapshot mode is not enabled
+	 */
+	private volatile Snapshot snapshot;
+
+	/**
+	 * Change listeners
+	 */
+	private final List<ChangeListener> changeListeners = new CopyOnWriteArrayList<>();
+
 	/**
 	 * Construct a new property set
 	 * @param name Property set name (not null)
@@ -102,6 +119,9 @@ public class DefaultConfigPropertySet implements ConfigPropertySet {
 		for (String alias : aliasNames) {
 			propertyProviders.add(ConfigPropertyProvider.prefixed(propertyProvider, (alias + ".")));
 		}
+		if (snapshot != null) {
+			snapshot = new Snapshot(propertyProviders);
+		}
 	}
 
 	/**
@@ -113,6 +133,39 @@ public class DefaultConfigPropertySet implements ConfigPropertySet {
 		aliasNames.add(alias);
 	}
 
+	/**
+	 * Set whether to enable the snapshot mode, in which all the property values are read eagerly from the property
+	 * providers into an immutable snapshot, which is replaced as a whole when {@link #refresh()} is invoked.
+	 * <p>
+	 * The property providers which are not able to list their property names are not included in the snapshot and
+	 * they are queried at each property value lookup.
+	 * </p>
+	 * @param snapshotMode <code>true</code> to enable the snapshot mode
+	 * @since 5.2.0
+	 */
+	public synchronized void setSnapshotMode(boolean snapshotMode) {
+		this.snapshot = snapshotMode ? new Snapshot(propertyProviders) : null;
+	}
+
+	/**
+	 * Get whether the snapshot mode is enabled.
+	 * @return <code>true</code> if the snapshot mode is enabled
+	 * @since 5.2.0
+	 */
+	public boolean isSnapshotMode() {
+		return snapshot != null;
+	}
+
+	/**
+	 * Adds a {@link ChangeListener}.
+	 * @param listener The listener to add (not null)
+	 * @since 5.2.0
+	 */
+	public void addChangeListener(ChangeListener listener) {
+		ObjectUtils.argumentNotNull(listener, "The ChangeListener must be not null");
+		changeListeners.add(listener);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see
@@ -121,7 +174,7 @@ public class DefaultConfigPropertySet implements ConfigPropertySet {
 	@Override
 	public <T> boolean hasConfigProperty(ConfigProperty<T> property) {
 		ObjectUtils.argumentNotNull(property, "Property must be not null");
-		for (ConfigPropertyProvider propertyProvider : getPropertyProviders()) {
+		for (ConfigPropertyProvider propertyProvider : getResolutionProviders()) {
 			if (propertyProvider.containsProperty(property.getKey())) {
 				return true;
 			}
@@ -140,7 +193,7 @@ public class DefaultConfigPropertySet implements ConfigPropertySet {
 
 		T value = null;
 
-		for (ConfigPropertyProvider propertyProvider : getPropertyProviders()) {
+		for (ConfigPropertyProvider propertyProvider : getResolutionProviders()) {
 			value = propertyProvider.getProperty(property.getKey(), property.getType());
 			if (value != null) {
 				break;
@@ -162,7 +215,7 @@ public class DefaultConfigPropertySet implements ConfigPropertySet {
 
 		Map<String, String> properties = new HashMap<>();
 
-		for (final ConfigPropertyProvider provider : propertyProviders) {
+		for (final ConfigPropertyProvider provider : getResolutionProviders()) {
 			try {
 				Stream<String> propertyNames = provider.getPropertyNames();
 				if (propertyNames != null) {
@@ -179,6 +232,107 @@ public class DefaultConfigPropertySet implements ConfigPropertySet {
 		return properties;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.core.config.ConfigPropertySet#refresh()
+	 */
+	@Override
+	public synchronized void refresh() {
+		final Snapshot current = snapshot;
+		if (current == null) {
+			return;
+		}
+		final Snapshot refreshed = new Snapshot(propertyProviders);
+		final Set<String> keys = new TreeSet<>(current.values.keySet());
+		keys.addAll(refreshed.values.keySet());
+		final List<ConfigProperty<?>> changed = new ArrayList<>();
+		for (String key : keys) {
+			if (!Objects.equals(current.values.get(key), refreshed.values.get(key))) {
+				changed.add(ConfigProperty.create(key, Object.class));
+			}
+		}
+		snapshot = refreshed;
+		if (!changed.isEmpty()) {
+			changeListeners.forEach(l -> l.configPropertiesChanged(this, changed));
+		}
+	}
+
+	/**
+	 * Get the property providers to use to resolve the property values: the snapshot providers if the snapshot mode
+	 * is enabled, the concrete property providers otherwise.
+	 * @return The property providers
+	 */
+	private List<ConfigPropertyProvider> getResolutionProviders() {
+		final Snapshot current = snapshot;
+		return (current != null) ? current.providers : getPropertyProviders();
+	}
+
+	/**
+	 * An immutable snapshot of the property values.
+	 */
+	private static final class Snapshot {
+
+		/**
+		 * Snapshot providers, in the same order of the concrete property providers
+		 */
+		final List<ConfigPropertyProvider> providers;
+
+		/**
+		 * Property values by key, as resolved from the snapshot providers
+		 */
+		final Map<String, Object> values;
+
+		/**
+		 * Read all the property values of given providers. A provider which is not able to list its property names is
+		 * included as is.
+		 * @param propertyProviders The concrete property providers
+		 */
+		Snapshot(List<ConfigPropertyProvider> propertyProviders) {
+			super();
+			final List<ConfigPropertyProvider> snapshotProviders = new ArrayList<>(propertyProviders.size());
+			final Map<String, Object> snapshotValues = new HashMap<>();
+			for (ConfigPropertyProvider provider : propertyProviders) {
+				final Stream<String> names;
+				try {
+					names = provider.getPropertyNames();
+				} catch (@SuppressWarnings("unused") UnsupportedOperationException e) {
+					snapshotProviders.add(provider);
+					continue;
+				}
+				final Map<String, Object> providerValues = new HashMap<>();
+				if (names != null) {
+					for (Iterator<String> iterator = names.iterator(); iterator.hasNext();) {
+						final String name = iterator.next();
+						final Object value = getRawValue(provider, name);
+						if (value != null) {
+							providerValues.put(name, value);
+							snapshotValues.putIfAbsent(name, value);
+						}
+					}
+				}
+				snapshotProviders.add(ConfigPropertyProvider.using(Collections.unmodifiableMap(providerValues)));
+			}
+			this.providers = Collections.unmodifiableList(snapshotProviders);
+			this.values = Collections.unmodifiableMap(snapshotValues);
+		}
+
+		/**
+		 * Get the value of given property name as provided by given provider, before any type conversion.
+		 * @param provider The property provider
+		 * @param name The property name
+		 * @return The property value, <code>null</code> if not available
+		 */
+		private static Object getRawValue(ConfigPropertyProvider provider, String name) {
+			try {
+				return provider.getProperty(name, String.class);
+			} catch (@SuppressWarnings("unused") IllegalArgumentException e) {
+				// not a String value
+				return provider.getProperty(name, Object.class);
+			}
+		}
+
+	}
+
 	// Builder
 
 	/*
@@ -203,6 +357,11 @@ public class DefaultConfigPropertySet implements ConfigPropertySet {
 		 */
 		protected Map<ConfigProperty<?>, Object> values;
 
+		/*
+		 * Whether to enable the snapshot mode
+		 */
+		protected boolean snapshotMode;
+
 		/**
 		 * Constructor
 		 * @param instance Instance to build
@@ -332,6 +491,28 @@ public class DefaultConfigPropertySet implements ConfigPropertySet {
 			return this;
 		}
 
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.core.config.ConfigPropertySet.Builder#snapshotMode(boolean)
+		 */
+		@Override
+		public Builder<C> snapshotMode(boolean snapshotMode) {
+			this.snapshotMode = snapshotMode;
+			return this;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see
+		 * com.holonplatform.core.config.ConfigPropertySet.Builder#withChangeListener(com.holonplatform.core.config.
+		 * ConfigPropertySet.ChangeListener)
+		 */
+		@Override
+		public Builder<C> withChangeListener(ChangeListener listener) {
+			instance.addChangeListener(listener);
+			return this;
+		}
+
 		/*
 		 * (non-Javadoc)
 		 * @see com.holonplatform.core.config.ConfigPropertySet.Builder#build()
@@ -349,6 +530,11 @@ public class DefaultConfigPropertySet implements ConfigPropertySet {
 				instance.addPropertyProvider(ConfigPropertyProvider.using(properties));
 			}
 
+			// read the property values once all the providers are available
+			if (snapshotMode) {
+				instance.setSnapshotMode(true);
+			}
+
 			return (C) instance;
 		}
 
@@ -15,9 +15,13 @@
  */
 package com.holonplatform.core.internal.datastore.bulk;
 
+import java.util.function.Function;
+
 import com.holonplatform.core.datastore.Datastore.OperationResult;
 import com.holonplatform.core.datastore.bulk.BulkInsert;
+import com.holonplatform.core.datastore.operation.commons.BulkInsertOperationConfiguration;
 import com.holonplatform.core.internal.datastore.operation.common.AbstractBulkInsertOperation;
+import com.holonplatform.core.internal.datastore.operation.common.BulkInsertBatches;
 
 /**
  * Abstract {@link BulkInsert} implementation.
@@ -38,4 +42,14 @@ public abstract class AbstractBulkInsert extends AbstractBulkInsertOperation<Ope
 		return this;
 	}
 
+	/**
+	 * Execute the operation values in batches, according to the operation batch size, using given batch executor.
+	 * The returned operation result affected count is the sum of the batches affected counts.
+	 * @param executor The function to use to execute each batch (not null)
+	 * @return The operation result
+	 */
+	protected OperationResult executeBatches(Function<BulkInsertOperationConfiguration, OperationResult> executor) {
+		return BulkInsertBatches.execute(getConfiguration(), executor);
+	}
+
 }
@@ -0,0 +1,817 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.core.internal.datastore.memory;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.holonplatform.core.Expression;
+import com.holonplatform.core.Expression.InvalidExpressionException;
+import com.holonplatform.core.ExpressionResolver;
+import com.holonplatform.core.ExpressionResolver.ExpressionResolverHandler;
+import com.holonplatform.core.ExpressionResolver.ExpressionResolverProvider;
+import com.holonplatform.core.ExpressionResolverRegistry;
+import com.holonplatform.core.Path;
+import com.holonplatform.core.TypedExpression;
+import com.holonplatform.core.datastore.DataTarget;
+import com.holonplatform.core.datastore.DatastoreCommodity;
+import com.holonplatform.core.datastore.DatastoreCommodityContext;
+import com.holonplatform.core.datastore.DatastoreCommodityFactory;
+import com.holonplatform.core.datastore.bulk.BulkDelete;
+import com.holonplatform.core.datastore.bulk.BulkInsert;
+import com.holonplatform.core.datastore.bulk.BulkUpdate;
+import com.holonplatform.core.datastore.memory.InMemoryDatastore;
+import com.holonplatform.core.datastore.operation.Delete;
+import com.holonplatform.core.datastore.operation.Insert;
+import com.holonplatform.core.datastore.operation.Refresh;
+import com.holonplatform.core.datastore.operation.Save;
+import com.holonplatform.core.datastore.operation.Update;
+import com.holonplatform.core.datastore.operation.commons.BulkDeleteOperationConfiguration;
+import com.holonplatform.core.datastore.operation.commons.BulkInsertOperationConfiguration;
+import com.holonplatform.core.datastore.operation.commons.BulkUpdateOperationConfiguration;
+import com.holonplatform.core.datastore.operation.commons.PropertyBoxOperationConfiguration;
+import com.holonplatform.core.exceptions.DataAccessException;
+import com.holonplatform.core.internal.Logger;
+import com.holonplatform.core.internal.datastore.AbstractDatastore;
+import com.holonplatform.core.internal.datastore.DatastoreLogger;
+import com.holonplatform.core.internal.datastore.bulk.AbstractBulkDelete;
+import com.holonplatform.core.internal.datastore.bulk.AbstractBulkInsert;
+import com.holonplatform.core.internal.datastore.bulk.AbstractBulkUpdate;
+import com.holonplatform.core.internal.datastore.operation.AbstractDelete;
+import com.holonplatform.core.internal.datastore.operation.AbstractInsert;
+import com.holonplatform.core.internal.datastore.operation.AbstractRefresh;
+import com.holonplatform.core.internal.datastore.operation.AbstractSave;
+import com.holonplatform.core.internal.datastore.operation.AbstractUpdate;
+import com.holonplatform.core.internal.query.DefaultQueryDefinition;
+import com.holonplatform.core.internal.query.QueryAdapterQuery;
+import com.holonplatform.core.internal.utils.ObjectUtils;
+import com.holonplatform.core.property.Property;
+import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.core.query.Query;
+import com.holonplatform.core.query.QueryAdapter;
+import com.holonplatform.core.query.QueryAggregation;
+import com.holonplatform.core.query.QueryConfiguration;
+import com.holonplatform.core.query.QueryFilter;
+import com.holonplatform.core.query.QueryOperation;
+import com.holonplatform.core.query.QueryProjection;
+import com.holonplatform.core.query.QuerySort;
+
+/**
+ * Default {@link InMemoryDatastore} implementation.
+ * <p>
+ * All the standard Datastore commodities ({@link Insert}, {@link Update}, {@link Save}, {@link Delete},
+ * {@link Refresh}, {@link BulkInsert}, {@link BulkUpdate}, {@link BulkDelete} and {@link Query}) are registered at
+ * Datastore creation.
+ * </p>
+ * 
+ * @since 5.2.0
+ */
+public class DefaultInMemoryDatastore extends AbstractDatastore<DatastoreCommodityContext>
+		implements InMemoryDatastore, DatastoreCommodityContext {
+
+	private static final long serialVersionUID = -3405931985373420587L;
+
+	/**
+	 * Logger
+	 */
+	private static final Logger LOGGER = DatastoreLogger.create();
+
+	/**
+	 * Declared indexes: data target name - path name - index type
+	 */
+	private final Map<String, Map<String, IndexType>> indexes = new ConcurrentHashMap<>();
+
+	/**
+	 * Data tables by data target name
+	 */
+	private final Map<String, InMemoryDataTable> tables = new ConcurrentHashMap<>();
+
+	/**
+	 * Constructor.
+	 */
+	public DefaultInMemoryDatastore() {
+		super(null, null);
+		registerCommodity(new InMemoryCommodityFactory<>(Insert.class, d -> d.new InMemoryInsert()));
+		registerCommodity(new InMemoryCommodityFactory<>(Update.class, d -> d.new InMemoryUpdate()));
+		registerCommodity(new InMemoryCommodityFactory<>(Save.class, d -> d.new InMemorySave()));
+		registerCommodity(new InMemoryCommodityFactory<>(Delete.class, d -> d.new InMemoryDelete()));
+		registerCommodity(new InMemoryCommodityFactory<>(Refresh.class, d -> d.new InMemoryRefresh()));
+		registerCommodity(new InMemoryCommodityFactory<>(BulkInsert.class, d -> d.new InMemoryBulkInsert()));
+		registerCommodity(new InMemoryCommodityFactory<>(BulkUpdate.class, d -> d.new InMemoryBulkUpdate()));
+		registerCommodity(new InMemoryCommodityFactory<>(BulkDelete.class, d -> d.new InMemoryBulkDelete()));
+		registerCommodity(new InMemoryCommodityFactory<>(Query.class,
+				d -> new QueryAdapterQuery<>(d.new InMemoryQueryAdapter(), new DefaultQueryDefinition())));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.core.internal.datastore.AbstractDatastore#getCommodityContext()
+	 */
+	@Override
+	protected DatastoreCommodityContext getCommodityContext() throws CommodityConfigurationException {
+		return this;
+	}
+
+	/**
+	 * Declare an index on given data target path. The indexes must be declared before any row is stored for the data
+	 * target.
+	 * @param target Data target (not null)
+	 * @param path Path to index (not null)
+	 * @param indexType Index type (not null)
+	 * @throws IllegalStateException If the data target already contains some data
+	 */
+	public void addIndex(DataTarget<?> target, Path<?> path, IndexType indexType) {
+		ObjectUtils.argumentNotNull(target, "Data target must be not null");
+		ObjectUtils.argumentNotNull(path, "Path must be not null");
+		ObjectUtils.argumentNotNull(indexType, "Index type must be not null");
+		if (tables.containsKey(target.getName())) {
+			throw new IllegalStateException(
+					"Cannot declare an index on data target [" + target.getName() + "]: the target already exists");
+		}
+		final String pathName = InMemoryExpressionEvaluator.getPathName(path);
+		indexes.computeIfAbsent(target.getName(), n -> new ConcurrentHashMap<>()).put(pathName, indexType);
+		LOGGER.debug(() -> "Datastore [" + this + "]: declared " + indexType + " index on path [" + pathName
+				+ "] of data target [" + target.getName() + "]");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.core.datastore.memory.InMemoryDatastore#count(com.holonplatform.core.datastore.DataTarget)
+	 */
+	@Override
+	public long count(DataTarget<?> target) {
+		return getTable(target, false).map(t -> t.size()).orElse(0);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.core.datastore.memory.InMemoryDatastore#clear(com.holonplatform.core.datastore.DataTarget)
+	 */
+	@Override
+	public void clear(DataTarget<?> target) {
+		getTable(target, false).ifPresent(t -> t.clear());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.core.datastore.memory.InMemoryDatastore#clear()
+	 */
+	@Override
+	public void clear() {
+		tables.values().forEach(t -> t.clear());
+	}
+
+	/**
+	 * Get the data table bound to given data target.
+	 * @param target Data target (not null)
+	 * @param create Whether to create the data table if it does not exist
+	 * @return Optional data table, empty if not exists and <code>create</code> is <code>false</code>
+	 */
+	protected Optional<InMemoryDataTable> getTable(DataTarget<?> target, boolean create) {
+		ObjectUtils.argumentNotNull(target, "Data target must be not null");
+		if (!create) {
+			return Optional.ofNullable(tables.get(target.getName()));
+		}
+		return Optional.of(tables.computeIfAbsent(target.getName(), name -> new InMemoryDataTable(name,
+				indexes.getOrDefault(name, Collections.emptyMap()).entrySet().stream()
+						.map(e -> new InMemoryIndex(e.getKey(), e.getValue())).collect(Collectors.toList()))));
+	}
+
+	/**
+	 * Get the {@link ExpressionResolverHandler} to use with given resolvers provider, which includes both the
+	 * Datastore resolvers and the provider resolvers.
+	 * @param provider Resolvers provider
+	 * @return The {@link ExpressionResolverHandler}
+	 */
+	@SuppressWarnings("rawtypes")
+	private ExpressionResolverHandler getResolverHandler(ExpressionResolverProvider provider) {
+		final Iterable<ExpressionResolver> resolvers = provider.getExpressionResolvers();
+		if (!resolvers.iterator().hasNext()) {
+			return this;
+		}
+		final ExpressionResolverRegistry registry = ExpressionResolverRegistry.create(false);
+		registry.addExpressionResolvers(getExpressionResolvers());
+		registry.addExpressionResolvers(resolvers);
+		return registry;
+	}
+
+	/**
+	 * Get the row values of given {@link PropertyBox}, i.e. the values of all the {@link Path} type properties.
+	 * @param propertyBox The PropertyBox
+	 * @return The row values
+	 */
+	@SuppressWarnings("unchecked")
+	private static Map<String, Object> getRowValues(PropertyBox propertyBox) {
+		final Map<String, Object> values = new HashMap<>();
+		for (Property<?> property : propertyBox) {
+			if (property instanceof Path) {
+				values.put(InMemoryExpressionEvaluator.getPathName((Path<?>) property),
+						propertyBox.getValue((Property<Object>) property));
+			}
+		}
+		return values;
+	}
+
+	/**
+	 * Get the identifier values of given {@link PropertyBox}.
+	 * @param propertyBox The PropertyBox
+	 * @param required Whether the identifier values are required
+	 * @return The identifier values, empty if not available and not required
+	 * @throws DataAccessException If the identifier values are required and not available
+	 */
+	@SuppressWarnings("unchecked")
+	private static Map<String, Object> getKeyValues(PropertyBox propertyBox, boolean required) {
+		final Map<String, Object> key = new HashMap<>(4);
+		for (Property<?> property : propertyBox.getIdentifiers()) {
+			if (property instanceof Path) {
+				final Object value = propertyBox.getValue((Property<Object>) property);
+				if (value == null) {
+					if (required) {
+						throw new DataAccessException("Null value for identifier property [" + property + "]");
+					}
+					return Collections.emptyMap();
+				}
+				key.put(InMemoryExpressionEvaluator.getPathName((Path<?>) property), value);
+			}
+		}
+		if (required && key.isEmpty()) {
+			throw new DataAccessException("No identifier property available in PropertyBox property set: the "
+					+ "identifier properties are required to identify the data to operate on");
+		}
+		return key;
+	}
+
+	/**
+	 * Find the ids of the rows which match given key values, using the index bound to one of the key paths. A full
+	 * scan is performed only if no key path is indexed. Should be invoked holding the table lock.
+	 * @param table Data table
+	 * @param key Key values
+	 * @return Row ids
+	 */
+	private static List<Long> findRows(InMemoryDataTable table, Map<String, Object> key) {
+		final List<Long> ids = new ArrayList<>(1);
+		if (key.isEmpty()) {
+			return ids;
+		}
+		// use an index, if available
+		Set<Long> candidates = null;
+		for (Entry<String, Object> entry : key.entrySet()) {
+			Optional<InMemoryIndex> index = table.getIndex(entry.getKey());
+			if (index.isPresent()) {
+				candidates = new HashSet<>();
+				index.get().lookup(entry.getValue(), candidates);
+				break;
+			}
+		}
+		final Map<Long, Map<String, Object>> rows = (candidates != null) ? table.getRowsById(candidates)
+				: table.getRowsById();
+		for (Entry<Long, Map<String, Object>> row : rows.entrySet()) {
+			if (matches(row.getValue(), key)) {
+				ids.add(row.getKey());
+			}
+		}
+		return ids;
+	}
+
+	/**
+	 * Checks whether given row matches given key values.
+	 * @param row The row
+	 * @param key Key values
+	 * @return <code>true</code> if matches
+	 */
+	private static boolean matches(Map<String, Object> row, Map<String, Object> key) {
+		for (Entry<String, Object> entry : key.entrySet()) {
+			if (!InMemoryValues.equals(row.get(entry.getKey()), entry.getValue())) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Trace a Datastore operation, if tracing is enabled.
+	 * @param operation Operation description
+	 */
+	private void trace(String operation) {
+		if (isTraceEnabled()) {
+			LOGGER.info("(TRACE) " + operation);
+		}
+	}
+
+	// ------- operations
+
+	/**
+	 * Insert a {@link PropertyBox} into given table, checking the identifier values uniqueness. Should be invoked
+	 * holding the table write lock.
+	 * <p>
+	 * If none of the identifier paths is indexed, an implicit hash index is bound to one of them, so that the key
+	 * lookups do not require a full table scan.
+	 * </p>
+	 * @param table Data table
+	 * @param propertyBox The PropertyBox to insert
+	 */
+	private static void insert(InMemoryDataTable table, PropertyBox propertyBox) {
+		final Map<String, Object> key = getKeyValues(propertyBox, false);
+		if (!key.isEmpty() && key.keySet().stream().noneMatch(path -> table.getIndex(path).isPresent())) {
+			table.ensureIndex(key.keySet().iterator().next());
+		}
+		if (!key.isEmpty() && !findRows(table, key).isEmpty()) {
+			throw new DataAccessException("Duplicate key " + key + " for data target [" + table.getName() + "]");
+		}
+		table.insert(getRowValues(propertyBox));
+	}
+
+	/**
+	 * Execute an insert operation.
+	 * @param configuration Operation configuration
+	 * @return Operation result
+	 */
+	protected OperationResult executeInsert(PropertyBoxOperationConfiguration configuration) {
+		configuration.validate();
+		trace("INSERT into [" + configuration.getTarget().getName() + "]: " + configuration.getValue());
+		final InMemoryDataTable table = getTable(configuration.getTarget(), true).get();
+		table.write(() -> {
+			insert(table, configuration.getValue());
+			return null;
+		});
+		return OperationResult.builder().type(OperationType.INSERT).affectedCount(1).build();
+	}
+
+	/**
+	 * Execute an update operation.
+	 * @param configuration Operation configuration
+	 * @return Operation result
+	 */
+	protected OperationResult executeUpdate(PropertyBoxOperationConfiguration configuration) {
+		configuration.validate();
+		trace("UPDATE [" + configuration.getTarget().getName() + "]: " + configuration.getValue());
+		final Map<String, Object> key = getKeyValues(configuration.getValue(), true);
+		final long count = getTable(configuration.getTarget(), false).map(table -> table.write(() -> {
+			final Map<String, Object> values = getRowValues(configuration.getValue());
+			return findRows(table, key).stream().filter(id -> table.update(id, values)).count();
+		})).orElse(0L);
+		return OperationResult.builder().type(OperationType.UPDATE).affectedCount(count).build();
+	}
+
+	/**
+	 * Execute a save operation.
+	 * @param configuration Operation configuration
+	 * @return Operation result
+	 */
+	protected OperationResult executeSave(PropertyBoxOperationConfiguration configuration) {
+		configuration.validate();
+		trace("SAVE [" + configuration.getTarget().getName() + "]: " + configuration.getValue());
+		final Map<String, Object> key = getKeyValues(configuration.getValue(), false);
+		final InMemoryDataTable table = getTable(configuration.getTarget(), true).get();
+		return table.write(() -> {
+			final List<Long> ids = findRows(table, key);
+			if (ids.isEmpty()) {
+				insert(table, configuration.getValue());
+				return OperationResult.builder().type(OperationType.INSERT).affectedCount(1).build();
+			}
+			final Map<String, Object> values = getRowValues(configuration.getValue());
+			final long count = ids.stream().filter(id -> table.update(id, values)).count();
+			return OperationResult.builder().type(OperationType.UPDATE).affectedCount(count).build();
+		});
+	}
+
+	/**
+	 * Execute a delete operation.
+	 * @param configuration Operation configuration
+	 * @return Operation result
+	 */
+	protected OperationResult executeDelete(PropertyBoxOperationConfiguration configuration) {
+		configuration.validate();
+		trace("DELETE from [" + configuration.getTarget().getName() + "]: " + configuration.getValue());
+		final Map<String, Object> key = getKeyValues(configuration.getValue(), true);
+		final long count = getTable(configuration.getTarget(), false).map(
+				table -> table.write(() -> findRows(table, key).stream().filter(id -> table.delete(id)).count()))
+				.orElse(0L);
+		return OperationResult.builder().type(OperationType.DELETE).affectedCount(count).build();
+	}
+
+	/**
+	 * Execute a refresh operation.
+	 * @param configuration Operation configuration
+	 * @return The refreshed PropertyBox
+	 */
+	protected PropertyBox executeRefresh(PropertyBoxOperationConfiguration configuration) {
+		configuration.validate();
+		trace("REFRESH [" + configuration.getTarget().getName() + "]: " + configuration.getValue());
+		final PropertyBox propertyBox = configuration.getValue();
+		final Map<String, Object> key = getKeyValues(propertyBox, true);
+		final Map<String, Object> row = getTable(configuration.getTarget(), false)
+				.flatMap(table -> table.read(() -> findRows(table, key).stream().findFirst()
+						.map(id -> table.getRows(Collections.singleton(id)).get(0))))
+				.orElseThrow(() -> new DataAccessException("No data found for key " + key));
+		return new InMemoryExpressionEvaluator(getResolverHandler(configuration))
+				.toPropertyBox(propertyBox, Collections.singletonList(row));
+	}
+
+	/**
+	 * Execute a bulk insert operation.
+	 * @param configuration Operation configuration
+	 * @return Operation result
+	 */
+	protected OperationResult executeBulkInsert(BulkInsertOperationConfiguration configuration) {
+		configuration.validate();
+		final List<PropertyBox> values = configuration.getValues();
+		trace("BULK INSERT into [" + configuration.getTarget().getName() + "]: " + values.size() + " values");
+		final InMemoryDataTable table = getTable(configuration.getTarget(), true).get();
+		table.write(() -> {
+			values.forEach(value -> insert(table, value));
+			return null;
+		});
+		return OperationResult.builder().type(OperationType.INSERT).affectedCount(values.size()).build();
+	}
+
+	/**
+	 * Execute a bulk update operation.
+	 * @param configuration Operation configuration
+	 * @return Operation result
+	 */
+	protected OperationResult executeBulkUpdate(BulkUpdateOperationConfiguration configuration) {
+		configuration.validate();
+		trace("BULK UPDATE [" + configuration.getTarget().getName() + "]: filter ["
+				+ configuration.getFilter().orElse(null) + "]");
+		final InMemoryExpressionEvaluator evaluator = new InMemoryExpressionEvaluator(
+				getResolverHandler(configuration));
+		final long count = getTable(configuration.getTarget(), false).map(table -> table.write(() -> {
+			long updated = 0;
+			for (Entry<Long, Map<String, Object>> row : select(table, evaluator, configuration.getFilter())) {
+				final List<Map<String, Object>> group = Collections.singletonList(row.getValue());
+				final Map<String, Object> values = new HashMap<>();
+				for (Entry<Path<?>, TypedExpression<?>> value : configuration.getValues().entrySet()) {
+					values.put(InMemoryExpressionEvaluator.getPathName(value.getKey()),
+							evaluator.evaluate(value.getValue(), group));
+				}
+				if (table.update(row.getKey(), values)) {
+					updated++;
+				}
+			}
+			return updated;
+		})).orElse(0L);
+		return OperationResult.builder().type(OperationType.UPDATE).affectedCount(count).build();
+	}
+
+	/**
+	 * Execute a bulk delete operation.
+	 * @param configuration Operation configuration
+	 * @return Operation result
+	 */
+	protected OperationResult executeBulkDelete(BulkDeleteOperationConfiguration configuration) {
+		configuration.validate();
+		trace("BULK DELETE from [" + configuration.getTarget().getName() + "]: filter ["
+				+ configuration.getFilter().orElse(null) + "]");
+		final InMemoryExpressionEvaluator evaluator = new InMemoryExpressionEvaluator(
+				getResolverHandler(configuration));
+		final long count = getTable(configuration.getTarget(), false)
+				.map(table -> table.write(() -> select(table, evaluator, configuration.getFilter()).stream()
+						.filter(row -> table.delete(row.getKey())).count()))
+				.orElse(0L);
+		return OperationResult.builder().type(OperationType.DELETE).affectedCount(count).build();
+	}
+
+	/**
+	 * Select the table rows which match given filter, using the table indexes when possible. Should be invoked
+	 * holding the table lock.
+	 * @param table Data table
+	 * @param evaluator Expression evaluator
+	 * @param filter Optional filter
+	 * @return The matching rows by id
+	 */
+	private static List<Entry<Long, Map<String, Object>>> select(InMemoryDataTable table,
+			InMemoryExpressionEvaluator evaluator, Optional<QueryFilter> filter) {
+		final Map<Long, Map<String, Object>> candidates = filter.flatMap(f -> evaluator.lookup(f, table))
+				.map(ids -> table.getRowsById(ids)).orElseGet(() -> table.getRowsById());
+		final List<Entry<Long, Map<String, Object>>> rows = new ArrayList<>();
+		for (Entry<Long, Map<String, Object>> row : candidates.entrySet()) {
+			if (filter.map(f -> evaluator.test(f, Collections.singletonList(row.getValue()))).orElse(true)) {
+				rows.add(row);
+			}
+		}
+		return rows;
+	}
+
+	/**
+	 * Execute a query.
+	 * @param <R> Query result type
+	 * @param queryOperation Query operation
+	 * @return Query results stream
+	 */
+	protected <R> Stream<R> executeQuery(QueryOperation<QueryConfiguration, R> queryOperation) {
+		final QueryConfiguration configuration = queryOperation.getConfiguration();
+		final QueryProjection<R> projection = queryOperation.getProjection();
+		final DataTarget<?> target = configuration.getTarget()
+				.orElseThrow(() -> new InvalidExpressionException("Missing query target"));
+		configuration.validate();
+		trace("QUERY [" + target.getName() + "]: " + configuration + " - projection [" + projection + "]");
+
+		final InMemoryExpressionEvaluator evaluator = new InMemoryExpressionEvaluator(
+				getResolverHandler(configuration));
+
+		// candidate rows
+		final Optional<QueryFilter> filter = configuration.getFilter();
+		final List<Map<String, Object>> rows = getTable(target, false).map(table -> table.read(() -> filter
+				.flatMap(f -> evaluator.lookup(f, table)).map(ids -> table.getRows(ids)).orElseGet(() -> table.getRows())))
+				.orElse(Collections.emptyList());
+
+		// filter
+		Stream<Map<String, Object>> filtered = rows.stream();
+		if (filter.isPresent()) {
+			filtered = filtered.filter(row -> evaluator.test(filter.get(), Collections.singletonList(row)));
+		}
+
+		// groups
+		List<List<Map<String, Object>>> groups;
+		final Optional<QueryAggregation> aggregation = configuration.getAggregation();
+		if (aggregation.isPresent()) {
+			final Path<?>[] paths = aggregation.get().getAggregationPaths();
+			final Map<List<Object>, List<Map<String, Object>>> grouped = new LinkedHashMap<>();
+			filtered.forEach(row -> {
+				final List<Object> key = new ArrayList<>(paths.length);
+				for (Path<?> path : paths) {
+					key.add(InMemoryValues.normalize(row.get(InMemoryExpressionEvaluator.getPathName(path))));
+				}
+				grouped.computeIfAbsent(key, k -> new ArrayList<>()).add(row);
+			});
+			groups = new ArrayList<>(grouped.values());
+			final Optional<QueryFilter> having = aggregation.get().getAggregationFilter();
+			if (having.isPresent()) {
+				groups = groups.stream().filter(g -> evaluator.test(having.get(), g)).collect(Collectors.toList());
+			}
+		} else if (InMemoryExpressionEvaluator.isAggregate(projection)) {
+			groups = Collections.singletonList(filtered.collect(Collectors.toList()));
+		} else {
+			groups = filtered.map(row -> Collections.singletonList(row)).collect(Collectors.toList());
+		}
+
+		// sort
+		final Optional<QuerySort> sort = configuration.getSort();
+		if (sort.isPresent()) {
+			Collections.sort(groups, evaluator.comparator(sort.get()));
+		}
+
+		// projection
+		Stream<R> results = groups.stream().map(group -> evaluator.project(projection, group));
+		if (configuration.isDistinct()) {
+			results = results.distinct();
+		}
+		final int offset = configuration.getOffset().orElse(0);
+		if (offset > 0) {
+			results = results.skip(offset);
+		}
+		final int limit = configuration.getLimit().orElse(-1);
+		if (limit > -1) {
+			results = results.limit(limit);
+		}
+		return results;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.core.internal.datastore.AbstractDatastore#toString()
+	 */
+	@Override
+	public String toString() {
+		return "DefaultInMemoryDatastore [dataContextId=" + getDataContextId().orElse(null) + ", targets="
+				+ tables.keySet() + "]";
+	}
+
+	// ------- Commodities
+
+	/**
+	 * Commodity provider function.
+	 * @param <C> Commodity type
+	 */
+	@FunctionalInterface
+	private interface CommodityProvider<C extends DatastoreCommodity> extends Serializable {
+
+		C create(DefaultInMemoryDatastore datastore);
+
+	}
+
+	/**
+	 * {@link DatastoreCommodityFactory} which uses a {@link CommodityProvider} to create the commodity.
+	 * @param <C> Commodity type
+	 */
+	private static final class InMemoryCommodityFactory<C extends DatastoreCommodity>
+			implements DatastoreCommodityFactory<DatastoreCommodityContext, C> {
+
+		private static final long serialVersionUID = 2262536212957428497L;
+
+		private final Class<? extends C> commodityType;
+		private final CommodityProvider<C> provider;
+
+		InMemoryCommodityFactory(Class<? extends C> commodityType, CommodityProvider<C> provider) {
+			super();
+			this.commodityType = commodityType;
+			this.provider = provider;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.core.datastore.DatastoreCommodityFactory#getCommodityType()
+		 */
+		@Override
+		public Class<? extends C> getCommodityType() {
+			return commodityType;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.core.datastore.DatastoreCommodityFactory#createCommodity(com.holonplatform.core.
+		 * datastore.DatastoreCommodityContext)
+		 */
+		@Override
+		public C createCommodity(DatastoreCommodityContext context) throws CommodityConfigurationException {
+			return provider.create((DefaultInMemoryDatastore) context);
+		}
+
+	}
+
+	@SuppressWarnings("serial")
+	private class InMemoryInsert extends AbstractInsert {
+
+		@Override
+		public OperationResult execute() {
+			return executeInsert(getConfiguration());
+		}
+
+	}
+
+	@SuppressWarnings("serial")
+	private class InMemoryUpdate extends AbstractUpdate {
+
+		@Override
+		public OperationResult execute() {
+			return executeUpdate(getConfiguration());
+		}
+
+	}
+
+	@SuppressWarnings("serial")
+	private class InMemorySave extends AbstractSave {
+
+		@Override
+		public OperationResult execute() {
+			return executeSave(getConfiguration());
+		}
+
+	}
+
+	@SuppressWarnings("serial")
+	private class InMemoryDelete extends AbstractDelete {
+
+		@Override
+		public OperationResult execute() {
+			return executeDelete(getConfiguration());
+		}
+
+	}
+
+	@SuppressWarnings("serial")
+	private class InMemoryRefresh extends AbstractRefresh {
+
+		@Override
+		public PropertyBox execute() {
+			return executeRefresh(getConfiguration());
+		}
+
+	}
+
+	@SuppressWarnings("serial")
+	private class InMemoryBulkInsert extends AbstractBulkInsert {
+
+		@Override
+		public OperationResult execute() {
+			return executeBatches(c -> executeBulkInsert(c));
+		}
+
+	}
+
+	@SuppressWarnings("serial")
+	private class InMemoryBulkUpdate extends AbstractBulkUpdate {
+
+		@Override
+		public OperationResult execute() {
+			return executeBulkUpdate(getConfiguration());
+		}
+
+	}
+
+	@SuppressWarnings("serial")
+	private class InMemoryBulkDelete extends AbstractBulkDelete {
+
+		@Override
+		public OperationResult execute() {
+			return executeBulkDelete(getConfiguration());
+		}
+
+	}
+
+	private class InMemoryQueryAdapter implements QueryAdapter<QueryConfiguration> {
+
+		@Override
+		public <R> Stream<R> stream(QueryOperation<QueryConfiguration, R> queryOperation)
+				throws DataAccessException {
+			return executeQuery(queryOperation);
+		}
+
+	}
+
+	// ------- Builder
+
+	/**
+	 * Default {@link InMemoryDatastore.Builder}.
+	 */
+	public static class DefaultBuilder implements InMemoryDatastore.Builder {
+
+		private final DefaultInMemoryDatastore datastore;
+
+		public DefaultBuilder() {
+			super();
+			this.datastore = new DefaultInMemoryDatastore();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.core.datastore.memory.InMemoryDatastore.Builder#dataContextId(java.lang.String)
+		 */
+		@Override
+		public InMemoryDatastore.Builder dataContextId(String dataContextId) {
+			datastore.setDataContextId(dataContextId);
+			return this;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.core.datastore.memory.InMemoryDatastore.Builder#traceEnabled(boolean)
+		 */
+		@Override
+		public InMemoryDatastore.Builder traceEnabled(boolean trace) {
+			datastore.setTraceEnabled(trace);
+			return this;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.core.datastore.memory.InMemoryDatastore.Builder#withIndex(com.holonplatform.core.
+		 * datastore.DataTarget, com.holonplatform.core.Path,
+		 * com.holonplatform.core.datastore.memory.InMemoryDatastore.IndexType)
+		 */
+		@Override
+		public InMemoryDatastore.Builder withIndex(DataTarget<?> target, Path<?> path, IndexType indexType) {
+			datastore.addIndex(target, path, indexType);
+			return this;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.core.ExpressionResolver.ExpressionResolverBuilder#withExpressionResolver(com.
+		 * holonplatform.core.ExpressionResolver)
+		 */
+		@Override
+		public <E extends Expression, R extends Expression> InMemoryDatastore.Builder withExpressionResolver(
+				ExpressionResolver<E, R> expressionResolver) {
+			datastore.addExpressionResolver(expressionResolver);
+			return this;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.core.datastore.memory.InMemoryDatastore.Builder#build()
+		 */
+		@Override
+		public InMemoryDatastore build() {
+			return datastore;
+		}
+
+	}
+
+}
@@ -0,0 +1,279 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.core.internal.datastore.memory;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+import com.holonplatform.core.datastore.memory.InMemoryDatastore.IndexType;
+import com.holonplatform.core.internal.utils.ObjectUtils;
+
+/**
+ * The rows of an in-memory Datastore data target.
+ * <p>
+ * Each row is a map of path name and value, identified by a row id. The ids are generated in ascending order, so the
+ * natural order of the ids reflects the rows insertion order. The row maps are never modified once stored: an update
+ * replaces the row map with a new one, so the row maps obtained while holding the read lock can be safely used after
+ * the lock has been released.
+ * </p>
+ * <p>
+ * The {@link InMemoryIndex}es bound to the table are kept up to date at each write operation. Besides the declared
+ * indexes, an implicit {@link IndexType#HASH} index can be bound to a path using {@link #ensureIndex(String)}.
+ * </p>
+ * 
+ * @since 5.2.0
+ */
+public class InMemoryDataTable implements Serializable {
+
+	private static final long serialVersionUID = 6290913451836541829L;
+
+	/**
+	 * Data target name
+	 */
+	private final String name;
+
+	/**
+	 * Rows by id
+	 */
+	private final TreeMap<Long, Map<String, Object>> rows = new TreeMap<>();
+
+	/**
+	 * Indexes by path name
+	 */
+	private final Map<String, InMemoryIndex> indexes = new HashMap<>(4);
+
+	/**
+	 * Read/write lock
+	 */
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+	/**
+	 * Row id sequence
+	 */
+	private long sequence = 0L;
+
+	/**
+	 * Constructor.
+	 * @param name Data target name (not null)
+	 * @param indexes The table indexes
+	 */
+	public InMemoryDataTable(String name, Collection<InMemoryIndex> indexes) {
+		super();
+		ObjectUtils.argumentNotNull(name, "Data target name must be not null");
+		this.name = name;
+		if (indexes != null) {
+			indexes.forEach(i -> this.indexes.put(i.getPath(), i));
+		}
+	}
+
+	/**
+	 * Get the data target name.
+	 * @return the data target name
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Get the index bound to given path name, if available.
+	 * @param path Path name
+	 * @return Optional index
+	 */
+	public Optional<InMemoryIndex> getIndex(String path) {
+		return Optional.ofNullable(indexes.get(path));
+	}
+
+	/**
+	 * Get the index bound to given path name, creating an implicit {@link IndexType#HASH} index if none is bound to
+	 * the path. An implicit index is populated with the current table rows when created.
+	 * @param path Path name (not null)
+	 * @return The path index
+	 */
+	public InMemoryIndex ensureIndex(String path) {
+		ObjectUtils.argumentNotNull(path, "Path name must be not null");
+		return write(() -> indexes.computeIfAbsent(path, p -> {
+			final InMemoryIndex index = new InMemoryIndex(p, IndexType.HASH);
+			rows.forEach((id, row) -> index.add(row.get(p), id));
+			return index;
+		}));
+	}
+
+	/**
+	 * Execute given operation holding the table read lock.
+	 * @param <R> Operation result type
+	 * @param operation Operation to execute
+	 * @return Operation result
+	 */
+	public <R> R read(Supplier<R> operation) {
+		lock.readLock().lock();
+		try {
+			return operation.get();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Execute given operation holding the table write lock.
+	 * @param <R> Operation result type
+	 * @param operation Operation to execute
+	 * @return Operation result
+	 */
+	public <R> R write(Supplier<R> operation) {
+		lock.writeLock().lock();
+		try {
+			return operation.get();
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Get the rows count.
+	 * @return the rows count
+	 */
+	public int size() {
+		return read(() -> rows.size());
+	}
+
+	/**
+	 * Get a snapshot of all the table rows, in insertion order.
+	 * @return The table rows list
+	 */
+	public List<Map<String, Object>> getRows() {
+		return read(() -> new ArrayList<>(rows.values()));
+	}
+
+	/**
+	 * Get a snapshot of the rows with given ids, in insertion order.
+	 * @param ids Row ids
+	 * @return The table rows list
+	 */
+	public List<Map<String, Object>> getRows(Collection<Long> ids) {
+		return new ArrayList<>(getRowsById(ids).values());
+	}
+
+	/**
+	 * Get a snapshot of all the table row ids and values, in insertion order.
+	 * @return The table rows by id
+	 */
+	public Map<Long, Map<String, Object>> getRowsById() {
+		return read(() -> new TreeMap<>(rows));
+	}
+
+	/**
+	 * Get a snapshot of the row ids and values of the rows with given ids, in insertion order.
+	 * @param ids Row ids
+	 * @return The table rows by id
+	 */
+	public Map<Long, Map<String, Object>> getRowsById(Collection<Long> ids) {
+		return read(() -> {
+			final TreeMap<Long, Map<String, Object>> result = new TreeMap<>();
+			for (Long id : ids) {
+				final Map<String, Object> row = rows.get(id);
+				if (row != null) {
+					result.put(id, row);
+				}
+			}
+			return result;
+		});
+	}
+
+	/**
+	 * Insert a new row.
+	 * @param values Row values
+	 * @return The new row id
+	 */
+	public long insert(Map<String, Object> values) {
+		return write(() -> {
+			final long id = ++sequence;
+			final Map<String, Object> row = Collections.unmodifiableMap(new HashMap<>(values));
+			rows.put(id, row);
+			indexes.values().forEach(i -> i.add(row.get(i.getPath()), id));
+			return id;
+		});
+	}
+
+	/**
+	 * Update a row, merging given values with the current row values.
+	 * @param id Row id
+	 * @param values Values to update
+	 * @return <code>true</code> if the row was updated, <code>false</code> if a row with given id was not found
+	 */
+	public boolean update(long id, Map<String, Object> values) {
+		return write(() -> {
+			final Map<String, Object> current = rows.get(id);
+			if (current == null) {
+				return false;
+			}
+			final Map<String, Object> updated = new HashMap<>(current);
+			updated.putAll(values);
+			final Map<String, Object> row = Collections.unmodifiableMap(updated);
+			rows.put(id, row);
+			indexes.values().forEach(i -> {
+				i.remove(current.get(i.getPath()), id);
+				i.add(row.get(i.getPath()), id);
+			});
+			return true;
+		});
+	}
+
+	/**
+	 * Delete a row.
+	 * @param id Row id
+	 * @return <code>true</code> if the row was deleted, <code>false</code> if a row with given id was not found
+	 */
+	public boolean delete(long id) {
+		return write(() -> {
+			final Map<String, Object> current = rows.remove(id);
+			if (current == null) {
+				return false;
+			}
+			indexes.values().forEach(i -> i.remove(current.get(i.getPath()), id));
+			return true;
+		});
+	}
+
+	/**
+	 * Remove all the table rows.
+	 */
+	public void clear() {
+		write(() -> {
+			rows.clear();
+			indexes.values().forEach(i -> i.clear());
+			return null;
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "InMemoryDataTable [name=" + name + ", indexes=" + indexes.values() + "]";
+	}
+
+}
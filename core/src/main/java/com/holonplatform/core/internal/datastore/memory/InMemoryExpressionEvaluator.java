@@ -0,0 +1,767 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.core.internal.datastore.memory;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import com.holonplatform.core.CollectionConstantExpression;
+import com.holonplatform.core.ConstantConverterExpression;
+import com.holonplatform.core.Expression;
+import com.holonplatform.core.Expression.InvalidExpressionException;
+import com.holonplatform.core.ExpressionResolver;
+import com.holonplatform.core.ExpressionResolver.ExpressionResolverHandler;
+import com.holonplatform.core.ExpressionResolver.ResolutionContext;
+import com.holonplatform.core.NullExpression;
+import com.holonplatform.core.Path;
+import com.holonplatform.core.TypedExpression;
+import com.holonplatform.core.beans.BeanPropertySet;
+import com.holonplatform.core.internal.query.QueryFilterVisitor;
+import com.holonplatform.core.internal.query.QueryFilterVisitor.VisitableQueryFilter;
+import com.holonplatform.core.internal.query.QueryUtils;
+import com.holonplatform.core.internal.query.filter.AndFilter;
+import com.holonplatform.core.internal.query.filter.BetweenFilter;
+import com.holonplatform.core.internal.query.filter.EqualFilter;
+import com.holonplatform.core.internal.query.filter.GreaterFilter;
+import com.holonplatform.core.internal.query.filter.InFilter;
+import com.holonplatform.core.internal.query.filter.LessFilter;
+import com.holonplatform.core.internal.query.filter.NotEqualFilter;
+import com.holonplatform.core.internal.query.filter.NotFilter;
+import com.holonplatform.core.internal.query.filter.NotInFilter;
+import com.holonplatform.core.internal.query.filter.NotNullFilter;
+import com.holonplatform.core.internal.query.filter.NullFilter;
+import com.holonplatform.core.internal.query.filter.OperationQueryFilter;
+import com.holonplatform.core.internal.query.filter.OperationQueryFilter.FilterOperator;
+import com.holonplatform.core.internal.query.filter.OrFilter;
+import com.holonplatform.core.internal.query.filter.StringMatchFilter;
+import com.holonplatform.core.internal.utils.ConversionUtils;
+import com.holonplatform.core.internal.utils.ObjectUtils;
+import com.holonplatform.core.property.Property;
+import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.core.property.PropertySet;
+import com.holonplatform.core.query.BeanProjection;
+import com.holonplatform.core.query.CountAllProjection;
+import com.holonplatform.core.query.PropertySetProjection;
+import com.holonplatform.core.query.QueryFilter;
+import com.holonplatform.core.query.QueryFunction;
+import com.holonplatform.core.query.QueryFunction.Avg;
+import com.holonplatform.core.query.QueryFunction.Count;
+import com.holonplatform.core.query.QueryFunction.Max;
+import com.holonplatform.core.query.QueryFunction.Min;
+import com.holonplatform.core.query.QueryFunction.Sum;
+import com.holonplatform.core.query.QueryProjection;
+import com.holonplatform.core.query.QuerySort;
+import com.holonplatform.core.query.QuerySort.CompositeQuerySort;
+import com.holonplatform.core.query.QuerySort.PathQuerySort;
+import com.holonplatform.core.query.QuerySort.SortDirection;
+import com.holonplatform.core.query.SelectAllProjection;
+import com.holonplatform.core.query.StringFunction.Lower;
+import com.holonplatform.core.query.StringFunction.Upper;
+import com.holonplatform.core.query.TemporalFunction.CurrentDate;
+import com.holonplatform.core.query.TemporalFunction.CurrentLocalDate;
+import com.holonplatform.core.query.TemporalFunction.CurrentLocalDateTime;
+import com.holonplatform.core.query.TemporalFunction.CurrentTimestamp;
+import com.holonplatform.core.query.TemporalFunction.Day;
+import com.holonplatform.core.query.TemporalFunction.Hour;
+import com.holonplatform.core.query.TemporalFunction.Month;
+import com.holonplatform.core.query.TemporalFunction.Year;
+
+/**
+ * Evaluates query expressions, filters, sorts and projections against in-memory Datastore rows.
+ * <p>
+ * The expressions are evaluated against a <em>group</em> of rows, i.e. a list of row maps: a path expression is
+ * evaluated using the first row of the group, while an aggregate function is evaluated using all the group rows. A
+ * non aggregated query evaluates each row as a group of one row.
+ * </p>
+ * <p>
+ * Filters and sorts which are not natively supported are resolved using the available {@link ExpressionResolver}s.
+ * </p>
+ * 
+ * @since 5.2.0
+ */
+public class InMemoryExpressionEvaluator implements ResolutionContext {
+
+	/**
+	 * Expression resolvers
+	 */
+	private final ExpressionResolverHandler resolverHandler;
+
+	/**
+	 * Filter evaluator
+	 */
+	private final FilterEvaluator filterEvaluator = new FilterEvaluator();
+
+	/**
+	 * Constructor.
+	 * @param resolverHandler The handler to use to resolve the expressions which are not natively supported (not
+	 *        null)
+	 */
+	public InMemoryExpressionEvaluator(ExpressionResolverHandler resolverHandler) {
+		super();
+		ObjectUtils.argumentNotNull(resolverHandler, "Expression resolver handler must be not null");
+		this.resolverHandler = resolverHandler;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.core.ExpressionResolver.ExpressionResolverHandler#resolve(com.holonplatform.core.
+	 * Expression, java.lang.Class, com.holonplatform.core.ExpressionResolver.ResolutionContext)
+	 */
+	@Override
+	public <E extends Expression, R extends Expression> Optional<R> resolve(E expression, Class<R> resolutionType,
+			ResolutionContext context) throws InvalidExpressionException {
+		return resolverHandler.resolve(expression, resolutionType, context);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.core.ExpressionResolver.ExpressionResolverProvider#getExpressionResolvers()
+	 */
+	@SuppressWarnings("rawtypes")
+	@Override
+	public Iterable<ExpressionResolver> getExpressionResolvers() {
+		return resolverHandler.getExpressionResolvers();
+	}
+
+	/**
+	 * Get the row map key to use for given path.
+	 * @param path The path (not null)
+	 * @return The path row key
+	 */
+	public static String getPathName(Path<?> path) {
+		return path.relativeName();
+	}
+
+	/**
+	 * Checks whether given expression is an aggregate function or contains an aggregate function.
+	 * @param expression The expression to check
+	 * @return <code>true</code> if given expression is or contains an aggregate function
+	 */
+	public static boolean isAggregate(Expression expression) {
+		if (expression instanceof Count || expression instanceof Sum || expression instanceof Avg
+				|| expression instanceof Min || expression instanceof Max || expression instanceof CountAllProjection) {
+			return true;
+		}
+		if (expression instanceof PropertySetProjection) {
+			for (Property<?> property : ((PropertySetProjection) expression).getPropertySet()) {
+				if (isAggregate(property)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	// ------- filters
+
+	/**
+	 * Checks whether given group of rows matches given filter.
+	 * @param filter The filter (not null)
+	 * @param rows The rows group
+	 * @return <code>true</code> if the filter is satisfied, <code>false</code> otherwise
+	 * @throws InvalidExpressionException If the filter is not supported
+	 */
+	public boolean test(QueryFilter filter, List<Map<String, Object>> rows) {
+		final QueryFilter resolved = resolveFilter(filter);
+		return ((VisitableQueryFilter) resolved).accept(filterEvaluator, rows);
+	}
+
+	/**
+	 * Use the table indexes to obtain the ids of the candidate rows which may satisfy given filter, if possible. The
+	 * candidate rows still have to be checked using {@link #test(QueryFilter, List)}. This method should be invoked
+	 * holding the table read lock.
+	 * @param filter The filter (not null)
+	 * @param table The data table (not null)
+	 * @return The candidate row ids, or an empty Optional if the indexes cannot be used and a full scan is required
+	 */
+	public Optional<Set<Long>> lookup(QueryFilter filter, InMemoryDataTable table) {
+		final QueryFilter resolved = resolveFilter(filter);
+		if (resolved instanceof AndFilter) {
+			Set<Long> candidates = null;
+			for (QueryFilter component : ((AndFilter) resolved).getComposition()) {
+				Optional<Set<Long>> ids = lookup(component, table);
+				if (ids.isPresent()) {
+					if (candidates == null) {
+						candidates = ids.get();
+					} else {
+						candidates.retainAll(ids.get());
+					}
+				}
+			}
+			return Optional.ofNullable(candidates);
+		}
+		if (resolved instanceof OrFilter) {
+			final Set<Long> candidates = new HashSet<>();
+			for (QueryFilter component : ((OrFilter) resolved).getComposition()) {
+				Optional<Set<Long>> ids = lookup(component, table);
+				if (!ids.isPresent()) {
+					return Optional.empty();
+				}
+				candidates.addAll(ids.get());
+			}
+			return Optional.of(candidates);
+		}
+		if (resolved instanceof EqualFilter) {
+			final EqualFilter<?> f = (EqualFilter<?>) resolved;
+			final Object value = getConstantValue(f.getRightOperand().orElse(null));
+			return getIndex(f.getLeftOperand(), table, false).filter(i -> value != null).map(i -> {
+				final Set<Long> ids = new HashSet<>();
+				i.lookup(value, ids);
+				return ids;
+			});
+		}
+		if (resolved instanceof InFilter) {
+			final InFilter<?> f = (InFilter<?>) resolved;
+			final TypedExpression<?> right = f.getRightOperand().orElse(null);
+			if (right instanceof CollectionConstantExpression) {
+				final Collection<?> values = ((CollectionConstantExpression<?>) right).getValue();
+				return getIndex(f.getLeftOperand(), table, false).filter(i -> values != null).map(i -> {
+					final Set<Long> ids = new HashSet<>();
+					values.stream().filter(Objects::nonNull).forEach(v -> i.lookup(v, ids));
+					return ids;
+				});
+			}
+			return Optional.empty();
+		}
+		if (resolved instanceof BetweenFilter) {
+			final BetweenFilter<?> f = (BetweenFilter<?>) resolved;
+			return getIndex(f.getLeftOperand(), table, true).map(i -> {
+				final Set<Long> ids = new HashSet<>();
+				i.range(f.getFromValue(), true, f.getToValue(), true, ids);
+				return ids;
+			});
+		}
+		if (resolved instanceof GreaterFilter || resolved instanceof LessFilter) {
+			final OperationQueryFilter<?> f = (OperationQueryFilter<?>) resolved;
+			final Object value = getConstantValue(f.getRightOperand().orElse(null));
+			final FilterOperator operator = f.getOperator();
+			return getIndex(f.getLeftOperand(), table, true).filter(i -> value != null).map(i -> {
+				final Set<Long> ids = new HashSet<>();
+				if (operator == FilterOperator.GREATER_THAN || operator == FilterOperator.GREATER_OR_EQUAL) {
+					i.range(value, operator == FilterOperator.GREATER_OR_EQUAL, null, false, ids);
+				} else {
+					i.range(null, false, value, operator == FilterOperator.LESS_OR_EQUAL, ids);
+				}
+				return ids;
+			});
+		}
+		return Optional.empty();
+	}
+
+	/**
+	 * Get the table index bound to given expression, if the expression is a {@link Path}.
+	 * @param expression The expression
+	 * @param table The data table
+	 * @param sorted Whether a sorted index is required
+	 * @return Optional index
+	 */
+	private static Optional<InMemoryIndex> getIndex(TypedExpression<?> expression, InMemoryDataTable table,
+			boolean sorted) {
+		if (expression instanceof Path) {
+			return table.getIndex(getPathName((Path<?>) expression)).filter(i -> !sorted || i.isSorted());
+		}
+		return Optional.empty();
+	}
+
+	/**
+	 * Get the value of a constant expression.
+	 * @param expression The expression
+	 * @return The constant value, <code>null</code> if the expression is not a constant expression
+	 */
+	private static Object getConstantValue(TypedExpression<?> expression) {
+		if (expression instanceof ConstantConverterExpression
+				&& !(expression instanceof CollectionConstantExpression)) {
+			return ((ConstantConverterExpression<?, ?>) expression).getValue();
+		}
+		return null;
+	}
+
+	/**
+	 * Resolve given filter into a {@link VisitableQueryFilter}.
+	 * @param filter The filter to resolve
+	 * @return The resolved filter
+	 * @throws InvalidExpressionException If the filter is not supported
+	 */
+	private QueryFilter resolveFilter(QueryFilter filter) {
+		ObjectUtils.argumentNotNull(filter, "QueryFilter must be not null");
+		QueryFilter current = filter;
+		while (!(current instanceof VisitableQueryFilter)) {
+			final QueryFilter resolved = resolve(current, QueryFilter.class, this).orElse(null);
+			if (resolved == null || resolved == current) {
+				throw new InvalidExpressionException("Unsupported QueryFilter [" + filter + "]");
+			}
+			current = resolved;
+		}
+		current.validate();
+		return current;
+	}
+
+	// ------- sorts
+
+	/**
+	 * Get a comparator to sort groups of rows according to given sort.
+	 * @param sort The sort (not null)
+	 * @return The comparator
+	 * @throws InvalidExpressionException If the sort is not supported
+	 */
+	public Comparator<List<Map<String, Object>>> comparator(QuerySort sort) {
+		ObjectUtils.argumentNotNull(sort, "QuerySort must be not null");
+		Comparator<List<Map<String, Object>>> comparator = null;
+		for (QuerySort s : QueryUtils.flattenQuerySort(sort)) {
+			final QuerySort resolved = resolveSort(s);
+			final Comparator<List<Map<String, Object>>> c = (resolved instanceof PathQuerySort)
+					? pathComparator((PathQuerySort<?>) resolved) : comparator(resolved);
+			comparator = (comparator == null) ? c : comparator.thenComparing(c);
+		}
+		return comparator;
+	}
+
+	/**
+	 * Resolve given sort into a {@link PathQuerySort} or a {@link CompositeQuerySort}.
+	 * @param sort The sort to resolve
+	 * @return The resolved sort
+	 * @throws InvalidExpressionException If the sort is not supported
+	 */
+	private QuerySort resolveSort(QuerySort sort) {
+		QuerySort current = sort;
+		while (!(current instanceof PathQuerySort || current instanceof CompositeQuerySort)) {
+			final QuerySort resolved = resolve(current, QuerySort.class, this).orElse(null);
+			if (resolved == null || resolved == current) {
+				throw new InvalidExpressionException("Unsupported QuerySort [" + sort + "]");
+			}
+			current = resolved;
+		}
+		current.validate();
+		return current;
+	}
+
+	/**
+	 * Get a comparator for given path sort.
+	 * @param sort The path sort
+	 * @return The comparator
+	 */
+	private static Comparator<List<Map<String, Object>>> pathComparator(PathQuerySort<?> sort) {
+		final String name = getPathName(sort.getPath());
+		final Comparator<List<Map<String, Object>>> comparator = (g1, g2) -> InMemoryValues
+				.compare(getPathValue(name, g1), getPathValue(name, g2));
+		return (sort.getDirection() == SortDirection.DESCENDING) ? comparator.reversed() : comparator;
+	}
+
+	// ------- projections
+
+	/**
+	 * Build the projection result for given group of rows.
+	 * @param <R> Projection result type
+	 * @param projection The query projection (not null)
+	 * @param rows The rows group
+	 * @return The projection result
+	 * @throws InvalidExpressionException If the projection is not supported
+	 */
+	@SuppressWarnings("unchecked")
+	public <R> R project(QueryProjection<R> projection, List<Map<String, Object>> rows) {
+		if (projection instanceof CountAllProjection) {
+			return (R) Long.valueOf(rows.size());
+		}
+		if (projection instanceof SelectAllProjection) {
+			return (R) (rows.isEmpty() ? Collections.emptyMap() : new LinkedHashMap<>(rows.get(0)));
+		}
+		if (projection instanceof PropertySetProjection) {
+			return (R) toPropertyBox(((PropertySetProjection) projection).getPropertySet(), rows);
+		}
+		if (projection instanceof BeanProjection) {
+			return projectBean((BeanProjection<R>) projection, rows);
+		}
+		return (R) evaluate(projection, rows);
+	}
+
+	/**
+	 * Build a {@link PropertyBox} for given group of rows.
+	 * @param propertySet The property set (not null)
+	 * @param rows The rows group
+	 * @return The {@link PropertyBox}
+	 */
+	@SuppressWarnings("unchecked")
+	public PropertyBox toPropertyBox(PropertySet<?> propertySet, List<Map<String, Object>> rows) {
+		final PropertyBox box = PropertyBox.builder(propertySet).invalidAllowed(true).build();
+		for (Property<?> property : propertySet) {
+			if (property instanceof Path || property instanceof QueryFunction) {
+				final Object value = evaluate((TypedExpression<?>) property, rows);
+				if (value != null) {
+					box.setValue((Property<Object>) property, value);
+				}
+			}
+		}
+		return box;
+	}
+
+	/**
+	 * Build a bean instance for given group of rows.
+	 * @param <R> Bean type
+	 * @param projection The bean projection
+	 * @param rows The rows group
+	 * @return The bean instance
+	 */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private <R> R projectBean(BeanProjection<R> projection, List<Map<String, Object>> rows) {
+		final BeanPropertySet<R> beanPropertySet = (BeanPropertySet<R>) BeanPropertySet
+				.create(projection.getBeanClass());
+		final R instance;
+		try {
+			instance = projection.getBeanClass().newInstance();
+		} catch (Exception e) {
+			throw new InvalidExpressionException(
+					"Failed to instantiate bean class [" + projection.getBeanClass().getName() + "]", e);
+		}
+		final List<Path> selection = new ArrayList<>();
+		if (projection.getSelection().isPresent()) {
+			Collections.addAll(selection, projection.getSelection().get());
+		} else {
+			beanPropertySet.forEach(p -> selection.add((Path) p));
+		}
+		for (Path<?> path : selection) {
+			final String name = getPathName(path);
+			if (beanPropertySet.getProperty(name).filter(p -> !p.isReadOnly()).isPresent()) {
+				final Object value = evaluate((TypedExpression<?>) path, rows);
+				if (value != null) {
+					beanPropertySet.write(name, value, instance);
+				}
+			}
+		}
+		return instance;
+	}
+
+	// ------- expressions
+
+	/**
+	 * Evaluate given expression using given group of rows.
+	 * @param expression The expression to evaluate
+	 * @param rows The rows group
+	 * @return The expression value
+	 * @throws InvalidExpressionException If the expression is not supported
+	 */
+	public Object evaluate(TypedExpression<?> expression, List<Map<String, Object>> rows) {
+		if (expression == null || expression instanceof NullExpression) {
+			return null;
+		}
+		if (expression instanceof ConstantConverterExpression) {
+			return ((ConstantConverterExpression<?, ?>) expression).getValue();
+		}
+		if (expression instanceof Path) {
+			return getPathValue(getPathName((Path<?>) expression), rows);
+		}
+		if (expression instanceof QueryFunction) {
+			return evaluateFunction((QueryFunction<?, ?>) expression, rows);
+		}
+		throw new InvalidExpressionException("Unsupported expression [" + expression + "]");
+	}
+
+	/**
+	 * Evaluate a {@link QueryFunction}.
+	 * @param function The function
+	 * @param rows The rows group
+	 * @return The function value
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private Object evaluateFunction(QueryFunction<?, ?> function, List<Map<String, Object>> rows) {
+		function.validate();
+		// no arguments functions
+		if (function instanceof CurrentDate) {
+			return new Date();
+		}
+		if (function instanceof CurrentTimestamp) {
+			return new Timestamp(System.currentTimeMillis());
+		}
+		if (function instanceof CurrentLocalDate) {
+			return LocalDate.now();
+		}
+		if (function instanceof CurrentLocalDateTime) {
+			return LocalDateTime.now();
+		}
+		final TypedExpression<?> argument = function.getExpressionArguments().get(0);
+		// aggregate functions
+		if (function instanceof Count) {
+			return Long.valueOf(values(argument, rows).size());
+		}
+		if (function instanceof Sum) {
+			final List<Object> values = values(argument, rows);
+			if (values.isEmpty()) {
+				return null;
+			}
+			BigDecimal sum = BigDecimal.ZERO;
+			for (Object value : values) {
+				sum = sum.add(InMemoryValues.toBigDecimal((Number) value));
+			}
+			return ConversionUtils.convertNumberToTargetClass(sum, (Class) function.getType());
+		}
+		if (function instanceof Avg) {
+			final List<Object> values = values(argument, rows);
+			return values.isEmpty() ? null
+					: values.stream().mapToDouble(v -> ((Number) v).doubleValue()).average().getAsDouble();
+		}
+		if (function instanceof Min) {
+			return values(argument, rows).stream().min(InMemoryValues.COMPARATOR).orElse(null);
+		}
+		if (function instanceof Max) {
+			return values(argument, rows).stream().max(InMemoryValues.COMPARATOR).orElse(null);
+		}
+		// single value functions
+		final Object value = evaluate(argument, rows);
+		if (value == null) {
+			return null;
+		}
+		if (function instanceof Lower) {
+			return value.toString().toLowerCase();
+		}
+		if (function instanceof Upper) {
+			return value.toString().toUpperCase();
+		}
+		if (function instanceof Year) {
+			return getTemporalField(value, ChronoField.YEAR);
+		}
+		if (function instanceof Month) {
+			return getTemporalField(value, ChronoField.MONTH_OF_YEAR);
+		}
+		if (function instanceof Day) {
+			return getTemporalField(value, ChronoField.DAY_OF_MONTH);
+		}
+		if (function instanceof Hour) {
+			return getTemporalField(value, ChronoField.HOUR_OF_DAY);
+		}
+		throw new InvalidExpressionException("Unsupported function [" + function + "]");
+	}
+
+	/**
+	 * Evaluate given expression for each row of the group, discarding the <code>null</code> values.
+	 * @param expression The expression
+	 * @param rows The rows group
+	 * @return The not null values
+	 */
+	private List<Object> values(TypedExpression<?> expression, List<Map<String, Object>> rows) {
+		final List<Object> values = new ArrayList<>(rows.size());
+		for (Map<String, Object> row : rows) {
+			final Object value = evaluate(expression, Collections.singletonList(row));
+			if (value != null) {
+				values.add(value);
+			}
+		}
+		return values;
+	}
+
+	/**
+	 * Get a temporal field value.
+	 * @param value The temporal value
+	 * @param field The field to obtain
+	 * @return The field value
+	 */
+	private static Integer getTemporalField(Object value, ChronoField field) {
+		if (value instanceof TemporalAccessor) {
+			return ((TemporalAccessor) value).get(field);
+		}
+		if (value instanceof Date) {
+			return ConversionUtils.toLocalDateTime((Date) value).get(field);
+		}
+		if (value instanceof Calendar) {
+			return ConversionUtils.toLocalDateTime((Calendar) value).get(field);
+		}
+		throw new InvalidExpressionException("Value [" + value + "] is not a temporal value");
+	}
+
+	/**
+	 * Get the value bound to given path name, using the first row of the group.
+	 * @param name Path name
+	 * @param rows The rows group
+	 * @return The path value, <code>null</code> if none
+	 */
+	private static Object getPathValue(String name, List<Map<String, Object>> rows) {
+		return rows.isEmpty() ? null : rows.get(0).get(name);
+	}
+
+	// ------- filter visitor
+
+	/**
+	 * {@link QueryFilterVisitor} which evaluates the filters against a group of rows. As in SQL, a comparison which
+	 * involves a <code>null</code> value is never satisfied.
+	 */
+	private class FilterEvaluator implements QueryFilterVisitor<Boolean, List<Map<String, Object>>> {
+
+		private Object left(OperationQueryFilter<?> filter,
+				List<Map<String, Object>> rows) {
+			return evaluate(filter.getLeftOperand(), rows);
+		}
+
+		private Object right(OperationQueryFilter<?> filter,
+				List<Map<String, Object>> rows) {
+			return evaluate(filter.getRightOperand().orElse(null), rows);
+		}
+
+		private Boolean compare(OperationQueryFilter<?> filter,
+				List<Map<String, Object>> rows) {
+			final Object left = left(filter, rows);
+			final Object right = right(filter, rows);
+			if (left == null || right == null) {
+				return false;
+			}
+			final int cmp = InMemoryValues.compare(left, right);
+			switch (filter.getOperator()) {
+			case GREATER_THAN:
+				return cmp > 0;
+			case GREATER_OR_EQUAL:
+				return cmp >= 0;
+			case LESS_THAN:
+				return cmp < 0;
+			case LESS_OR_EQUAL:
+				return cmp <= 0;
+			default:
+				throw new InvalidExpressionException("Unsupported filter operator [" + filter.getOperator() + "]");
+			}
+		}
+
+		private Boolean in(OperationQueryFilter<?> filter,
+				List<Map<String, Object>> rows) {
+			final Object left = left(filter, rows);
+			final Object right = right(filter, rows);
+			if (left == null || right == null) {
+				return false;
+			}
+			if (!(right instanceof Collection)) {
+				return InMemoryValues.equals(left, right);
+			}
+			for (Object value : (Collection<?>) right) {
+				if (InMemoryValues.equals(left, value)) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		@Override
+		public Boolean visit(NullFilter filter, List<Map<String, Object>> rows) {
+			return left(filter, rows) == null;
+		}
+
+		@Override
+		public Boolean visit(NotNullFilter filter, List<Map<String, Object>> rows) {
+			return left(filter, rows) != null;
+		}
+
+		@Override
+		public <T> Boolean visit(EqualFilter<T> filter, List<Map<String, Object>> rows) {
+			final Object left = left(filter, rows);
+			return left != null && InMemoryValues.equals(left, right(filter, rows));
+		}
+
+		@Override
+		public <T> Boolean visit(NotEqualFilter<T> filter, List<Map<String, Object>> rows) {
+			final Object left = left(filter, rows);
+			final Object right = right(filter, rows);
+			return left != null && right != null && !InMemoryValues.equals(left, right);
+		}
+
+		@Override
+		public <T> Boolean visit(GreaterFilter<T> filter, List<Map<String, Object>> rows) {
+			return compare(filter, rows);
+		}
+
+		@Override
+		public <T> Boolean visit(LessFilter<T> filter, List<Map<String, Object>> rows) {
+			return compare(filter, rows);
+		}
+
+		@Override
+		public <T> Boolean visit(InFilter<T> filter, List<Map<String, Object>> rows) {
+			return in(filter, rows);
+		}
+
+		@Override
+		public <T> Boolean visit(NotInFilter<T> filter, List<Map<String, Object>> rows) {
+			return left(filter, rows) != null && !in(filter, rows);
+		}
+
+		@Override
+		public <T> Boolean visit(BetweenFilter<T> filter, List<Map<String, Object>> rows) {
+			final Object left = left(filter, rows);
+			return left != null && InMemoryValues.compare(left, filter.getFromValue()) >= 0
+					&& InMemoryValues.compare(left, filter.getToValue()) <= 0;
+		}
+
+		@Override
+		public Boolean visit(StringMatchFilter filter, List<Map<String, Object>> rows) {
+			final Object left = left(filter, rows);
+			if (left == null) {
+				return false;
+			}
+			String value = left.toString();
+			String match = filter.getValue();
+			if (filter.isIgnoreCase()) {
+				value = value.toLowerCase();
+				match = match.toLowerCase();
+			}
+			switch (filter.getMatchMode()) {
+			case STARTS_WITH:
+				return value.startsWith(match);
+			case ENDS_WITH:
+				return value.endsWith(match);
+			case CONTAINS:
+			default:
+				return value.contains(match);
+			}
+		}
+
+		@Override
+		public Boolean visit(AndFilter filter, List<Map<String, Object>> rows) {
+			for (QueryFilter component : filter.getComposition()) {
+				if (!test(component, rows)) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		@Override
+		public Boolean visit(OrFilter filter, List<Map<String, Object>> rows) {
+			for (QueryFilter component : filter.getComposition()) {
+				if (test(component, rows)) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		@Override
+		public Boolean visit(NotFilter filter, List<Map<String, Object>> rows) {
+			return !test(filter.getComposition().get(0), rows);
+		}
+
+	}
+
+}
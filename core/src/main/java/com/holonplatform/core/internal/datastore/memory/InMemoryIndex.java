@@ -0,0 +1,184 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.core.internal.datastore.memory;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import com.holonplatform.core.datastore.memory.InMemoryDatastore.IndexType;
+import com.holonplatform.core.internal.utils.ObjectUtils;
+
+/**
+ * An {@link InMemoryDataTable} index, which maps the values of a path to the ids of the rows which contain them.
+ * <p>
+ * The <code>null</code> values are not indexed. The index values are normalized using
+ * {@link InMemoryValues#normalize(Object)}.
+ * </p>
+ * <p>
+ * This class is not thread-safe: concurrent access must be guarded by the owning {@link InMemoryDataTable}.
+ * </p>
+ * 
+ * @since 5.2.0
+ */
+public class InMemoryIndex implements Serializable {
+
+	private static final long serialVersionUID = -4785237045196306358L;
+
+	/**
+	 * Indexed path name
+	 */
+	private final String path;
+
+	/**
+	 * Index type
+	 */
+	private final IndexType type;
+
+	/**
+	 * Index entries
+	 */
+	private final Map<Object, Set<Long>> entries;
+
+	/**
+	 * Constructor.
+	 * @param path Indexed path name (not null)
+	 * @param type Index type (not null)
+	 */
+	public InMemoryIndex(String path, IndexType type) {
+		super();
+		ObjectUtils.argumentNotNull(path, "Indexed path name must be not null");
+		ObjectUtils.argumentNotNull(type, "Index type must be not null");
+		this.path = path;
+		this.type = type;
+		this.entries = (type == IndexType.SORTED) ? new TreeMap<>(InMemoryValues.COMPARATOR) : new HashMap<>();
+	}
+
+	/**
+	 * Get the indexed path name.
+	 * @return the indexed path name
+	 */
+	public String getPath() {
+		return path;
+	}
+
+	/**
+	 * Get the index type.
+	 * @return the index type
+	 */
+	public IndexType getType() {
+		return type;
+	}
+
+	/**
+	 * Get whether this index supports range scans.
+	 * @return <code>true</code> if this index supports range scans, <code>false</code> otherwise
+	 */
+	public boolean isSorted() {
+		return type == IndexType.SORTED;
+	}
+
+	/**
+	 * Add an index entry.
+	 * @param value The indexed value
+	 * @param id The id of the row which contains the value
+	 */
+	public void add(Object value, long id) {
+		if (value != null) {
+			entries.computeIfAbsent(InMemoryValues.normalize(value), v -> new TreeSet<>()).add(id);
+		}
+	}
+
+	/**
+	 * Remove an index entry.
+	 * @param value The indexed value
+	 * @param id The id of the row which contained the value
+	 */
+	public void remove(Object value, long id) {
+		if (value != null) {
+			final Object key = InMemoryValues.normalize(value);
+			final Set<Long> ids = entries.get(key);
+			if (ids != null) {
+				ids.remove(id);
+				if (ids.isEmpty()) {
+					entries.remove(key);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Remove all the index entries.
+	 */
+	public void clear() {
+		entries.clear();
+	}
+
+	/**
+	 * Collect the ids of the rows which contain given value.
+	 * @param value The value to lookup (not null)
+	 * @param ids The collection to which to add the row ids
+	 */
+	public void lookup(Object value, Collection<Long> ids) {
+		final Set<Long> found = entries.get(InMemoryValues.normalize(value));
+		if (found != null) {
+			ids.addAll(found);
+		}
+	}
+
+	/**
+	 * Collect the ids of the rows which contain a value in given range. This index must be a sorted index.
+	 * @param from Range lower bound, <code>null</code> for none
+	 * @param fromInclusive Whether the lower bound is inclusive
+	 * @param to Range upper bound, <code>null</code> for none
+	 * @param toInclusive Whether the upper bound is inclusive
+	 * @param ids The collection to which to add the row ids
+	 */
+	public void range(Object from, boolean fromInclusive, Object to, boolean toInclusive, Collection<Long> ids) {
+		if (!isSorted()) {
+			throw new IllegalStateException("The index on path [" + path + "] does not support range scans");
+		}
+		if (from != null && to != null) {
+			final int cmp = InMemoryValues.compare(from, to);
+			if (cmp > 0 || (cmp == 0 && !(fromInclusive && toInclusive))) {
+				return;
+			}
+		}
+		NavigableMap<Object, Set<Long>> range = (NavigableMap<Object, Set<Long>>) entries;
+		if (from != null) {
+			range = range.tailMap(InMemoryValues.normalize(from), fromInclusive);
+		}
+		if (to != null) {
+			range = range.headMap(InMemoryValues.normalize(to), toInclusive);
+		}
+		range.values().forEach(found -> ids.addAll(found));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "InMemoryIndex [path=" + path + ", type=" + type + ", size=" + entries.size() + "]";
+	}
+
+}
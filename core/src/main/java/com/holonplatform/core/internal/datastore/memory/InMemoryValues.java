@@ -0,0 +1,133 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.core.internal.datastore.memory;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Comparator;
+import java.util.Date;
+
+/**
+ * Value comparison utilities used by the in-memory Datastore.
+ * <p>
+ * The numeric values are compared by their value, regardless of the actual {@link Number} type, so that for example
+ * an <code>Integer</code> property value matches a <code>Long</code> filter value.
+ * </p>
+ * 
+ * @since 5.2.0
+ */
+public final class InMemoryValues {
+
+	/**
+	 * Values comparator, which orders <code>null</code> values first.
+	 */
+	public static final Comparator<Object> COMPARATOR = new ValueComparator();
+
+	private InMemoryValues() {
+	}
+
+	/**
+	 * Normalize given value, so that it can be used as a hash or sorted index key.
+	 * @param value The value to normalize
+	 * @return Normalized value
+	 */
+	public static Object normalize(Object value) {
+		if (value instanceof Number) {
+			return toBigDecimal((Number) value).stripTrailingZeros();
+		}
+		if (value instanceof Date && value.getClass() != Date.class) {
+			return new Date(((Date) value).getTime());
+		}
+		return value;
+	}
+
+	/**
+	 * Checks whether given values are equal.
+	 * @param value The first value
+	 * @param other The second value
+	 * @return <code>true</code> if the values are equal, <code>false</code> otherwise
+	 */
+	public static boolean equals(Object value, Object other) {
+		if (value == null || other == null) {
+			return value == other;
+		}
+		if (value instanceof Number && other instanceof Number) {
+			return toBigDecimal((Number) value).compareTo(toBigDecimal((Number) other)) == 0;
+		}
+		return normalize(value).equals(normalize(other));
+	}
+
+	/**
+	 * Compare given values. The <code>null</code> values are ordered first.
+	 * @param value The first value
+	 * @param other The second value
+	 * @return A negative integer, zero, or a positive integer as the first value is less than, equal to, or greater
+	 *         than the second value
+	 * @throws IllegalArgumentException If the values are not comparable
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public static int compare(Object value, Object other) {
+		if (value == null || other == null) {
+			return (value == null) ? ((other == null) ? 0 : -1) : 1;
+		}
+		if (value instanceof Number && other instanceof Number) {
+			return toBigDecimal((Number) value).compareTo(toBigDecimal((Number) other));
+		}
+		if (value instanceof Comparable && (value.getClass().isInstance(other) || other.getClass().isInstance(value))) {
+			return ((Comparable) value).compareTo(other);
+		}
+		throw new IllegalArgumentException("Values [" + value + "] of type [" + value.getClass().getName()
+				+ "] and [" + other + "] of type [" + other.getClass().getName() + "] are not comparable");
+	}
+
+	/**
+	 * Convert given number into a {@link BigDecimal}.
+	 * @param number The number to convert (not null)
+	 * @return The {@link BigDecimal} number value
+	 */
+	public static BigDecimal toBigDecimal(Number number) {
+		if (number instanceof BigDecimal) {
+			return (BigDecimal) number;
+		}
+		if (number instanceof BigInteger) {
+			return new BigDecimal((BigInteger) number);
+		}
+		if (number instanceof Double || number instanceof Float) {
+			return BigDecimal.valueOf(number.doubleValue());
+		}
+		return BigDecimal.valueOf(number.longValue());
+	}
+
+	/**
+	 * Serializable values comparator.
+	 */
+	private static final class ValueComparator implements Comparator<Object>, Serializable {
+
+		private static final long serialVersionUID = 3512196338785036722L;
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.Comparator#compare(java.lang.Object, java.lang.Object)
+		 */
+		@Override
+		public int compare(Object o1, Object o2) {
+			return InMemoryValues.compare(o1, o2);
+		}
+
+	}
+
+}
@@ -16,11 +16,13 @@
 package com.holonplatform.core.internal.datastore.operation.common;
 
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Map.Entry;
 
 import com.holonplatform.core.Path;
 import com.holonplatform.core.datastore.operation.commons.BulkInsertOperation;
+import com.holonplatform.core.datastore.operation.commons.BulkInsertOperation.ProgressListener;
 import com.holonplatform.core.datastore.operation.commons.BulkInsertOperationConfiguration;
 import com.holonplatform.core.internal.utils.ObjectUtils;
 import com.holonplatform.core.property.PathPropertySetAdapter;
@@ -78,6 +80,38 @@ public abstract class AbstractBulkInsertOperation<R, O extends BulkInsertOperati
 		return getActualOperation();
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.core.datastore.operation.commons.BulkInsertOperation#values(java.util.Iterator)
+	 */
+	@Override
+	public O values(Iterator<? extends PropertyBox> values) {
+		getDefinition().setValuesSource(values);
+		return getActualOperation();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.core.datastore.operation.commons.BulkInsertOperation#batchSize(int)
+	 */
+	@Override
+	public O batchSize(int batchSize) {
+		getDefinition().setBatchSize(batchSize);
+		return getActualOperation();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.core.datastore.operation.commons.BulkInsertOperation#progressListener(com.holonplatform.
+	 * core.datastore.operation.commons.BulkInsertOperation.ProgressListener)
+	 */
+	@Override
+	public O progressListener(ProgressListener progressListener) {
+		ObjectUtils.argumentNotNull(progressListener, "ProgressListener must be not null");
+		getDefinition().setProgressListener(progressListener);
+		return getActualOperation();
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see com.holonplatform.core.datastore.bulk.BulkInsertOperation#add(java.util.Map)
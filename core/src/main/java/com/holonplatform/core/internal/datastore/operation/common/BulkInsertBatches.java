@@ -0,0 +1,111 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.core.internal.datastore.operation.common;
+
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.function.Function;
+
+import com.holonplatform.core.datastore.Datastore.OperationResult;
+import com.holonplatform.core.datastore.Datastore.OperationType;
+import com.holonplatform.core.datastore.operation.commons.BulkInsertOperation.ProgressListener;
+import com.holonplatform.core.datastore.operation.commons.BulkInsertOperationConfiguration;
+import com.holonplatform.core.internal.utils.ObjectUtils;
+
+/**
+ * Tracks the batch executions of a bulk insert operation, aggregating the batch results and notifying the operation
+ * {@link ProgressListener}, if available.
+ * <p>
+ * This class is not thread-safe: the batches are expected to be executed sequentially.
+ * </p>
+ * 
+ * @since 5.2.0
+ */
+public class BulkInsertBatches {
+
+	private final Iterator<BulkInsertOperationConfiguration> batches;
+
+	private final ProgressListener progressListener;
+
+	private int batchCount = 0;
+
+	private long affectedCount = 0L;
+
+	private OperationResult lastResult;
+
+	/**
+	 * Constructor.
+	 * @param configuration The bulk insert operation configuration (not null)
+	 */
+	public BulkInsertBatches(BulkInsertOperationConfiguration configuration) {
+		super();
+		ObjectUtils.argumentNotNull(configuration, "Operation configuration must be not null");
+		this.batches = configuration.getBatches();
+		this.progressListener = configuration.getProgressListener().orElse(null);
+	}
+
+	/**
+	 * Get the next batch to execute, if available.
+	 * @return Optional next batch configuration, empty if no more batches are available
+	 */
+	public Optional<BulkInsertOperationConfiguration> next() {
+		return batches.hasNext() ? Optional.of(batches.next()) : Optional.empty();
+	}
+
+	/**
+	 * Register the result of the last batch execution.
+	 * @param result The batch execution result (not null)
+	 */
+	public void completed(OperationResult result) {
+		ObjectUtils.argumentNotNull(result, "Batch result must be not null");
+		batchCount++;
+		affectedCount += result.getAffectedCount();
+		lastResult = result;
+		if (progressListener != null) {
+			progressListener.onBatchExecuted(batchCount, result.getAffectedCount(), affectedCount);
+		}
+	}
+
+	/**
+	 * Get the operation result, aggregating the results of the executed batches.
+	 * @return The operation result
+	 */
+	public OperationResult getResult() {
+		if (batchCount == 1) {
+			return lastResult;
+		}
+		return OperationResult.builder().type(OperationType.INSERT).affectedCount(affectedCount).build();
+	}
+
+	/**
+	 * Execute the batches of given bulk insert operation configuration sequentially, using given batch executor.
+	 * @param configuration The bulk insert operation configuration (not null)
+	 * @param executor The function to use to execute each batch (not null)
+	 * @return The operation result, which affected count is the sum of the batches affected counts
+	 */
+	public static OperationResult execute(BulkInsertOperationConfiguration configuration,
+			Function<BulkInsertOperationConfiguration, OperationResult> executor) {
+		ObjectUtils.argumentNotNull(executor, "Batch executor must be not null");
+		configuration.validate();
+		final BulkInsertBatches batches = new BulkInsertBatches(configuration);
+		Optional<BulkInsertOperationConfiguration> batch;
+		while ((batch = batches.next()).isPresent()) {
+			batches.completed(executor.apply(batch.get()));
+		}
+		return batches.getResult();
+	}
+
+}
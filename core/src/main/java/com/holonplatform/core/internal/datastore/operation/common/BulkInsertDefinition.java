@@ -15,6 +15,9 @@
  */
 package com.holonplatform.core.internal.datastore.operation.common;
 
+import java.util.Iterator;
+
+import com.holonplatform.core.datastore.operation.commons.BulkInsertOperation.ProgressListener;
 import com.holonplatform.core.datastore.operation.commons.BulkInsertOperationConfiguration;
 import com.holonplatform.core.property.PropertyBox;
 import com.holonplatform.core.property.PropertySet;
@@ -38,4 +41,25 @@ public interface BulkInsertDefinition extends DatastoreOperationDefinition, Bulk
 	 */
 	void setPropertySet(PropertySet<?> propertySet);
 
+	/**
+	 * Set the source of the values to insert, lazily consumed at operation execution.
+	 * @param values The values source (not null)
+	 * @since 5.2.0
+	 */
+	void setValuesSource(Iterator<? extends PropertyBox> values);
+
+	/**
+	 * Set the operation batch size.
+	 * @param batchSize The batch size, <code>0</code> to insert all the values in a single batch
+	 * @since 5.2.0
+	 */
+	void setBatchSize(int batchSize);
+
+	/**
+	 * Set the operation progress listener.
+	 * @param progressListener The progress listener to set
+	 * @since 5.2.0
+	 */
+	void setProgressListener(ProgressListener progressListener);
+
 }
@@ -15,11 +15,20 @@
  */
 package com.holonplatform.core.internal.datastore.operation.common;
 
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.LinkedList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.Set;
 
+import com.holonplatform.core.ExpressionResolver;
+import com.holonplatform.core.ParameterSet;
+import com.holonplatform.core.datastore.DataTarget;
+import com.holonplatform.core.datastore.DatastoreOperations.WriteOption;
+import com.holonplatform.core.datastore.operation.commons.BulkInsertOperation.ProgressListener;
+import com.holonplatform.core.datastore.operation.commons.BulkInsertOperationConfiguration;
 import com.holonplatform.core.internal.utils.ObjectUtils;
 import com.holonplatform.core.property.PropertyBox;
 import com.holonplatform.core.property.PropertySet;
@@ -34,22 +43,72 @@ public class DefaultBulkInsertDefinition extends AbstractDatastoreOperationDefin
 	/*
 	 * Operation values
 	 */
-	private final List<PropertyBox> values = new LinkedList<>();
+	private final List<PropertyBox> values = new ArrayList<>();
+
+	/*
+	 * Operation values source
+	 */
+	private Iterator<? extends PropertyBox> valuesSource;
 
 	/*
 	 * Operation property set
 	 */
 	private PropertySet<?> propertySet;
 
+	/*
+	 * Batch size
+	 */
+	private int batchSize = 0;
+
+	/*
+	 * Progress listener
+	 */
+	private ProgressListener progressListener;
+
 	/*
 	 * (non-Javadoc)
 	 * @see com.holonplatform.core.datastore.operation.commons.BulkInsertOperationConfiguration#getValues()
 	 */
 	@Override
 	public List<PropertyBox> getValues() {
+		if (valuesSource != null) {
+			while (valuesSource.hasNext()) {
+				addValue(valuesSource.next());
+			}
+		}
 		return Collections.unmodifiableList(values);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.core.datastore.operation.commons.BulkInsertOperationConfiguration#getBatchSize()
+	 */
+	@Override
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.core.datastore.operation.commons.BulkInsertOperationConfiguration#getProgressListener()
+	 */
+	@Override
+	public Optional<ProgressListener> getProgressListener() {
+		return Optional.ofNullable(progressListener);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.core.datastore.operation.commons.BulkInsertOperationConfiguration#getBatches()
+	 */
+	@Override
+	public Iterator<BulkInsertOperationConfiguration> getBatches() {
+		if (batchSize <= 0) {
+			return Collections.<BulkInsertOperationConfiguration>singletonList(this).iterator();
+		}
+		return new BatchIterator();
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see com.holonplatform.core.datastore.operation.commons.BulkInsertOperationConfiguration#getPropertySet()
@@ -82,6 +141,36 @@ public class DefaultBulkInsertDefinition extends AbstractDatastoreOperationDefin
 		this.propertySet = propertySet;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see
+	 * com.holonplatform.core.internal.datastore.operation.common.BulkInsertDefinition#setValuesSource(java.util.Iterator)
+	 */
+	@Override
+	public void setValuesSource(Iterator<? extends PropertyBox> values) {
+		ObjectUtils.argumentNotNull(values, "Values source must be not null");
+		this.valuesSource = values;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.core.internal.datastore.operation.common.BulkInsertDefinition#setBatchSize(int)
+	 */
+	@Override
+	public void setBatchSize(int batchSize) {
+		this.batchSize = (batchSize < 0) ? 0 : batchSize;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.core.internal.datastore.operation.common.BulkInsertDefinition#setProgressListener(com.
+	 * holonplatform.core.datastore.operation.commons.BulkInsertOperation.ProgressListener)
+	 */
+	@Override
+	public void setProgressListener(ProgressListener progressListener) {
+		this.progressListener = progressListener;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see com.holonplatform.core.internal.datastore.bulk.AbstractBulkOperationDefinition#validate()
@@ -89,8 +178,165 @@ public class DefaultBulkInsertDefinition extends AbstractDatastoreOperationDefin
 	@Override
 	public void validate() throws InvalidExpressionException {
 		super.validate();
-		if (getValues().isEmpty()) {
+		if (valuesSource == null && values.isEmpty()) {
 			throw new InvalidExpressionException("No values to insert");
 		}
 	}
+
+	/**
+	 * Validate the operation configuration, without checking the operation values.
+	 * @throws InvalidExpressionException If the operation configuration is not valid
+	 */
+	private void validateConfiguration() throws InvalidExpressionException {
+		super.validate();
+	}
+
+	/**
+	 * Iterator which splits the operation values into batches, consuming the values source only when a new batch is
+	 * requested.
+	 */
+	private class BatchIterator implements Iterator<BulkInsertOperationConfiguration> {
+
+		private final Iterator<PropertyBox> added = values.iterator();
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.Iterator#hasNext()
+		 */
+		@Override
+		public boolean hasNext() {
+			return added.hasNext() || (valuesSource != null && valuesSource.hasNext());
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.Iterator#next()
+		 */
+		@Override
+		public BulkInsertOperationConfiguration next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			final List<PropertyBox> batch = new ArrayList<>(batchSize);
+			while (batch.size() < batchSize && added.hasNext()) {
+				batch.add(added.next());
+			}
+			while (batch.size() < batchSize && valuesSource != null && valuesSource.hasNext()) {
+				final PropertyBox value = valuesSource.next();
+				ObjectUtils.argumentNotNull(value, "Value must be not null");
+				batch.add(value);
+			}
+			return new BatchConfiguration(batch);
+		}
+
+	}
+
+	/**
+	 * A batch of the operation values, which shares the operation configuration.
+	 */
+	private class BatchConfiguration implements BulkInsertOperationConfiguration {
+
+		private final List<PropertyBox> batch;
+
+		BatchConfiguration(List<PropertyBox> batch) {
+			super();
+			this.batch = Collections.unmodifiableList(batch);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.core.datastore.operation.commons.DatastoreOperationConfiguration#getTarget()
+		 */
+		@Override
+		public DataTarget<?> getTarget() {
+			return DefaultBulkInsertDefinition.this.getTarget();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.core.datastore.operation.commons.DatastoreOperationConfiguration#getParameters()
+		 */
+		@Override
+		public ParameterSet getParameters() {
+			return DefaultBulkInsertDefinition.this.getParameters();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.core.datastore.operation.commons.DatastoreOperationConfiguration#getWriteOptions()
+		 */
+		@Override
+		public Set<WriteOption> getWriteOptions() {
+			return DefaultBulkInsertDefinition.this.getWriteOptions();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.core.ExpressionResolver.ExpressionResolverProvider#getExpressionResolvers()
+		 */
+		@SuppressWarnings("rawtypes")
+		@Override
+		public Iterable<ExpressionResolver> getExpressionResolvers() {
+			return DefaultBulkInsertDefinition.this.getExpressionResolvers();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.core.datastore.operation.commons.BulkInsertOperationConfiguration#getValues()
+		 */
+		@Override
+		public List<PropertyBox> getValues() {
+			return batch;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.core.datastore.operation.commons.BulkInsertOperationConfiguration#getPropertySet()
+		 */
+		@Override
+		public Optional<PropertySet<?>> getPropertySet() {
+			return DefaultBulkInsertDefinition.this.getPropertySet();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.core.datastore.operation.commons.BulkInsertOperationConfiguration#getBatchSize()
+		 */
+		@Override
+		public int getBatchSize() {
+			return batchSize;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.core.datastore.operation.commons.BulkInsertOperationConfiguration#getProgressListener()
+		 */
+		@Override
+		public Optional<ProgressListener> getProgressListener() {
+			return Optional.empty();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.core.datastore.operation.commons.BulkInsertOperationConfiguration#getBatches()
+		 */
+		@Override
+		public Iterator<BulkInsertOperationConfiguration> getBatches() {
+			return Collections.<BulkInsertOperationConfiguration>singletonList(this).iterator();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.core.Expression#validate()
+		 */
+		@Override
+		public void validate() throws InvalidExpressionException {
+			validateConfiguration();
+			if (batch.isEmpty()) {
+				throw new InvalidExpressionException("No values to insert");
+			}
+		}
+
+	}
+
 }
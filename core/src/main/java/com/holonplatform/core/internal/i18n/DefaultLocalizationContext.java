@@ -16,6 +16,7 @@
 package com.holonplatform.core.internal.i18n;
 
 import java.text.DateFormat;
+import java.text.Format;
 import java.text.NumberFormat;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.Temporal;
@@ -28,6 +29,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
 
 import com.holonplatform.core.i18n.Localizable;
 import com.holonplatform.core.i18n.Localizable.LocalizationException;
@@ -72,9 +74,10 @@ public class DefaultLocalizationContext implements LocalizationContext {
 	/*
 	 * Caches
 	 */
-	private final ConcurrentMap<TemporalFormat, DateFormat> dateFormatCache = new ConcurrentHashMap<>(2, 0.9f, 1);
-	private final ConcurrentMap<TemporalFormat, DateFormat> timeFormatCache = new ConcurrentHashMap<>(2, 0.9f, 1);
-	private final ConcurrentMap<DateTimeFormat, DateFormat> dateTimeFormatCache = new ConcurrentHashMap<>(2, 0.9f, 1);
+	private final FormatCache<TemporalFormat, DateFormat> dateFormatCache = new FormatCache<>();
+	private final FormatCache<TemporalFormat, DateFormat> timeFormatCache = new FormatCache<>();
+	private final FormatCache<DateTimeFormat, DateFormat> dateTimeFormatCache = new FormatCache<>();
+	private final FormatCache<NumberFormatKey, NumberFormat> numberFormatCache = new FormatCache<>();
 	private final ConcurrentMap<TemporalFormat, DateTimeFormatter> dateFormatterCache = new ConcurrentHashMap<>(2, 0.9f,
 			1);
 	private final ConcurrentMap<TemporalFormat, DateTimeFormatter> timeFormatterCache = new ConcurrentHashMap<>(2, 0.9f,
@@ -174,9 +177,11 @@ public class DefaultLocalizationContext implements LocalizationContext {
 	}
 
 	/**
-	 * Set whether to cache date and time format instances. Please note that standard Java {@link DateFormat} is not
-	 * thread-safe, so you must take care of any concurrency issue using cached date/time format instances.
-	 * @param useDateTimeFormatsCache <code>true</code> to cache date and time format instances
+	 * Set whether to cache date, time and number format instances. The cached instances are never shared: each thread
+	 * uses its own instances and the {@link DateFormat} and {@link NumberFormat} instances returned by
+	 * {@link #getDateFormat(TemporalType, TemporalFormat, TemporalFormat)} and
+	 * {@link #getNumberFormat(Class, int, boolean)} are always new copies.
+	 * @param useDateTimeFormatsCache <code>true</code> to cache date, time and number format instances
 	 */
 	public void setUseDateTimeFormatsCache(boolean useDateTimeFormatsCache) {
 		this.useDateTimeFormatsCache = useDateTimeFormatsCache;
@@ -236,6 +241,7 @@ public class DefaultLocalizationContext implements LocalizationContext {
 		dateFormatCache.clear();
 		timeFormatCache.clear();
 		dateTimeFormatCache.clear();
+		numberFormatCache.clear();
 		dateFormatterCache.clear();
 		timeFormatterCache.clear();
 		dateTimeFormatterCache.clear();
@@ -316,47 +322,27 @@ public class DefaultLocalizationContext implements LocalizationContext {
 	public String format(Number number, int decimalPositions, NumberFormatFeature... features) {
 		if (number != null) {
 
-			int decimals = decimalPositions;
-			if (decimals < 0) {
-				// use default, if any
-				if (getLocalization() != null) {
-					decimals = getLocalization().getDefaultDecimalPositions().orElse(-1);
-				}
-			}
-
-			NumberFormat format = null;
+			int decimals = getDecimalPositions(decimalPositions);
 
+			final NumberFormatStyle style;
 			if (NumberFormatFeature.hasFeature(NumberFormatFeature.PERCENT_STYLE, features)) {
-				format = NumberFormat.getPercentInstance(checkLocalized());
-
-				if (NumberFormatFeature.hasFeature(NumberFormatFeature.HIDE_DECIMALS_WHEN_ALL_ZERO, features)
-						&& !FormatUtils.hasDecimals(number.doubleValue())) {
-					format.setMaximumFractionDigits(0);
-				} else if (decimals > -1) {
-					format.setMinimumFractionDigits(decimals);
-					format.setMaximumFractionDigits(decimals);
-				}
-
+				style = NumberFormatStyle.PERCENT;
 			} else if (TypeUtils.isDecimalNumber(number.getClass())) {
-				format = NumberFormat.getInstance(checkLocalized());
-
-				if (NumberFormatFeature.hasFeature(NumberFormatFeature.HIDE_DECIMALS_WHEN_ALL_ZERO, features)
-						&& !FormatUtils.hasDecimals(number.doubleValue())) {
-					format.setMaximumFractionDigits(0);
-				} else if (decimals > -1) {
-					format.setMinimumFractionDigits(decimals);
-					format.setMaximumFractionDigits(decimals);
-				}
-
+				style = NumberFormatStyle.DECIMAL;
 			} else {
-				format = NumberFormat.getIntegerInstance(checkLocalized());
+				style = NumberFormatStyle.INTEGER;
+				decimals = -1;
 			}
 
-			if (NumberFormatFeature.hasFeature(NumberFormatFeature.DISABLE_GROUPING, features)) {
-				format.setGroupingUsed(false);
+			if (style != NumberFormatStyle.INTEGER
+					&& NumberFormatFeature.hasFeature(NumberFormatFeature.HIDE_DECIMALS_WHEN_ALL_ZERO, features)
+					&& !FormatUtils.hasDecimals(number.doubleValue())) {
+				decimals = 0;
 			}
 
-			return format.format(number);
+			final NumberFormatKey key = new NumberFormatKey(checkLocalized(), style, decimals,
+					!NumberFormatFeature.hasFeature(NumberFormatFeature.DISABLE_GROUPING, features));
+			return getFormat(numberFormatCache, key, k -> createNumberFormat(k), true).format(number);
 		}
 		return null;
 	}
@@ -368,33 +354,74 @@ public class DefaultLocalizationContext implements LocalizationContext {
 	@Override
 	public NumberFormat getNumberFormat(Class<? extends Number> numberType, int decimalPositions,
 			boolean disableGrouping) {
+		final NumberFormatKey key = TypeUtils.isDecimalNumber(numberType)
+				? new NumberFormatKey(checkLocalized(), NumberFormatStyle.DECIMAL,
+						getDecimalPositions(decimalPositions), !disableGrouping)
+				: new NumberFormatKey(checkLocalized(), NumberFormatStyle.INTEGER, -1, !disableGrouping);
+		return getFormat(numberFormatCache, key, k -> createNumberFormat(k), false);
+	}
 
-		int decimals = decimalPositions;
-		if (decimals < 0) {
-			// use default, if any
-			if (getLocalization() != null) {
-				decimals = getLocalization().getDefaultDecimalPositions().orElse(-1);
-			}
+	/**
+	 * Get the decimal positions to use, using the current {@link Localization} default decimal positions, if any, when
+	 * given <code>decimalPositions</code> is negative.
+	 * @param decimalPositions Decimal positions
+	 * @return The decimal positions to use, <code>-1</code> for none
+	 */
+	private int getDecimalPositions(int decimalPositions) {
+		if (decimalPositions < 0 && getLocalization() != null) {
+			return getLocalization().getDefaultDecimalPositions().orElse(-1);
 		}
+		return decimalPositions;
+	}
 
-		NumberFormat format = null;
-
-		if (TypeUtils.isDecimalNumber(numberType)) {
-			format = NumberFormat.getInstance(checkLocalized());
-			if (decimals > -1) {
-				format.setMinimumFractionDigits(decimals);
-				format.setMaximumFractionDigits(decimals);
-			}
-		} else {
-			format = NumberFormat.getIntegerInstance(checkLocalized());
+	/**
+	 * Create a new {@link NumberFormat} using given configuration.
+	 * @param key Number format configuration
+	 * @return A new {@link NumberFormat}
+	 */
+	private static NumberFormat createNumberFormat(NumberFormatKey key) {
+		final NumberFormat format;
+		switch (key.style) {
+		case PERCENT:
+			format = NumberFormat.getPercentInstance(key.locale);
+			break;
+		case DECIMAL:
+			format = NumberFormat.getInstance(key.locale);
+			break;
+		case INTEGER:
+		default:
+			format = NumberFormat.getIntegerInstance(key.locale);
+			break;
 		}
-
-		if (disableGrouping) {
+		if (key.decimals > -1) {
+			format.setMinimumFractionDigits(key.decimals);
+			format.setMaximumFractionDigits(key.decimals);
+		}
+		if (!key.grouping) {
 			format.setGroupingUsed(false);
 		}
 		return format;
 	}
 
+	/**
+	 * Get a format instance from given cache, or create a new one if the formats cache is not enabled.
+	 * @param <K> Cache key type
+	 * @param <F> Format type
+	 * @param cache Format cache
+	 * @param key Cache key
+	 * @param factory Format instance factory
+	 * @param threadConfined <code>true</code> to obtain a thread-confined instance, which must not be handed out to
+	 *        callers, <code>false</code> to obtain a new instance
+	 * @return The format instance
+	 */
+	private <K, F extends Format> F getFormat(FormatCache<K, F> cache, K key, Function<? super K, ? extends F> factory,
+			boolean threadConfined) {
+		if (!isUseDateTimeFormatsCache()) {
+			return factory.apply(key);
+		}
+		return threadConfined ? cache.get(key, factory) : cache.copy(key, factory);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see com.holonplatform.core.i18n.LocalizationContext#setDefaultDateFormatStyle(com.holonplatform.core.i18n.
@@ -439,7 +466,7 @@ public class DefaultLocalizationContext implements LocalizationContext {
 	@Override
 	public String format(Date date, TemporalType type, TemporalFormat dateFormat, TemporalFormat timeFormat) {
 		if (date != null) {
-			return getDateFormat(type, dateFormat, timeFormat).format(date);
+			return getDateFormat(type, dateFormat, timeFormat, true).format(date);
 		}
 		return null;
 	}
@@ -451,6 +478,20 @@ public class DefaultLocalizationContext implements LocalizationContext {
 	 */
 	@Override
 	public DateFormat getDateFormat(TemporalType type, TemporalFormat dateFormat, TemporalFormat timeFormat) {
+		return getDateFormat(type, dateFormat, timeFormat, false);
+	}
+
+	/**
+	 * Get the {@link DateFormat} to use for given temporal type and formats.
+	 * @param type Temporal type
+	 * @param dateFormat Date format
+	 * @param timeFormat Time format
+	 * @param threadConfined <code>true</code> to obtain a thread-confined instance, which must not be handed out to
+	 *        callers, <code>false</code> to obtain a new instance
+	 * @return The {@link DateFormat}
+	 */
+	private DateFormat getDateFormat(TemporalType type, TemporalFormat dateFormat, TemporalFormat timeFormat,
+			boolean threadConfined) {
 		TemporalType temporalType = (type != null) ? type : TemporalType.DATE;
 
 		Localization lzn = getLocalization();
@@ -468,47 +509,22 @@ public class DefaultLocalizationContext implements LocalizationContext {
 			tf = lzn.getDefaultTimeTemporalFormat().orElse(getDefaultTimeFormatStyle().orElse(TemporalFormat.SHORT));
 		}
 
-		DateFormat formatter;
+		final Locale locale = checkLocalized();
 
 		switch (temporalType) {
-		case TIME: {
-			if (isUseDateTimeFormatsCache() && timeFormatCache.containsKey(tf)) {
-				formatter = timeFormatCache.get(tf);
-			} else {
-				formatter = DateFormat.getTimeInstance(tf.getTimeStyle(), checkLocalized());
-				if (isUseDateTimeFormatsCache()) {
-					timeFormatCache.put(tf, formatter);
-				}
-			}
-		}
-			break;
-		case DATE_TIME: {
-			DateTimeFormat dtf = new DateTimeFormat(df, tf);
-			if (isUseDateTimeFormatsCache() && dateTimeFormatCache.containsKey(dtf)) {
-				formatter = dateTimeFormatCache.get(dtf);
-			} else {
-				formatter = DateFormat.getDateTimeInstance(df.getDateStyle(), tf.getTimeStyle(), checkLocalized());
-				if (isUseDateTimeFormatsCache()) {
-					dateTimeFormatCache.put(dtf, formatter);
-				}
-			}
-		}
-			break;
+		case TIME:
+			return getFormat(timeFormatCache, tf, f -> DateFormat.getTimeInstance(f.getTimeStyle(), locale),
+					threadConfined);
+		case DATE_TIME:
+			return getFormat(dateTimeFormatCache, new DateTimeFormat(df, tf),
+					f -> DateFormat.getDateTimeInstance(f.dateFormat.getDateStyle(), f.timeFormat.getTimeStyle(),
+							locale),
+					threadConfined);
 		case DATE:
-		default: {
-			if (isUseDateTimeFormatsCache() && dateFormatCache.containsKey(df)) {
-				formatter = dateFormatCache.get(df);
-			} else {
-				formatter = DateFormat.getDateInstance(df.getDateStyle(), checkLocalized());
-				if (isUseDateTimeFormatsCache()) {
-					dateFormatCache.put(df, formatter);
-				}
-			}
-		}
-			break;
+		default:
+			return getFormat(dateFormatCache, df, f -> DateFormat.getDateInstance(f.getDateStyle(), locale),
+					threadConfined);
 		}
-
-		return formatter;
 	}
 
 	/*
@@ -706,6 +722,67 @@ public class DefaultLocalizationContext implements LocalizationContext {
 				+ "]";
 	}
 
+	/*
+	 * Number format styles
+	 */
+	private enum NumberFormatStyle {
+
+		PERCENT, DECIMAL, INTEGER;
+
+	}
+
+	/*
+	 * Support class for number format cache
+	 */
+	private static final class NumberFormatKey {
+
+		final Locale locale;
+		final NumberFormatStyle style;
+		final int decimals;
+		final boolean grouping;
+
+		public NumberFormatKey(Locale locale, NumberFormatStyle style, int decimals, boolean grouping) {
+			super();
+			this.locale = locale;
+			this.style = style;
+			this.decimals = decimals;
+			this.grouping = grouping;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+			final int prime = 31;
+			int result = 1;
+			result = prime * result + locale.hashCode();
+			result = prime * result + style.hashCode();
+			result = prime * result + decimals;
+			result = prime * result + (grouping ? 1231 : 1237);
+			return result;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#equals(java.lang.Object)
+		 */
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj)
+				return true;
+			if (obj == null)
+				return false;
+			if (getClass() != obj.getClass())
+				return false;
+			NumberFormatKey other = (NumberFormatKey) obj;
+			return style == other.style && decimals == other.decimals && grouping == other.grouping
+					&& locale.equals(other.locale);
+		}
+
+	}
+
 	/*
 	 * Support class for dateTime format cache
 	 */
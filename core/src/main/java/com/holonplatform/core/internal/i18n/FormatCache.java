@@ -0,0 +1,126 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.core.internal.i18n;
+
+import java.text.Format;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * A cache of {@link Format} instances, which are not thread-safe.
+ * <p>
+ * A prototype instance is created and cached for each key, and it is never exposed: the cache provides either a
+ * thread-confined instance, to be used only by the current thread and never handed out, or a new copy of the
+ * prototype, which can be freely used and modified by the caller. No locking is required to obtain the instances.
+ * </p>
+ * 
+ * @param <K> Cache key type
+ * @param <F> Format type
+ * 
+ * @since 5.2.0
+ */
+final class FormatCache<K, F extends Format> {
+
+	/**
+	 * Prototype instances
+	 */
+	private final ConcurrentMap<K, F> prototypes = new ConcurrentHashMap<>(4, 0.9f, 1);
+
+	/**
+	 * Thread-confined instances of every cache, weakly keyed by cache so that the instances of discarded caches do not
+	 * survive on pooled threads
+	 */
+	private static final ThreadLocal<Map<FormatCache<?, ?>, ConfinedFormats<?, ?>>> CONFINED = ThreadLocal
+			.withInitial(() -> new WeakHashMap<>(4));
+
+	/**
+	 * Cache generation, incremented at each clear to invalidate the thread-confined instances
+	 */
+	private volatile int generation = 0;
+
+	/**
+	 * Get the thread-confined instance bound to given key, creating it if not available. The returned instance must be
+	 * used only by the current thread and must not be modified.
+	 * @param key Cache key
+	 * @param factory Function to use to create a new instance for the key
+	 * @return The thread-confined format instance
+	 */
+	@SuppressWarnings("unchecked")
+	F get(K key, Function<? super K, ? extends F> factory) {
+		final Map<FormatCache<?, ?>, ConfinedFormats<?, ?>> caches = CONFINED.get();
+		ConfinedFormats<K, F> formats = (ConfinedFormats<K, F>) caches.get(this);
+		if (formats == null) {
+			formats = new ConfinedFormats<>();
+			caches.put(this, formats);
+		}
+		final int current = generation;
+		if (formats.generation != current) {
+			formats.formats.clear();
+			formats.generation = current;
+		}
+		F format = formats.formats.get(key);
+		if (format == null) {
+			format = copy(key, factory);
+			formats.formats.put(key, format);
+		}
+		return format;
+	}
+
+	/**
+	 * Get a new copy of the prototype instance bound to given key, creating the prototype if not available.
+	 * @param key Cache key
+	 * @param factory Function to use to create a new instance for the key
+	 * @return A new format instance
+	 */
+	@SuppressWarnings("unchecked")
+	F copy(K key, Function<? super K, ? extends F> factory) {
+		F prototype = prototypes.get(key);
+		if (prototype == null) {
+			final F created = factory.apply(key);
+			prototype = prototypes.putIfAbsent(key, created);
+			if (prototype == null) {
+				prototype = created;
+			}
+		}
+		return (F) prototype.clone();
+	}
+
+	/**
+	 * Clear the cache.
+	 */
+	synchronized void clear() {
+		prototypes.clear();
+		generation++;
+	}
+
+	/**
+	 * Thread-confined format instances.
+	 * @param <K> Cache key type
+	 * @param <F> Format type
+	 */
+	private static final class ConfinedFormats<K, F> {
+
+		final Map<K, F> formats = new HashMap<>(4);
+
+		int generation = 0;
+
+	}
+
+}
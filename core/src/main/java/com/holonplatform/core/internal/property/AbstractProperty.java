@@ -15,9 +15,9 @@
  */
 package com.holonplatform.core.internal.property;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
@@ -25,6 +25,7 @@ import java.util.function.Function;
 import com.holonplatform.core.Validator;
 import com.holonplatform.core.Validator.UnsupportedValidationTypeException;
 import com.holonplatform.core.Validator.ValidationException;
+import com.holonplatform.core.Validator.ValidationResult;
 import com.holonplatform.core.Validator.ValidatorSupport;
 import com.holonplatform.core.i18n.Localizable;
 import com.holonplatform.core.internal.utils.ObjectUtils;
@@ -220,7 +221,7 @@ public abstract class AbstractProperty<T, P extends Property<T>, B extends Prope
 	public void addValidator(Validator<T> validator) {
 		ObjectUtils.argumentNotNull(validator, "Validator must be not null");
 		if (validators == null) {
-			validators = new LinkedList<>();
+			validators = new ArrayList<>(4);
 		}
 		validators.add(validator);
 	}
@@ -259,33 +260,64 @@ public abstract class AbstractProperty<T, P extends Property<T>, B extends Prope
 	 * (non-Javadoc)
 	 * @see com.holonplatform.core.Validator.Validatable#validate(java.lang.Object)
 	 */
-	@SuppressWarnings({ "unchecked", "rawtypes" })
 	@Override
 	public void validate(T value) throws ValidationException {
-		LinkedList<ValidationException> failures = new LinkedList<>();
-		for (Validator<T> validator : getValidators()) {
+		if (validators == null) {
+			return;
+		}
+		List<ValidationException> failures = null;
+		for (int i = 0; i < validators.size(); i++) {
 			try {
-				validator.validate(value);
-			} catch (UnsupportedValidationTypeException ut) {
-				// try to use conveted value
-				if (!getConverter().isPresent()) {
-					throw ut;
-				}
-				try {
-					((Validator) validator).validate(getConvertedValue(value));
-				} catch (ValidationException cve) {
-					failures.add(cve);
-				}
+				validate(validators.get(i), value);
 			} catch (ValidationException ve) {
+				if (failures == null) {
+					failures = new ArrayList<>(2);
+				}
 				failures.add(ve);
 			}
 		}
-		if (!failures.isEmpty()) {
-			throw (failures.size() == 1) ? failures.getFirst()
+		if (failures != null) {
+			throw (failures.size() == 1) ? failures.get(0)
 					: new ValidationException(failures.toArray(new ValidationException[failures.size()]));
 		}
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.core.Validator.Validatable#validateAll(java.lang.Object)
+	 */
+	@Override
+	public ValidationResult validateAll(T value) {
+		if (validators == null || validators.isEmpty()) {
+			return Validator.validateAll(value, Collections.emptyList());
+		}
+		final List<Validator<T>> fallbackValidators = new ArrayList<>(validators.size());
+		for (Validator<T> validator : validators) {
+			fallbackValidators.add(v -> validate(validator, v));
+		}
+		return Validator.validateAll(value, fallbackValidators);
+	}
+
+	/**
+	 * Validate given value using given validator. If the validator does not support the property value type, the
+	 * property converter, if available, is used to validate the converted value.
+	 * @param validator The validator to use
+	 * @param value The value to validate
+	 * @throws ValidationException If the value is not valid
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private void validate(Validator<T> validator, T value) throws ValidationException {
+		try {
+			validator.validate(value);
+		} catch (UnsupportedValidationTypeException ut) {
+			// try to use conveted value
+			if (!getConverter().isPresent()) {
+				throw ut;
+			}
+			((Validator) validator).validate(getConvertedValue(value));
+		}
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see com.holonplatform.core.i18n.Localizable#getMessageCode()
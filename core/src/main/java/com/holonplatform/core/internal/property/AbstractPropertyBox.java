@@ -15,9 +15,10 @@
  */
 package com.holonplatform.core.internal.property;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
-import java.util.LinkedList;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Stream;
@@ -144,6 +145,15 @@ public abstract class AbstractPropertyBox implements PropertyBox {
 		return getAndCheckPropertySet().contains(property);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.core.property.PropertySet#indexOf(com.holonplatform.core.property.Property)
+	 */
+	@Override
+	public int indexOf(Property property) {
+		return getAndCheckPropertySet().indexOf(property);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see java.lang.Iterable#iterator()
@@ -242,19 +252,22 @@ public abstract class AbstractPropertyBox implements PropertyBox {
 	 * (non-Javadoc)
 	 * @see com.holonplatform.core.property.PropertyBox#validate()
 	 */
-	@SuppressWarnings("unchecked")
+	@SuppressWarnings({ "unchecked", "rawtypes" })
 	@Override
 	public void validate() throws ValidationException {
-		final LinkedList<ValidationException> failures = new LinkedList<>();
-		forEach(p -> {
+		List<ValidationException> failures = null;
+		for (Property p : this) {
 			try {
 				p.validate(getValue(p));
 			} catch (ValidationException e) {
+				if (failures == null) {
+					failures = new ArrayList<>(2);
+				}
 				failures.add(e);
 			}
-		});
-		if (!failures.isEmpty()) {
-			throw (failures.size() == 1) ? failures.getFirst()
+		}
+		if (failures != null) {
+			throw (failures.size() == 1) ? failures.get(0)
 					: new ValidationException(failures.toArray(new ValidationException[failures.size()]));
 		}
 	}
@@ -0,0 +1,323 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.core.internal.property;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import com.holonplatform.core.internal.property.DefaultPropertyBox.DefaultPropertyValue;
+import com.holonplatform.core.internal.utils.ObjectUtils;
+import com.holonplatform.core.objects.EqualsHandler;
+import com.holonplatform.core.objects.HashCodeProvider;
+import com.holonplatform.core.property.Property;
+import com.holonplatform.core.property.Property.PropertyAccessException;
+import com.holonplatform.core.property.Property.PropertyNotFoundException;
+import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.core.property.PropertySet;
+
+/**
+ * Compact {@link PropertyBox} implementation.
+ * <p>
+ * Property values are stored internally using an array, where each value is located at the position of the
+ * corresponding property in the box {@link PropertySet}. To obtain constant-time property value access, the box property
+ * set is converted into an {@link IndexedPropertySet} if it is not already an instance of it: an indexed property set
+ * should be provided when a large number of boxes has to be created with the same property set, so the index is shared
+ * among all the boxes.
+ * </p>
+ * <p>
+ * Property value access is not thread-safe by default. The <code>threadSafe</code> construction parameter can be used
+ * to synchronize property value access.
+ * </p>
+ * 
+ * @since 5.2.0
+ * 
+ * @see PropertyBox
+ */
+@SuppressWarnings("rawtypes")
+public class ArrayPropertyBox extends AbstractPropertyBox {
+
+	/**
+	 * Property values, by property position
+	 */
+	private final Object[] values;
+
+	/**
+	 * Whether property value access is synchronized
+	 */
+	private final boolean threadSafe;
+
+	/**
+	 * Construct a new PropertyBox using given <code>propertySet</code> as property set.
+	 * @param <P> Actual property type
+	 * @param propertySet Property set (not null)
+	 * @param threadSafe Whether the property value access should be thread-safe
+	 */
+	public <P extends Property> ArrayPropertyBox(PropertySet<P> propertySet, boolean threadSafe) {
+		super(asIndexed(propertySet));
+		this.values = new Object[getPropertySet().size()];
+		this.threadSafe = threadSafe;
+	}
+
+	/**
+	 * Construct a new, not thread-safe, PropertyBox using given <code>propertySet</code> as property set.
+	 * @param <P> Actual property type
+	 * @param propertySet Property set (not null)
+	 */
+	public <P extends Property> ArrayPropertyBox(PropertySet<P> propertySet) {
+		this(propertySet, false);
+	}
+
+	/**
+	 * Get whether the property value access is thread-safe.
+	 * @return <code>true</code> if the property value access is thread-safe
+	 */
+	public boolean isThreadSafe() {
+		return threadSafe;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see
+	 * com.holonplatform.core.internal.property.AbstractPropertyBox#getPropertyValue(com.holonplatform.core.property.
+	 * Property)
+	 */
+	@Override
+	protected <T> Object getPropertyValue(Property<T> property) throws PropertyAccessException {
+		final int index = getPropertySet().indexOf(property);
+		if (index < 0) {
+			return null;
+		}
+		if (threadSafe) {
+			synchronized (values) {
+				return values[index];
+			}
+		}
+		return values[index];
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see
+	 * com.holonplatform.core.internal.property.AbstractPropertyBox#setPropertyValue(com.holonplatform.core.property.
+	 * Property, java.lang.Object)
+	 */
+	@Override
+	protected <T> void setPropertyValue(Property<T> property, T value) throws PropertyAccessException {
+		final int index = getPropertySet().indexOf(property);
+		if (index < 0) {
+			throw new PropertyNotFoundException(property, "Property " + property + " not found in property set");
+		}
+		if (threadSafe) {
+			synchronized (values) {
+				values[index] = value;
+			}
+		} else {
+			values[index] = value;
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.core.property.PropertyBox#propertyValues()
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	public <T> Stream<PropertyValue<T>> propertyValues() {
+		final IndexedPropertySet<Property> propertySet = (IndexedPropertySet<Property>) getPropertySet();
+		final Object[] snapshot = getValues();
+		return IntStream.range(0, snapshot.length).filter(i -> snapshot[i] != null)
+				.mapToObj(i -> new DefaultPropertyValue(propertySet.get(i), snapshot[i]));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.core.property.PropertyBox#cloneBox()
+	 */
+	@Override
+	public PropertyBox cloneBox() {
+		final ArrayPropertyBox box = new ArrayPropertyBox(getPropertySet(), threadSafe);
+		box.setInvalidAllowed(isInvalidAllowed());
+		getHashCodeProvider().ifPresent(h -> box.setHashCodeProvider(h));
+		getEqualsHandler().ifPresent(h -> box.setEqualsHandler(h));
+		final IndexedPropertySet<?> propertySet = (IndexedPropertySet<?>) getPropertySet();
+		final Object[] snapshot = getValues();
+		for (int i = 0; i < snapshot.length; i++) {
+			// read-only property values are not copied, consistently with the default clone behaviour
+			if (!propertySet.get(i).isReadOnly()) {
+				box.values[i] = snapshot[i];
+			}
+		}
+		return box;
+	}
+
+	/**
+	 * Get a copy of the current property values array.
+	 * @return The property values array copy
+	 */
+	private Object[] getValues() {
+		if (threadSafe) {
+			synchronized (values) {
+				return Arrays.copyOf(values, values.length);
+			}
+		}
+		return Arrays.copyOf(values, values.length);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		final StringBuilder sb = new StringBuilder();
+		sb.append("PropertyBox - PROPERTIES: ");
+		sb.append(getPropertySet().stream().map(
+				p -> "[\"" + p.getName() + "\":" + ((p.getType() != null) ? p.getType().getName() : "NOTYPE") + "]")
+				.collect(Collectors.joining(",")));
+		sb.append(" - VALUES: ");
+		String values = propertyValues().map(v -> "(\"" + v.getProperty().getName() + "\"=" + v.getValue() + ")")
+				.collect(Collectors.joining(","));
+		if (values == null || values.trim().equals("")) {
+			sb.append("<EMPTY>");
+		} else {
+			sb.append(values);
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Get given property set as an {@link IndexedPropertySet}, copying its properties, identifiers and configuration if
+	 * it is not already an {@link IndexedPropertySet} instance.
+	 * @param propertySet The property set (not null)
+	 * @return The indexed property set
+	 */
+	private static <P extends Property> IndexedPropertySet<P> asIndexed(PropertySet<P> propertySet) {
+		ObjectUtils.argumentNotNull(propertySet, "PropertySet must be not null");
+		if (propertySet instanceof IndexedPropertySet) {
+			return (IndexedPropertySet<P>) propertySet;
+		}
+		return new IndexedPropertySet<>(propertySet, propertySet.getIdentifiers(), propertySet.getConfiguration());
+	}
+
+	// Builder
+
+	/**
+	 * {@link ArrayPropertyBox} builder.
+	 */
+	public static class ArrayPropertyBoxBuilder implements Builder {
+
+		private final ArrayPropertyBox instance;
+
+		/**
+		 * Constructor.
+		 * @param <P> Actual property type
+		 * @param properties Iterable set of properties
+		 * @param threadSafe Whether the property value access should be thread-safe
+		 */
+		@SuppressWarnings("unchecked")
+		public <P extends Property> ArrayPropertyBoxBuilder(Iterable<P> properties, boolean threadSafe) {
+			super();
+			ObjectUtils.argumentNotNull(properties, "Properties must be not null");
+			this.instance = new ArrayPropertyBox(
+					(properties instanceof PropertySet) ? (PropertySet<P>) properties : PropertySet.of(properties),
+					threadSafe);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.core.property.PropertyBox.Builder#invalidAllowed(boolean)
+		 */
+		@Override
+		public Builder invalidAllowed(boolean invalidAllowed) {
+			this.instance.setInvalidAllowed(invalidAllowed);
+			return this;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.core.property.PropertyBox.Builder#equalsHandler(com.holonplatform.core.objects.
+		 * EqualsHandler)
+		 */
+		@Override
+		public Builder equalsHandler(EqualsHandler<PropertyBox> equalsHandler) {
+			this.instance.setEqualsHandler(equalsHandler);
+			return this;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.core.property.PropertyBox.Builder#hashCodeProvider(com.holonplatform.core.objects.
+		 * HashCodeProvider)
+		 */
+		@Override
+		public Builder hashCodeProvider(HashCodeProvider<PropertyBox> hashCodeProvider) {
+			this.instance.setHashCodeProvider(hashCodeProvider);
+			return this;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.core.property.PropertyBox.Builder#set(com.holonplatform.core.property.Property,
+		 * java.lang.Object)
+		 */
+		@Override
+		public <T> Builder set(Property<T> property, T value) {
+			this.instance.setValue(property, value);
+			return this;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.core.property.PropertyBox.Builder#setIgnoreReadOnly(com.holonplatform.core.property.
+		 * Property, java.lang.Object)
+		 */
+		@Override
+		public <T> Builder setIgnoreReadOnly(Property<T> property, T value) {
+			this.instance.setValue(property, value, true);
+			return this;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see
+		 * com.holonplatform.core.property.PropertyBox.Builder#copyValues(com.holonplatform.core.property.PropertyBox)
+		 */
+		@SuppressWarnings("unchecked")
+		@Override
+		public Builder copyValues(PropertyBox source) {
+			ObjectUtils.argumentNotNull(source, "Source PropertyBox must be not null");
+			for (Property p : source) {
+				if (!p.isReadOnly() && this.instance.contains(p)) {
+					this.instance.setValue(p, source.getValue(p));
+				}
+			}
+			return this;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.core.property.PropertyBox.Builder#build()
+		 */
+		@Override
+		public PropertyBox build() {
+			return instance;
+		}
+
+	}
+
+}
@@ -17,7 +17,6 @@ package com.holonplatform.core.internal.property;
 
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -38,6 +37,10 @@ import com.holonplatform.core.property.PropertyRendererRegistry;
 
 /**
  * Default {@link PropertyRendererRegistry} implementation.
+ * <p>
+ * The renderer resolved for each rendering type and {@link Property} instance is cached, so that the registered
+ * conditions are evaluated only once for each property. The cache is invalidated when a renderer is registered.
+ * </p>
  *
  * @since 5.0.0
  */
@@ -91,6 +94,12 @@ public class DefaultPropertyRendererRegistry implements PropertyRendererRegistry
 	protected final ConcurrentMap<Class<?>, Map<Predicate, PropertyRenderer>> renderers = new ConcurrentHashMap<>(16,
 			0.9f, 1);
 
+	/**
+	 * Resolved renderers cache by rendering type, replaced when invalidated
+	 */
+	@SuppressWarnings("rawtypes")
+	private volatile ConcurrentMap<Class<?>, PropertyIdentityCache<Optional<PropertyRenderer>>> cache;
+
 	/**
 	 * Construct a new PropertyRendererRegistry
 	 * @param loadDefaults <code>true</code> to load default {@link PropertyRenderer}s from
@@ -112,6 +121,7 @@ public class DefaultPropertyRendererRegistry implements PropertyRendererRegistry
 	@SuppressWarnings("unchecked")
 	public DefaultPropertyRendererRegistry(boolean loadDefaults, ClassLoader classLoader) {
 		super();
+		invalidateCache();
 		if (loadDefaults) {
 			DefaultPropertyRenderers.getDefaultRenderers(classLoader).forEach(pr -> register(p -> true, pr));
 		}
@@ -128,8 +138,9 @@ public class DefaultPropertyRendererRegistry implements PropertyRendererRegistry
 		ObjectUtils.argumentNotNull(renderer, "PropertyRenderer must be not null");
 		ObjectUtils.argumentNotNull(renderer.getRenderType(), "PropertyRenderer rendering type must be not null");
 
-		renderers.putIfAbsent(renderer.getRenderType(), new HashMap<>(4));
-		renderers.get(renderer.getRenderType()).put(condition, renderer);
+		renderers.computeIfAbsent(renderer.getRenderType(), t -> new ConcurrentHashMap<>(4, 0.9f, 1)).put(condition,
+				renderer);
+		invalidateCache();
 
 		LOGGER.debug(() -> "DefaultPropertyRendererRegistry: registered renderer [" + renderer
 				+ "] bound to condition [" + condition + "]");
@@ -146,6 +157,31 @@ public class DefaultPropertyRendererRegistry implements PropertyRendererRegistry
 		ObjectUtils.argumentNotNull(property, "Property must be not null");
 		ObjectUtils.argumentNotNull(renderingType, "Rendering type must be not null");
 
+		final ConcurrentMap<Class<?>, PropertyIdentityCache<Optional<PropertyRenderer>>> typesCache = cache;
+		PropertyIdentityCache<Optional<PropertyRenderer>> renderersCache = typesCache.get(renderingType);
+		if (renderersCache == null) {
+			renderersCache = typesCache.computeIfAbsent(renderingType, t -> new PropertyIdentityCache<>());
+		}
+		final Optional<PropertyRenderer> cached = renderersCache.get(property);
+		if (cached != null) {
+			return (Optional) cached;
+		}
+
+		final Optional<PropertyRenderer> renderer = resolveRenderer(renderingType, property);
+		renderersCache.put(property, renderer);
+		return (Optional) renderer;
+	}
+
+	/**
+	 * Resolve the {@link PropertyRenderer} to use for given rendering type and property, evaluating the registered
+	 * conditions.
+	 * @param renderingType The rendering type
+	 * @param property The property
+	 * @return The renderer with the highest priority among the ones bound to a condition satisfied by the property,
+	 *         if any
+	 */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private Optional<PropertyRenderer> resolveRenderer(Class<?> renderingType, Property<?> property) {
 		LOGGER.debug(() -> "Get PropertyRenderer for property [" + property + "] and type [" + renderingType + "]");
 
 		final Map<Predicate, PropertyRenderer> renderersForType = renderers.getOrDefault(renderingType,
@@ -176,6 +212,13 @@ public class DefaultPropertyRendererRegistry implements PropertyRendererRegistry
 		return Optional.empty();
 	}
 
+	/**
+	 * Invalidate the resolved renderers cache.
+	 */
+	private void invalidateCache() {
+		cache = new ConcurrentHashMap<>(8, 0.9f, 1);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see java.lang.Object#toString()
@@ -36,6 +36,10 @@ import com.holonplatform.core.property.PropertyValuePresenterRegistry;
 
 /**
  * Default {@link PropertyValuePresenterRegistry} implementation.
+ * <p>
+ * The presenter resolved for each {@link Property} instance is cached, so that the registered conditions are evaluated
+ * only once for each property. The cache is invalidated when a presenter is registered.
+ * </p>
  *
  * @since 5.0.0
  */
@@ -88,6 +92,12 @@ public class DefaultPropertyValuePresenterRegistry implements PropertyValuePrese
 	@SuppressWarnings("rawtypes")
 	protected final ConcurrentMap<Predicate, PropertyValuePresenter> presenters = new ConcurrentHashMap<>(8, 0.9f, 1);
 
+	/**
+	 * Resolved presenters cache, replaced when invalidated
+	 */
+	@SuppressWarnings("rawtypes")
+	private volatile PropertyIdentityCache<Optional<PropertyValuePresenter>> cache;
+
 	/**
 	 * Construct a new PropertyValuePresenterRegistry
 	 * @param loadDefaults <code>true</code> to load default {@link PropertyValuePresenter}s from
@@ -109,6 +119,7 @@ public class DefaultPropertyValuePresenterRegistry implements PropertyValuePrese
 	@SuppressWarnings("unchecked")
 	public DefaultPropertyValuePresenterRegistry(boolean loadDefaults, ClassLoader classLoader) {
 		super();
+		invalidateCache();
 		if (loadDefaults) {
 			DefaultPropertyPresenters.getDefaultPresenters(classLoader).forEach(pr -> register(p -> true, pr));
 		}
@@ -127,6 +138,7 @@ public class DefaultPropertyValuePresenterRegistry implements PropertyValuePrese
 		PropertyValuePresenter<?> rp = presenters.putIfAbsent(condition, presenter);
 
 		if (rp == null) {
+			invalidateCache();
 			LOGGER.debug(() -> "DefaultPropertyValuePresenterRegistry: registered presenter [" + presenter
 					+ "] bound to condition [" + condition + "]");
 		}
@@ -142,6 +154,25 @@ public class DefaultPropertyValuePresenterRegistry implements PropertyValuePrese
 	public <T> Optional<PropertyValuePresenter<T>> getPresenter(Property<T> property) {
 		ObjectUtils.argumentNotNull(property, "Property must be not null");
 
+		final PropertyIdentityCache<Optional<PropertyValuePresenter>> presentersCache = cache;
+		final Optional<PropertyValuePresenter> cached = presentersCache.get(property);
+		if (cached != null) {
+			return (Optional) cached;
+		}
+
+		final Optional<PropertyValuePresenter> presenter = resolvePresenter(property);
+		presentersCache.put(property, presenter);
+		return (Optional) presenter;
+	}
+
+	/**
+	 * Resolve the {@link PropertyValuePresenter} to use for given property, evaluating the registered conditions.
+	 * @param property The property
+	 * @return The presenter with the highest priority among the ones bound to a condition satisfied by the property, if
+	 *         any
+	 */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private Optional<PropertyValuePresenter> resolvePresenter(Property<?> property) {
 		LOGGER.debug(() -> "Get PropertyValuePresenter for property [" + property + "]");
 
 		final LinkedList<PropertyValuePresenter> candidates = new LinkedList<>();
@@ -168,6 +199,13 @@ public class DefaultPropertyValuePresenterRegistry implements PropertyValuePrese
 		return Optional.empty();
 	}
 
+	/**
+	 * Invalidate the resolved presenters cache.
+	 */
+	private void invalidateCache() {
+		cache = new PropertyIdentityCache<>();
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see java.lang.Object#toString()
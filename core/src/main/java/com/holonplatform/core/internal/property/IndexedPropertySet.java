@@ -0,0 +1,412 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.core.internal.property;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import com.holonplatform.core.ParameterSet;
+import com.holonplatform.core.internal.DefaultParameterSet;
+import com.holonplatform.core.internal.MutableParameterSet;
+import com.holonplatform.core.internal.utils.ObjectUtils;
+import com.holonplatform.core.property.Property;
+import com.holonplatform.core.property.PropertySet;
+
+/**
+ * Immutable, array-backed {@link PropertySet} implementation.
+ * <p>
+ * Each property of the set is bound to a dense ordinal, i.e. its position in the set, and an identity and an hash based
+ * index are used to resolve the property ordinal, providing constant-time {@link #contains(Property)} and
+ * {@link #indexOf(Property)} operations.
+ * </p>
+ * <p>
+ * Property lookup relies on the property <code>equals</code> and <code>hashCode</code> consistency, as for any
+ * {@link java.util.Set}. The properties are kept as given, including any duplicate, and the set is an unmodifiable
+ * {@link List} of its properties, with the {@link List} <code>equals</code> and <code>hashCode</code> semantics.
+ * </p>
+ * 
+ * @param <P> Concrete type of the properties contained in the set
+ * 
+ * @since 5.2.0
+ */
+@SuppressWarnings("rawtypes")
+public class IndexedPropertySet<P extends Property> extends AbstractList<P> implements PropertySet<P>, Serializable {
+
+	private static final long serialVersionUID = -2317560744498745214L;
+
+	/**
+	 * Properties, in the set order
+	 */
+	private final Property[] properties;
+
+	/**
+	 * Property identity index
+	 */
+	private final Map<Property, Integer> identityIndex;
+
+	/**
+	 * Property equality index
+	 */
+	private final Map<Property, Integer> index;
+
+	/**
+	 * Identifiers
+	 */
+	private final Set<P> identifiers;
+
+	/**
+	 * Configuration
+	 */
+	private final ParameterSet configuration;
+
+	/**
+	 * Constructor.
+	 * @param properties The set properties, in the set order (not null). If a property is repeated, its first
+	 *        position is used as the property ordinal.
+	 * @param identifiers The identifier properties (may be null)
+	 * @param configuration The property set configuration (may be null)
+	 * @throws IllegalArgumentException If any of the properties is <code>null</code>
+	 */
+	public IndexedPropertySet(Iterable<? extends P> properties, Iterable<? extends P> identifiers,
+			ParameterSet configuration) {
+		super();
+		ObjectUtils.argumentNotNull(properties, "Properties must be not null");
+		final List<P> values = new ArrayList<>();
+		for (P property : properties) {
+			ObjectUtils.argumentNotNull(property, "Property must be not null");
+			values.add(property);
+		}
+		this.properties = values.toArray(new Property[values.size()]);
+		this.identityIndex = new IdentityHashMap<>(this.properties.length);
+		this.index = new HashMap<>(Math.max(4, (int) (this.properties.length / 0.75f) + 1));
+		for (int i = 0; i < this.properties.length; i++) {
+			final Integer ordinal = Integer.valueOf(i);
+			this.identityIndex.putIfAbsent(this.properties[i], ordinal);
+			this.index.putIfAbsent(this.properties[i], ordinal);
+		}
+		if (identifiers != null) {
+			final Set<P> ids = new LinkedHashSet<>(4);
+			identifiers.forEach(i -> {
+				if (i != null) {
+					ids.add(i);
+				}
+			});
+			this.identifiers = ids.isEmpty() ? Collections.emptySet() : Collections.unmodifiableSet(ids);
+		} else {
+			this.identifiers = Collections.emptySet();
+		}
+		this.configuration = (configuration != null) ? configuration : ParameterSet.empty();
+	}
+
+	/**
+	 * Constructor.
+	 * @param properties The set properties, in the set order (not null)
+	 * @throws IllegalArgumentException If any of the properties is <code>null</code>
+	 */
+	public IndexedPropertySet(Iterable<? extends P> properties) {
+		this(properties, null, null);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.core.property.PropertySet#size()
+	 */
+	@Override
+	public int size() {
+		return properties.length;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.core.property.PropertySet#contains(com.holonplatform.core.property.Property)
+	 */
+	@Override
+	public boolean contains(Property property) {
+		return indexOf(property) > -1;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.AbstractCollection#contains(java.lang.Object)
+	 */
+	@Override
+	public boolean contains(Object o) {
+		return (o instanceof Property) && contains((Property) o);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.core.property.PropertySet#indexOf(com.holonplatform.core.property.Property)
+	 */
+	@Override
+	public int indexOf(Property property) {
+		if (property == null) {
+			return -1;
+		}
+		Integer ordinal = identityIndex.get(property);
+		if (ordinal == null) {
+			ordinal = index.get(property);
+		}
+		return (ordinal != null) ? ordinal.intValue() : -1;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.AbstractList#indexOf(java.lang.Object)
+	 */
+	@Override
+	public int indexOf(Object o) {
+		return (o instanceof Property) ? indexOf((Property) o) : -1;
+	}
+
+	/**
+	 * Get the property bound to given ordinal.
+	 * @param index The property ordinal
+	 * @return The property at given position in the set
+	 * @throws IndexOutOfBoundsException If the index is out of range
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	public P get(int index) {
+		return (P) properties[index];
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Iterable#iterator()
+	 */
+	@Override
+	public Iterator<P> iterator() {
+		return new PropertyIterator();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.core.property.PropertySet#stream()
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	public Stream<P> stream() {
+		return (Stream<P>) Arrays.stream(properties);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.core.property.PropertySet#asList()
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	public List<P> asList() {
+		return (List<P>) Collections.unmodifiableList(Arrays.asList(properties));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.core.property.PropertySet#getIdentifiers()
+	 */
+	@Override
+	public Set<P> getIdentifiers() {
+		return identifiers;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.core.property.PropertySet#getConfiguration()
+	 */
+	@Override
+	public ParameterSet getConfiguration() {
+		return configuration;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		final StringBuilder sb = new StringBuilder();
+		sb.append("PropertySet [");
+		sb.append(Arrays.toString(properties));
+		if (!identifiers.isEmpty()) {
+			sb.append(" / Identifiers: {");
+			sb.append(identifiers.toString());
+			sb.append("}");
+		}
+		sb.append("]");
+		return sb.toString();
+	}
+
+	/**
+	 * Read-only properties iterator.
+	 */
+	private final class PropertyIterator implements Iterator<P> {
+
+		private int cursor = 0;
+
+		@Override
+		public boolean hasNext() {
+			return cursor < properties.length;
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public P next() {
+			if (cursor >= properties.length) {
+				throw new NoSuchElementException();
+			}
+			return (P) properties[cursor++];
+		}
+
+	}
+
+	// Builder
+
+	/**
+	 * {@link IndexedPropertySet} builder.
+	 * @param <P> Property type
+	 */
+	public static class IndexedBuilder<P extends Property> implements Builder<P> {
+
+		/**
+		 * Properties
+		 */
+		private final Set<P> properties = new LinkedHashSet<>();
+
+		/**
+		 * Identifiers
+		 */
+		private Set<P> identifiers;
+
+		/**
+		 * Configuration
+		 */
+		private MutableParameterSet configuration;
+
+		/**
+		 * Constructor
+		 */
+		public IndexedBuilder() {
+			super();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.core.property.PropertySet.Builder#add(com.holonplatform.core.property.Property)
+		 */
+		@Override
+		public <PT extends P> Builder<P> add(PT property) {
+			ObjectUtils.argumentNotNull(property, "Property must be not null");
+			this.properties.add(property);
+			return this;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.core.property.PropertySet.Builder#add(java.lang.Iterable)
+		 */
+		@Override
+		public <PT extends P> Builder<P> add(Iterable<PT> properties) {
+			ObjectUtils.argumentNotNull(properties, "Properties must be not null");
+			properties.forEach(p -> this.properties.add(p));
+			return this;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.core.property.PropertySet.Builder#remove(com.holonplatform.core.property.Property)
+		 */
+		@Override
+		public <PT extends P> Builder<P> remove(PT property) {
+			ObjectUtils.argumentNotNull(property, "Property must be not null");
+			this.properties.remove(property);
+			return this;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.core.property.PropertySet.Builder#remove(java.lang.Iterable)
+		 */
+		@Override
+		public <PT extends P> Builder<P> remove(Iterable<PT> properties) {
+			ObjectUtils.argumentNotNull(properties, "Properties must be not null");
+			properties.forEach(p -> this.properties.remove(p));
+			return this;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.core.property.PropertySet.Builder#identifier(com.holonplatform.core.property.Property)
+		 */
+		@Override
+		public <PT extends P> Builder<P> identifier(PT property) {
+			ObjectUtils.argumentNotNull(property, "Identifier property must be not null");
+			if (this.identifiers == null) {
+				this.identifiers = new LinkedHashSet<>(4);
+			}
+			this.identifiers.add(property);
+			return this;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.core.property.PropertySet.Builder#identifiers(java.lang.Iterable)
+		 */
+		@Override
+		public <PT extends P> Builder<P> identifiers(Iterable<PT> properties) {
+			ObjectUtils.argumentNotNull(properties, "Identifier properties must be not null");
+			this.identifiers = new LinkedHashSet<>(4);
+			properties.forEach(p -> this.identifiers.add(p));
+			return this;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.core.property.PropertySet.Builder#configuration(java.lang.String, java.lang.Object)
+		 */
+		@Override
+		public Builder<P> configuration(String name, Object value) {
+			ObjectUtils.argumentNotNull(name, "Configuration parameter name must be not null");
+			if (this.configuration == null) {
+				this.configuration = new DefaultParameterSet();
+			}
+			this.configuration.addParameter(name, value);
+			return this;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.core.property.PropertySet.Builder#build()
+		 */
+		@Override
+		public PropertySet<P> build() {
+			return new IndexedPropertySet<>(properties, identifiers, configuration);
+		}
+
+	}
+
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.core.internal.property;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.holonplatform.core.property.Property;
+
+/**
+ * A bounded, lock-free cache of values bound to {@link Property} instances, using the property <em>identity</em> as
+ * key.
+ * <p>
+ * The identity is used instead of the {@link Property} <code>equals</code> and <code>hashCode</code> methods, since
+ * two equal properties may provide a different configuration, and to keep the lookup allocation-free. The cache is
+ * backed by an open addressing table.
+ * </p>
+ * <p>
+ * The properties are weakly referenced, so the cache does not prevent dynamically created properties from being
+ * garbage collected: the slots of the collected properties are reused by new entries. When the maximum size is
+ * reached, the whole table is discarded and the cache starts again empty.
+ * </p>
+ * 
+ * @param <V> Cached value type
+ * 
+ * @since 5.2.0
+ */
+final class PropertyIdentityCache<V> {
+
+	/**
+	 * Default cache maximum size
+	 */
+	static final int DEFAULT_MAX_SIZE = 1024;
+
+	/**
+	 * Current cache table
+	 */
+	private final AtomicReference<Table<V>> table;
+
+	/**
+	 * Table capacity
+	 */
+	private final int capacity;
+
+	/**
+	 * Cache maximum size
+	 */
+	private final int maxSize;
+
+	/**
+	 * Constructor using the default maximum size.
+	 */
+	PropertyIdentityCache() {
+		this(DEFAULT_MAX_SIZE);
+	}
+
+	/**
+	 * Constructor.
+	 * @param maxSize Cache maximum size, must be greater than 0
+	 */
+	PropertyIdentityCache(int maxSize) {
+		super();
+		if (maxSize <= 0) {
+			throw new IllegalArgumentException("The cache max size must be greater than 0");
+		}
+		// keep the load factor under 0.5
+		int c = 2;
+		while (c < maxSize * 2) {
+			c <<= 1;
+		}
+		this.capacity = c;
+		this.maxSize = maxSize;
+		this.table = new AtomicReference<>(new Table<>(c));
+	}
+
+	/**
+	 * Get the value bound to given property.
+	 * @param property The property
+	 * @return The cached value, or <code>null</code> if not available
+	 */
+	V get(Property<?> property) {
+		final Table<V> t = table.get();
+		final int mask = capacity - 1;
+		int index = index(property);
+		for (int i = 0; i < capacity; i++) {
+			final Entry<V> entry = t.entries.get(index);
+			if (entry == null) {
+				return null;
+			}
+			if (entry.get() == property) {
+				return entry.value;
+			}
+			index = (index + 1) & mask;
+		}
+		return null;
+	}
+
+	/**
+	 * Bind given value to given property, if a value is not already bound to the property. If the cache maximum size
+	 * was reached, the cached values are discarded before binding the new value.
+	 * @param property The property
+	 * @param value The value (not null)
+	 */
+	void put(Property<?> property, V value) {
+		Table<V> t = table.get();
+		if (t.size.get() >= maxSize) {
+			final Table<V> empty = new Table<>(capacity);
+			t = table.compareAndSet(t, empty) ? empty : table.get();
+		}
+		final int mask = capacity - 1;
+		int index = index(property);
+		for (int i = 0; i < capacity; i++) {
+			final Entry<V> entry = t.entries.get(index);
+			if (entry == null) {
+				if (t.entries.compareAndSet(index, null, new Entry<>(property, value))) {
+					t.size.incrementAndGet();
+					return;
+				}
+				// slot taken concurrently, check it again
+				i--;
+				continue;
+			}
+			final Property<?> key = entry.get();
+			if (key == property) {
+				return;
+			}
+			if (key == null && t.entries.compareAndSet(index, entry, new Entry<>(property, value))) {
+				// reuse the slot of a garbage collected property
+				return;
+			}
+			index = (index + 1) & mask;
+		}
+	}
+
+	/**
+	 * Get the number of cached values, including the ones bound to garbage collected properties which slot was not
+	 * reused yet.
+	 * @return The cache size
+	 */
+	int size() {
+		return table.get().size.get();
+	}
+
+	private int index(Property<?> property) {
+		final int h = System.identityHashCode(property);
+		return (h ^ (h >>> 16)) & (capacity - 1);
+	}
+
+	/**
+	 * Cache table.
+	 * @param <V> Value type
+	 */
+	private static final class Table<V> {
+
+		final AtomicReferenceArray<Entry<V>> entries;
+		final AtomicInteger size = new AtomicInteger(0);
+
+		Table(int capacity) {
+			super();
+			this.entries = new AtomicReferenceArray<>(capacity);
+		}
+
+	}
+
+	/**
+	 * Cache entry, which weakly references the property.
+	 * @param <V> Value type
+	 */
+	private static final class Entry<V> extends WeakReference<Property<?>> {
+
+		final V value;
+
+		Entry(Property<?> property, V value) {
+			super(property);
+			this.value = value;
+		}
+
+	}
+
+}
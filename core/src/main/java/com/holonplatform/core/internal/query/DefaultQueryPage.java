@@ -0,0 +1,94 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.core.internal.query;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import com.holonplatform.core.internal.utils.ObjectUtils;
+import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.core.query.QueryPage;
+
+/**
+ * Default {@link QueryPage} implementation.
+ * 
+ * @since 5.2.0
+ */
+public class DefaultQueryPage implements QueryPage {
+
+	private static final long serialVersionUID = -3101850431658736315L;
+
+	/*
+	 * Page rows
+	 */
+	private final List<PropertyBox> rows;
+
+	/*
+	 * Whether a next page is available
+	 */
+	private final boolean hasNext;
+
+	/**
+	 * Constructor.
+	 * @param results The query results, fetched using a limit of <code>pageSize + 1</code> (not null)
+	 * @param pageSize The page size
+	 */
+	public DefaultQueryPage(List<PropertyBox> results, int pageSize) {
+		super();
+		ObjectUtils.argumentNotNull(results, "Query results must be not null");
+		this.hasNext = pageSize > 0 && results.size() > pageSize;
+		this.rows = Collections.unmodifiableList(hasNext ? new ArrayList<>(results.subList(0, pageSize)) : results);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.core.query.QueryPage#getRows()
+	 */
+	@Override
+	public List<PropertyBox> getRows() {
+		return rows;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.core.query.QueryPage#hasNext()
+	 */
+	@Override
+	public boolean hasNext() {
+		return hasNext;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.core.query.QueryPage#getNextCursor()
+	 */
+	@Override
+	public Optional<PropertyBox> getNextCursor() {
+		return hasNext ? Optional.of(rows.get(rows.size() - 1)) : Optional.empty();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "DefaultQueryPage [rows=" + rows.size() + ", hasNext=" + hasNext + "]";
+	}
+
+}
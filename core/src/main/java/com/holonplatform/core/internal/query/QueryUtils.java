@@ -25,11 +25,18 @@ import java.util.function.Function;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
+import com.holonplatform.core.Expression.InvalidExpressionException;
+import com.holonplatform.core.Path;
 import com.holonplatform.core.internal.utils.ObjectUtils;
+import com.holonplatform.core.property.PathPropertySetAdapter;
+import com.holonplatform.core.property.PropertyBox;
 import com.holonplatform.core.query.Query;
+import com.holonplatform.core.query.QueryFilter;
 import com.holonplatform.core.query.QueryResults.QueryNonUniqueResultException;
 import com.holonplatform.core.query.QuerySort;
 import com.holonplatform.core.query.QuerySort.CompositeQuerySort;
+import com.holonplatform.core.query.QuerySort.PathQuerySort;
+import com.holonplatform.core.query.QuerySort.SortDirection;
 
 /**
  * Utility class for {@link Query} management.
@@ -75,6 +82,52 @@ public final class QueryUtils implements Serializable {
 		return flatten;
 	}
 
+	/**
+	 * Build the keyset pagination filter to select the rows which follow given row, according to given sort.
+	 * <p>
+	 * For a sort on the paths <code>p1, p2, ..., pn</code>, the filter is expanded into the disjunction of the
+	 * conditions <code>p1 &gt; v1</code>, <code>p1 = v1 AND p2 &gt; v2</code>, ..., <code>p1 = v1 AND ... AND pn
+	 * &gt; vn</code>, where the <code>&lt;</code> operator is used in place of <code>&gt;</code> for the descending
+	 * sorts.
+	 * </p>
+	 * @param sort The query sort (not null)
+	 * @param row The row from which to seek, which must provide a not <code>null</code> value for each sort path (not
+	 *        null)
+	 * @return The keyset pagination filter
+	 * @throws InvalidExpressionException If the sort contains a {@link QuerySort} which is not bound to a path, or if
+	 *         given row does not provide a value for a sort path
+	 */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	public static QueryFilter getSeekFilter(QuerySort sort, PropertyBox row) throws InvalidExpressionException {
+		ObjectUtils.argumentNotNull(sort, "QuerySort must be not null");
+		ObjectUtils.argumentNotNull(row, "Row must be not null");
+		final PathPropertySetAdapter adapter = PathPropertySetAdapter.create(row);
+		QueryFilter filter = null;
+		QueryFilter equals = null;
+		for (QuerySort querySort : flattenQuerySort(sort)) {
+			if (!(querySort instanceof PathQuerySort)) {
+				throw new InvalidExpressionException(
+						"Keyset pagination is supported only for path sorts, got [" + querySort + "]");
+			}
+			final Path<?> path = ((PathQuerySort<?>) querySort).getPath();
+			final Object value = adapter.getProperty(path).map(p -> (Object) row.getValue(p)).orElse(null);
+			if (value == null) {
+				throw new InvalidExpressionException("Missing row value for the sort path [" + path + "]");
+			}
+			final QueryFilter seek = (((PathQuerySort<?>) querySort).getDirection() == SortDirection.DESCENDING)
+					? QueryFilter.lt((Path) path, value)
+					: QueryFilter.gt((Path) path, value);
+			final QueryFilter condition = (equals == null) ? seek : equals.and(seek);
+			filter = (filter == null) ? condition : filter.or(condition);
+			final QueryFilter equal = QueryFilter.eq((Path) path, value);
+			equals = (equals == null) ? equal : equals.and(equal);
+		}
+		if (filter == null) {
+			throw new InvalidExpressionException("Keyset pagination requires a query sort");
+		}
+		return filter;
+	}
+
 	/**
 	 * Turn a query results {@link Iterable} into a {@link Stream}.
 	 * @param <T> Results type
@@ -208,7 +208,26 @@ public final class FormatUtils implements Serializable {
 	 */
 	public static boolean isValidEmailAddress(CharSequence email) {
 		ObjectUtils.argumentNotNull(email, "Email must be not null");
-		return Pattern.matches(EMAIL_RFC822_REGEXP_PATTERN, email);
+		return getEmailPattern().matcher(email).matches();
+	}
+
+	/**
+	 * Get the compiled {@link #EMAIL_RFC822_REGEXP_PATTERN} pattern. The pattern is compiled only once, at first
+	 * invocation.
+	 * @return The RFC822 e-mail address pattern
+	 * @since 5.2.0
+	 */
+	public static Pattern getEmailPattern() {
+		return EmailPatternHolder.PATTERN;
+	}
+
+	/**
+	 * Lazy holder of the compiled e-mail address pattern.
+	 */
+	private static final class EmailPatternHolder {
+
+		static final Pattern PATTERN = Pattern.compile(EMAIL_RFC822_REGEXP_PATTERN);
+
 	}
 
 }
@@ -23,6 +23,9 @@ import com.holonplatform.core.Context;
 import com.holonplatform.core.Validator;
 import com.holonplatform.core.Validator.Validatable;
 import com.holonplatform.core.Validator.ValidationException;
+import com.holonplatform.core.Validator.ValidationResult;
+import com.holonplatform.core.internal.DefaultValidationResult;
+import com.holonplatform.core.internal.property.ArrayPropertyBox;
 import com.holonplatform.core.internal.property.DefaultPropertyBox;
 import com.holonplatform.core.internal.utils.ObjectUtils;
 import com.holonplatform.core.objects.EqualsHandler;
@@ -146,6 +149,26 @@ public interface PropertyBox extends PropertySet<Property> {
 	 */
 	void validate() throws ValidationException;
 
+	/**
+	 * Checks the validity of the value of each property in the box against every registered property validator, if any,
+	 * collecting all the validation failures in a {@link ValidationResult} instead of throwing a
+	 * {@link ValidationException}.
+	 * <p>
+	 * Any {@link ValidationException} created during the validation does not fill in its stack trace, so this method
+	 * is suitable for high volume validations.
+	 * </p>
+	 * @return The validation result
+	 * @since 5.2.0
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	default ValidationResult validateAll() {
+		final DefaultValidationResult result = new DefaultValidationResult();
+		for (Property property : this) {
+			result.addFailures(property.validateAll(getValue(property)));
+		}
+		return result;
+	}
+
 	// Helpers
 
 	/**
@@ -256,6 +279,43 @@ public interface PropertyBox extends PropertySet<Property> {
 		return new DefaultPropertyBox.PropertyBoxBuilder(properties);
 	}
 
+	/**
+	 * Builder to create and populate a compact PropertyBox, which stores the property values in an array rather than
+	 * in a map, requiring less memory and providing faster property value access.
+	 * <p>
+	 * The PropertyBox property value access is not thread-safe: use {@link #compactBuilder(Iterable, boolean)} to
+	 * obtain a thread-safe instance.
+	 * </p>
+	 * <p>
+	 * If given <code>properties</code> are provided as a {@link PropertySet} instance, any property set configuration,
+	 * such as identifier properties, is inherited by the {@link PropertyBox} property set. When a large number of
+	 * PropertyBox instances are created using the same property set, a {@link PropertySet} obtained through the
+	 * {@link PropertySet#builder()} or {@link PropertySet#of(Property...)} methods should be used, so that the property
+	 * set index is shared among the PropertyBox instances.
+	 * </p>
+	 * @param <P> Actual property type
+	 * @param properties Set of properties of the PropertyBox to create (not null)
+	 * @return A new {@link PropertyBox} builder
+	 * @since 5.2.0
+	 */
+	static <P extends Property> Builder compactBuilder(Iterable<P> properties) {
+		return compactBuilder(properties, false);
+	}
+
+	/**
+	 * Builder to create and populate a compact PropertyBox, which stores the property values in an array rather than
+	 * in a map, requiring less memory and providing faster property value access.
+	 * @param <P> Actual property type
+	 * @param properties Set of properties of the PropertyBox to create (not null)
+	 * @param threadSafe Whether the PropertyBox property value access should be thread-safe
+	 * @return A new {@link PropertyBox} builder
+	 * @see #compactBuilder(Iterable)
+	 * @since 5.2.0
+	 */
+	static <P extends Property> Builder compactBuilder(Iterable<P> properties, boolean threadSafe) {
+		return new ArrayPropertyBox.ArrayPropertyBoxBuilder(properties, threadSafe);
+	}
+
 	/**
 	 * Represents a {@link Property} value.
 	 * @param <T> Value type
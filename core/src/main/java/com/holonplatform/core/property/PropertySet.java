@@ -15,6 +15,7 @@
  */
 package com.holonplatform.core.property;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -26,7 +27,7 @@ import com.holonplatform.core.Context;
 import com.holonplatform.core.HasConfiguration;
 import com.holonplatform.core.ParameterSet;
 import com.holonplatform.core.config.ConfigProperty;
-import com.holonplatform.core.internal.property.DefaultPropertySet;
+import com.holonplatform.core.internal.property.IndexedPropertySet;
 import com.holonplatform.core.internal.utils.ConversionUtils;
 import com.holonplatform.core.internal.utils.ObjectUtils;
 
@@ -67,6 +68,26 @@ public interface PropertySet<P extends Property> extends Iterable<P>, HasConfigu
 	 */
 	boolean contains(Property property);
 
+	/**
+	 * Get the position of given <code>property</code> in this set, i.e. the property ordinal. If the given
+	 * <code>property</code> is <code>null</code> or it is not part of this set, returns <code>-1</code>.
+	 * @param property Property for which to obtain the position
+	 * @return The 0-based property position in this set, or <code>-1</code> if this set does not contain the property
+	 * @since 5.2.0
+	 */
+	default int indexOf(Property property) {
+		if (property != null) {
+			int index = 0;
+			for (P p : this) {
+				if (property.equals(p)) {
+					return index;
+				}
+				index++;
+			}
+		}
+		return -1;
+	}
+
 	/**
 	 * Returns a sequential {@code Stream} of the {@link Property}s of this set.
 	 * @return Properties stream
@@ -141,7 +162,7 @@ public interface PropertySet<P extends Property> extends Iterable<P>, HasConfigu
 	 * @return A new {@link PropertySet} builder
 	 */
 	static Builder<Property<?>> builder() {
-		return new DefaultPropertySet.DefaultBuilder<>();
+		return new IndexedPropertySet.IndexedBuilder<>();
 	}
 
 	/**
@@ -153,7 +174,7 @@ public interface PropertySet<P extends Property> extends Iterable<P>, HasConfigu
 	 */
 	static <P extends Property> Builder<P> builder(Class<? extends P> propertyType) {
 		ObjectUtils.argumentNotNull(propertyType, "Property type must be not null");
-		return new DefaultPropertySet.DefaultBuilder<>();
+		return new IndexedPropertySet.IndexedBuilder<>();
 	}
 
 	/**
@@ -175,24 +196,28 @@ public interface PropertySet<P extends Property> extends Iterable<P>, HasConfigu
 	}
 
 	/**
-	 * Create a new PropertySet containing given <code>properties</code>.
+	 * Create a new PropertySet containing given <code>properties</code>, in the given order and including any
+	 * duplicate.
 	 * @param <P> Type of the property managed by the property set
 	 * @param properties Properties of the set
 	 * @return PropertySet instance
+	 * @throws IllegalArgumentException If any of the properties is <code>null</code>
 	 */
 	@SafeVarargs
 	static <P extends Property> PropertySet<P> of(P... properties) {
-		return new DefaultPropertySet<>(properties);
+		return new IndexedPropertySet<>((properties != null) ? Arrays.asList(properties) : Collections.emptyList());
 	}
 
 	/**
-	 * Create a new PropertySet containing all given <code>properties</code> {@link Iterable} elements.
+	 * Create a new PropertySet containing all given <code>properties</code> {@link Iterable} elements, in the
+	 * iteration order and including any duplicate.
 	 * @param <P> Type of the property managed by the property set
 	 * @param properties Properties of the set
 	 * @return PropertySet instance
+	 * @throws IllegalArgumentException If any of the properties is <code>null</code>
 	 */
 	static <P extends Property> PropertySet<P> of(Iterable<P> properties) {
-		return new DefaultPropertySet<>(properties);
+		return new IndexedPropertySet<>((properties != null) ? properties : Collections.emptyList());
 	}
 
 	/**
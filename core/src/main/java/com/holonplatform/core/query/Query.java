@@ -17,6 +17,10 @@ package com.holonplatform.core.query;
 
 import com.holonplatform.core.datastore.Datastore;
 import com.holonplatform.core.datastore.DatastoreCommodity;
+import com.holonplatform.core.exceptions.DataAccessException;
+import com.holonplatform.core.property.Property;
+import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.core.property.PropertySet;
 
 /**
  * Represents a <em>query</em>, which can be used to configure and execute a query on the data managed by a
@@ -35,4 +39,42 @@ import com.holonplatform.core.datastore.DatastoreCommodity;
  */
 public interface Query extends QueryBuilder<Query>, QueryResults, DatastoreCommodity {
 
+	/**
+	 * Execute the query and get a {@link QueryPage} of at most <code>pageSize</code> results as {@link PropertyBox},
+	 * using given <code>properties</code> as projection.
+	 * <p>
+	 * The next page can be obtained using the {@link QueryPage#getNextCursor()} row as
+	 * {@link #seekAfter(PropertyBox)} argument. For this reason, the projection properties must include the query
+	 * sort paths.
+	 * </p>
+	 * @param <P> Property type
+	 * @param pageSize The page size, must be greater than <code>0</code>
+	 * @param properties Property set to use as projection (not null)
+	 * @return The query results page
+	 * @throws DataAccessException Error in query execution
+	 * @since 5.2.0
+	 */
+	@SuppressWarnings("rawtypes")
+	default <P extends Property> QueryPage page(int pageSize, Iterable<P> properties) {
+		if (pageSize <= 0) {
+			throw new IllegalArgumentException("Page size must be greater than 0");
+		}
+		return QueryPage.create(limit(pageSize + 1).list(properties), pageSize);
+	}
+
+	/**
+	 * Execute the query and get a {@link QueryPage} of at most <code>pageSize</code> results as {@link PropertyBox},
+	 * using given <code>properties</code> as projection.
+	 * @param pageSize The page size, must be greater than <code>0</code>
+	 * @param properties Property set to use as projection (not null)
+	 * @return The query results page
+	 * @throws DataAccessException Error in query execution
+	 * @since 5.2.0
+	 * @see #page(int, Iterable)
+	 */
+	@SuppressWarnings("rawtypes")
+	default QueryPage page(int pageSize, Property... properties) {
+		return page(pageSize, PropertySet.of(properties));
+	}
+
 }
@@ -15,11 +15,15 @@
  */
 package com.holonplatform.core.query;
 
+import com.holonplatform.core.Expression.InvalidExpressionException;
 import com.holonplatform.core.ExpressionResolver;
 import com.holonplatform.core.ExpressionResolver.ExpressionResolverBuilder;
 import com.holonplatform.core.config.ConfigProperty;
 import com.holonplatform.core.datastore.DataTarget;
 import com.holonplatform.core.datastore.DataTarget.DataTargetSupport;
+import com.holonplatform.core.internal.query.QueryUtils;
+import com.holonplatform.core.internal.utils.ObjectUtils;
+import com.holonplatform.core.property.PropertyBox;
 import com.holonplatform.core.query.QueryAggregation.QueryAggregationSupport;
 import com.holonplatform.core.query.QueryFilter.QueryFilterSupport;
 import com.holonplatform.core.query.QuerySort.QuerySortSupport;
@@ -65,6 +69,28 @@ public interface QueryBuilder<Q extends QueryBuilder<Q>> extends QueryFilterSupp
 	 */
 	Q restrict(int limit, int offset);
 
+	/**
+	 * Configure the query to return only the results which follow given row, according to the current query
+	 * {@link QuerySort} (<em>keyset</em> pagination).
+	 * <p>
+	 * Unlike the offset based paging, the keyset pagination does not require the persistence store to scan and skip
+	 * the rows of the previous pages, so each page can be fetched at the same cost. The query sort is expanded into a
+	 * composite {@link QueryFilter} using the row values of the sort paths, so the query sort must be configured
+	 * before invoking this method and given row must provide a not <code>null</code> value for each sort path. To
+	 * obtain a consistent paging, the query sort should include a unique path, such as the identifier property.
+	 * </p>
+	 * @param lastRow The last row of the previous page (not null)
+	 * @return this
+	 * @throws InvalidExpressionException If the query sort is missing or cannot be used for keyset pagination
+	 * @since 5.2.0
+	 * @see Query#page(int, Iterable)
+	 */
+	default Q seekAfter(PropertyBox lastRow) {
+		ObjectUtils.argumentNotNull(lastRow, "Last row must be not null");
+		return filter(QueryUtils.getSeekFilter(getQueryConfiguration().getSort().orElseThrow(
+				() -> new InvalidExpressionException("Keyset pagination requires a query sort")), lastRow));
+	}
+
 	/**
 	 * Add a generic parameter to query
 	 * @param name Parameter name
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.core.query;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Optional;
+
+import com.holonplatform.core.internal.query.DefaultQueryPage;
+import com.holonplatform.core.property.PropertyBox;
+
+/**
+ * A page of query results, which provides the <em>cursor</em> to fetch the next page using the keyset pagination.
+ * 
+ * @since 5.2.0
+ * 
+ * @see QueryBuilder#seekAfter(PropertyBox)
+ */
+public interface QueryPage extends Serializable {
+
+	/**
+	 * Get the page rows.
+	 * @return The page rows, an empty List if none
+	 */
+	List<PropertyBox> getRows();
+
+	/**
+	 * Get whether a next page is available.
+	 * @return <code>true</code> if a next page is available, <code>false</code> otherwise
+	 */
+	boolean hasNext();
+
+	/**
+	 * Get the cursor to fetch the next page, i.e. the last row of this page, if a next page is available. The cursor
+	 * is intended to be used with {@link QueryBuilder#seekAfter(PropertyBox)}.
+	 * @return Optional next page cursor, empty if no next page is available
+	 */
+	Optional<PropertyBox> getNextCursor();
+
+	/**
+	 * Create a new {@link QueryPage} using given query results, fetched using a limit of <code>pageSize + 1</code>.
+	 * @param results The query results (not null)
+	 * @param pageSize The page size
+	 * @return A new {@link QueryPage}
+	 */
+	static QueryPage create(List<PropertyBox> results, int pageSize) {
+		return new DefaultQueryPage(results, pageSize);
+	}
+
+}
@@ -22,17 +22,26 @@ import static org.junit.Assert.assertTrue;
 
 import java.time.LocalDate;
 import java.time.Month;
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.junit.Test;
 
 import com.holonplatform.core.DataMappable;
 import com.holonplatform.core.beans.BeanIntrospector;
 import com.holonplatform.core.beans.BeanPropertySet;
+import com.holonplatform.core.internal.beans.AbstractBeanProperty;
+import com.holonplatform.core.internal.beans.DefaultBeanIntrospector;
+import com.holonplatform.core.internal.utils.TestUtils;
 import com.holonplatform.core.property.BooleanProperty;
 import com.holonplatform.core.property.NumericProperty;
 import com.holonplatform.core.property.PathProperty;
+import com.holonplatform.core.property.Property.PropertyWriteException;
 import com.holonplatform.core.property.PropertyBox;
 import com.holonplatform.core.property.StringProperty;
 import com.holonplatform.core.property.TemporalProperty;
@@ -132,6 +141,61 @@ public class TestBeanIntrospector {
 
 	}
 
+	@Test
+	public void testPropertyAccessors() {
+
+		BeanPropertySet<TestBeanPropertyBean> set = BeanIntrospector.get().getPropertySet(TestBeanPropertyBean.class);
+
+		AbstractBeanProperty<?> property = (AbstractBeanProperty<?>) set.property("lng");
+		assertTrue(property.getAccessor() == property.getAccessor());
+
+		TestBeanPropertyBean instance = new TestBeanPropertyBean();
+
+		set.write("lng", Integer.valueOf(3), instance);
+		assertEquals(3L, instance.getLng());
+		set.write("lng", null, instance);
+		assertEquals(0L, instance.getLng());
+		set.write("numbool", null, instance);
+		assertFalse(instance.isNumbool());
+
+		TestUtils.expectedException(PropertyWriteException.class, () -> set.write("name", Integer.valueOf(1), instance));
+
+		BeanPropertySet<NotPublicBean> nset = BeanIntrospector.get().getPropertySet(NotPublicBean.class);
+		NotPublicBean npb = new NotPublicBean();
+		nset.write("code", "c1", npb);
+		nset.write("value", 5, npb);
+		assertEquals("c1", npb.getCode());
+		assertEquals("c1", nset.read("code", npb));
+		assertEquals(Integer.valueOf(5), nset.read("value", npb));
+	}
+
+	@Test
+	public void testConcurrentIntrospection() throws Exception {
+
+		final BeanIntrospector introspector = new DefaultBeanIntrospector(TestBeanIntrospector.class.getClassLoader());
+
+		final ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			final List<Future<BeanPropertySet<TestBeanPropertyBean>>> results = new ArrayList<>();
+			for (int i = 0; i < 16; i++) {
+				results.add(executor.submit(() -> introspector.getPropertySet(TestBeanPropertyBean.class)));
+			}
+			final BeanPropertySet<TestBeanPropertyBean> set = results.get(0).get();
+			assertNotNull(set);
+			for (Future<BeanPropertySet<TestBeanPropertyBean>> result : results) {
+				assertTrue(set == result.get());
+			}
+		} finally {
+			executor.shutdown();
+		}
+
+		assertEquals(1, ((DefaultBeanIntrospector) introspector).getCacheSize());
+		introspector.clearCache();
+		assertEquals(0, ((DefaultBeanIntrospector) introspector).getCacheSize());
+		assertNotNull(introspector.getPropertySet(TestBeanPropertyBean.class));
+		assertEquals(1, ((DefaultBeanIntrospector) introspector).getCacheSize());
+	}
+
 	@Test
 	public void testPropertyBox() {
 
@@ -256,4 +320,27 @@ public class TestBeanIntrospector {
 		assertEquals("path3", p3.getConfiguration().getParameter(DataMappable.PATH, null));
 	}
 
+	static class NotPublicBean {
+
+		private String code;
+		private int value;
+
+		public String getCode() {
+			return code;
+		}
+
+		public void setCode(String code) {
+			this.code = code;
+		}
+
+		public int getValue() {
+			return value;
+		}
+
+		public void setValue(int value) {
+			this.value = value;
+		}
+
+	}
+
 }
@@ -22,7 +22,10 @@ import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.Callable;
@@ -30,6 +33,7 @@ import java.util.concurrent.Callable;
 import org.junit.Test;
 
 import com.holonplatform.core.beans.BeanConfigProperties;
+import com.holonplatform.core.config.ConfigProperty;
 import com.holonplatform.core.config.ConfigPropertyProvider;
 import com.holonplatform.core.internal.config.DefaultConfig;
 import com.holonplatform.core.internal.config.PrefixedConfigPropertyProvider;
@@ -155,4 +159,60 @@ public class TestConfig {
 
 	}
 
+	@Test
+	public void testSnapshotMode() {
+
+		final Map<String, Object> source = new HashMap<>();
+		source.put("holon.beans.introspector-cache-enabled", "false");
+		source.put("holon.beans.unread", "initial");
+
+		final List<Collection<ConfigProperty<?>>> changes = new ArrayList<>();
+
+		final BeanConfigProperties ps = BeanConfigProperties.builder()
+				.withPropertySource(ConfigPropertyProvider.using(source)).snapshotMode(true)
+				.withChangeListener((set, properties) -> changes.add(properties)).build();
+
+		final ConfigProperty<Boolean> typed = BeanConfigProperties.BEAN_INTROSPECTOR_CACHE_ENABLED;
+		final ConfigProperty<String> untyped = ConfigProperty.create(typed.getKey(), String.class);
+		final ConfigProperty<String> missing = ConfigProperty.create("missing", String.class);
+
+		assertEquals(Boolean.FALSE, ps.getConfigPropertyValue(typed).orElse(null));
+		assertEquals("false", ps.getConfigPropertyValue(untyped).orElse(null));
+		assertFalse(ps.getConfigPropertyValue(missing).isPresent());
+		assertTrue(ps.hasConfigProperty(typed));
+
+		// values are not read again until refresh
+		source.put("holon.beans.introspector-cache-enabled", "true");
+		source.put("holon.beans.missing", "value");
+		assertEquals(Boolean.FALSE, ps.getConfigPropertyValue(typed).orElse(null));
+		assertFalse(ps.hasConfigProperty(missing));
+		assertTrue(changes.isEmpty());
+
+		// all the values are read when the property set is built
+		final ConfigProperty<String> unread = ConfigProperty.create("unread", String.class);
+		source.put("holon.beans.unread", "changed");
+		assertEquals("initial", ps.getConfigPropertyValue(unread).orElse(null));
+		source.put("holon.beans.unread", "initial");
+
+		ps.refresh();
+		assertEquals(Boolean.TRUE, ps.getConfigPropertyValue(typed).orElse(null));
+		assertEquals("value", ps.getConfigPropertyValue(missing).orElse(null));
+		assertEquals(1, changes.size());
+		assertEquals(2, changes.get(0).size());
+		assertTrue(changes.get(0).contains(typed));
+		assertTrue(changes.get(0).contains(missing));
+
+		ps.refresh();
+		assertEquals(1, changes.size());
+
+		// not in snapshot mode
+		final BeanConfigProperties ps2 = BeanConfigProperties.builder()
+				.withPropertySource(ConfigPropertyProvider.using(source)).build();
+		assertEquals(Boolean.TRUE, ps2.getConfigPropertyValue(typed).orElse(null));
+		source.put("holon.beans.introspector-cache-enabled", "false");
+		ps2.refresh();
+		assertEquals(Boolean.FALSE, ps2.getConfigPropertyValue(typed).orElse(null));
+
+	}
+
 }
@@ -151,6 +151,43 @@ public class TestContext {
 
 	}
 
+	@Test
+	public void testScopeSnapshot() {
+
+		final ClassLoader parent = new ClassLoader(ContextManager.getDefaultClassLoader()) {
+		};
+		final ClassLoader child = new ClassLoader(parent) {
+		};
+
+		assertFalse(Context.get().scope("snapshot", child).isPresent());
+
+		final ContextScope parentScope = new NamedScope("snapshot");
+		ContextManager.registerScope(parent, parentScope);
+		assertEquals(parentScope, Context.get().scope("snapshot", child).orElse(null));
+
+		final ContextScope childScope = new NamedScope("snapshot");
+		ContextManager.registerScope(child, childScope);
+		assertEquals(childScope, Context.get().scope("snapshot", child).orElse(null));
+		assertEquals(parentScope, Context.get().scope("snapshot", parent).orElse(null));
+
+		int count = 0;
+		for (ContextScope scope : ContextManager.getScopes(child)) {
+			if ("snapshot".equals(scope.getName())) {
+				assertEquals(childScope, scope);
+				count++;
+			}
+		}
+		assertEquals(1, count);
+
+		assertTrue(ContextManager.unregisterScope(child, "snapshot"));
+		assertEquals(parentScope, Context.get().scope("snapshot", child).orElse(null));
+
+		assertTrue(ContextManager.unregisterScope(parent, "snapshot"));
+		assertFalse(Context.get().scope("snapshot", child).isPresent());
+		assertFalse(ContextManager.unregisterScope(parent, "snapshot"));
+
+	}
+
 	public static final class DummyScope implements ContextScope {
 
 		private final ContextResourceMap resources = new ContextResourceMap("dummy", true);
@@ -211,4 +248,72 @@ public class TestContext {
 
 	}
 
+	public static final class NamedScope implements ContextScope {
+
+		private final String name;
+
+		private final ContextResourceMap resources;
+
+		public NamedScope(String name) {
+			super();
+			this.name = name;
+			this.resources = new ContextResourceMap(name, true);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.core.context.ContextScope#getName()
+		 */
+		@Override
+		public String getName() {
+			return name;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.core.context.ContextScope#getOrder()
+		 */
+		@Override
+		public int getOrder() {
+			return Integer.MIN_VALUE + 3000;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.core.context.ContextScope#get(java.lang.String, java.lang.Class)
+		 */
+		@Override
+		public <T> Optional<T> get(String resourceKey, Class<T> resourceType) throws TypeMismatchException {
+			return Optional.ofNullable(resources.get(resourceKey, resourceType));
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.core.context.ContextScope#put(java.lang.String, java.lang.Object)
+		 */
+		@Override
+		public <T> Optional<T> put(String resourceKey, T value) throws UnsupportedOperationException {
+			return Optional.ofNullable(resources.put(resourceKey, value));
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.core.context.ContextScope#putIfAbsent(java.lang.String, java.lang.Object)
+		 */
+		@Override
+		public <T> Optional<T> putIfAbsent(String resourceKey, T value) throws UnsupportedOperationException {
+			return Optional.ofNullable(resources.putIfAbsent(resourceKey, value));
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.core.context.ContextScope#remove(java.lang.String)
+		 */
+		@Override
+		public boolean remove(String resourceKey) throws UnsupportedOperationException {
+			return resources.remove(resourceKey);
+		}
+
+	}
+
 }
@@ -20,15 +20,26 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 import org.junit.Test;
 
+import com.holonplatform.core.Expression.InvalidExpressionException;
 import com.holonplatform.core.ExpressionResolver;
 import com.holonplatform.core.config.ConfigPropertyProvider;
 import com.holonplatform.core.datastore.DataTarget;
 import com.holonplatform.core.datastore.Datastore;
+import com.holonplatform.core.datastore.Datastore.OperationResult;
+import com.holonplatform.core.datastore.Datastore.OperationType;
 import com.holonplatform.core.datastore.DatastoreCommodityContext;
 import com.holonplatform.core.datastore.DatastoreCommodityContext.CommodityConfigurationException;
 import com.holonplatform.core.datastore.DatastoreCommodityFactory;
@@ -36,11 +47,19 @@ import com.holonplatform.core.datastore.DatastoreConfigProperties;
 import com.holonplatform.core.datastore.bulk.BulkDelete;
 import com.holonplatform.core.datastore.bulk.BulkInsert;
 import com.holonplatform.core.datastore.bulk.BulkUpdate;
+import com.holonplatform.core.datastore.memory.InMemoryDatastore;
+import com.holonplatform.core.datastore.operation.commons.BulkInsertOperationConfiguration;
+import com.holonplatform.core.exceptions.DataAccessException;
 import com.holonplatform.core.internal.datastore.AbstractDatastore;
 import com.holonplatform.core.internal.query.DefaultQueryDefinition;
+import com.holonplatform.core.internal.utils.TestUtils;
+import com.holonplatform.core.property.NumericProperty;
 import com.holonplatform.core.property.PropertyBox;
 import com.holonplatform.core.property.PropertySet;
+import com.holonplatform.core.property.StringProperty;
 import com.holonplatform.core.query.Query;
+import com.holonplatform.core.query.QueryFunction.Sum;
+import com.holonplatform.core.query.QueryPage;
 import com.holonplatform.core.test.data.DummyQuery;
 import com.holonplatform.core.test.data.TestPropertySet;
 
@@ -71,6 +90,265 @@ public class TestDatastore {
 
 	}
 
+	@Test
+	public void testInMemoryDatastore() {
+
+		final DataTarget<String> target = DataTarget.named("items");
+		final NumericProperty<Long> id = NumericProperty.longType("id");
+		final StringProperty name = StringProperty.create("name");
+		final NumericProperty<Integer> value = NumericProperty.integerType("value");
+		final PropertySet<?> set = PropertySet.builderOf(id, name, value).identifier(id).build();
+
+		final InMemoryDatastore ds = InMemoryDatastore.builder().withHashIndex(target, name)
+				.withSortedIndex(target, value).build();
+
+		for (long i = 1; i <= 10; i++) {
+			assertEquals(1, ds.insert(target,
+					PropertyBox.builder(set).set(id, i).set(name, (i % 2 == 0) ? "even" : "odd").set(value, (int) i)
+							.build())
+					.getAffectedCount());
+		}
+		assertEquals(10, ds.count(target));
+
+		TestUtils.expectedException(DataAccessException.class,
+				() -> ds.insert(target, PropertyBox.builder(set).set(id, 1L).set(name, "dup").build()));
+
+		// indexed lookups and range scans
+		assertEquals(5, ds.query(target).filter(name.eq("even")).count());
+		assertEquals(Arrays.asList(3L, 4L, 5L),
+				ds.query(target).filter(value.between(3, 5)).sort(id.asc()).list(id));
+		assertEquals(Arrays.asList(10L, 9L),
+				ds.query(target).filter(value.goe(9)).sort(id.desc()).list(id));
+		assertEquals(Arrays.asList(2L, 3L),
+				ds.query(target).filter(value.lt(4).and(name.in("even", "odd")).and(id.gt(1L))).list(id));
+		assertEquals(Arrays.asList(1L, 9L, 10L),
+				ds.query(target).filter(value.lt(2).or(value.gt(8))).list(id));
+
+		// not indexed
+		assertEquals(Arrays.asList(1L), ds.query(target).filter(id.eq(1L)).list(id));
+		assertEquals(2, ds.query(target).filter(name.startsWith("o").and(value.loe(3))).count());
+
+		// paging
+		assertEquals(Arrays.asList(2L, 3L),
+				ds.query(target).sort(id.asc()).restrict(2, 1).list(id));
+
+		// projections
+		PropertyBox box = ds.query(target).filter(id.eq(2L)).findOne(set).orElse(null);
+		assertNotNull(box);
+		assertEquals("even", box.getValue(name));
+		assertEquals(Integer.valueOf(2), box.getValue(value));
+		assertEquals(Integer.valueOf(55), ds.query(target).findOne(value.sum()).orElse(null));
+		assertEquals(Integer.valueOf(10), ds.query(target).findOne(value.max()).orElse(null));
+		assertEquals(Arrays.asList("even", "odd"), ds.query(target).distinct().sort(name.asc()).list(name));
+
+		// aggregation
+		final Sum<Integer> sum = value.sum();
+		List<PropertyBox> sums = ds.query(target).aggregate(name).sort(name.asc()).list(name, sum);
+		assertEquals(2, sums.size());
+		assertEquals("even", sums.get(0).getValue(name));
+		assertEquals(Integer.valueOf(30), sums.get(0).getValue(sum));
+		assertEquals(Integer.valueOf(25), sums.get(1).getValue(sum));
+
+		// update, save, refresh, delete
+		assertEquals(1, ds.update(target, PropertyBox.builder(set).set(id, 1L).set(name, "first").set(value, 100)
+				.build()).getAffectedCount());
+		assertEquals(0, ds.query(target).filter(value.eq(1)).count());
+		assertEquals(Arrays.asList(1L), ds.query(target).filter(value.goe(100)).list(id));
+		assertEquals("first", ds.refresh(target, PropertyBox.builder(set).set(id, 1L).build()).getValue(name));
+
+		assertEquals(OperationType.INSERT, ds.save(target,
+				PropertyBox.builder(set).set(id, 11L).set(name, "odd").set(value, 11).build()).getOperationType()
+				.orElse(null));
+		assertEquals(OperationType.UPDATE, ds.save(target,
+				PropertyBox.builder(set).set(id, 11L).set(name, "odd").set(value, 12).build()).getOperationType()
+				.orElse(null));
+
+		assertEquals(1, ds.delete(target, PropertyBox.builder(set).set(id, 11L).build()).getAffectedCount());
+		assertEquals(10, ds.count(target));
+
+		// bulk operations
+		assertEquals(5, ds.bulkUpdate(target).set(value, 0).filter(name.eq("even")).execute().getAffectedCount());
+		assertEquals(5, ds.query(target).filter(value.eq(0)).count());
+		assertEquals(4, ds.bulkDelete(target).filter(name.eq("odd")).execute().getAffectedCount());
+		assertEquals(6, ds.count(target));
+		assertEquals(2, ds.bulkInsert(target, set).add(PropertyBox.builder(set).set(id, 20L).set(value, 20).build())
+				.add(PropertyBox.builder(set).set(id, 21L).set(value, 21).build()).execute().getAffectedCount());
+		assertEquals(Arrays.asList(20L, 21L), ds.query(target).filter(value.between(20, 30)).list(id));
+
+		ds.clear(target);
+		assertEquals(0, ds.count(target));
+
+	}
+
+	@Test
+	public void testInMemoryDatastoreKeyLookups() {
+
+		final DataTarget<String> target = DataTarget.named("keyed");
+		final NumericProperty<Long> id = NumericProperty.longType("id");
+		final StringProperty code = StringProperty.create("code");
+		final NumericProperty<Integer> value = NumericProperty.integerType("value");
+		final PropertySet<?> set = PropertySet.builderOf(id, code, value).identifier(id).build();
+		final PropertySet<?> composite = PropertySet.builderOf(id, code, value).identifier(id).identifier(code)
+				.build();
+		final PropertySet<?> unkeyed = PropertySet.of(id, code, value);
+
+		final InMemoryDatastore ds = InMemoryDatastore.builder().build();
+
+		// rows stored before any key lookup
+		ds.insert(target, PropertyBox.builder(unkeyed).set(id, 1L).set(code, "a").set(value, 1).build());
+		TestUtils.expectedException(DataAccessException.class,
+				() -> ds.insert(target, PropertyBox.builder(set).set(id, 1L).set(value, 2).build()));
+
+		ds.bulkInsert(target, set).values(LongStream.rangeClosed(2, 1000)
+				.mapToObj(i -> PropertyBox.builder(set).set(id, i).set(code, "c" + i).set(value, (int) i).build()))
+				.execute();
+		assertEquals(1000, ds.count(target));
+		TestUtils.expectedException(DataAccessException.class,
+				() -> ds.insert(target, PropertyBox.builder(set).set(id, 500L).build()));
+
+		assertEquals(1, ds.update(target, PropertyBox.builder(set).set(id, 500L).set(value, -500).build())
+				.getAffectedCount());
+		assertEquals(Integer.valueOf(-500),
+				ds.refresh(target, PropertyBox.builder(set).set(id, 500L).build()).getValue(value));
+
+		// key values changed by a bulk update
+		assertEquals(1, ds.bulkUpdate(target).set(id, 5000L).filter(id.eq(500L)).execute().getAffectedCount());
+		TestUtils.expectedException(DataAccessException.class,
+				() -> ds.refresh(target, PropertyBox.builder(set).set(id, 500L).build()));
+		assertEquals(Integer.valueOf(-500),
+				ds.refresh(target, PropertyBox.builder(set).set(id, 5000L).build()).getValue(value));
+
+		// delete and insert again
+		assertEquals(1, ds.delete(target, PropertyBox.builder(set).set(id, 5000L).build()).getAffectedCount());
+		assertEquals(0, ds.delete(target, PropertyBox.builder(set).set(id, 5000L).build()).getAffectedCount());
+		assertEquals(1, ds.insert(target, PropertyBox.builder(set).set(id, 5000L).set(value, 1).build())
+				.getAffectedCount());
+
+		// composite key
+		assertEquals(0, ds.update(target, PropertyBox.builder(composite).set(id, 10L).set(code, "x").set(value, 0)
+				.build()).getAffectedCount());
+		assertEquals(1, ds.update(target, PropertyBox.builder(composite).set(id, 10L).set(code, "c10").set(value, 0)
+				.build()).getAffectedCount());
+		assertEquals(Arrays.asList(10L), ds.query(target).filter(value.eq(0)).list(id));
+
+		ds.clear(target);
+		assertEquals(0, ds.count(target));
+		assertEquals(1, ds.insert(target, PropertyBox.builder(set).set(id, 1L).build()).getAffectedCount());
+
+	}
+
+	@Test
+	public void testStreamingBulkInsert() {
+
+		final DataTarget<String> target = DataTarget.named("items");
+		final NumericProperty<Long> id = NumericProperty.longType("id");
+		final NumericProperty<Integer> value = NumericProperty.integerType("value");
+		final PropertySet<?> set = PropertySet.builderOf(id, value).identifier(id).build();
+
+		final InMemoryDatastore ds = InMemoryDatastore.builder().build();
+
+		final List<long[]> progress = new ArrayList<>();
+		final AtomicInteger consumed = new AtomicInteger();
+
+		OperationResult result = ds.bulkInsert(target, set)
+				.add(PropertyBox.builder(set).set(id, 0L).set(value, 0).build())
+				.values(LongStream.rangeClosed(1, 24).mapToObj(i -> {
+					consumed.incrementAndGet();
+					return PropertyBox.builder(set).set(id, i).set(value, (int) i).build();
+				})).batchSize(10).progressListener((batch, count, total) -> {
+					// values are consumed one batch at a time
+					assertTrue(consumed.get() <= batch * 10);
+					progress.add(new long[] { batch, count, total });
+				}).execute();
+
+		assertEquals(OperationType.INSERT, result.getOperationType().orElse(null));
+		assertEquals(25, result.getAffectedCount());
+		assertEquals(25, ds.count(target));
+		assertEquals(3, progress.size());
+		assertTrue(Arrays.equals(new long[] { 1, 10, 10 }, progress.get(0)));
+		assertTrue(Arrays.equals(new long[] { 2, 10, 20 }, progress.get(1)));
+		assertTrue(Arrays.equals(new long[] { 3, 5, 25 }, progress.get(2)));
+
+		// no batching
+		result = ds.bulkInsert(target, set).values(
+				Arrays.asList(PropertyBox.builder(set).set(id, 30L).set(value, 30).build()).iterator()).execute();
+		assertEquals(1, result.getAffectedCount());
+		assertEquals(26, ds.count(target));
+
+		// empty source
+		assertEquals(0, ds.bulkInsert(target, set).values(Stream.empty()).batchSize(10).execute()
+				.getAffectedCount());
+		TestUtils.expectedException(InvalidExpressionException.class,
+				() -> ds.bulkInsert(target, set).batchSize(10).execute());
+
+		// configuration batches
+		final BulkInsertOperationConfiguration configuration = ds.bulkInsert(target, set)
+				.values(LongStream.rangeClosed(1, 5).mapToObj(i -> PropertyBox.builder(set).set(id, i).build()))
+				.batchSize(2).getConfiguration();
+		final Iterator<BulkInsertOperationConfiguration> batches = configuration.getBatches();
+		final List<Integer> sizes = new ArrayList<>();
+		while (batches.hasNext()) {
+			BulkInsertOperationConfiguration batch = batches.next();
+			assertEquals(target, batch.getTarget());
+			assertEquals(set, batch.getPropertySet().orElse(null));
+			sizes.add(batch.getValues().size());
+		}
+		assertEquals(Arrays.asList(2, 2, 1), sizes);
+
+	}
+
+	@Test
+	public void testKeysetPagination() {
+
+		final DataTarget<String> target = DataTarget.named("items");
+		final NumericProperty<Long> id = NumericProperty.longType("id");
+		final StringProperty name = StringProperty.create("name");
+		final PropertySet<?> set = PropertySet.builderOf(id, name).identifier(id).build();
+
+		final InMemoryDatastore ds = InMemoryDatastore.builder().build();
+		ds.bulkInsert(target, set).values(LongStream.rangeClosed(1, 23)
+				.mapToObj(i -> PropertyBox.builder(set).set(id, i).set(name, "n" + (i % 4)).build())).execute();
+
+		final List<Long> expected = ds.query(target).sort(name.desc()).sort(id.asc()).list(id);
+		assertEquals(23, expected.size());
+
+		final List<Long> paged = new ArrayList<>();
+		int pages = 0;
+		PropertyBox cursor = null;
+		do {
+			Query query = ds.query(target).sort(name.desc()).sort(id.asc());
+			if (cursor != null) {
+				query = query.seekAfter(cursor);
+			}
+			final QueryPage page = query.page(5, set);
+			assertTrue(page.getRows().size() <= 5);
+			page.getRows().forEach(row -> paged.add(row.getValue(id)));
+			cursor = page.getNextCursor().orElse(null);
+			pages++;
+		} while (cursor != null);
+
+		assertEquals(5, pages);
+		assertEquals(expected, paged);
+
+		// single path
+		final QueryPage first = ds.query(target).sort(id.desc()).page(20, set);
+		assertTrue(first.hasNext());
+		assertEquals(Long.valueOf(4L), first.getNextCursor().get().getValue(id));
+		final QueryPage last = ds.query(target).sort(id.desc()).seekAfter(first.getNextCursor().get()).page(20, set);
+		assertFalse(last.hasNext());
+		assertFalse(last.getNextCursor().isPresent());
+		assertEquals(Arrays.asList(3L, 2L, 1L), last.getRows().stream().map(r -> r.getValue(id))
+				.collect(Collectors.toList()));
+
+		// invalid
+		final PropertyBox row = PropertyBox.builder(set).set(id, 1L).build();
+		TestUtils.expectedException(InvalidExpressionException.class, () -> ds.query(target).seekAfter(row));
+		TestUtils.expectedException(InvalidExpressionException.class,
+				() -> ds.query(target).sort(name.asc()).seekAfter(row));
+		TestUtils.expectedException(IllegalArgumentException.class, () -> ds.query(target).page(0, set));
+
+	}
+
 	@Test
 	public void testDatastoreConfig() {
 
@@ -308,6 +308,49 @@ public class TestExpression {
 
 	}
 
+	@Test
+	public void testResolversCache() {
+
+		final DefaultExpressionResolverRegistry registry = new DefaultExpressionResolverRegistry(true, true);
+
+		final ResolutionContext ctx = new ResolutionContext() {
+
+			@Override
+			public <E extends Expression, R extends Expression> Optional<R> resolve(E expression,
+					Class<R> resolutionType, ResolutionContext context) throws InvalidExpressionException {
+				return registry.resolve(expression, resolutionType, context);
+			}
+
+			@SuppressWarnings("rawtypes")
+			@Override
+			public Iterable<ExpressionResolver> getExpressionResolvers() {
+				return registry.getExpressionResolvers();
+			}
+		};
+
+		final ExpressionA expa = new ExpressionAImpl(0);
+
+		assertFalse(registry.resolve(expa, ExpressionC.class, ctx).isPresent());
+		assertEquals(0, registry.getCacheHits());
+		assertEquals(1, registry.getCacheMisses());
+
+		// cache invalidation
+		final Resolver2 R2 = new Resolver2();
+		registry.addExpressionResolver(R2);
+
+		assertTrue(registry.resolve(expa, ExpressionC.class, ctx).isPresent());
+		assertTrue(registry.resolve(expa, ExpressionC.class, ctx).isPresent());
+		assertEquals(1, registry.getCacheHits());
+		assertEquals(2, registry.getCacheMisses());
+
+		registry.removeExpressionResolver(R2);
+		assertFalse(registry.resolve(expa, ExpressionC.class, ctx).isPresent());
+
+		final DefaultExpressionResolverRegistry noStats = new DefaultExpressionResolverRegistry(true);
+		assertEquals(-1, noStats.getCacheHits());
+		assertEquals(-1, noStats.getCacheMisses());
+	}
+
 	@Test
 	public void testNullExpression() {
 
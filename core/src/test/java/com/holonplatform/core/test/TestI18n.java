@@ -19,18 +19,26 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.text.DateFormat;
+import java.text.NumberFormat;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.Month;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Test;
@@ -194,6 +202,67 @@ public class TestI18n {
 		assertEquals("34%", fv);
 	}
 
+	@Test
+	public void testCachedFormats() throws Exception {
+		final LocalizationContext ctx = LocalizationContext.builder().withInitialLocale(Locale.ITALIAN).build();
+
+		// returned instances are never shared
+		final NumberFormat nf = ctx.getNumberFormat(Double.class, 2, false);
+		assertNotSame(nf, ctx.getNumberFormat(Double.class, 2, false));
+		nf.setMaximumFractionDigits(0);
+		nf.setGroupingUsed(false);
+		assertEquals("1.234,57", ctx.getNumberFormat(Double.class, 2, false).format(1234.567d));
+		assertEquals("1.234,57", ctx.format(1234.567d, 2));
+		assertEquals("1.234,6", ctx.format(1234.567d, 1));
+		assertEquals("1234,57", ctx.format(1234.567d, 2, NumberFormatFeature.DISABLE_GROUPING));
+		assertEquals("1.234", ctx.format(1234.0d, 2, NumberFormatFeature.HIDE_DECIMALS_WHEN_ALL_ZERO));
+		assertEquals("1.234,50", ctx.format(1234.5d, 2, NumberFormatFeature.HIDE_DECIMALS_WHEN_ALL_ZERO));
+
+		final DateFormat df = ctx.getDateFormat(TemporalType.DATE, TemporalFormat.SHORT, null);
+		assertNotSame(df, ctx.getDateFormat(TemporalType.DATE, TemporalFormat.SHORT, null));
+		df.setLenient(false);
+		assertTrue(ctx.getDateFormat(TemporalType.DATE, TemporalFormat.SHORT, null).isLenient());
+
+		// concurrent use
+		final Calendar c = Calendar.getInstance(Locale.ITALIAN);
+		c.set(Calendar.YEAR, 1979);
+		c.set(Calendar.MONTH, 2);
+		c.set(Calendar.DAY_OF_MONTH, 9);
+		final Date date = c.getTime();
+		final String expectedDate = ctx.format(date, TemporalType.DATE, TemporalFormat.SHORT, null);
+		final String[] expectedNumbers = new String[10];
+		for (int i = 0; i < 10; i++) {
+			expectedNumbers[i] = "1.000,00" + i;
+		}
+
+		final ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			final List<Future<Boolean>> results = new ArrayList<>();
+			for (int i = 0; i < 8; i++) {
+				results.add(executor.submit(() -> {
+					for (int j = 0; j < 500; j++) {
+						if (!expectedNumbers[j % 10].equals(ctx.format(1000 + (j % 10) / 1000d, 3))) {
+							return false;
+						}
+						if (!expectedDate.equals(ctx.format(date, TemporalType.DATE, TemporalFormat.SHORT, null))) {
+							return false;
+						}
+					}
+					return true;
+				}));
+			}
+			for (Future<Boolean> result : results) {
+				assertTrue(result.get());
+			}
+		} finally {
+			executor.shutdown();
+		}
+
+		// cache cleared on localization change
+		ctx.localize(Localization.builder(Locale.US).build());
+		assertEquals("1,234.57", ctx.format(1234.567d, 2));
+	}
+
 	@Test
 	public void testDateFormats() {
 
@@ -34,6 +34,7 @@ import java.time.LocalTime;
 import java.time.Month;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Collection;
 import java.util.Date;
@@ -48,12 +49,16 @@ import org.junit.Test;
 
 import com.holonplatform.core.Context;
 import com.holonplatform.core.Path;
+import com.holonplatform.core.Validator;
+import com.holonplatform.core.Validator.ValidationException;
 import com.holonplatform.core.beans.BeanIntrospector;
+import com.holonplatform.core.beans.BeanPropertyMapper;
 import com.holonplatform.core.beans.BeanPropertySet;
 import com.holonplatform.core.config.ConfigProperty;
 import com.holonplatform.core.i18n.Localizable;
 import com.holonplatform.core.i18n.LocalizationContext;
 import com.holonplatform.core.internal.beans.DefaultBeanIntrospector;
+import com.holonplatform.core.internal.property.IndexedPropertySet;
 import com.holonplatform.core.internal.query.filter.OperationQueryFilter;
 import com.holonplatform.core.internal.query.filter.OperationQueryFilter.FilterOperator;
 import com.holonplatform.core.internal.utils.TestUtils;
@@ -506,6 +511,46 @@ public class TestProperty {
 	}
 
 	@SuppressWarnings("boxing")
+	@Test
+	public void testCompactPropertyBox() {
+		final PropertySet<?> set = PropertySet.of(P1, P2, P3, P13);
+
+		PropertyBox box = PropertyBox.compactBuilder(set).set(P1, "v1").set(P2, 2).set(P3, Boolean.TRUE).build();
+		assertNotNull(box);
+		assertEquals(4, box.size());
+		assertEquals("v1", box.getValue(P1));
+		assertEquals(Integer.valueOf(2), box.getValue(P2));
+		assertEquals(Boolean.TRUE, box.getValue(P3));
+		assertEquals("VRT:v1", box.getValue(P13));
+		assertTrue(box.containsValue(P1));
+		assertFalse(box.containsValue(P4));
+		assertFalse(box.getValueIfPresent(P4).isPresent());
+		assertEquals(3, box.propertyValues().count());
+
+		box.setValue(P2, null);
+		assertNull(box.getValue(P2));
+		assertFalse(box.containsValue(P2));
+
+		TestUtils.expectedException(PropertyNotFoundException.class, () -> box.getValue(P4));
+		TestUtils.expectedException(PropertyNotFoundException.class, () -> box.setValue(P4, 1d));
+		TestUtils.expectedException(PropertyReadOnlyException.class, () -> box.setValue(P13, "x"));
+
+		PropertyBox cloned = box.cloneBox();
+		assertEquals("v1", cloned.getValue(P1));
+		assertEquals(Boolean.TRUE, cloned.getValue(P3));
+		assertEquals("VRT:v1", cloned.getValue(P13));
+
+		final PropertyBox tsbox = PropertyBox.compactBuilder(set, true).set(P1, "ts").build();
+		assertEquals("ts", tsbox.getValue(P1));
+
+		final Property<String> VP = PathProperty.create("vp", String.class).validator(Validator.notNull());
+		final PropertyBox vbox = PropertyBox.compactBuilder(PropertySet.of(VP)).build();
+		TestUtils.expectedException(ValidationException.class, () -> vbox.setValue(VP, null));
+		TestUtils.expectedException(ValidationException.class, () -> vbox.validate());
+		vbox.setInvalidAllowed(true);
+		vbox.setValue(VP, null);
+	}
+
 	@Test
 	public void testBeanProperty() {
 
@@ -651,6 +696,48 @@ public class TestProperty {
 
 	}
 
+	@Test
+	public void testBeanPropertyMapper() {
+
+		final BeanPropertySet<TestBean> beanPropertySet = BeanIntrospector.get().getPropertySet(TestBean.class);
+
+		final PathProperty<String> name = beanPropertySet.property("name");
+		final PathProperty<Long> nestedId = beanPropertySet.property("nested.nestedId");
+		final PathProperty<String> missing = PathProperty.create("missing", String.class);
+
+		final PropertySet<?> set = PropertySet.of(name, nestedId);
+
+		final BeanPropertyMapper<TestBean> mapper = beanPropertySet.mapper(set);
+		assertEquals(set, mapper.getPropertySet());
+
+		TestBean tb = new TestBean();
+		tb.setName("mapped");
+		tb.setNested(new TestNested());
+		tb.getNested().setNestedId(3L);
+
+		PropertyBox box = mapper.read(tb);
+		assertEquals("mapped", box.getValue(name));
+		assertEquals(Long.valueOf(3L), box.getValue(nestedId));
+
+		tb.setNested(null);
+		box = mapper.read(tb);
+		assertNull(box.getValue(nestedId));
+
+		box = PropertyBox.builder(set).set(name, "written").set(nestedId, 5L).build();
+		tb = mapper.write(box, new TestBean());
+		assertEquals("written", tb.getName());
+		assertNotNull(tb.getNested());
+		assertEquals(5L, tb.getNested().getNestedId());
+
+		TestUtils.expectedException(PropertyNotFoundException.class,
+				() -> beanPropertySet.mapper(PropertySet.of(name, missing)));
+
+		final BeanPropertyMapper<TestBean> ignoreMapper = beanPropertySet.mapper(PropertySet.of(name, missing), true);
+		box = ignoreMapper.read(tb);
+		assertEquals("written", box.getValue(name));
+		assertFalse(box.containsValue(missing));
+	}
+
 	@Test
 	public void testBeanPropertiesNone() {
 
@@ -816,6 +903,62 @@ public class TestProperty {
 		assertTrue(pps.contains(TestPropertySet.NAME));
 	}
 
+	@Test
+	public void testPropertySetIndex() {
+		PropertySet<Property<?>> set = PropertySet.builder().add(TestPropertySet.NAME).add(TestPropertySet.SEQUENCE)
+				.add(TestPropertySet.GENERIC).add(TestPropertySet.NAME).build();
+		assertThat(set, instanceOf(IndexedPropertySet.class));
+		assertEquals(3, set.size());
+
+		assertEquals(0, set.indexOf(TestPropertySet.NAME));
+		assertEquals(1, set.indexOf(TestPropertySet.SEQUENCE));
+		assertEquals(2, set.indexOf(TestPropertySet.GENERIC));
+		assertEquals(-1, set.indexOf(TestPropertySet.VIRTUAL));
+		assertEquals(-1, set.indexOf(null));
+		assertFalse(set.contains(TestPropertySet.VIRTUAL));
+
+		Iterator<Property<?>> iterator = set.iterator();
+		assertEquals(TestPropertySet.NAME, iterator.next());
+		assertEquals(TestPropertySet.SEQUENCE, iterator.next());
+		assertEquals(TestPropertySet.GENERIC, iterator.next());
+		assertFalse(iterator.hasNext());
+
+		EqualsHandler<PathProperty<?>> eh = (p, o) -> (o instanceof PathProperty)
+				&& p.getName().equals(((PathProperty<?>) o).getName());
+		HashCodeProvider<PathProperty<?>> hcp = p -> Optional.of(p.getName().hashCode());
+		PathProperty<String> e1 = PathProperty.create("eq", String.class).equalsHandler(eh).hashCodeProvider(hcp);
+		PathProperty<String> e2 = PathProperty.create("eq", String.class).equalsHandler(eh).hashCodeProvider(hcp);
+
+		PropertySet<?> eqs = PropertySet.of(TestPropertySet.NAME, e1);
+		assertEquals(1, eqs.indexOf(e2));
+		assertTrue(eqs.contains(e2));
+
+		PropertyBox box = PropertyBox.create(set);
+		assertEquals(1, box.indexOf(TestPropertySet.SEQUENCE));
+		box.setValue(TestPropertySet.NAME, "test");
+		assertEquals("test", box.getValue(TestPropertySet.NAME));
+
+		// of() retains duplicates and rejects nulls
+		PropertySet<?> dups = PropertySet.of(TestPropertySet.NAME, TestPropertySet.SEQUENCE, TestPropertySet.NAME);
+		assertEquals(3, dups.size());
+		assertEquals(0, dups.indexOf(TestPropertySet.NAME));
+		assertEquals(1, dups.indexOf(TestPropertySet.SEQUENCE));
+		TestUtils.expectedException(IllegalArgumentException.class,
+				() -> PropertySet.of(TestPropertySet.NAME, null));
+		TestUtils.expectedException(IllegalArgumentException.class,
+				() -> PropertySet.of(Arrays.asList(TestPropertySet.NAME, null)));
+
+		// List equality
+		List<Property<?>> list = Arrays.asList(TestPropertySet.NAME, TestPropertySet.SEQUENCE,
+				TestPropertySet.GENERIC);
+		assertEquals(list, set);
+		assertEquals(set, list);
+		assertEquals(list.hashCode(), set.hashCode());
+		assertEquals(set, PropertySet.of(TestPropertySet.NAME, TestPropertySet.SEQUENCE, TestPropertySet.GENERIC));
+		assertFalse(set.equals(PropertySet.of(TestPropertySet.SEQUENCE, TestPropertySet.NAME, TestPropertySet.GENERIC)));
+		assertFalse(dups.equals(PropertySet.of(TestPropertySet.NAME, TestPropertySet.SEQUENCE)));
+	}
+
 	@Test
 	public void testPropertySetIdentifier() {
 
@@ -31,7 +31,9 @@ import static com.holonplatform.core.test.TestProperty.P7;
 import static com.holonplatform.core.test.TestProperty.P8;
 import static com.holonplatform.core.test.TestProperty.P9;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -39,6 +41,7 @@ import java.time.LocalTime;
 import java.time.Month;
 import java.util.Calendar;
 import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Test;
 
@@ -167,4 +170,29 @@ public class TestPropertyPresenters {
 		assertEquals(registry, registry2);
 	}
 
+	@Test
+	public void testPropertyValuePresenterCache() {
+
+		final PropertyValuePresenterRegistry registry = PropertyValuePresenterRegistry.create(false);
+
+		final AtomicInteger evaluations = new AtomicInteger(0);
+		registry.register(p -> {
+			evaluations.incrementAndGet();
+			return TestPropertySet.NAME == p;
+		}, (p, v) -> "CACHED");
+
+		for (int i = 0; i < 3; i++) {
+			assertTrue(registry.getPresenter(TestPropertySet.NAME).isPresent());
+			assertFalse(registry.getPresenter(TestPropertySet.SEQUENCE).isPresent());
+		}
+		assertEquals(2, evaluations.get());
+
+		// invalidation
+		registry.register(p -> TestPropertySet.SEQUENCE == p, (p, v) -> "ID");
+		assertEquals("ID", registry.getPresenter(TestPropertySet.SEQUENCE).map(p -> p.present(TestPropertySet.SEQUENCE, 1))
+				.orElse(null));
+		assertEquals(3, evaluations.get());
+
+	}
+
 }
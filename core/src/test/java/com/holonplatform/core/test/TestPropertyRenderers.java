@@ -20,6 +20,8 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.junit.Test;
 
 import com.holonplatform.core.Context;
@@ -114,6 +116,34 @@ public class TestPropertyRenderers {
 
 	}
 
+	@Test
+	public void testPropertyRendererCache() {
+
+		final PropertyRendererRegistry registry = PropertyRendererRegistry.create(false);
+
+		final AtomicInteger evaluations = new AtomicInteger(0);
+		registry.register(p -> {
+			evaluations.incrementAndGet();
+			return TestPropertySet.NAME == p;
+		}, PropertyRenderer.create(RenderTest.class, p -> new RenderTest(p.getName())));
+
+		for (int i = 0; i < 3; i++) {
+			assertTrue(registry.getRenderer(RenderTest.class, TestPropertySet.NAME).isPresent());
+			assertFalse(registry.getRenderer(RenderTest.class, TestPropertySet.SEQUENCE).isPresent());
+			assertFalse(registry.getRenderer(NotAvailableRenderTest.class, TestPropertySet.NAME).isPresent());
+		}
+		assertEquals(2, evaluations.get());
+
+		// invalidation
+		registry.register(p -> TestPropertySet.SEQUENCE == p,
+				PropertyRenderer.create(RenderTest.class, p -> new RenderTest("id")));
+		assertTrue(registry.getRenderer(RenderTest.class, TestPropertySet.SEQUENCE).isPresent());
+		assertEquals("id",
+				registry.getRenderer(RenderTest.class, TestPropertySet.SEQUENCE).get().render(TestPropertySet.SEQUENCE).getValue());
+		assertEquals(3, evaluations.get());
+
+	}
+
 	private static class RenderTest {
 
 		private final String value;
@@ -18,20 +18,37 @@ package com.holonplatform.core.test;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Collections;
 import java.util.Date;
+import java.util.regex.PatternSyntaxException;
 
 import org.junit.Test;
 
 import com.holonplatform.core.Validator;
+import com.holonplatform.core.Validator.PatternFlag;
 import com.holonplatform.core.Validator.UnsupportedValidationTypeException;
+import com.holonplatform.core.Validator.Validatable;
 import com.holonplatform.core.Validator.ValidationException;
+import com.holonplatform.core.Validator.ValidationMessage;
+import com.holonplatform.core.Validator.ValidationResult;
 import com.holonplatform.core.internal.BuiltinValidator;
+import com.holonplatform.core.internal.utils.FormatUtils;
 import com.holonplatform.core.internal.utils.TestUtils;
+import com.holonplatform.core.property.NumericProperty;
+import com.holonplatform.core.property.PathProperty;
+import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.core.property.PropertyValueConverter;
+import com.holonplatform.core.property.StringProperty;
 
 public class TestValidators {
 
@@ -336,4 +353,188 @@ public class TestValidators {
 		assertTrue(((BuiltinValidator<?>) v).getDescriptor().get().isEmail());
 	}
 
+	@Test
+	public void testBuiltinValidatorsValues() {
+		Validator.notEmpty().validate(new int[] { 1 });
+		TestUtils.expectedException(ValidationException.class, () -> Validator.notEmpty().validate(new int[0]));
+
+		Validator.max(2).validate(new long[] { 1L, 2L });
+		TestUtils.expectedException(ValidationException.class,
+				() -> Validator.max(2).validate(new long[] { 1L, 2L, 3L }));
+		Validator.min(2).validate(new char[] { 'a', 'b' });
+		TestUtils.expectedException(ValidationException.class, () -> Validator.min(2).validate(new char[] { 'a' }));
+		TestUtils.expectedException(UnsupportedValidationTypeException.class,
+				() -> Validator.max(2).validate(Boolean.TRUE));
+
+		Validator.notBlank().validate(" \ta ");
+		TestUtils.expectedException(ValidationException.class, () -> Validator.notBlank().validate(" \t\n"));
+		TestUtils.expectedException(ValidationException.class,
+				() -> Validator.notBlank().validate(new StringBuilder("  ")));
+
+		Validator.digits(3, 0).validate(-999L);
+		Validator.digits(19, 0).validate(Long.MIN_VALUE);
+		TestUtils.expectedException(ValidationException.class, () -> Validator.digits(3, 0).validate(-1000L));
+		TestUtils.expectedException(ValidationException.class, () -> Validator.digits(18, 0).validate(Long.MIN_VALUE));
+		Validator.digits(1, 2).validate(new BigDecimal("0.05"));
+		Validator.digits(4, 0).validate(new BigDecimal("1200.00"));
+		TestUtils.expectedException(ValidationException.class,
+				() -> Validator.digits(3, 0).validate(new BigDecimal("1200.00")));
+		TestUtils.expectedException(ValidationException.class,
+				() -> Validator.digits(1, 1).validate(new BigDecimal("-0.05")));
+
+		final Validator<String> pattern = Validator.pattern("[a-z]+", PatternFlag.CASE_INSENSITIVE);
+		pattern.validate("abc");
+		pattern.validate("ABC");
+		TestUtils.expectedException(ValidationException.class, () -> pattern.validate("a1"));
+		TestUtils.expectedException(PatternSyntaxException.class, () -> Validator.pattern("[a-z"));
+
+		Validator.email().validate("test@holon-platform.com");
+		TestUtils.expectedException(ValidationException.class, () -> Validator.email().validate("test@"));
+		assertTrue(FormatUtils.isValidEmailAddress("test@holon-platform.com"));
+		assertFalse(FormatUtils.isValidEmailAddress("test"));
+	}
+
+	@Test
+	public void testValidatableFailures() {
+		final Validatable<String> validatable = () -> Arrays.asList(Validator.notBlank(), Validator.max(2),
+				Validator.pattern("\\d+"));
+
+		validatable.validate("12");
+
+		try {
+			validatable.validate("a");
+			fail("Expected ValidationException");
+		} catch (ValidationException e) {
+			assertEquals(1, e.getValidationMessages().size());
+		}
+
+		try {
+			validatable.validate("   ");
+			fail("Expected ValidationException");
+		} catch (ValidationException e) {
+			assertEquals(3, e.getValidationMessages().size());
+		}
+	}
+
+	@Test
+	public void testSerialization() throws Exception {
+		final Validator<?>[] validators = new Validator<?>[] { Validator.isNull(), Validator.notNull(),
+				Validator.notEmpty(), Validator.notBlank(), Validator.max(3), Validator.min(1),
+				Validator.pattern("\\d+"), Validator.in(1, 2), Validator.notIn(3), Validator.notZero(),
+				Validator.notNegative(), Validator.digits(2, 1), Validator.past(true), Validator.future(false), Validator.lessThan(5),
+				Validator.lessOrEqual("x"), Validator.greaterThan(1), Validator.greaterOrEqual(2L), Validator.email() };
+		for (Validator<?> validator : validators) {
+			final Validator<?> deserialized = serialize(validator);
+			assertEquals(validator.getClass(), deserialized.getClass());
+			assertEquals(((BuiltinValidator<?>) validator).getDescriptor().isPresent(),
+					((BuiltinValidator<?>) deserialized).getDescriptor().isPresent());
+		}
+
+		final Validator<String> pattern = serialize(Validator.pattern("\\d+"));
+		pattern.validate("12");
+		TestUtils.expectedException(ValidationException.class, () -> pattern.validate("a"));
+		final Validator<String> email = serialize(Validator.email());
+		email.validate("test@holon-platform.com");
+		TestUtils.expectedException(ValidationException.class, () -> email.validate("test"));
+		final Validator<Integer> max = serialize(Validator.max(3));
+		TestUtils.expectedException(ValidationException.class, () -> max.validate(4));
+
+		final StringProperty code = serialize(StringProperty.create("code").validator(Validator.notNull()));
+		TestUtils.expectedException(ValidationException.class, () -> code.validate(null));
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> T serialize(T object) throws Exception {
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(object);
+		}
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			return (T) in.readObject();
+		}
+	}
+
+	@Test
+	public void testValidateAll() {
+		final Validator<String> notBlank = Validator.notBlank();
+		assertTrue(notBlank.test("a"));
+		assertFalse(notBlank.test(" "));
+		assertTrue(Validator.create(v -> v != null, "Required").test(1));
+		assertFalse(Validator.create(v -> v != null, "Required").test(null));
+
+		ValidationResult result = Validator.validateAll("12",
+				Arrays.asList(Validator.notBlank(), Validator.max(2), Validator.pattern("\\d+")));
+		assertTrue(result.isValid());
+		assertTrue(result.getFailures().isEmpty());
+		result.throwIfInvalid();
+
+		result = Validator.validateAll("   ",
+				Arrays.asList(Validator.notBlank(), Validator.max(2), Validator.pattern("\\d+")));
+		assertFalse(result.isValid());
+		assertEquals(3, result.getFailures().size());
+		assertEquals(3, result.getValidationMessages().size());
+		for (ValidationException failure : result.getFailures()) {
+			assertEquals(0, failure.getStackTrace().length);
+		}
+		final ValidationResult invalid = result;
+		TestUtils.expectedException(ValidationException.class, () -> invalid.throwIfInvalid());
+
+		final StringProperty code = StringProperty.create("code").validator(Validator.notBlank())
+				.validator(Validator.max(3));
+		final NumericProperty<Integer> amount = NumericProperty.integerType("amount").validator(Validator.notNull());
+
+		assertEquals(2, code.validateAll("    ").getFailures().size());
+		assertTrue(code.validateAll("abc").isValid());
+
+		final PropertyBox box = PropertyBox.builder(code, amount).invalidAllowed(true).set(code, "    ").build();
+		result = box.validateAll();
+		assertFalse(result.isValid());
+		assertEquals(3, result.getFailures().size());
+
+		box.setValue(code, "abc");
+		box.setValue(amount, 1);
+		assertTrue(box.validateAll().isValid());
+	}
+
+	@Test
+	public void testValidateAllConvertedValue() {
+		final PathProperty<Boolean> flag = PathProperty.create("flag", Boolean.class)
+				.converter(PropertyValueConverter.numericBoolean(Integer.class)).validator(Validator.max(0));
+
+		TestUtils.expectedException(UnsupportedValidationTypeException.class, () -> Validator.max(0).validate(true));
+
+		flag.validate(false);
+		assertTrue(flag.validateAll(false).isValid());
+		TestUtils.expectedException(ValidationException.class, () -> flag.validate(true));
+		assertEquals(1, flag.validateAll(true).getFailures().size());
+
+		final PropertyBox box = PropertyBox.builder(flag).invalidAllowed(true).set(flag, false).build();
+		assertTrue(box.validateAll().isValid());
+		box.validate();
+
+		box.setValue(flag, true);
+		assertFalse(box.validateAll().isValid());
+		assertEquals(1, box.validateAll().getFailures().size());
+	}
+
+	@Test
+	public void testStacklessValidationException() {
+		assertTrue(new ValidationException("test").getStackTrace().length > 0);
+		final boolean stackless = ValidationException.isStacklessMode();
+		try {
+			ValidationException.setStacklessMode(true);
+			assertTrue(ValidationException.isStacklessMode());
+			assertEquals(0, new ValidationException("test").getStackTrace().length);
+			try {
+				Validator.notNull().validate(null);
+			} catch (ValidationException e) {
+				assertEquals(0, e.getStackTrace().length);
+				assertEquals(ValidationMessage.NOT_NULL.getMessageCode(), e.getMessageCode());
+			}
+		} finally {
+			ValidationException.setStacklessMode(stackless);
+		}
+		assertTrue(new ValidationException("test").getStackTrace().length > 0);
+	}
+
 }
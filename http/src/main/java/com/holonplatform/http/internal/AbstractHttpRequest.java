@@ -17,6 +17,10 @@ package com.holonplatform.http.internal;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 
 import com.holonplatform.core.internal.utils.ConversionUtils;
@@ -24,11 +28,67 @@ import com.holonplatform.http.HttpRequest;
 
 /**
  * {@link HttpRequest} base class.
+ * <p>
+ * The parsed values of the {@link #ACCEPT_LANGUAGE}, {@link #DATE} and {@link #CONTENT_TYPE} headers are memoized,
+ * since the request headers are not expected to change during the request lifecycle.
+ * </p>
  * 
  * @since 5.0.0
  */
 public abstract class AbstractHttpRequest implements HttpRequest {
 
+	/*
+	 * Memoized Accept-Language locales
+	 */
+	private List<Locale> locales;
+
+	/*
+	 * Memoized Date header time, null if not available
+	 */
+	private Long date;
+
+	/*
+	 * Whether the Date header was parsed
+	 */
+	private boolean dateParsed = false;
+
+	/*
+	 * Memoized Content-Type charset, null if not available
+	 */
+	private String charset;
+
+	/*
+	 * Whether the Content-Type charset was parsed
+	 */
+	private boolean charsetParsed = false;
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.http.HttpHeaders#getLocales()
+	 */
+	@Override
+	public List<Locale> getLocales() {
+		if (locales == null) {
+			locales = Collections.unmodifiableList(
+					HttpUtils.getAcceptLanguageLocales(getHeaderValue(ACCEPT_LANGUAGE).orElse(null)));
+		}
+		return locales;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.http.HttpHeaders#getDate()
+	 */
+	@Override
+	public Optional<Date> getDate() {
+		if (!dateParsed) {
+			date = getHeaderValue(DATE).map(d -> HttpUtils.parseHeaderDate(d)).map(d -> d.getTime()).orElse(null);
+			dateParsed = true;
+		}
+		// Date is mutable: always return a new instance
+		return (date != null) ? Optional.of(new Date(date.longValue())) : Optional.empty();
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see com.holonplatform.core.messaging.Message#getPayloadType()
@@ -66,24 +126,11 @@ public abstract class AbstractHttpRequest implements HttpRequest {
 	 * @return Request charset, or <code>null</code> if unknown
 	 */
 	protected String getCharset() {
-		String ct = getHeaderValue(CONTENT_TYPE).orElse(null);
-		if (ct != null && !ct.trim().equals("")) {
-			String[] values = null;
-			if (ct.contains(";")) {
-				values = ct.split(";");
-			} else {
-				values = new String[] { ct };
-			}
-			if (values != null) {
-				for (String value : values) {
-					String v = (value != null) ? value.trim() : null;
-					if (v != null && v.startsWith("charset=") && v.length() > 8) {
-						return v.substring(8);
-					}
-				}
-			}
+		if (!charsetParsed) {
+			charset = HttpUtils.getContentTypeCharset(getHeaderValue(CONTENT_TYPE).orElse(null));
+			charsetParsed = true;
 		}
-		return null;
+		return charset;
 	}
 
 }
@@ -27,6 +27,8 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import com.holonplatform.core.internal.Logger;
 import com.holonplatform.core.internal.utils.ObjectUtils;
@@ -42,6 +44,7 @@ import com.holonplatform.http.rest.ResponseEntity;
 import com.holonplatform.http.rest.ResponseType;
 import com.holonplatform.http.rest.RestClient.Invoker;
 import com.holonplatform.http.rest.RestClient.RequestDefinition;
+import com.holonplatform.http.rest.RestClient.RequestTemplate;
 
 /**
  * Default {@link RequestDefinition} implementation.
@@ -89,6 +92,11 @@ public class DefaultRequestDefinition implements RequestDefinition {
 	 */
 	protected final Invoker invoker;
 
+	/**
+	 * The template from which this definition was created, if the request target and paths were not changed since
+	 */
+	private DefaultRequestTemplate template;
+
 	/**
 	 * Construct a new DefaultRestRequestDefinition
 	 * @param invoker Invoker to use to invoke for response
@@ -99,6 +107,24 @@ public class DefaultRequestDefinition implements RequestDefinition {
 		this.invoker = invoker;
 	}
 
+	/**
+	 * Construct a new DefaultRestRequestDefinition using given template configuration.
+	 * @param invoker Invoker to use to invoke for response
+	 * @param template The template from which to obtain the request configuration (not null)
+	 * @since 5.2.0
+	 */
+	public DefaultRequestDefinition(Invoker invoker, DefaultRequestTemplate template) {
+		this(invoker);
+		ObjectUtils.argumentNotNull(template, "Request template must be not null");
+		this.template = template;
+		this.baseRequestURI = template.getBaseRequestURI();
+		this.requestPaths.addAll(template.getRequestPaths());
+		// copy the values, which can be modified through the query parameters map
+		template.getQueryParameters().forEach((n, v) -> this.queryParameters.put(n, v.clone()));
+		this.headers.putAll(template.getHeaders());
+		this.propertySet = template.getPropertySet();
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see com.holonplatform.http.RestClient.RequestBuilder#target(java.net.URI)
@@ -107,6 +133,7 @@ public class DefaultRequestDefinition implements RequestDefinition {
 	public RequestDefinition target(URI baseUri) {
 		ObjectUtils.argumentNotNull(baseUri, "Base URI target must be not null");
 		this.baseRequestURI = baseUri;
+		this.template = null;
 		return this;
 	}
 
@@ -118,6 +145,7 @@ public class DefaultRequestDefinition implements RequestDefinition {
 	public RequestDefinition path(String path) {
 		ObjectUtils.argumentNotNull(path, "Request path must be not null");
 		requestPaths.add(path);
+		this.template = null;
 		return this;
 	}
 
@@ -418,6 +446,31 @@ public class DefaultRequestDefinition implements RequestDefinition {
 		return Optional.ofNullable(propertySet);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.http.rest.RestClient.RequestDefinition#compile()
+	 */
+	@Override
+	public RequestTemplate compile() {
+		return new DefaultRequestTemplate(invoker, this);
+	}
+
+	/**
+	 * If this definition was created from a {@link RequestTemplate} and the request target and paths were not changed
+	 * since, expand the request URI using the template compiled URI, the current template parameters and the current
+	 * query parameters.
+	 * @return The expanded and encoded request URI, or an empty Optional if the request URI cannot be expanded by a
+	 *         request template
+	 * @throws IllegalArgumentException If a template parameter value is missing
+	 * @since 5.2.0
+	 */
+	public Optional<String> expandRequestURI() {
+		if (template != null && template.isExpandable()) {
+			return Optional.of(template.expand(templateParameters, queryParameters));
+		}
+		return Optional.empty();
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see com.holonplatform.http.RestClient.Invocation#invoke(com.holonplatform.http.HttpMethod,
@@ -467,6 +520,31 @@ public class DefaultRequestDefinition implements RequestDefinition {
 		}
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.http.rest.RestClient.Invocation#getAsList(java.lang.Class)
+	 */
+	@Override
+	public <T> List<T> getAsList(Class<T> responseType) {
+		try (Stream<T> elements = getAsStream(responseType)) {
+			return elements.collect(Collectors.toList());
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.http.rest.RestClient.Invocation#getAsStream(java.lang.Class)
+	 */
+	@Override
+	public <T> Stream<T> getAsStream(Class<T> responseType) {
+		ObjectUtils.argumentNotNull(responseType, "Response type must be not null");
+		final Stream<T> elements = invoker.invokeForStream(this, HttpMethod.GET, null, responseType);
+		if (elements == null) {
+			throw new HttpClientInvocationException("The invoker [" + invoker + "] returned a null response");
+		}
+		return elements;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see java.lang.Object#toString()
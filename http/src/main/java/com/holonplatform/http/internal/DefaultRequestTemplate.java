@@ -0,0 +1,250 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.http.internal;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import com.holonplatform.core.internal.utils.ObjectUtils;
+import com.holonplatform.core.property.PropertySet;
+import com.holonplatform.http.internal.rest.CompiledUriTemplate;
+import com.holonplatform.http.rest.RestClient.Invoker;
+import com.holonplatform.http.rest.RestClient.RequestDefinition;
+import com.holonplatform.http.rest.RestClient.RequestTemplate;
+
+/**
+ * Default {@link RequestTemplate} implementation.
+ * <p>
+ * The template configuration is captured from a {@link DefaultRequestDefinition} and never changes. The request URI
+ * template is compiled into a {@link CompiledUriTemplate} and the template query parameters are encoded in advance.
+ * </p>
+ * 
+ * @since 5.2.0
+ */
+public class DefaultRequestTemplate implements RequestTemplate {
+
+	private static final long serialVersionUID = 4339307802733929475L;
+
+	/**
+	 * Invoker
+	 */
+	private final Invoker invoker;
+
+	/**
+	 * Base request URI
+	 */
+	private final URI baseRequestURI;
+
+	/**
+	 * Request paths
+	 */
+	private final List<String> requestPaths;
+
+	/**
+	 * Request URI template
+	 */
+	private final String requestURI;
+
+	/**
+	 * Compiled request URI template, <code>null</code> if the URI template cannot be expanded by this template
+	 */
+	private final CompiledUriTemplate uriTemplate;
+
+	/**
+	 * Query parameters
+	 */
+	private final Map<String, Object[]> queryParameters;
+
+	/**
+	 * Encoded query parameters, only for the query parameters which do not declare template variables
+	 */
+	private final Map<String, String> encodedQueryParameters;
+
+	/**
+	 * Headers
+	 */
+	private final Map<String, String> headers;
+
+	/**
+	 * PropertySet
+	 */
+	private final PropertySet<?> propertySet;
+
+	/**
+	 * Constructor.
+	 * @param invoker Invoker to use to invoke for response (not null)
+	 * @param definition The request definition from which to obtain the template configuration (not null)
+	 */
+	public DefaultRequestTemplate(Invoker invoker, DefaultRequestDefinition definition) {
+		super();
+		ObjectUtils.argumentNotNull(invoker, "Invoker must be not null");
+		ObjectUtils.argumentNotNull(definition, "Request definition must be not null");
+		this.invoker = invoker;
+		this.requestURI = definition.getRequestURI();
+		this.baseRequestURI = definition.baseRequestURI;
+		this.requestPaths = Collections.unmodifiableList(new ArrayList<>(definition.requestPaths));
+		// a fragment would require the query parameters to be inserted before it
+		this.uriTemplate = (requestURI.indexOf('#') < 0) ? CompiledUriTemplate.compile(requestURI) : null;
+		final Map<String, Object[]> qps = new HashMap<>(definition.queryParameters.size() * 4 / 3 + 1);
+		final Map<String, String> eqps = new HashMap<>(definition.queryParameters.size() * 4 / 3 + 1);
+		for (Entry<String, Object[]> entry : definition.queryParameters.entrySet()) {
+			final Object[] values = entry.getValue().clone();
+			qps.put(entry.getKey(), values);
+			if (!CompiledUriTemplate.isQueryParameterTemplate(entry.getKey(), values)) {
+				final StringBuilder sb = new StringBuilder();
+				CompiledUriTemplate.appendQueryParameter(sb, entry.getKey(), values, null);
+				eqps.put(entry.getKey(), sb.toString());
+			}
+		}
+		this.queryParameters = Collections.unmodifiableMap(qps);
+		this.encodedQueryParameters = eqps;
+		this.headers = Collections.unmodifiableMap(new HashMap<>(definition.headers));
+		this.propertySet = definition.propertySet;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.http.rest.RestClient.RequestTemplate#getRequestURI()
+	 */
+	@Override
+	public String getRequestURI() {
+		return requestURI;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.http.rest.RestClient.RequestTemplate#request()
+	 */
+	@Override
+	public RequestDefinition request() {
+		return new DefaultRequestDefinition(invoker, this);
+	}
+
+	/**
+	 * Get the base request URI.
+	 * @return the base request URI
+	 */
+	protected URI getBaseRequestURI() {
+		return baseRequestURI;
+	}
+
+	/**
+	 * Get the request paths.
+	 * @return the request paths
+	 */
+	protected List<String> getRequestPaths() {
+		return requestPaths;
+	}
+
+	/**
+	 * Get the query parameters.
+	 * @return the query parameters
+	 */
+	protected Map<String, Object[]> getQueryParameters() {
+		return queryParameters;
+	}
+
+	/**
+	 * Get the headers.
+	 * @return the headers
+	 */
+	protected Map<String, String> getHeaders() {
+		return headers;
+	}
+
+	/**
+	 * Get the property set.
+	 * @return the property set, may be null
+	 */
+	protected PropertySet<?> getPropertySet() {
+		return propertySet;
+	}
+
+	/**
+	 * Get whether the request URI can be expanded by this template.
+	 * @return <code>true</code> if the request URI can be expanded by this template
+	 */
+	protected boolean isExpandable() {
+		return uriTemplate != null;
+	}
+
+	/**
+	 * Expand the request URI, using given template and query parameters. The query parameters which values are the
+	 * same instances as the template ones are not encoded again.
+	 * @param templateParameters Template parameters values
+	 * @param requestQueryParameters Request query parameters
+	 * @return The expanded and encoded request URI
+	 * @throws IllegalStateException If the request URI cannot be expanded by this template
+	 * @throws IllegalArgumentException If a template variable value is missing
+	 */
+	protected String expand(Map<String, Object> templateParameters, Map<String, Object[]> requestQueryParameters) {
+		if (uriTemplate == null) {
+			throw new IllegalStateException("The request URI [" + requestURI + "] cannot be expanded by the template");
+		}
+		final StringBuilder sb = new StringBuilder(requestURI.length() + 32);
+		uriTemplate.expand(sb, templateParameters);
+		boolean first = !uriTemplate.hasQuery();
+		for (Entry<String, Object[]> entry : requestQueryParameters.entrySet()) {
+			sb.append(first ? '?' : '&');
+			first = false;
+			final String encoded = isSameValues(entry.getValue(), queryParameters.get(entry.getKey()))
+					? encodedQueryParameters.get(entry.getKey()) : null;
+			if (encoded != null) {
+				sb.append(encoded);
+			} else {
+				CompiledUriTemplate.appendQueryParameter(sb, entry.getKey(), entry.getValue(), templateParameters);
+			}
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Checks whether given query parameter values contain the same value instances, in the same order.
+	 * @param values The values to check
+	 * @param templateValues The template values, may be null
+	 * @return <code>true</code> if the values are the same instances as the template values
+	 */
+	private static boolean isSameValues(Object[] values, Object[] templateValues) {
+		if (values == templateValues) {
+			return true;
+		}
+		if (values == null || templateValues == null || values.length != templateValues.length) {
+			return false;
+		}
+		for (int i = 0; i < values.length; i++) {
+			if (values[i] != templateValues[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "DefaultRequestTemplate [requestURI=" + requestURI + ", queryParameters=" + queryParameters.keySet()
+				+ ", headers=" + headers + ", propertySet=" + propertySet + "]";
+	}
+
+}
@@ -17,8 +17,13 @@ package com.holonplatform.http.internal;
 
 import java.io.Serializable;
 import java.net.URI;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoField;
 import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Collection;
@@ -30,7 +35,6 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.TimeZone;
 
 import com.holonplatform.http.HttpHeaders;
 
@@ -50,6 +54,20 @@ public final class HttpUtils implements Serializable {
 	public static final String[] DATE_FORMATS = new String[] { "EEE, dd MMM yyyy HH:mm:ss zzz",
 			"EEE, dd-MMM-yy HH:mm:ss zzz", "EEE MMM dd HH:mm:ss yyyy" };
 
+	/**
+	 * RFC 850 date format (obsolete)
+	 */
+	private static final DateTimeFormatter RFC_850_DATE_TIME = new DateTimeFormatterBuilder().parseCaseInsensitive()
+			.appendPattern("[EEEE][EEE], dd-MMM-")
+			.appendValueReduced(ChronoField.YEAR, 2, 2, LocalDate.now(ZoneOffset.UTC).minusYears(50))
+			.appendPattern(" HH:mm:ss zzz").toFormatter(Locale.US);
+
+	/**
+	 * ANSI C asctime() date format (obsolete)
+	 */
+	private static final DateTimeFormatter ASCTIME_DATE_TIME = new DateTimeFormatterBuilder().parseCaseInsensitive()
+			.appendPattern("EEE MMM ppd HH:mm:ss yyyy").toFormatter(Locale.US).withZone(ZoneOffset.UTC);
+
 	/*
 	 * Empty private constructor: this class is intended only to provide constants ad utility methods.
 	 */
@@ -66,19 +84,30 @@ public final class HttpUtils implements Serializable {
 	}
 
 	/**
-	 * Get a header date value as {@link Date}
+	 * Get a header date value as {@link Date}.
+	 * <p>
+	 * The date formats specified in {@link #DATE_FORMATS} are supported. The format to use is selected according to
+	 * the header value shape, using thread-safe and immutable formatters.
+	 * </p>
 	 * @param headerValue Header
 	 * @return Date or <code>null</code> if header is null or invalid
 	 */
 	public static Date parseHeaderDate(String headerValue) {
 		if (headerValue != null && headerValue.length() >= 3) {
-			for (String dateFormat : DATE_FORMATS) {
-				SimpleDateFormat simpleDateFormat = new SimpleDateFormat(dateFormat, Locale.US);
-				simpleDateFormat.setTimeZone(TimeZone.getTimeZone("GMT"));
-				try {
-					return simpleDateFormat.parse(headerValue);
-				} catch (@SuppressWarnings("unused") ParseException ex) {
-					// ignore
+			final String value = headerValue.trim();
+			final int comma = value.indexOf(',');
+			final DateTimeFormatter formatter = (comma < 0) ? ASCTIME_DATE_TIME
+					: ((comma == 3) ? DateTimeFormatter.RFC_1123_DATE_TIME : RFC_850_DATE_TIME);
+			try {
+				return Date.from(formatter.parse(value, Instant::from));
+			} catch (@SuppressWarnings("unused") DateTimeParseException ex) {
+				// the obsolete RFC 850 format may use the short day of week name too
+				if (formatter == DateTimeFormatter.RFC_1123_DATE_TIME && value.indexOf('-') > comma) {
+					try {
+						return Date.from(RFC_850_DATE_TIME.parse(value, Instant::from));
+					} catch (@SuppressWarnings("unused") DateTimeParseException e) {
+						// ignore
+					}
 				}
 			}
 		}
@@ -89,22 +118,39 @@ public final class HttpUtils implements Serializable {
 	 * Try to get a list of {@link Locale} from HTTP request from {@link HttpHeaders#ACCEPT_LANGUAGE} header, if not
 	 * null. If more than one language is specified in Accept-Language header, returned Locales will be ordered relying
 	 * on <i>quality</i> parameter, if specified.
+	 * <p>
+	 * The header is parsed in a single pass, without using regular expressions.
+	 * </p>
 	 * @param header Accept-Language header
 	 * @return List of Locale for the languages of the Accept-Language header, if any. If header is not present, an
 	 *         empty list is returned.
 	 */
 	public static List<Locale> getAcceptLanguageLocales(String header) {
-		if (header != null && !header.trim().equals("")) {
-			List<QualityLocale> qls = new LinkedList<>();
-			for (String part : header.split(",")) {
-				QualityLocale ql = parseLanguageAndQuality(part);
+		if (header != null) {
+			final int length = header.length();
+			List<QualityLocale> qls = null;
+			int start = 0;
+			while (start < length) {
+				int end = header.indexOf(',', start);
+				if (end < 0) {
+					end = length;
+				}
+				final QualityLocale ql = parseLanguageAndQuality(header, start, end);
 				if (ql != null) {
+					if (qls == null) {
+						qls = new ArrayList<>(4);
+					}
 					qls.add(ql);
 				}
+				start = end + 1;
 			}
-			if (!qls.isEmpty()) {
-				List<Locale> locales = new ArrayList<>();
+			if (qls != null) {
+				if (qls.size() == 1) {
+					return Collections.singletonList(qls.get(0).locale);
+				}
+				// stable sort: the languages with the same quality keep the header order
 				Collections.sort(qls);
+				final List<Locale> locales = new ArrayList<>(qls.size());
 				for (QualityLocale ql : qls) {
 					locales.add(ql.locale);
 				}
@@ -114,35 +160,131 @@ public final class HttpUtils implements Serializable {
 		return Collections.emptyList();
 	}
 
-	private static QualityLocale parseLanguageAndQuality(String token) {
-		if (token != null && !token.trim().equals("")) {
-			String[] splitted = token.trim().replace("-", "_").split(";");
-			if (splitted.length > 0) {
-				Locale locale = null;
-				String[] l = splitted[0].split("_");
-				switch (l.length) {
-				case 2:
-					locale = new Locale(l[0], l[1]);
-					break;
-				case 3:
-					locale = new Locale(l[0], l[1], l[2]);
-					break;
-				default:
-					locale = new Locale(l[0]);
-					break;
+	/**
+	 * Parse a language range and its quality parameter, if any.
+	 * @param header The header value
+	 * @param from The language token start index, inclusive
+	 * @param to The language token end index, exclusive
+	 * @return The parsed language and quality, <code>null</code> if the token is empty
+	 */
+	private static QualityLocale parseLanguageAndQuality(String header, int from, int to) {
+		int start = skipWhitespaces(header, from, to);
+		if (start >= to) {
+			return null;
+		}
+		int end = header.indexOf(';', start);
+		if (end < 0 || end > to) {
+			end = to;
+		}
+		final int rangeEnd = trimEnd(header, start, end);
+		if (rangeEnd <= start) {
+			return null;
+		}
+		// language range parts, separated by '-' or '_'
+		final String[] parts = new String[3];
+		int count = 0;
+		int partStart = start;
+		for (int i = start; i <= rangeEnd; i++) {
+			if (i == rangeEnd || header.charAt(i) == '-' || header.charAt(i) == '_') {
+				if (count < parts.length) {
+					parts[count] = header.substring(partStart, i);
 				}
-				double quality = 1.0d;
-				for (String s : splitted) {
-					s = s.trim();
-					if (s.startsWith("q=")) {
-						quality = Double.parseDouble(s.substring(2).trim());
+				count++;
+				partStart = i + 1;
+			}
+		}
+		final Locale locale;
+		switch (count) {
+		case 2:
+			locale = new Locale(parts[0], parts[1]);
+			break;
+		case 3:
+			locale = new Locale(parts[0], parts[1], parts[2]);
+			break;
+		default:
+			locale = new Locale(parts[0]);
+			break;
+		}
+		// quality parameter
+		double quality = 1.0d;
+		int param = end;
+		while (param < to) {
+			final int paramStart = skipWhitespaces(header, param + 1, to);
+			int paramEnd = header.indexOf(';', paramStart);
+			if (paramEnd < 0 || paramEnd > to) {
+				paramEnd = to;
+			}
+			if (paramStart + 1 < paramEnd && header.charAt(paramStart) == 'q' && header.charAt(paramStart + 1) == '=') {
+				quality = parseQuality(header, skipWhitespaces(header, paramStart + 2, paramEnd),
+						trimEnd(header, paramStart + 2, paramEnd));
+				break;
+			}
+			param = paramEnd;
+		}
+		return new QualityLocale(locale, quality);
+	}
+
+	/**
+	 * Parse a quality value, which is expected to be a decimal number between <code>0</code> and <code>1</code> with
+	 * at most three decimal digits.
+	 * @param value The header value
+	 * @param from Quality value start index, inclusive
+	 * @param to Quality value end index, exclusive
+	 * @return The quality value
+	 * @throws NumberFormatException If the quality value is not a valid number
+	 */
+	private static double parseQuality(String value, int from, int to) {
+		if (from < to && (to - from) <= 5) {
+			final char integer = value.charAt(from);
+			if ((integer == '0' || integer == '1') && (from + 1 == to || value.charAt(from + 1) == '.')) {
+				int decimals = 0;
+				int scale = 1;
+				boolean valid = true;
+				for (int i = from + 2; i < to; i++) {
+					final char c = value.charAt(i);
+					if (c < '0' || c > '9') {
+						valid = false;
 						break;
 					}
+					decimals = decimals * 10 + (c - '0');
+					scale = scale * 10;
+				}
+				if (valid) {
+					return (integer - '0') + ((double) decimals / scale);
 				}
-				return new QualityLocale(locale, quality);
 			}
 		}
-		return null;
+		return Double.parseDouble(value.substring(from, to));
+	}
+
+	/**
+	 * Get the index of the first non whitespace character in given range.
+	 * @param value The value
+	 * @param from Start index, inclusive
+	 * @param to End index, exclusive
+	 * @return The first non whitespace character index, <code>to</code> if none
+	 */
+	private static int skipWhitespaces(String value, int from, int to) {
+		int index = from;
+		while (index < to && value.charAt(index) <= ' ') {
+			index++;
+		}
+		return index;
+	}
+
+	/**
+	 * Get the end index of given range, excluding the trailing whitespaces.
+	 * @param value The value
+	 * @param from Start index, inclusive
+	 * @param to End index, exclusive
+	 * @return The end index, exclusive, without trailing whitespaces
+	 */
+	private static int trimEnd(String value, int from, int to) {
+		int index = to;
+		while (index > from && value.charAt(index - 1) <= ' ') {
+			index--;
+		}
+		return index;
 	}
 
 	private static class QualityLocale implements Comparable<QualityLocale> {
@@ -162,11 +304,47 @@ public final class HttpUtils implements Serializable {
 		 */
 		@Override
 		public int compareTo(QualityLocale o) {
-			return Double.valueOf(o.quality).compareTo(Double.valueOf(quality));
+			return Double.compare(o.quality, quality);
 		}
 
 	}
 
+	/**
+	 * Get the <code>charset</code> parameter value of a <code>Content-Type</code> header value, if available.
+	 * <p>
+	 * The header is parsed in a single pass, without using regular expressions. The parameter name is matched ignoring
+	 * case and the value quotes, if any, are removed.
+	 * </p>
+	 * @param contentType The Content-Type header value
+	 * @return The charset, or <code>null</code> if not available
+	 * @since 5.2.0
+	 */
+	public static String getContentTypeCharset(String contentType) {
+		if (contentType != null) {
+			final int length = contentType.length();
+			int param = contentType.indexOf(';');
+			while (param >= 0) {
+				final int start = skipWhitespaces(contentType, param + 1, length);
+				int end = contentType.indexOf(';', start);
+				if (end < 0) {
+					end = length;
+				}
+				if (contentType.regionMatches(true, start, "charset=", 0, 8)) {
+					int valueStart = skipWhitespaces(contentType, start + 8, end);
+					int valueEnd = trimEnd(contentType, valueStart, end);
+					if (valueEnd - valueStart >= 2 && contentType.charAt(valueStart) == '"'
+							&& contentType.charAt(valueEnd - 1) == '"') {
+						valueStart++;
+						valueEnd--;
+					}
+					return (valueEnd > valueStart) ? contentType.substring(valueStart, valueEnd) : null;
+				}
+				param = (end < length) ? end : -1;
+			}
+		}
+		return null;
+	}
+
 	/**
 	 * Check if given header value is a Bearer authorization header
 	 * @param header Header value
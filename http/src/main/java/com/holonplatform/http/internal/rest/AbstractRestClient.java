@@ -111,11 +111,10 @@ public abstract class AbstractRestClient implements RestClient, Invoker {
 		getDefaultTarget().ifPresent(t -> definition.target(t));
 
 		// set default headers
-		defaultHeaders.forEach((n, v) -> {
-			if (!definition.getHeaders().containsKey(n)) {
-				definition.getHeaders().put(n, v);
-			}
-		});
+		if (!defaultHeaders.isEmpty()) {
+			final Map<String, String> headers = definition.getHeaders();
+			defaultHeaders.forEach((n, v) -> headers.putIfAbsent(n, v));
+		}
 
 		LOGGER.debug(() -> "RestClient: build request[" + definition + "]");
 
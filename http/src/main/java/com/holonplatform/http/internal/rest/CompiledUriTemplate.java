@@ -0,0 +1,448 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.http.internal.rest;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.holonplatform.core.internal.utils.ObjectUtils;
+
+/**
+ * A parsed URI template, which can be expanded any number of times using different template variables values.
+ * <p>
+ * The template variables are declared using the <code>{name}</code> syntax. The template constant parts are encoded
+ * once, when the template is compiled, so that the expansion only requires to encode and append the variables values.
+ * Each URI component is encoded according to RFC 3986, consistently with the URI component encoding performed by the
+ * Spring <code>RestTemplate</code>.
+ * </p>
+ * 
+ * @since 5.2.0
+ */
+public final class CompiledUriTemplate implements Serializable {
+
+	private static final long serialVersionUID = -2960262457186104606L;
+
+	/**
+	 * URI components, used to select the characters which do not require to be encoded.
+	 */
+	public enum Component {
+
+		/**
+		 * URI authority
+		 */
+		AUTHORITY,
+
+		/**
+		 * URI path, including the path segments separator
+		 */
+		PATH,
+
+		/**
+		 * URI query string, including the query parameters separators
+		 */
+		QUERY,
+
+		/**
+		 * A query parameter name or value
+		 */
+		QUERY_PARAM,
+
+		/**
+		 * URI fragment
+		 */
+		FRAGMENT;
+
+	}
+
+	private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+	/**
+	 * Encoded template constant parts: the constant part at index <code>i</code> precedes the variable at index
+	 * <code>i</code>, the last one follows the last variable.
+	 */
+	private final String[] constants;
+
+	/**
+	 * Template variable names
+	 */
+	private final String[] variables;
+
+	/**
+	 * Template variables URI components
+	 */
+	private final Component[] components;
+
+	/**
+	 * Whether the template includes a query string
+	 */
+	private final boolean query;
+
+	/**
+	 * Expanded URI length estimate
+	 */
+	private final int length;
+
+	private CompiledUriTemplate(List<String> constants, List<String> variables, List<Component> components,
+			boolean query) {
+		super();
+		this.constants = constants.toArray(new String[constants.size()]);
+		this.variables = variables.toArray(new String[variables.size()]);
+		this.components = components.toArray(new Component[components.size()]);
+		this.query = query;
+		int l = 0;
+		for (String constant : constants) {
+			l += constant.length();
+		}
+		this.length = l + variables.size() * 16;
+	}
+
+	/**
+	 * Compile given URI template. The URI scheme and authority, if any, are detected using the
+	 * <code>scheme://authority</code> syntax.
+	 * @param template The URI template (not null)
+	 * @return The compiled template
+	 * @throws IllegalArgumentException If the template is not valid
+	 */
+	public static CompiledUriTemplate compile(String template) {
+		ObjectUtils.argumentNotNull(template, "URI template must be not null");
+		final Parser parser = new Parser(template);
+		int index = template.indexOf("://");
+		if (index > 0 && template.lastIndexOf('{', index) < 0) {
+			index += 3;
+			parser.constant.append(template, 0, index);
+			parser.component = Component.AUTHORITY;
+		} else {
+			index = 0;
+			parser.component = Component.PATH;
+		}
+		return parser.parse(index);
+	}
+
+	/**
+	 * Compile given URI component template.
+	 * @param template The URI component template (not null)
+	 * @param component The URI component (not null)
+	 * @return The compiled template
+	 * @throws IllegalArgumentException If the template is not valid
+	 */
+	public static CompiledUriTemplate compile(String template, Component component) {
+		ObjectUtils.argumentNotNull(template, "URI template must be not null");
+		ObjectUtils.argumentNotNull(component, "URI component must be not null");
+		final Parser parser = new Parser(template);
+		parser.component = component;
+		parser.fixed = true;
+		return parser.parse(0);
+	}
+
+	/**
+	 * Get whether this template includes a query string.
+	 * @return <code>true</code> if this template includes a query string
+	 */
+	public boolean hasQuery() {
+		return query;
+	}
+
+	/**
+	 * Get whether this template declares any variable.
+	 * @return <code>true</code> if this template declares at least one variable
+	 */
+	public boolean hasVariables() {
+		return variables.length > 0;
+	}
+
+	/**
+	 * Expand this template.
+	 * @param values Template variables values
+	 * @return The expanded and encoded URI
+	 * @throws IllegalArgumentException If a template variable value is missing
+	 */
+	public String expand(Map<String, ?> values) {
+		final StringBuilder sb = new StringBuilder(length);
+		expand(sb, values);
+		return sb.toString();
+	}
+
+	/**
+	 * Expand this template, appending the expanded and encoded URI to given {@link StringBuilder}.
+	 * @param sb The builder to which to append the expanded URI (not null)
+	 * @param values Template variables values
+	 * @throws IllegalArgumentException If a template variable value is missing
+	 */
+	public void expand(StringBuilder sb, Map<String, ?> values) {
+		for (int i = 0; i < variables.length; i++) {
+			sb.append(constants[i]);
+			if (values == null || !values.containsKey(variables[i])) {
+				throw new IllegalArgumentException("Missing value for URI template variable [" + variables[i] + "]");
+			}
+			final Object value = values.get(variables[i]);
+			if (value != null) {
+				encode(sb, value.toString(), components[i]);
+			}
+		}
+		sb.append(constants[variables.length]);
+	}
+
+	/**
+	 * Append a query parameter to given {@link StringBuilder}, encoding its name and values. When more than one value
+	 * is provided, the query parameter is appended once per value. Any URI template variable declared by the query
+	 * parameter name or values is expanded.
+	 * @param sb The builder to which to append the query parameter (not null)
+	 * @param name The query parameter name (not null)
+	 * @param queryValues The query parameter values
+	 * @param values Template variables values
+	 * @throws IllegalArgumentException If a template variable value is missing
+	 */
+	public static void appendQueryParameter(StringBuilder sb, String name, Object[] queryValues,
+			Map<String, ?> values) {
+		if (queryValues == null || queryValues.length == 0) {
+			appendQueryParameterComponent(sb, name, values);
+			return;
+		}
+		for (int i = 0; i < queryValues.length; i++) {
+			if (i > 0) {
+				sb.append('&');
+			}
+			appendQueryParameterComponent(sb, name, values);
+			if (queryValues[i] != null) {
+				sb.append('=');
+				appendQueryParameterComponent(sb, queryValues[i].toString(), values);
+			}
+		}
+	}
+
+	private static void appendQueryParameterComponent(StringBuilder sb, String value, Map<String, ?> values) {
+		if (value.indexOf('{') > -1) {
+			compile(value, Component.QUERY_PARAM).expand(sb, values);
+		} else {
+			encode(sb, value, Component.QUERY_PARAM);
+		}
+	}
+
+	/**
+	 * Checks whether given query parameter name and values declare any URI template variable.
+	 * @param name The query parameter name (not null)
+	 * @param queryValues The query parameter values
+	 * @return <code>true</code> if the query parameter name or any of its values declares a template variable
+	 */
+	public static boolean isQueryParameterTemplate(String name, Object[] queryValues) {
+		if (name.indexOf('{') > -1) {
+			return true;
+		}
+		if (queryValues != null) {
+			for (Object value : queryValues) {
+				if (value != null && value.toString().indexOf('{') > -1) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Encode given value according to the rules of given URI component.
+	 * @param value The value to encode (not null)
+	 * @param component The URI component (not null)
+	 * @return The encoded value
+	 */
+	public static String encode(String value, Component component) {
+		final StringBuilder sb = new StringBuilder(value.length() + 8);
+		encode(sb, value, component);
+		return sb.toString();
+	}
+
+	/**
+	 * Encode given value according to the rules of given URI component, appending it to given {@link StringBuilder}.
+	 * @param sb The builder to which to append the encoded value (not null)
+	 * @param value The value to encode (not null)
+	 * @param component The URI component (not null)
+	 */
+	public static void encode(StringBuilder sb, String value, Component component) {
+		final int length = value.length();
+		for (int i = 0; i < length; i++) {
+			final char c = value.charAt(i);
+			if (c < 128) {
+				if (isAllowed(c, component)) {
+					sb.append(c);
+				} else {
+					appendEncoded(sb, c);
+				}
+			} else {
+				// encode the remaining part as UTF-8 bytes
+				for (byte b : value.substring(i).getBytes(StandardCharsets.UTF_8)) {
+					if (b >= 0 && isAllowed((char) b, component)) {
+						sb.append((char) b);
+					} else {
+						appendEncoded(sb, b);
+					}
+				}
+				return;
+			}
+		}
+	}
+
+	private static void appendEncoded(StringBuilder sb, int b) {
+		sb.append('%').append(HEX[(b >> 4) & 0x0F]).append(HEX[b & 0x0F]);
+	}
+
+	private static boolean isAllowed(char c, Component component) {
+		switch (component) {
+		case AUTHORITY:
+			return isUnreserved(c) || isSubDelimiter(c) || c == ':' || c == '@' || c == '[' || c == ']';
+		case PATH:
+			return isPathChar(c) || c == '/';
+		case QUERY:
+		case FRAGMENT:
+			return isPathChar(c) || c == '/' || c == '?';
+		case QUERY_PARAM:
+			return (c != '=' && c != '&') && (isPathChar(c) || c == '/' || c == '?');
+		default:
+			return false;
+		}
+	}
+
+	private static boolean isPathChar(char c) {
+		return isUnreserved(c) || isSubDelimiter(c) || c == ':' || c == '@';
+	}
+
+	private static boolean isUnreserved(char c) {
+		return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '-' || c == '.'
+				|| c == '_' || c == '~';
+	}
+
+	private static boolean isSubDelimiter(char c) {
+		return c == '!' || c == '$' || c == '&' || c == '\'' || c == '(' || c == ')' || c == '*' || c == '+'
+				|| c == ',' || c == ';' || c == '=';
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		final StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < variables.length; i++) {
+			sb.append(constants[i]).append('{').append(variables[i]).append('}');
+		}
+		return sb.append(constants[variables.length]).toString();
+	}
+
+	/**
+	 * Template parser.
+	 */
+	private static final class Parser {
+
+		private final String template;
+
+		private final List<String> constants = new ArrayList<>(4);
+		private final List<String> variables = new ArrayList<>(4);
+		private final List<Component> components = new ArrayList<>(4);
+
+		private final StringBuilder constant = new StringBuilder();
+
+		private Component component;
+		private boolean fixed = false;
+		private boolean query = false;
+
+		Parser(String template) {
+			super();
+			this.template = template;
+		}
+
+		CompiledUriTemplate parse(int from) {
+			final int length = template.length();
+			int i = from;
+			while (i < length) {
+				final char c = template.charAt(i);
+				if (c == '{') {
+					i = parseVariable(i);
+					continue;
+				}
+				if (!fixed) {
+					if (component == Component.AUTHORITY && (c == '/' || c == '?' || c == '#')) {
+						component = Component.PATH;
+					}
+					if (c == '?' && component == Component.PATH) {
+						component = Component.QUERY;
+						query = true;
+						constant.append(c);
+						i++;
+						continue;
+					}
+					if (c == '#' && component != Component.FRAGMENT) {
+						component = Component.FRAGMENT;
+						constant.append(c);
+						i++;
+						continue;
+					}
+				}
+				final int end = nextSpecial(i + 1);
+				encode(constant, template.substring(i, end), component);
+				i = end;
+			}
+			constants.add(constant.toString());
+			return new CompiledUriTemplate(constants, variables, components, query);
+		}
+
+		private int nextSpecial(int from) {
+			final int length = template.length();
+			for (int i = from; i < length; i++) {
+				final char c = template.charAt(i);
+				if (c == '{' || c == '?' || c == '#' || c == '/') {
+					return i;
+				}
+			}
+			return length;
+		}
+
+		private int parseVariable(int start) {
+			int depth = 1;
+			int i = start + 1;
+			while (i < template.length() && depth > 0) {
+				final char c = template.charAt(i);
+				if (c == '{') {
+					depth++;
+				} else if (c == '}') {
+					depth--;
+				}
+				i++;
+			}
+			if (depth > 0) {
+				throw new IllegalArgumentException("Invalid URI template [" + template + "]: unclosed variable");
+			}
+			// strip any variable pattern
+			String name = template.substring(start + 1, i - 1);
+			final int colon = name.indexOf(':');
+			if (colon > -1) {
+				name = name.substring(0, colon);
+			}
+			name = name.trim();
+			if (name.isEmpty()) {
+				throw new IllegalArgumentException("Invalid URI template [" + template + "]: empty variable name");
+			}
+			constants.add(constant.toString());
+			constant.setLength(0);
+			variables.add(name);
+			components.add((component == Component.QUERY) ? Component.QUERY_PARAM : component);
+			return i;
+		}
+
+	}
+
+}
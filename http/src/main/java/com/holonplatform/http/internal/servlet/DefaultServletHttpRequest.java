@@ -22,6 +22,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Enumeration;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -39,6 +40,10 @@ import com.holonplatform.http.servlet.ServletHttpRequest;
 
 /**
  * {@link HttpRequest} implementation using {@link HttpServletRequest} as concrete request.
+ * <p>
+ * The request parameters and the request cookies are converted only once, the first time they are requested, and the
+ * resulting immutable views are shared by all the subsequent callers.
+ * </p>
  * 
  * @since 5.0.6
  */
@@ -46,6 +51,16 @@ public class DefaultServletHttpRequest extends AbstractHttpRequest implements Se
 
 	protected final HttpServletRequest request;
 
+	/**
+	 * Request parameters view, lazily initialized
+	 */
+	private volatile Map<String, List<String>> parameters;
+
+	/**
+	 * Request cookies by name, lazily initialized
+	 */
+	private volatile Map<String, Cookie> cookies;
+
 	/**
 	 * Constructor
 	 * @param request HttpServletRequest (not null)
@@ -109,11 +124,7 @@ public class DefaultServletHttpRequest extends AbstractHttpRequest implements Se
 	@Override
 	public Optional<List<String>> getMultiValueRequestParameter(String name) {
 		ObjectUtils.argumentNotNull(name, "Parameter name must be not null");
-		String[] values = request.getParameterValues(name);
-		if (values != null) {
-			return Optional.of(Arrays.asList(values));
-		}
-		return Optional.empty();
+		return Optional.ofNullable(getRequestParameters().get(name));
 	}
 
 	/*
@@ -122,17 +133,12 @@ public class DefaultServletHttpRequest extends AbstractHttpRequest implements Se
 	 */
 	@Override
 	public Map<String, List<String>> getRequestParameters() {
-		Map<String, String[]> params = request.getParameterMap();
-		if (params != null && !params.isEmpty()) {
-			final Map<String, List<String>> rqp = new HashMap<>(params.size());
-			params.entrySet().forEach(e -> {
-				if (e.getValue() != null) {
-					rqp.put(e.getKey(), Arrays.asList(e.getValue()));
-				}
-			});
-			return rqp;
+		Map<String, List<String>> rqp = parameters;
+		if (rqp == null) {
+			// concurrent initializations build equal views, so the last one can safely win
+			parameters = rqp = buildRequestParameters();
 		}
-		return Collections.emptyMap();
+		return rqp;
 	}
 
 	/*
@@ -142,23 +148,51 @@ public class DefaultServletHttpRequest extends AbstractHttpRequest implements Se
 	@Override
 	public Optional<Cookie> getRequestCookie(String name) {
 		ObjectUtils.argumentNotNull(name, "Cookie name must be not null");
-		javax.servlet.http.Cookie[] rcookies = request.getCookies();
-		if (rcookies != null) {
-			javax.servlet.http.Cookie rcookie = null;
-			for (javax.servlet.http.Cookie cookie : rcookies) {
-				if (name.equals(cookie.getName())) {
-					rcookie = cookie;
-					break;
+		Map<String, Cookie> rqc = cookies;
+		if (rqc == null) {
+			cookies = rqc = buildRequestCookies();
+		}
+		return Optional.ofNullable(rqc.get(name));
+	}
+
+	/**
+	 * Build the immutable request parameters view from the servlet request parameter map.
+	 * @return The request parameters, an empty map if none
+	 */
+	private Map<String, List<String>> buildRequestParameters() {
+		final Map<String, String[]> params = request.getParameterMap();
+		if (params != null && !params.isEmpty()) {
+			final Map<String, List<String>> rqp = new HashMap<>(params.size() * 4 / 3 + 1);
+			params.entrySet().forEach(e -> {
+				if (e.getValue() != null) {
+					rqp.put(e.getKey(), Collections.unmodifiableList(Arrays.asList(e.getValue().clone())));
 				}
-			}
+			});
+			return Collections.unmodifiableMap(rqp);
+		}
+		return Collections.emptyMap();
+	}
 
-			if (rcookie != null) {
-				return Optional.of(com.holonplatform.http.Cookie.builder().name(rcookie.getName())
-						.value(rcookie.getValue()).version(rcookie.getVersion()).path(rcookie.getPath())
-						.domain(rcookie.getDomain()).build());
+	/**
+	 * Build the immutable request cookies map from the servlet request cookies. When more than one cookie with the
+	 * same name is present, the first one is used.
+	 * @return The request cookies by name, an empty map if none
+	 */
+	private Map<String, Cookie> buildRequestCookies() {
+		final javax.servlet.http.Cookie[] rcookies = request.getCookies();
+		if (rcookies != null && rcookies.length > 0) {
+			final Map<String, Cookie> rqc = new LinkedHashMap<>(rcookies.length * 4 / 3 + 1);
+			for (javax.servlet.http.Cookie rcookie : rcookies) {
+				if (rcookie != null && rcookie.getName() != null && !rqc.containsKey(rcookie.getName())) {
+					rqc.put(rcookie.getName(),
+							Cookie.builder().name(rcookie.getName()).value(rcookie.getValue())
+									.version(rcookie.getVersion()).path(rcookie.getPath()).domain(rcookie.getDomain())
+									.build());
+				}
 			}
+			return Collections.unmodifiableMap(rqc);
 		}
-		return Optional.empty();
+		return Collections.emptyMap();
 	}
 
 	/*
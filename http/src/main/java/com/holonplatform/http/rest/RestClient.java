@@ -25,6 +25,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import com.holonplatform.core.internal.utils.ClassUtils;
 import com.holonplatform.core.property.Property;
@@ -188,6 +189,28 @@ public interface RestClient {
 			return getForEntity(rt).orElse(Collections.emptyList());
 		}
 
+		/**
+		 * Convenience method to invoke the request using <code>GET</code> method and receive the elements of a response
+		 * entity payload of array type as a {@link Stream}.
+		 * <p>
+		 * When supported by the concrete client implementation, the elements are deserialized one at a time while the
+		 * stream is consumed, reading directly from the connection input stream, so the response payload is never
+		 * entirely loaded in memory. The returned stream should be closed when no longer needed, in order to release
+		 * the underlying connection: closing the stream before it is fully consumed aborts the response reading.
+		 * </p>
+		 * @param <T> Response entity type
+		 * @param responseType Expected response elements type
+		 * @return The response payload elements stream, an empty stream if not present
+		 * @throws HttpClientInvocationException Internal invocation failure (for example, an I/O error on communication
+		 *         channel or expected and actual payload type mismatch)
+		 * @throws UnsuccessfulResponseException In case the status code of the response returned by the server is not a
+		 *         successful type status code, i.e. it is not a <code>2xx</code> status code
+		 * @since 5.2.0
+		 */
+		default <T> Stream<T> getAsStream(Class<T> responseType) {
+			return getAsList(responseType).stream();
+		}
+
 		// POST
 
 		/**
@@ -920,6 +943,59 @@ public interface RestClient {
 		 */
 		Optional<PropertySet<?>> getPropertySet();
 
+		/**
+		 * Compile this request definition into a reusable {@link RequestTemplate}.
+		 * <p>
+		 * The current request target, paths, query parameters, headers and property set are captured by the template,
+		 * and the request URI template is parsed and encoded once. Any subsequent change to this request definition is
+		 * not reflected in the template.
+		 * </p>
+		 * @return A new {@link RequestTemplate}
+		 * @throws HttpClientInvocationException If the request target base URI is missing
+		 * @throws IllegalArgumentException If the request URI template is not valid
+		 * @since 5.2.0
+		 */
+		RequestTemplate compile();
+
+	}
+
+	/**
+	 * A pre-compiled, immutable and thread-safe request template, obtained using {@link RequestDefinition#compile()}.
+	 * <p>
+	 * A request template can be used to perform any number of requests to the same endpoint: each new request
+	 * definition obtained from the template is initialized with the template configuration, and only the values of
+	 * the URI template parameters need to be resolved before performing the invocation. For example:
+	 * </p>
+	 * 
+	 * <pre>
+	 * RequestTemplate template = client.request().path("data/{id}").accept(MediaType.APPLICATION_JSON).compile();
+	 * Optional&lt;Data&gt; data = template.request().resolve("id", 1).getForEntity(Data.class);
+	 * </pre>
+	 * <p>
+	 * When the target, paths and query parameters of a request definition obtained from the template are not changed,
+	 * the request URI is expanded and encoded by the template itself, which only has to encode and substitute the
+	 * template parameters values. Each value is encoded as a whole within its URI component, so any URI delimiter it
+	 * contains (such as <code>?</code> in a path or <code>&amp;</code> in a query parameter) is never interpreted as
+	 * URI structure. A client implementation may fall back to its own URI expansion, for example when a custom URI
+	 * template handler is configured.
+	 * </p>
+	 * 
+	 * @since 5.2.0
+	 */
+	public interface RequestTemplate extends Serializable {
+
+		/**
+		 * Get the request URI template, including any template parameter.
+		 * @return The request URI template
+		 */
+		String getRequestURI();
+
+		/**
+		 * Create a new {@link RequestDefinition} initialized using this template configuration.
+		 * @return A new request definition
+		 */
+		RequestDefinition request();
+
 	}
 
 	/**
@@ -943,6 +1019,35 @@ public interface RestClient {
 		<T, R> ResponseEntity<T> invoke(RequestDefinition requestDefinition, HttpMethod method,
 				RequestEntity<R> requestEntity, ResponseType<T> responseType, boolean onlySuccessfulStatusCode);
 
+		/**
+		 * Invoke request using current given <code>request</code> definition and obtain the elements of the array type
+		 * response payload as a {@link Stream}. Only <code>2xx</code> status code responses are accepted.
+		 * <p>
+		 * By default, the whole response payload is read as a {@link List} before returning the stream. Concrete
+		 * implementations should override this method to read the elements incrementally, releasing the response when
+		 * the stream is closed.
+		 * </p>
+		 * @param <T> Response elements type
+		 * @param <R> Request entity type
+		 * @param requestDefinition Request definition
+		 * @param method Request method
+		 * @param requestEntity Request message payload
+		 * @param elementType Expected response elements type
+		 * @return The response payload elements stream
+		 * @throws UnsuccessfulResponseException If the response status code is not a <code>2xx</code> status code
+		 * @since 5.2.0
+		 */
+		default <T, R> Stream<T> invokeForStream(RequestDefinition requestDefinition, HttpMethod method,
+				RequestEntity<R> requestEntity, Class<T> elementType) {
+			final ResponseType<List<T>> rt = ResponseType.of(elementType, List.class);
+			final ResponseEntity<List<T>> response = invoke(requestDefinition, method, requestEntity, rt, true);
+			try {
+				return response.getPayload().orElse(Collections.emptyList()).stream();
+			} finally {
+				response.close();
+			}
+		}
+
 	}
 
 	/**
@@ -0,0 +1,205 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.http.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+import com.holonplatform.core.internal.utils.TestUtils;
+import com.holonplatform.http.HttpMethod;
+import com.holonplatform.http.internal.DefaultRequestDefinition;
+import com.holonplatform.http.internal.rest.CompiledUriTemplate;
+import com.holonplatform.http.internal.rest.CompiledUriTemplate.Component;
+import com.holonplatform.http.rest.RequestEntity;
+import com.holonplatform.http.rest.ResponseEntity;
+import com.holonplatform.http.rest.ResponseType;
+import com.holonplatform.http.rest.RestClient.Invoker;
+import com.holonplatform.http.rest.RestClient.RequestDefinition;
+import com.holonplatform.http.rest.RestClient.RequestTemplate;
+
+public class TestCompiledUriTemplate {
+
+	private static final Invoker INVOKER = new Invoker() {
+
+		@Override
+		public <T, R> ResponseEntity<T> invoke(RequestDefinition requestDefinition, HttpMethod method,
+				RequestEntity<R> requestEntity, ResponseType<T> responseType, boolean onlySuccessfulStatusCode) {
+			throw new UnsupportedOperationException();
+		}
+
+	};
+
+	private static Map<String, Object> values(Object... nameValues) {
+		final Map<String, Object> values = new HashMap<>();
+		for (int i = 0; i < nameValues.length; i += 2) {
+			values.put((String) nameValues[i], nameValues[i + 1]);
+		}
+		return values;
+	}
+
+	private static String appendQueryParameter(String name, Map<String, ?> values, Object... queryValues) {
+		final StringBuilder sb = new StringBuilder();
+		CompiledUriTemplate.appendQueryParameter(sb, name, queryValues, values);
+		return sb.toString();
+	}
+
+	@Test
+	public void testEncodingParity() throws URISyntaxException {
+		final StringBuilder ascii = new StringBuilder();
+		for (char c = 0x20; c < 0x7F; c++) {
+			ascii.append(c);
+		}
+		final String value = ascii.toString();
+
+		// RFC 2396 and RFC 3986 agree on the characters allowed in the path
+		final CompiledUriTemplate path = CompiledUriTemplate.compile("http://localhost/{value}");
+		assertEquals(new URI("http", "localhost", "/" + value, null).toASCIIString(),
+				path.expand(values("value", value)));
+		// RFC 2396 allows square brackets in the fragment, RFC 3986 does not
+		final CompiledUriTemplate fragment = CompiledUriTemplate.compile("{value}", Component.FRAGMENT);
+		assertEquals(new URI(null, null, null, value).getRawFragment().replace("[", "%5B").replace("]", "%5D"),
+				fragment.expand(values("value", value)));
+
+		assertEquals("a%20b/c%3Fd%23e%25f", CompiledUriTemplate.encode("a b/c?d#e%f", Component.PATH));
+		assertEquals("a%20b/c?d%23e", CompiledUriTemplate.encode("a b/c?d#e", Component.QUERY));
+		assertEquals("a%20b/c?d%23e%26f%3Dg+h", CompiledUriTemplate.encode("a b/c?d#e&f=g+h", Component.QUERY_PARAM));
+
+		// template constant parts
+		assertEquals("http://localhost:8080/a%20b/c?x=a%20b&y=1#f%20g",
+				CompiledUriTemplate.compile("http://localhost:8080/a b/c?x=a b&y=1#f g").expand(null));
+		assertEquals("http://localhost/a%20b/x/y?q=x%26y%3Dz",
+				CompiledUriTemplate.compile("http://localhost/a b/{p}?q={q}").expand(values("p", "x/y", "q", "x&y=z")));
+	}
+
+	@Test
+	public void testPathStructureValues() {
+		final CompiledUriTemplate template = CompiledUriTemplate.compile("http://localhost/data/{id}");
+		assertTrue(template.hasVariables());
+		assertFalse(template.hasQuery());
+		// URI delimiters in values are encoded instead of being parsed as URI structure
+		assertEquals("http://localhost/data/a%3Fb%23c", template.expand(values("id", "a?b#c")));
+		assertEquals("http://localhost/data/", template.expand(values("id", null)));
+		assertEquals("http://localhost/data/{id}", template.toString());
+	}
+
+	@Test
+	public void testQueryParameterTemplates() {
+		final CompiledUriTemplate template = CompiledUriTemplate.compile("http://localhost/data?q={q}&v=1");
+		assertTrue(template.hasQuery());
+		assertEquals("http://localhost/data?q=a%26b%3Dc&v=1", template.expand(values("q", "a&b=c")));
+
+		assertTrue(CompiledUriTemplate.isQueryParameterTemplate("{name}", null));
+		assertTrue(CompiledUriTemplate.isQueryParameterTemplate("name", new Object[] { 1, "{value}" }));
+		assertFalse(CompiledUriTemplate.isQueryParameterTemplate("name", new Object[] { 1, null, "value" }));
+		assertFalse(CompiledUriTemplate.isQueryParameterTemplate("name", null));
+
+		assertEquals("name", appendQueryParameter("name", null));
+		assertEquals("name", appendQueryParameter("name", null, (Object) null));
+		assertEquals("name=1&name=a%26b", appendQueryParameter("name", null, 1, "a&b"));
+		assertEquals("a%3Db=c%20d", appendQueryParameter("a=b", null, "c d"));
+		assertEquals("name=x%26y&name=2", appendQueryParameter("name", values("v", "x&y"), "{v}", 2));
+		assertEquals("p%3Dq=v", appendQueryParameter("{n}", values("n", "p=q"), "v"));
+		assertEquals("name=pre-x%20y", appendQueryParameter("name", values("v", "x y"), "pre-{v}"));
+	}
+
+	@Test
+	public void testNonAsciiValues() {
+		final CompiledUriTemplate template = CompiledUriTemplate.compile("http://localhost/{p}?q={q}#{f}");
+		assertEquals("http://localhost/caf%C3%A8/%E2%82%AC?q=%F0%9F%98%80%26#%C3%A8%20",
+				template.expand(values("p", "cafè/€", "q", "😀&", "f", "è ")));
+		assertEquals("%C3%A8", CompiledUriTemplate.encode("è", Component.AUTHORITY));
+		assertEquals("a=%C3%A8%3D", appendQueryParameter("a", null, "è="));
+		assertEquals("http://localhost/%C3%A8%20x",
+				CompiledUriTemplate.compile("http://localhost/è x").expand(Collections.emptyMap()));
+	}
+
+	@Test
+	public void testAuthorityVariables() {
+		final CompiledUriTemplate template = CompiledUriTemplate.compile("http://{host}:{port}/api/{p}");
+		assertEquals("http://example.com:8080/api/x",
+				template.expand(values("host", "example.com", "port", 8080, "p", "x")));
+		assertEquals("http://user@[::1]:80/api/a/b",
+				template.expand(values("host", "user@[::1]", "port", 80, "p", "a/b")));
+		assertEquals("http://ex%20ample:1/api/x", template.expand(values("host", "ex ample", "port", 1, "p", "x")));
+		// a variable scheme is expanded as a path
+		assertEquals("https://localhost/a",
+				CompiledUriTemplate.compile("{scheme}://localhost/a").expand(values("scheme", "https")));
+	}
+
+	@Test
+	public void testInvalidTemplates() {
+		final CompiledUriTemplate template = CompiledUriTemplate.compile("http://localhost/{a}/{b}");
+		try {
+			template.expand(values("a", 1));
+		} catch (IllegalArgumentException e) {
+			assertEquals("Missing value for URI template variable [b]", e.getMessage());
+		}
+		TestUtils.expectedException(IllegalArgumentException.class, () -> template.expand(null));
+		TestUtils.expectedException(IllegalArgumentException.class,
+				() -> CompiledUriTemplate.compile("http://localhost/{a"));
+		TestUtils.expectedException(IllegalArgumentException.class,
+				() -> CompiledUriTemplate.compile("http://localhost/{ }"));
+		// variable patterns are ignored
+		assertEquals("http://localhost/1",
+				CompiledUriTemplate.compile("http://localhost/{id:\\d+}").expand(values("id", 1)));
+	}
+
+	@Test
+	public void testRequestTemplate() {
+		final DefaultRequestDefinition definition = new DefaultRequestDefinition(INVOKER);
+		definition.target(URI.create("http://localhost/api")).path("data/{id}").queryParameter("q", "a&b")
+				.queryParameter("t", "{t}");
+		final RequestTemplate template = definition.compile();
+
+		DefaultRequestDefinition request = (DefaultRequestDefinition) template.request();
+		request.resolve("id", "x?y").resolve("t", "1");
+		final String uri = request.expandRequestURI().orElse(null);
+		assertTrue(uri.startsWith("http://localhost/api/data/x%3Fy?"));
+		assertTrue(uri.contains("q=a%26b"));
+		assertTrue(uri.contains("t=1"));
+
+		// the template query parameters values cannot be modified through a request definition
+		request.getQueryParameters().get("q")[0] = "c";
+		assertTrue(request.expandRequestURI().get().contains("q=c"));
+		request = (DefaultRequestDefinition) template.request();
+		request.resolve("id", 1).resolve("t", 2);
+		assertTrue(request.expandRequestURI().get().contains("q=a%26b"));
+
+		// missing template parameter
+		final DefaultRequestDefinition missing = (DefaultRequestDefinition) template.request();
+		TestUtils.expectedException(IllegalArgumentException.class, () -> missing.expandRequestURI());
+
+		// changed paths are not expanded by the template
+		request = (DefaultRequestDefinition) template.request();
+		request.path("other");
+		assertFalse(request.expandRequestURI().isPresent());
+
+		// the URI template with a fragment is not expanded by the template
+		final DefaultRequestDefinition fragment = new DefaultRequestDefinition(INVOKER);
+		fragment.target(URI.create("http://localhost/api#section")).queryParameter("q", 1);
+		assertFalse(((DefaultRequestDefinition) fragment.compile().request()).expandRequestURI().isPresent());
+	}
+
+}
@@ -18,10 +18,15 @@ package com.holonplatform.http.test;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Date;
 import java.util.List;
 import java.util.Locale;
 
@@ -69,4 +74,49 @@ public class TestHttp {
 
 	}
 
+	@Test
+	public void testHeaderDate() {
+
+		final Date expected = Date.from(ZonedDateTime.of(1994, 11, 6, 8, 49, 37, 0, ZoneOffset.UTC).toInstant());
+
+		assertEquals(expected, HttpUtils.parseHeaderDate("Sun, 06 Nov 1994 08:49:37 GMT"));
+		assertEquals(expected, HttpUtils.parseHeaderDate("Sunday, 06-Nov-94 08:49:37 GMT"));
+		assertEquals(expected, HttpUtils.parseHeaderDate("Sun, 06-Nov-94 08:49:37 GMT"));
+		assertEquals(expected, HttpUtils.parseHeaderDate("Sun Nov  6 08:49:37 1994"));
+
+		assertNull(HttpUtils.parseHeaderDate(null));
+		assertNull(HttpUtils.parseHeaderDate("xx"));
+		assertNull(HttpUtils.parseHeaderDate("invalid, date"));
+
+	}
+
+	@Test
+	public void testLocaleQuality() {
+
+		List<Locale> locales = HttpUtils.getAcceptLanguageLocales(" en;q=0.3 , it-IT ,fr_FR_var; level=1; q=0.8, *;q=0");
+		assertEquals(4, locales.size());
+		assertEquals(Locale.ITALY, locales.get(0));
+		assertEquals(new Locale("fr", "FR", "var"), locales.get(1));
+		assertEquals(Locale.ENGLISH, locales.get(2));
+		assertEquals("*", locales.get(3).getLanguage());
+
+		// same quality keeps the header order
+		locales = HttpUtils.getAcceptLanguageLocales("de;q=0.5,en-GB;q=.5,it;q=1.000");
+		assertEquals(Arrays.asList(Locale.ITALIAN, Locale.GERMAN, Locale.UK), locales);
+
+		assertEquals(0, HttpUtils.getAcceptLanguageLocales(" , ").size());
+
+	}
+
+	@Test
+	public void testContentTypeCharset() {
+
+		assertNull(HttpUtils.getContentTypeCharset(null));
+		assertNull(HttpUtils.getContentTypeCharset("text/plain"));
+		assertNull(HttpUtils.getContentTypeCharset("text/plain; format=flowed"));
+		assertEquals("UTF-8", HttpUtils.getContentTypeCharset("text/plain;charset=UTF-8"));
+		assertEquals("utf-8", HttpUtils.getContentTypeCharset("text/plain; format=flowed; Charset=\"utf-8\" "));
+
+	}
+
 }
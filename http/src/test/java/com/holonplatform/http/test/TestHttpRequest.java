@@ -16,8 +16,13 @@
 package com.holonplatform.http.test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.BufferedReader;
@@ -32,6 +37,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Enumeration;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import javax.servlet.ReadListener;
@@ -42,6 +48,7 @@ import javax.servlet.http.HttpSession;
 import org.junit.Test;
 import org.mockito.ArgumentMatchers;
 
+import com.holonplatform.http.Cookie;
 import com.holonplatform.http.HttpHeaders;
 import com.holonplatform.http.HttpMethod;
 import com.holonplatform.http.servlet.ServletHttpRequest;
@@ -89,6 +96,34 @@ public class TestHttpRequest {
 		assertEquals("test", textBuilder.toString());
 	}
 
+	@Test(expected = UnsupportedOperationException.class)
+	public void testServletHttpRequestViews() throws IOException {
+
+		HttpServletRequest servletRequest = buildHttpServletRequest("test");
+
+		ServletHttpRequest request = ServletHttpRequest.create(servletRequest);
+
+		Map<String, List<String>> parameters = request.getRequestParameters();
+		assertEquals(2, parameters.size());
+		assertEquals(Arrays.asList("v2a", "v2b"), parameters.get("p2"));
+		assertSame(parameters, request.getRequestParameters());
+		assertEquals(Arrays.asList("v1"), request.getMultiValueRequestParameter("p1").orElse(null));
+		assertFalse(request.getMultiValueRequestParameter("xxx").isPresent());
+
+		Cookie cookie = request.getRequestCookie("c1").orElse(null);
+		assertNotNull(cookie);
+		assertEquals("c1v1", cookie.getValue());
+		assertSame(cookie, request.getRequestCookie("c1").orElse(null));
+		assertEquals("c2v", request.getRequestCookie("c2").map(c -> c.getValue()).orElse(null));
+		assertFalse(request.getRequestCookie("xxx").isPresent());
+		assertTrue(request.getRequestCookie("c2").isPresent());
+
+		verify(servletRequest, times(1)).getParameterMap();
+		verify(servletRequest, times(1)).getCookies();
+
+		parameters.get("p1").set(0, "changed");
+	}
+
 	@SuppressWarnings("resource")
 	private static HttpServletRequest buildHttpServletRequest(String content) throws IOException {
 
@@ -119,6 +154,9 @@ public class TestHttpRequest {
 		when(request.getParameterValues("p2")).thenReturn(new String[] { "v2a", "v2b" });
 		when(request.getParameter("p1")).thenReturn("v1");
 		when(request.getParameter("p2")).thenReturn("v2a,v2b");
+		when(request.getCookies()).thenReturn(new javax.servlet.http.Cookie[] {
+				new javax.servlet.http.Cookie("c1", "c1v1"), new javax.servlet.http.Cookie("c2", "c2v"),
+				new javax.servlet.http.Cookie("c1", "c1v2") });
 		when(request.getInputStream()).thenReturn(new TestServletInputStream(content));
 		when(request.getSession()).thenReturn(session);
 		when(request.getSession(ArgumentMatchers.anyBoolean())).thenReturn(session);
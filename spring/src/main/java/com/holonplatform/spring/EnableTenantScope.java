@@ -27,6 +27,10 @@ import com.holonplatform.spring.internal.tenant.TenantScopeRegistrar;
  * If the {@link #enableTenantScopeManager()} attribute is <code>true</code>, a {@link TenantScopeManager} bean is
  * registered and made available in Spring context to manage the tenant scoped beans lifecycle.
  * </p>
+ * <p>
+ * The {@link #maxTenants()} and {@link #tenantIdleTimeout()} attributes can be used to configure the tenant bean
+ * stores eviction policies, in order to bound the memory used by the tenant scoped beans.
+ * </p>
  *
  * @see ScopeTenant
  */
@@ -42,6 +46,20 @@ public @interface EnableTenantScope {
 	 */
 	public static final String TENANT_RESOLVER_PROPERTY_NAME = "holon.tenant-scope.tenant-resolver";
 
+	/**
+	 * Property which can be used to configure the max number of tenant bean stores to keep. It has the same meaning of
+	 * the {@link #maxTenants()} attribute, but higher precedence.
+	 * @since 5.2.0
+	 */
+	public static final String MAX_TENANTS_PROPERTY_NAME = "holon.tenant-scope.max-tenants";
+
+	/**
+	 * Property which can be used to configure the tenant bean stores idle timeout in milliseconds. It has the same
+	 * meaning of the {@link #tenantIdleTimeout()} attribute, but higher precedence.
+	 * @since 5.2.0
+	 */
+	public static final String TENANT_IDLE_TIMEOUT_PROPERTY_NAME = "holon.tenant-scope.tenant-idle-timeout";
+
 	/**
 	 * Configures the name of the {@link TenantResolver} type bean definition to be used to obtain the current tenant
 	 * id.
@@ -69,4 +87,28 @@ public @interface EnableTenantScope {
 	 */
 	boolean enableTenantScopeManager() default true;
 
+	/**
+	 * Configures the max number of tenant bean stores to keep. When a new tenant bean store is created and the limit is
+	 * exceeded, the least recently used tenant bean stores are destroyed, invoking any destruction callback of the
+	 * scoped beans.
+	 * <p>
+	 * The attribute value is <code>-1</code> by default, which means no limit.
+	 * </p>
+	 * @return The max number of tenant bean stores to keep, a value <code>&lt;= 0</code> means no limit
+	 * @since 5.2.0
+	 */
+	int maxTenants() default -1;
+
+	/**
+	 * Configures the time in milliseconds after which a tenant bean store which was not accessed is destroyed,
+	 * invoking any destruction callback of the scoped beans. The idle tenant bean stores are checked during the tenant
+	 * scope accesses, so no additional thread is used.
+	 * <p>
+	 * The attribute value is <code>-1</code> by default, which means no timeout.
+	 * </p>
+	 * @return The tenant bean stores idle timeout in milliseconds, a value <code>&lt;= 0</code> means no timeout
+	 * @since 5.2.0
+	 */
+	long tenantIdleTimeout() default -1L;
+
 }
@@ -15,6 +15,10 @@
  */
 package com.holonplatform.spring;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
+
 /**
  * Tenant scope manager API to handle tenant scoped beans lifecycle.
  *
@@ -31,4 +35,59 @@ public interface TenantScopeManager {
 	 */
 	void discardTenantBeanStore(String tenantId);
 
+	/**
+	 * Get the statistics of the bean store bound to given <code>tenant id</code>, if available.
+	 * @param tenantId The tenant id which identifies the bean store (not null)
+	 * @return Optional bean store statistics, empty if no bean store is active for given tenant id or if statistics
+	 *         are not supported by the manager implementation
+	 * @since 5.2.0
+	 */
+	default Optional<TenantBeanStoreStatistics> getTenantBeanStoreStatistics(String tenantId) {
+		return Optional.empty();
+	}
+
+	/**
+	 * Get the statistics of all the active tenant bean stores.
+	 * @return The active tenant bean stores statistics, an empty collection if none or if statistics are not
+	 *         supported by the manager implementation
+	 * @since 5.2.0
+	 */
+	default Collection<TenantBeanStoreStatistics> getTenantBeanStoresStatistics() {
+		return Collections.emptyList();
+	}
+
+	/**
+	 * A snapshot of the statistics of a tenant bean store.
+	 * 
+	 * @since 5.2.0
+	 */
+	public interface TenantBeanStoreStatistics {
+
+		/**
+		 * Get the tenant id to which the bean store is bound.
+		 * @return The tenant id
+		 */
+		String getTenantId();
+
+		/**
+		 * Get the number of bean instances currently available in the bean store.
+		 * @return The bean store size
+		 */
+		int getSize();
+
+		/**
+		 * Get the number of bean instances created in the bean store.
+		 * @return The created bean instances count
+		 */
+		long getCreatedCount();
+
+		/**
+		 * Get the number of bean instances removed from the bean store, either explicitly or when the bean store was
+		 * destroyed.
+		 * @return The destroyed bean instances count
+		 */
+		long getDestroyedCount();
+
+	}
+
 }
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.spring.internal.rest;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.holonplatform.core.internal.utils.ObjectUtils;
+
+/**
+ * Reads the elements of a JSON array from an {@link InputStream}, one at a time, without parsing them.
+ * <p>
+ * Each element is returned as the raw bytes of its JSON representation, so that it can be deserialized using any
+ * available JSON message converter. Only the structural characters of the JSON syntax are inspected, without decoding
+ * the content: this requires the content to be UTF-8 encoded, where the bytes of the ASCII structural characters never
+ * occur within multi-byte sequences. Other encodings, such as UTF-16 or UTF-32, are not supported. Only the element
+ * which is currently read is kept in memory.
+ * </p>
+ * 
+ * @since 5.2.0
+ */
+public class JsonArrayElementsReader {
+
+	private final InputStream input;
+
+	private final ByteArrayOutputStream element = new ByteArrayOutputStream(256);
+
+	private boolean started = false;
+
+	private boolean finished = false;
+
+	/**
+	 * Constructor.
+	 * @param input The input stream from which to read the JSON array (not null)
+	 */
+	public JsonArrayElementsReader(InputStream input) {
+		super();
+		ObjectUtils.argumentNotNull(input, "InputStream must be not null");
+		this.input = (input instanceof BufferedInputStream) ? input : new BufferedInputStream(input);
+	}
+
+	/**
+	 * Read the next array element.
+	 * @return The next element JSON bytes, or <code>null</code> if there are no more elements. An empty input is
+	 *         considered as an empty array.
+	 * @throws IOException If an I/O error occurred, or if the input is not a well formed JSON array
+	 */
+	public byte[] next() throws IOException {
+		if (finished) {
+			return null;
+		}
+		int c = skipWhitespaces();
+		if (!started) {
+			started = true;
+			if (c == -1) {
+				finished = true;
+				return null;
+			}
+			if (c != '[') {
+				throw new IOException("Invalid JSON array: unexpected character [" + (char) c + "]");
+			}
+			c = skipWhitespaces();
+			if (c == ']') {
+				finished = true;
+				return null;
+			}
+		}
+
+		element.reset();
+		int depth = 0;
+		boolean string = false;
+		boolean escape = false;
+		while (c != -1) {
+			if (string) {
+				if (escape) {
+					escape = false;
+				} else if (c == '\\') {
+					escape = true;
+				} else if (c == '"') {
+					string = false;
+				}
+			} else if (c == '"') {
+				string = true;
+			} else if (c == '{' || c == '[') {
+				depth++;
+			} else if (c == '}' || c == ']') {
+				if (depth == 0) {
+					if (c == '}') {
+						throw new IOException("Invalid JSON array: unexpected character [}]");
+					}
+					finished = true;
+					return element.toByteArray();
+				}
+				depth--;
+			} else if (c == ',' && depth == 0) {
+				return element.toByteArray();
+			}
+			element.write(c);
+			c = input.read();
+		}
+		throw new EOFException("Invalid JSON array: unexpected end of input");
+	}
+
+	/**
+	 * Read the input until a non whitespace character is found.
+	 * @return The first non whitespace character, <code>-1</code> if the end of the input was reached
+	 * @throws IOException If an I/O error occurred
+	 */
+	private int skipWhitespaces() throws IOException {
+		int c = input.read();
+		while (c == ' ' || c == '\t' || c == '\n' || c == '\r') {
+			c = input.read();
+		}
+		return c;
+	}
+
+}
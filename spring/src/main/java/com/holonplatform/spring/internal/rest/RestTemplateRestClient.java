@@ -16,16 +16,27 @@
 package com.holonplatform.spring.internal.rest;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.Resource;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.client.ClientHttpRequest;
 import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.StreamUtils;
 import org.springframework.web.client.ResponseErrorHandler;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+import org.springframework.web.util.DefaultUriBuilderFactory.EncodingMode;
 import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.UriTemplateHandler;
 
 import com.holonplatform.http.HttpMethod;
 import com.holonplatform.http.HttpStatus;
@@ -83,30 +94,34 @@ public class RestTemplateRestClient extends AbstractRestClient implements Spring
 		return restTemplate;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.http.rest.RestClient.Invoker#invoke(com.holonplatform.http.rest.RestClient.
+	 * RequestDefinition, com.holonplatform.http.HttpMethod, com.holonplatform.http.rest.RequestEntity,
+	 * com.holonplatform.http.rest.ResponseType, boolean)
+	 */
 	@Override
 	public <T, R> ResponseEntity<T> invoke(RequestDefinition requestDefinition, HttpMethod method,
 			RequestEntity<R> requestEntity, ResponseType<T> responseType, boolean onlySuccessfulStatusCode) {
 
-		// URI
-		final UriComponentsBuilder builder = UriComponentsBuilder.fromUriString(requestDefinition.getRequestURI());
-		// query parameters
-		requestDefinition.getQueryParameters().forEach((n, v) -> builder.queryParam(n, v));
-		// template parameters
-		final String uri = builder.buildAndExpand(requestDefinition.getTemplateParameters()).toUriString();
+		// stream the response payload, without buffering it
+		if (responseType != null && InputStream.class == responseType.getType()) {
+			final ClientHttpResponse response = execute(requestDefinition, method, requestEntity);
+			if (onlySuccessfulStatusCode) {
+				checkSuccessful(requestDefinition, response);
+			}
+			return new SpringResponseEntity<>(response, responseType, getRestTemplate().getMessageConverters(),
+					requestDefinition.getPropertySet().orElse(null));
+		}
 
-		// headers
-		HttpHeaders headers = new HttpHeaders();
-		requestDefinition.getHeaders().forEach((n, v) -> headers.add(n, v));
+		// URI
+		final URI uri = getRequestURI(requestDefinition);
 
 		// Entity
-		HttpEntity<?> entity = new HttpEntity<>(getRequestPayload(requestEntity), headers);
+		final HttpEntity<?> entity = getRequestHttpEntity(requestDefinition, requestEntity);
 
 		// method
-		org.springframework.http.HttpMethod requestMethod = org.springframework.http.HttpMethod
-				.resolve(method.getMethodName());
-		if (requestMethod == null) {
-			throw new RestClientException("Unsupported HTTP method: " + method.getMethodName());
-		}
+		final org.springframework.http.HttpMethod requestMethod = getRequestMethod(method);
 
 		// get response, checking propertySet
 		final org.springframework.http.ResponseEntity<Resource> response;
@@ -129,6 +144,22 @@ public class RestTemplateRestClient extends AbstractRestClient implements Spring
 				requestDefinition.getPropertySet().orElse(null));
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.http.rest.RestClient.Invoker#invokeForStream(com.holonplatform.http.rest.RestClient.
+	 * RequestDefinition, com.holonplatform.http.HttpMethod, com.holonplatform.http.rest.RequestEntity,
+	 * java.lang.Class)
+	 */
+	@Override
+	public <T, R> Stream<T> invokeForStream(RequestDefinition requestDefinition, HttpMethod method,
+			RequestEntity<R> requestEntity, Class<T> elementType) {
+		final ClientHttpResponse response = execute(requestDefinition, method, requestEntity);
+		checkSuccessful(requestDefinition, response);
+		return new SpringResponseEntity<>(response, ResponseType.of(elementType),
+				getRestTemplate().getMessageConverters(), requestDefinition.getPropertySet().orElse(null))
+						.asStream(elementType);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see com.holonplatform.http.internal.AbstractRestClient#buildDefinition()
@@ -138,6 +169,165 @@ public class RestTemplateRestClient extends AbstractRestClient implements Spring
 		return new DefaultRequestDefinition(this);
 	}
 
+	/**
+	 * Get the request URI, expanding the template parameters and including the query parameters.
+	 * <p>
+	 * If the request definition was obtained from a compiled request template and the {@link RestTemplate} uses the
+	 * default URI template handler (see {@link #isDefaultUriTemplateHandler()}), the URI is expanded and encoded by
+	 * the template. Otherwise, the URI is encoded by the {@link RestTemplate} URI template handler.
+	 * </p>
+	 * <p>
+	 * The two expansions differ when a template parameter or query parameter value contains URI delimiters: the
+	 * request template encodes such characters as part of the value, while the URI template handler parses the
+	 * expanded URI again, so, for example, a <code>&amp;</code> in a query parameter value splits the parameter and a
+	 * <code>?</code> in a path parameter value starts the query string.
+	 * </p>
+	 * @param requestDefinition Request definition
+	 * @return The request URI
+	 */
+	protected URI getRequestURI(RequestDefinition requestDefinition) {
+		// check compiled template
+		if (requestDefinition instanceof DefaultRequestDefinition && isDefaultUriTemplateHandler()) {
+			final Optional<String> expanded = ((DefaultRequestDefinition) requestDefinition).expandRequestURI();
+			if (expanded.isPresent()) {
+				final URI uri;
+				try {
+					uri = new URI(expanded.get());
+				} catch (URISyntaxException e) {
+					throw new HttpClientInvocationException(e);
+				}
+				// a relative URI may be resolved by the handler against a base URI
+				if (uri.isAbsolute()) {
+					return uri;
+				}
+			}
+		}
+		// URI
+		final UriComponentsBuilder builder = UriComponentsBuilder.fromUriString(requestDefinition.getRequestURI());
+		// query parameters
+		requestDefinition.getQueryParameters().forEach((n, v) -> builder.queryParam(n, v));
+		// template parameters
+		final String uri = builder.buildAndExpand(requestDefinition.getTemplateParameters()).toUriString();
+		try {
+			return getRestTemplate().getUriTemplateHandler().expand(uri);
+		} catch (Exception e) {
+			throw new HttpClientInvocationException(e);
+		}
+	}
+
+	/**
+	 * Checks whether the {@link RestTemplate} URI template handler is the default one, i.e. a
+	 * {@link DefaultUriBuilderFactory} which uses the {@link EncodingMode#URI_COMPONENT} encoding mode and no default
+	 * URI variables. Only in this case the request URIs can be expanded by a compiled request template instead of the
+	 * URI template handler.
+	 * @return <code>true</code> if the URI template handler is the default one
+	 */
+	protected boolean isDefaultUriTemplateHandler() {
+		final UriTemplateHandler handler = getRestTemplate().getUriTemplateHandler();
+		if (handler != null && handler.getClass() == DefaultUriBuilderFactory.class) {
+			final DefaultUriBuilderFactory factory = (DefaultUriBuilderFactory) handler;
+			return factory.getEncodingMode() == EncodingMode.URI_COMPONENT
+					&& factory.getDefaultUriVariables().isEmpty();
+		}
+		return false;
+	}
+
+	/**
+	 * Get the Spring request entity, using the request definition headers.
+	 * @param requestDefinition Request definition
+	 * @param requestEntity Request entity, may be null
+	 * @return The Spring request entity
+	 */
+	protected HttpEntity<?> getRequestHttpEntity(RequestDefinition requestDefinition,
+			RequestEntity<?> requestEntity) {
+		// headers
+		HttpHeaders headers = new HttpHeaders();
+		requestDefinition.getHeaders().forEach((n, v) -> headers.add(n, v));
+		return new HttpEntity<>(getRequestPayload(requestEntity), headers);
+	}
+
+	/**
+	 * Get the Spring request method.
+	 * @param method Request method
+	 * @return The Spring request method
+	 * @throws RestClientException If the method is not supported
+	 */
+	protected org.springframework.http.HttpMethod getRequestMethod(HttpMethod method) {
+		org.springframework.http.HttpMethod requestMethod = org.springframework.http.HttpMethod
+				.resolve(method.getMethodName());
+		if (requestMethod == null) {
+			throw new RestClientException("Unsupported HTTP method: " + method.getMethodName());
+		}
+		return requestMethod;
+	}
+
+	/**
+	 * Execute the request without reading the response payload, which can be read directly from the connection.
+	 * <p>
+	 * The returned response must be closed to release the connection.
+	 * </p>
+	 * @param requestDefinition Request definition
+	 * @param method Request method
+	 * @param requestEntity Request entity, may be null
+	 * @return The client response
+	 * @since 5.2.0
+	 */
+	protected ClientHttpResponse execute(RequestDefinition requestDefinition, HttpMethod method,
+			RequestEntity<?> requestEntity) {
+		final URI uri = getRequestURI(requestDefinition);
+		final HttpEntity<?> entity = getRequestHttpEntity(requestDefinition, requestEntity);
+		final org.springframework.http.HttpMethod requestMethod = getRequestMethod(method);
+		if (requestDefinition.getPropertySet().isPresent()) {
+			return requestDefinition.getPropertySet().get().execute(() -> execute(uri, requestMethod, entity));
+		}
+		return execute(uri, requestMethod, entity);
+	}
+
+	/**
+	 * Execute the request, returning the client response without reading its payload.
+	 * @param uri URI
+	 * @param requestMethod Method
+	 * @param request Request entity
+	 * @return The client response
+	 * @since 5.2.0
+	 */
+	protected ClientHttpResponse execute(URI uri, org.springframework.http.HttpMethod requestMethod,
+			HttpEntity<?> request) {
+		try {
+			final ClientHttpRequest clientRequest = getRestTemplate().getRequestFactory().createRequest(uri,
+					requestMethod);
+			getRestTemplate().httpEntityCallback(request, Resource.class).doWithRequest(clientRequest);
+			return clientRequest.execute();
+		} catch (Exception e) {
+			throw new HttpClientInvocationException(e);
+		}
+	}
+
+	/**
+	 * Checks whether the given response has a successful status code. If not, the response payload is buffered and
+	 * the response is closed before throwing an {@link UnsuccessfulResponseException}.
+	 * @param requestDefinition Request definition
+	 * @param response The response to check
+	 * @throws UnsuccessfulResponseException If the response status code is not a <code>2xx</code> status code
+	 */
+	private void checkSuccessful(RequestDefinition requestDefinition, ClientHttpResponse response) {
+		final org.springframework.http.ResponseEntity<Resource> unsuccessful;
+		try {
+			if (HttpStatus.isSuccessStatusCode(response.getRawStatusCode())) {
+				return;
+			}
+			unsuccessful = new org.springframework.http.ResponseEntity<>(
+					new ByteArrayResource(StreamUtils.copyToByteArray(response.getBody())), response.getHeaders(),
+					response.getStatusCode());
+		} catch (Exception e) {
+			response.close();
+			throw new HttpClientInvocationException(e);
+		}
+		response.close();
+		throw new UnsuccessfulResponseException(new SpringResponseEntity<>(unsuccessful, ResponseType.of(byte[].class),
+				getRestTemplate().getMessageConverters(), requestDefinition.getPropertySet().orElse(null)));
+	}
+
 	/**
 	 * Invoke for a response
 	 * @param <T> Response payload type
@@ -147,7 +337,7 @@ public class RestTemplateRestClient extends AbstractRestClient implements Spring
 	 * @param responseType Expected response payload type
 	 * @return Response entity
 	 */
-	protected <T> org.springframework.http.ResponseEntity<Resource> invoke(String uri,
+	protected <T> org.springframework.http.ResponseEntity<Resource> invoke(URI uri,
 			org.springframework.http.HttpMethod requestMethod, HttpEntity<?> request, ResponseType<T> responseType) {
 		try {
 			return getRestTemplate().exchange(uri, requestMethod, request, Resource.class);
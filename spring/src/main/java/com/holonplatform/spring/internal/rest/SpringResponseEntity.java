@@ -15,17 +15,26 @@
  */
 package com.holonplatform.spring.internal.rest;
 
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.web.client.HttpMessageConverterExtractor;
@@ -41,6 +50,12 @@ import com.holonplatform.http.rest.ResponseType;
 
 /**
  * Spring {@link ResponseEntity} implementation using a {@link ClientHttpResponse}.
+ * <p>
+ * When built using a buffered Spring response entity, the response payload can be read any number of times. When
+ * built using a {@link ClientHttpResponse}, the response payload is read directly from the connection and it can be
+ * read only once: the response is closed as soon as the payload has been read, except when it is read as an
+ * {@link InputStream}, which releases the response when it is closed.
+ * </p>
  * 
  * @param <T> Response entity type
  *
@@ -53,7 +68,7 @@ public class SpringResponseEntity<T> implements ResponseEntity<T> {
 	private final List<HttpMessageConverter<?>> messageConverters;
 	private final PropertySet<?> propertySet;
 
-	private final StreamHttpResponse httpResponse;
+	private final ClientHttpResponse httpResponse;
 
 	/**
 	 * Constructor
@@ -74,6 +89,26 @@ public class SpringResponseEntity<T> implements ResponseEntity<T> {
 		this.httpResponse = new StreamHttpResponse(response);
 	}
 
+	/**
+	 * Constructor using a not buffered response, which payload is read directly from the connection.
+	 * @param response Client HTTP response (not null)
+	 * @param type Response type (not null)
+	 * @param messageConverters HTTP message converters
+	 * @param propertySet Optional {@link PropertySet} to use to deserialize a {@link PropertyBox}
+	 * @since 5.2.0
+	 */
+	public SpringResponseEntity(ClientHttpResponse response, ResponseType<T> type,
+			List<HttpMessageConverter<?>> messageConverters, PropertySet<?> propertySet) {
+		super();
+		ObjectUtils.argumentNotNull(response, "ClientHttpResponse must be not null");
+		ObjectUtils.argumentNotNull(type, "Response type must be not null");
+		this.response = null;
+		this.type = type;
+		this.messageConverters = (messageConverters != null) ? messageConverters : Collections.emptyList();
+		this.propertySet = propertySet;
+		this.httpResponse = response;
+	}
+
 	/**
 	 * Get the available HTTP message converters
 	 * @return the HTTP message converters list, empty if none
@@ -88,7 +123,7 @@ public class SpringResponseEntity<T> implements ResponseEntity<T> {
 	 */
 	@Override
 	public Map<String, List<String>> getHeaders() {
-		return response.getHeaders();
+		return httpResponse.getHeaders();
 	}
 
 	/*
@@ -98,7 +133,7 @@ public class SpringResponseEntity<T> implements ResponseEntity<T> {
 	@Override
 	public int getStatusCode() {
 		try {
-			return response.getStatusCode().value();
+			return httpResponse.getRawStatusCode();
 		} catch (Exception e) {
 			throw new InvalidHttpMessageException("Failed to read ClientHttpResponse status code", e);
 		}
@@ -110,7 +145,7 @@ public class SpringResponseEntity<T> implements ResponseEntity<T> {
 	 */
 	@Override
 	public void close() {
-		// noop
+		httpResponse.close();
 	}
 
 	/*
@@ -178,12 +213,70 @@ public class SpringResponseEntity<T> implements ResponseEntity<T> {
 		}
 	}
 
+	/**
+	 * Read the message entity as a JSON array, obtaining its elements as a {@link Stream} of the given
+	 * <code>elementType</code>.
+	 * <p>
+	 * When the response has a UTF-8 encoded JSON content type, the array elements are read and deserialized one at a
+	 * time while the stream is consumed. Otherwise, the whole array is read as a {@link List} before returning the
+	 * stream. This response is closed when the returned stream is closed or fully consumed.
+	 * </p>
+	 * @param <E> Elements type
+	 * @param elementType Elements type (not null)
+	 * @return The array elements stream, an empty stream for empty or zero-length responses
+	 * @throws HttpEntityProcessingException If a entity processing error occurred
+	 * @since 5.2.0
+	 */
+	public <E> Stream<E> asStream(Class<E> elementType) {
+		ObjectUtils.argumentNotNull(elementType, "Element type must be not null");
+		if (isUtf8Json()) {
+			try {
+				final ElementsSpliterator<E> elements = new ElementsSpliterator<>(
+						new JsonArrayElementsReader(httpResponse.getBody()), elementType);
+				return StreamSupport.stream(elements, false).onClose(() -> close());
+			} catch (IOException e) {
+				close();
+				throw new HttpEntityProcessingException("Failed to read HTTP entity as [" + elementType + "] array",
+						e);
+			}
+		}
+		try {
+			final ResponseType<List<E>> listType = ResponseType.of(elementType, List.class);
+			return readAs(listType).map(l -> l.stream()).orElse(Stream.empty());
+		} finally {
+			close();
+		}
+	}
+
+	/**
+	 * Checks whether the response content type is UTF-8 encoded JSON, which is the only encoding supported by the
+	 * {@link JsonArrayElementsReader}.
+	 * @return <code>true</code> if the response content type is <code>application/json</code> or a
+	 *         <code>+json</code> suffixed media type, without a charset or with the UTF-8 charset
+	 */
+	private boolean isUtf8Json() {
+		try {
+			final MediaType contentType = httpResponse.getHeaders().getContentType();
+			return contentType != null
+					&& (contentType.getCharset() == null || StandardCharsets.UTF_8.equals(contentType.getCharset()))
+					&& (MediaType.APPLICATION_JSON.includes(contentType)
+							|| (contentType.getSubtype() != null && contentType.getSubtype().endsWith("+json")));
+		} catch (Exception e) {
+			return false;
+		}
+	}
+
 	@SuppressWarnings("unchecked")
 	private <E> Optional<E> readResponse(ResponseType<E> type) {
 		final Type responseType = type.getType();
+		boolean release = (response == null);
 		try {
 			// check InputStream
 			if (InputStream.class == responseType) {
+				if (response == null) {
+					release = false;
+					return (Optional<E>) Optional.of(new ResponseInputStream(httpResponse));
+				}
 				final Resource body = response.getBody();
 				if (body != null) {
 					return (Optional<E>) Optional.ofNullable(body.getInputStream());
@@ -197,10 +290,171 @@ public class SpringResponseEntity<T> implements ResponseEntity<T> {
 			}
 		} catch (Exception e) {
 			throw new HttpEntityProcessingException("Failed to read HTTP entity as [" + type + "]", e);
+		} finally {
+			// a not buffered response payload can be read only once
+			if (release) {
+				close();
+			}
 		}
 		return Optional.empty();
 	}
 
+	/**
+	 * Deserialize a JSON array element.
+	 * @param <E> Element type
+	 * @param extractor The element extractor
+	 * @param element The element JSON bytes
+	 * @return The deserialized element
+	 * @throws Exception If an error occurred
+	 */
+	private <E> E readElement(ResponseExtractor<E> extractor, byte[] element) throws Exception {
+		final ElementHttpResponse elementResponse = new ElementHttpResponse(httpResponse, element);
+		if (getPropertySet().isPresent()) {
+			return getPropertySet().get().execute(() -> extractor.extractData(elementResponse));
+		}
+		return extractor.extractData(elementResponse);
+	}
+
+	/**
+	 * {@link Spliterator} which reads the response JSON array elements on demand.
+	 * @param <E> Elements type
+	 */
+	private class ElementsSpliterator<E> extends Spliterators.AbstractSpliterator<E> {
+
+		private final JsonArrayElementsReader reader;
+		private final Class<E> elementType;
+		private final ResponseExtractor<E> extractor;
+
+		ElementsSpliterator(JsonArrayElementsReader reader, Class<E> elementType) {
+			super(Long.MAX_VALUE, Spliterator.ORDERED);
+			this.reader = reader;
+			this.elementType = elementType;
+			this.extractor = new HttpMessageConverterExtractor<>(elementType, getMessageConverters());
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.Spliterator#tryAdvance(java.util.function.Consumer)
+		 */
+		@Override
+		public boolean tryAdvance(Consumer<? super E> action) {
+			final E value;
+			try {
+				final byte[] element = reader.next();
+				if (element == null) {
+					close();
+					return false;
+				}
+				value = readElement(extractor, element);
+			} catch (Exception e) {
+				close();
+				throw new HttpEntityProcessingException(
+						"Failed to read HTTP entity as [" + elementType.getName() + "] array", e);
+			}
+			action.accept(value);
+			return true;
+		}
+
+	}
+
+	/**
+	 * {@link InputStream} which releases the response when closed.
+	 */
+	static class ResponseInputStream extends FilterInputStream {
+
+		private final ClientHttpResponse response;
+
+		public ResponseInputStream(ClientHttpResponse response) throws IOException {
+			super(response.getBody());
+			this.response = response;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.io.FilterInputStream#close()
+		 */
+		@Override
+		public void close() throws IOException {
+			try {
+				super.close();
+			} finally {
+				response.close();
+			}
+		}
+
+	}
+
+	/**
+	 * {@link ClientHttpResponse} which provides a single JSON array element as body, using the headers and the status
+	 * of the actual response.
+	 */
+	static class ElementHttpResponse implements ClientHttpResponse {
+
+		private final ClientHttpResponse response;
+		private final byte[] element;
+
+		public ElementHttpResponse(ClientHttpResponse response, byte[] element) {
+			super();
+			this.response = response;
+			this.element = element;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.http.HttpInputMessage#getBody()
+		 */
+		@Override
+		public InputStream getBody() throws IOException {
+			return new ByteArrayInputStream(element);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.http.HttpMessage#getHeaders()
+		 */
+		@Override
+		public HttpHeaders getHeaders() {
+			return response.getHeaders();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.http.client.ClientHttpResponse#getStatusCode()
+		 */
+		@Override
+		public HttpStatus getStatusCode() throws IOException {
+			return response.getStatusCode();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.http.client.ClientHttpResponse#getRawStatusCode()
+		 */
+		@Override
+		public int getRawStatusCode() throws IOException {
+			return response.getRawStatusCode();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.http.client.ClientHttpResponse#getStatusText()
+		 */
+		@Override
+		public String getStatusText() throws IOException {
+			return response.getStatusText();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.http.client.ClientHttpResponse#close()
+		 */
+		@Override
+		public void close() {
+			// noop
+		}
+
+	}
+
 	static class StreamHttpResponse implements ClientHttpResponse {
 
 		private final org.springframework.http.ResponseEntity<Resource> responseEntity;
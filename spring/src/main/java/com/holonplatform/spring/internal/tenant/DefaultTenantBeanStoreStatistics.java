@@ -0,0 +1,93 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.spring.internal.tenant;
+
+import com.holonplatform.spring.TenantScopeManager.TenantBeanStoreStatistics;
+
+/**
+ * Default {@link TenantBeanStoreStatistics} implementation.
+ * 
+ * @since 5.2.0
+ */
+public class DefaultTenantBeanStoreStatistics implements TenantBeanStoreStatistics {
+
+	private final String tenantId;
+	private final int size;
+	private final long createdCount;
+	private final long destroyedCount;
+
+	/**
+	 * Constructor.
+	 * @param tenantId Tenant id
+	 * @param size Bean store size
+	 * @param createdCount Created bean instances count
+	 * @param destroyedCount Destroyed bean instances count
+	 */
+	public DefaultTenantBeanStoreStatistics(String tenantId, int size, long createdCount, long destroyedCount) {
+		super();
+		this.tenantId = tenantId;
+		this.size = size;
+		this.createdCount = createdCount;
+		this.destroyedCount = destroyedCount;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.spring.TenantScopeManager.TenantBeanStoreStatistics#getTenantId()
+	 */
+	@Override
+	public String getTenantId() {
+		return tenantId;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.spring.TenantScopeManager.TenantBeanStoreStatistics#getSize()
+	 */
+	@Override
+	public int getSize() {
+		return size;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.spring.TenantScopeManager.TenantBeanStoreStatistics#getCreatedCount()
+	 */
+	@Override
+	public long getCreatedCount() {
+		return createdCount;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.spring.TenantScopeManager.TenantBeanStoreStatistics#getDestroyedCount()
+	 */
+	@Override
+	public long getDestroyedCount() {
+		return destroyedCount;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "DefaultTenantBeanStoreStatistics [tenantId=" + tenantId + ", size=" + size + ", createdCount="
+				+ createdCount + ", destroyedCount=" + destroyedCount + "]";
+	}
+
+}
@@ -16,10 +16,14 @@
 package com.holonplatform.spring.internal.tenant;
 
 import java.lang.ref.WeakReference;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
 
 import com.holonplatform.core.internal.Logger;
 import com.holonplatform.core.internal.utils.ObjectUtils;
 import com.holonplatform.spring.TenantScopeManager;
+import com.holonplatform.spring.TenantScopeManager.TenantBeanStoreStatistics;
 import com.holonplatform.spring.internal.SpringLogger;
 
 /**
@@ -65,4 +69,25 @@ public class DefaultTenantScopeManager implements TenantScopeManager {
 		}
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.spring.TenantScopeManager#getTenantBeanStoreStatistics(java.lang.String)
+	 */
+	@Override
+	public Optional<TenantBeanStoreStatistics> getTenantBeanStoreStatistics(String tenantId) {
+		ObjectUtils.argumentNotNull(tenantId, "Tenant id must be not null");
+		final TenantScope tenantScope = tenantScopeRef.get();
+		return (tenantScope != null) ? tenantScope.getBeanStoreStatistics(tenantId) : Optional.empty();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.spring.TenantScopeManager#getTenantBeanStoresStatistics()
+	 */
+	@Override
+	public Collection<TenantBeanStoreStatistics> getTenantBeanStoresStatistics() {
+		final TenantScope tenantScope = tenantScopeRef.get();
+		return (tenantScope != null) ? tenantScope.getBeanStoresStatistics() : Collections.emptyList();
+	}
+
 }
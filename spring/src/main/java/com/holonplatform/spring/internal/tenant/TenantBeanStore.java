@@ -3,10 +3,13 @@ package com.holonplatform.spring.internal.tenant;
 import java.io.Serializable;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.springframework.beans.factory.ObjectFactory;
 
 import com.holonplatform.core.internal.Logger;
+import com.holonplatform.core.internal.Logger.Level;
+import com.holonplatform.spring.TenantScopeManager.TenantBeanStoreStatistics;
 import com.holonplatform.spring.internal.SpringLogger;
 
 /**
@@ -53,7 +56,25 @@ class TenantBeanStore implements Serializable {
 	 */
 	private final DestructionCallback destructionCallback;
 
-	private boolean destroyed = false;
+	/**
+	 * Created bean instances count
+	 */
+	private final LongAdder createdCount = new LongAdder();
+
+	/**
+	 * Destroyed bean instances count
+	 */
+	private final LongAdder destroyedCount = new LongAdder();
+
+	/**
+	 * Last access time in milliseconds
+	 */
+	private volatile long lastAccessTime = System.currentTimeMillis();
+
+	/**
+	 * Whether this bean store has been destroyed
+	 */
+	private volatile boolean destroyed = false;
 
 	/**
 	 * Constructor with store destruction callback
@@ -79,11 +100,53 @@ class TenantBeanStore implements Serializable {
 	 * @param objectFactory Spring ObjectFactory
 	 * @return The bean instance present in this store. If not yet available, a new instance will be created, stored and
 	 *         returned
+	 * @throws BeanStoreDestroyedException If this bean store has been destroyed, either before or while obtaining the
+	 *         bean instance. A new bean store should be obtained to retry
+	 */
+	public Object get(String beanName, ObjectFactory<?> objectFactory) throws BeanStoreDestroyedException {
+		if (LOGGER.isEnabled(Level.DEBUG)) {
+			LOGGER.debug(() -> "Getting bean with name [" + beanName + "] from: " + this);
+		}
+		checkNotDestroyed();
+		// check the existing instance first, without locking
+		Object bean = objectMap.get(beanName);
+		if (bean == null) {
+			bean = objectMap.computeIfAbsent(beanName, name -> create(name, objectFactory));
+		}
+		if (destroyed) {
+			// the store was destroyed concurrently: the instance may have been stored after the store was cleared
+			if (objectMap.remove(beanName, bean)) {
+				destroyedCount.increment();
+				final Runnable callback = destructionCallbacks.remove(beanName);
+				if (callback != null) {
+					try {
+						callback.run();
+					} catch (Exception e) {
+						LOGGER.error("TenantBeanStore destruction callback failed", e);
+					}
+				}
+			}
+			throw new BeanStoreDestroyedException(this);
+		}
+		return bean;
+	}
+
+	/**
+	 * Checks whether this bean store has been destroyed.
+	 * @return <code>true</code> if this bean store has been destroyed or it is being destroyed
 	 */
-	public Object get(String beanName, ObjectFactory<?> objectFactory) {
-		LOGGER.debug(() -> "Getting bean with name [" + beanName + "] from: " + this);
+	public boolean isDestroyed() {
+		return destroyed;
+	}
 
-		return objectMap.computeIfAbsent(beanName, name -> create(name, objectFactory));
+	/**
+	 * Check this bean store was not destroyed.
+	 * @throws BeanStoreDestroyedException If this bean store has been destroyed
+	 */
+	private void checkNotDestroyed() throws BeanStoreDestroyedException {
+		if (destroyed) {
+			throw new BeanStoreDestroyedException(this);
+		}
 	}
 
 	/**
@@ -94,6 +157,7 @@ class TenantBeanStore implements Serializable {
 	 */
 	protected Object create(String beanName, ObjectFactory<?> objectFactory) {
 		final Object bean = objectFactory.getObject();
+		createdCount.increment();
 		if (!(bean instanceof Serializable)) {
 			LOGGER.warn("Storing non-serializable bean [" + bean + "] with name [" + beanName + "] in: " + this);
 		} else {
@@ -109,7 +173,11 @@ class TenantBeanStore implements Serializable {
 	 */
 	public Object remove(String beanName) {
 		destructionCallbacks.remove(beanName);
-		return objectMap.remove(beanName);
+		final Object removed = objectMap.remove(beanName);
+		if (removed != null) {
+			destroyedCount.increment();
+		}
+		return removed;
 	}
 
 	/**
@@ -127,37 +195,91 @@ class TenantBeanStore implements Serializable {
 	 * Destroy this bean store
 	 */
 	public void destroy() {
-		if (destroyed) {
-			LOGGER.debug(() -> this + " has already been destroyed, ignoring");
-			return;
+		synchronized (this) {
+			if (destroyed) {
+				LOGGER.debug(() -> this + " has already been destroyed, ignoring");
+				return;
+			}
+			// mark as destroyed first, so that concurrent bean lookups are rejected
+			destroyed = true;
 		}
-		try {
-			LOGGER.debug(() -> "Destroying " + this);
-
-			for (Runnable destructionCallback : destructionCallbacks.values()) {
-				try {
-					destructionCallback.run();
-				} catch (Exception e) {
-					LOGGER.error("TenantBeanStore destruction callback failed", e);
-				}
+
+		LOGGER.debug(() -> "Destroying " + this);
+
+		for (Runnable destructionCallback : destructionCallbacks.values()) {
+			try {
+				destructionCallback.run();
+			} catch (Exception e) {
+				LOGGER.error("TenantBeanStore destruction callback failed", e);
 			}
-			destructionCallbacks.clear();
-			objectMap.clear();
-			if (destructionCallback != null) {
-				try {
-					destructionCallback.beanStoreDestroyed(this);
-				} catch (Exception e) {
-					LOGGER.error("TenantBeanStore final destruction callback failed", e);
-				}
+		}
+		destructionCallbacks.clear();
+		destroyedCount.add(objectMap.size());
+		objectMap.clear();
+		if (destructionCallback != null) {
+			try {
+				destructionCallback.beanStoreDestroyed(this);
+			} catch (Exception e) {
+				LOGGER.error("TenantBeanStore final destruction callback failed", e);
 			}
-		} finally {
-			destroyed = true;
 		}
 	}
 
+	/**
+	 * Get the name of this bean store.
+	 * @return The bean store name
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Get the last access time of this bean store.
+	 * @return The last access time in milliseconds
+	 */
+	public long getLastAccessTime() {
+		return lastAccessTime;
+	}
+
+	/**
+	 * Set the last access time of this bean store.
+	 * @param lastAccessTime The last access time in milliseconds
+	 */
+	public void setLastAccessTime(long lastAccessTime) {
+		// avoid redundant volatile writes
+		if (this.lastAccessTime != lastAccessTime) {
+			this.lastAccessTime = lastAccessTime;
+		}
+	}
+
+	/**
+	 * Get a snapshot of the statistics of this bean store.
+	 * @return The bean store statistics
+	 */
+	public TenantBeanStoreStatistics getStatistics() {
+		return new DefaultTenantBeanStoreStatistics(name, objectMap.size(), createdCount.sum(), destroyedCount.sum());
+	}
+
 	@Override
 	public String toString() {
 		return String.format("%s[id=%x, name=%s]", getClass().getSimpleName(), System.identityHashCode(this), name);
 	}
 
+	/**
+	 * Exception thrown when a bean instance is requested to a destroyed {@link TenantBeanStore}.
+	 */
+	static class BeanStoreDestroyedException extends IllegalStateException {
+
+		private static final long serialVersionUID = -3384164718620512330L;
+
+		/**
+		 * Constructor.
+		 * @param beanStore The destroyed bean store
+		 */
+		BeanStoreDestroyedException(TenantBeanStore beanStore) {
+			super(beanStore + " has been destroyed");
+		}
+
+	}
+
 }
@@ -2,19 +2,26 @@ package com.holonplatform.spring.internal.tenant;
 
 import java.io.Serializable;
 import java.lang.ref.WeakReference;
+import java.util.ArrayList;
 import java.util.HashSet;
-import java.util.Map;
+import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
 
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.ObjectFactory;
 import org.springframework.beans.factory.config.Scope;
 
 import com.holonplatform.core.internal.Logger;
-import com.holonplatform.core.internal.Logger.Level;
 import com.holonplatform.core.internal.utils.ObjectUtils;
 import com.holonplatform.core.tenancy.TenantResolver;
+import com.holonplatform.spring.TenantScopeManager.TenantBeanStoreStatistics;
 import com.holonplatform.spring.internal.SpringLogger;
+import com.holonplatform.spring.internal.tenant.TenantBeanStore.BeanStoreDestroyedException;
 
 /**
  * Spring scope related to current tenant id using a {@link TenantResolver}.
@@ -26,6 +33,11 @@ public class TenantScope implements Scope {
 	 */
 	public static final String SCOPE_NAME = "tenant";
 
+	/*
+	 * Logger
+	 */
+	private static final Logger LOGGER = SpringLogger.create();
+
 	/**
 	 * Tenant resolver bean name
 	 */
@@ -41,23 +53,68 @@ public class TenantScope implements Scope {
 	 */
 	private final TenantBeanStoresManager storesManager;
 
+	/**
+	 * Cached singleton TenantResolver
+	 */
+	private volatile TenantResolver tenantResolver;
+
 	/**
 	 * Construct a new TenantScope
 	 * @param tenantResolverBeanName TenantResolver bean name
 	 * @param beanFactory BeanFactory
 	 */
 	public TenantScope(String tenantResolverBeanName, BeanFactory beanFactory) {
+		this(tenantResolverBeanName, beanFactory, -1, -1L);
+	}
+
+	/**
+	 * Construct a new TenantScope with bean stores eviction policies.
+	 * @param tenantResolverBeanName TenantResolver bean name
+	 * @param beanFactory BeanFactory
+	 * @param maxTenants Max number of tenant bean stores to keep, the least recently used bean stores are destroyed
+	 *        when the limit is exceeded. A value <code>&lt;= 0</code> means no limit
+	 * @param tenantIdleTimeout Time in milliseconds after which a tenant bean store which was not accessed is
+	 *        destroyed. A value <code>&lt;= 0</code> means no timeout
+	 * @since 5.2.0
+	 */
+	public TenantScope(String tenantResolverBeanName, BeanFactory beanFactory, int maxTenants,
+			long tenantIdleTimeout) {
+		this(tenantResolverBeanName, beanFactory, maxTenants, tenantIdleTimeout, null);
+	}
+
+	/**
+	 * Construct a new TenantScope with bean stores eviction policies, using given time source to track the bean stores
+	 * access time.
+	 * @param tenantResolverBeanName TenantResolver bean name
+	 * @param beanFactory BeanFactory
+	 * @param maxTenants Max number of tenant bean stores to keep, the least recently used bean stores are destroyed
+	 *        when the limit is exceeded. A value <code>&lt;= 0</code> means no limit
+	 * @param tenantIdleTimeout Time in milliseconds after which a tenant bean store which was not accessed is
+	 *        destroyed. A value <code>&lt;= 0</code> means no timeout
+	 * @param timeSource The time source which provides the current time in milliseconds, if <code>null</code> the
+	 *        system clock is used
+	 * @since 5.2.0
+	 */
+	public TenantScope(String tenantResolverBeanName, BeanFactory beanFactory, int maxTenants,
+			long tenantIdleTimeout, LongSupplier timeSource) {
 		super();
 		ObjectUtils.argumentNotNull(tenantResolverBeanName, "Tenant resolver bean name must be not null");
 		ObjectUtils.argumentNotNull(beanFactory, "BeanFactory must be not null");
 		this.tenantResolverBeanName = tenantResolverBeanName;
 		this.beanFactory = new WeakReference<>(beanFactory);
-		this.storesManager = new TenantBeanStoresManager();
+		this.storesManager = new TenantBeanStoresManager(maxTenants, tenantIdleTimeout, timeSource);
 	}
 
 	@Override
 	public Object get(String name, ObjectFactory<?> objectFactory) {
-		return getBeanStore().get(name, objectFactory);
+		while (true) {
+			try {
+				return getBeanStore().get(name, objectFactory);
+			} catch (BeanStoreDestroyedException e) {
+				// the bean store was destroyed concurrently (for example by an eviction): resolve it again
+				LOGGER.debug(() -> "Bean store destroyed while getting bean with name [" + name + "], retrying");
+			}
+		}
 	}
 
 	@Override
@@ -85,6 +142,7 @@ public class TenantScope implements Scope {
 	 */
 	public void destroy() {
 		this.storesManager.destroy();
+		this.tenantResolver = null;
 	}
 
 	/**
@@ -97,27 +155,55 @@ public class TenantScope implements Scope {
 		this.storesManager.destroy(tenantId);
 	}
 
+	/**
+	 * Get the statistics of the bean store bound to given <code>tenantId</code>, if available.
+	 * @param tenantId The tenant id which identifies the bean store (not null)
+	 * @return Optional bean store statistics
+	 */
+	public Optional<TenantBeanStoreStatistics> getBeanStoreStatistics(String tenantId) {
+		ObjectUtils.argumentNotNull(tenantId, "Tenant id must be not null");
+		return this.storesManager.getBeanStoreStatistics(tenantId);
+	}
+
+	/**
+	 * Get the statistics of all the active bean stores.
+	 * @return The bean stores statistics
+	 */
+	public List<TenantBeanStoreStatistics> getBeanStoresStatistics() {
+		return this.storesManager.getBeanStoresStatistics();
+	}
+
 	/**
 	 * Get the {@link TenantBeanStore} for current tenant id
 	 * @return TenantBeanStore
 	 */
-	private synchronized TenantBeanStore getBeanStore() {
-		return storesManager.getBeanStore(getTenantResolver().getTenantId()
+	private TenantBeanStore getBeanStore() {
+		final TenantResolver resolver = getTenantResolver();
+		return storesManager.getBeanStore(resolver.getTenantId()
 				.orElseThrow(() -> new IllegalStateException("No tenant id available from the TenantResolver ["
-						+ getTenantResolver() + "] - Tenant resolver bean name: [" + tenantResolverBeanName + "]")));
+						+ resolver + "] - Tenant resolver bean name: [" + tenantResolverBeanName + "]")));
 	}
 
 	/**
-	 * Get the {@link TenantResolver} to use from the BeanFactory.
+	 * Get the {@link TenantResolver} to use from the BeanFactory. If the TenantResolver is a singleton bean, the
+	 * instance is cached and the BeanFactory is no longer queried.
 	 * @return The TenantResolver bean instance
 	 */
 	private TenantResolver getTenantResolver() throws IllegalStateException {
+		final TenantResolver cached = tenantResolver;
+		if (cached != null) {
+			return cached;
+		}
 		final BeanFactory factory = beanFactory.get();
 		if (factory == null) {
 			throw new IllegalStateException("A BeanFactory is not available");
 		}
 		try {
-			return factory.getBean(tenantResolverBeanName, TenantResolver.class);
+			final TenantResolver resolver = factory.getBean(tenantResolverBeanName, TenantResolver.class);
+			if (factory.isSingleton(tenantResolverBeanName)) {
+				tenantResolver = resolver;
+			}
+			return resolver;
 		} catch (Exception e) {
 			throw new IllegalStateException("Tenant scope: failed to obtain a valid TenantResolver", e);
 		}
@@ -132,50 +218,202 @@ public class TenantScope implements Scope {
 
 		private static final long serialVersionUID = 1374634976273935218L;
 
-		/*
-		 * Logger
+		/**
+		 * Thread-safe tenantId - TenantBeanStore map
 		 */
-		private static final Logger LOGGER = SpringLogger.create();
+		private final ConcurrentMap<String, TenantBeanStore> stores = new ConcurrentHashMap<>();
 
 		/**
-		 * Thread-safe tenantId - TenantBeanStore map
+		 * Max number of bean stores, <code>&lt;= 0</code> for no limit
+		 */
+		private final int maxTenants;
+
+		/**
+		 * Bean stores idle timeout in milliseconds, <code>&lt;= 0</code> for none
+		 */
+		private final long tenantIdleTimeout;
+
+		/**
+		 * Time source, <code>null</code> to use the system clock
+		 */
+		private transient LongSupplier timeSource;
+
+		/**
+		 * Next idle bean stores check time
+		 */
+		private final AtomicLong nextIdleCheck;
+
+		/**
+		 * Eviction lock
+		 */
+		private final ReentrantLock evictionLock = new ReentrantLock();
+
+		/**
+		 * Constructor without eviction policies.
 		 */
-		private final Map<String, TenantBeanStore> stores = new ConcurrentHashMap<>();
+		TenantBeanStoresManager() {
+			this(-1, -1L, null);
+		}
+
+		/**
+		 * Constructor.
+		 * @param maxTenants Max number of bean stores, <code>&lt;= 0</code> for no limit
+		 * @param tenantIdleTimeout Bean stores idle timeout in milliseconds, <code>&lt;= 0</code> for none
+		 * @param timeSource Time source in milliseconds, <code>null</code> to use the system clock
+		 */
+		TenantBeanStoresManager(int maxTenants, long tenantIdleTimeout, LongSupplier timeSource) {
+			super();
+			this.maxTenants = maxTenants;
+			this.tenantIdleTimeout = tenantIdleTimeout;
+			this.timeSource = timeSource;
+			this.nextIdleCheck = new AtomicLong(currentTimeMillis() + getIdleCheckInterval());
+		}
+
+		/**
+		 * Get the current time from the time source.
+		 * @return The current time in milliseconds
+		 */
+		private long currentTimeMillis() {
+			final LongSupplier source = timeSource;
+			return (source != null) ? source.getAsLong() : System.currentTimeMillis();
+		}
 
 		/**
 		 * Get (and creta if not present) the TenantBeanStore associated with given <code>tenantId</code>.
 		 * @param tenantId Tenant id
 		 * @return TenantBeanStore
 		 */
-		@SuppressWarnings("serial")
 		public TenantBeanStore getBeanStore(final String tenantId) {
+			// check the existing store first, without locking
 			TenantBeanStore beanStore = stores.get(tenantId);
+			if (beanStore != null && beanStore.isDestroyed()) {
+				// being destroyed, do not wait for the destruction callback to remove it
+				stores.remove(tenantId, beanStore);
+				beanStore = null;
+			}
 			if (beanStore == null) {
-				beanStore = new TenantBeanStore(tenantId, new TenantBeanStore.DestructionCallback() {
+				beanStore = stores.computeIfAbsent(tenantId, id -> createBeanStore(id));
+				if (maxTenants > 0 && stores.size() > maxTenants) {
+					beanStore.setLastAccessTime(currentTimeMillis());
+					evictLeastRecentlyUsed(beanStore);
+				}
+			}
+			if (maxTenants > 0 || tenantIdleTimeout > 0) {
+				final long now = currentTimeMillis();
+				beanStore.setLastAccessTime(now);
+				checkIdleBeanStores(now);
+			}
+			return beanStore;
+		}
 
-					@Override
-					public void beanStoreDestroyed(TenantBeanStore beanStore) {
-						removeBeanStore(tenantId);
-					}
+		/**
+		 * Get the idle bean stores check interval.
+		 * @return The idle bean stores check interval in milliseconds
+		 */
+		private long getIdleCheckInterval() {
+			return Math.max(tenantIdleTimeout / 2, 1L);
+		}
 
-				});
-				stores.put(tenantId, beanStore);
+		/**
+		 * Destroy the bean stores which were not accessed within the idle timeout, if the idle check interval is
+		 * elapsed.
+		 * @param now Current time in milliseconds
+		 */
+		private void checkIdleBeanStores(long now) {
+			final long next = nextIdleCheck.get();
+			if (tenantIdleTimeout > 0 && now >= next
+					&& nextIdleCheck.compareAndSet(next, now + getIdleCheckInterval())) {
+				if (evictionLock.tryLock()) {
+					try {
+						for (TenantBeanStore beanStore : stores.values()) {
+							if (now - beanStore.getLastAccessTime() > tenantIdleTimeout) {
+								LOGGER.debug(() -> "Evicting idle [" + beanStore + "] from: " + this);
+								beanStore.destroy();
+							}
+						}
+					} finally {
+						evictionLock.unlock();
+					}
+				}
+			}
+		}
 
-				if (LOGGER.isEnabled(Level.DEBUG)) {
-					final TenantBeanStore tbs = beanStore;
-					LOGGER.debug(() -> "Added [" + tbs + "] to: " + this);
+		/**
+		 * Destroy the least recently used bean stores until the bean stores count does not exceed the max tenants.
+		 * @param current The bean store which is currently accessed, which is never evicted
+		 */
+		private void evictLeastRecentlyUsed(TenantBeanStore current) {
+			evictionLock.lock();
+			try {
+				while (stores.size() > maxTenants) {
+					TenantBeanStore eldest = null;
+					for (TenantBeanStore beanStore : stores.values()) {
+						if (beanStore != current
+								&& (eldest == null || beanStore.getLastAccessTime() < eldest.getLastAccessTime())) {
+							eldest = beanStore;
+						}
+					}
+					if (eldest == null) {
+						break;
+					}
+					final TenantBeanStore evicted = eldest;
+					LOGGER.debug(() -> "Evicting least recently used [" + evicted + "] from: " + this);
+					evicted.destroy();
+					// ensure removal, even if the store was already destroyed
+					stores.remove(evicted.getName(), evicted);
 				}
+			} finally {
+				evictionLock.unlock();
 			}
+		}
+
+		/**
+		 * Create a new TenantBeanStore for given <code>tenantId</code>.
+		 * @param tenantId Tenant id
+		 * @return A new TenantBeanStore
+		 */
+		@SuppressWarnings("serial")
+		private TenantBeanStore createBeanStore(final String tenantId) {
+			final TenantBeanStore beanStore = new TenantBeanStore(tenantId, new TenantBeanStore.DestructionCallback() {
+
+				@Override
+				public void beanStoreDestroyed(TenantBeanStore beanStore) {
+					removeBeanStore(tenantId, beanStore);
+				}
+
+			});
+			LOGGER.debug(() -> "Added [" + beanStore + "] to: " + this);
 			return beanStore;
 		}
 
 		/**
-		 * Removes the TenantBeanStore associated to given <code>tenantId</code>, if any.
+		 * Removes given TenantBeanStore associated to given <code>tenantId</code>, if it is still the current one.
+		 * @param tenantId Tenant id
+		 * @param beanStore The bean store to remove
+		 */
+		void removeBeanStore(final String tenantId, final TenantBeanStore beanStore) {
+			if (stores.remove(tenantId, beanStore)) {
+				LOGGER.debug(() -> "Removed [" + beanStore + "] from: " + this);
+			}
+		}
+
+		/**
+		 * Get the statistics of the TenantBeanStore associated to given <code>tenantId</code>, if any.
 		 * @param tenantId Tenant id
+		 * @return Optional bean store statistics
+		 */
+		Optional<TenantBeanStoreStatistics> getBeanStoreStatistics(String tenantId) {
+			return Optional.ofNullable(stores.get(tenantId)).map(s -> s.getStatistics());
+		}
+
+		/**
+		 * Get the statistics of all the TenantBeanStores.
+		 * @return The bean stores statistics
 		 */
-		void removeBeanStore(final String tenantId) {
-			final TenantBeanStore removed = stores.remove(tenantId);
-			LOGGER.debug(() -> "Removed [" + removed + "] from: " + this);
+		List<TenantBeanStoreStatistics> getBeanStoresStatistics() {
+			final List<TenantBeanStoreStatistics> statistics = new ArrayList<>(stores.size());
+			stores.values().forEach(s -> statistics.add(s.getStatistics()));
+			return statistics;
 		}
 
 		void destroy(String tenantId) {
@@ -51,15 +51,32 @@ public class TenantScopePostProcessor implements BeanFactoryPostProcessor {
 	 */
 	private final boolean enableTenantScopeManager;
 
+	/**
+	 * Max number of tenant bean stores
+	 */
+	private final int maxTenants;
+
+	/**
+	 * Tenant bean stores idle timeout in milliseconds
+	 */
+	private final long tenantIdleTimeout;
+
 	/**
 	 * The tenant scope
 	 */
 	private TenantScope tenantScope;
 
 	public TenantScopePostProcessor(String tenantResolver, boolean enableTenantScopeManager) {
+		this(tenantResolver, enableTenantScopeManager, -1, -1L);
+	}
+
+	public TenantScopePostProcessor(String tenantResolver, boolean enableTenantScopeManager, int maxTenants,
+			long tenantIdleTimeout) {
 		super();
 		this.tenantResolver = tenantResolver;
 		this.enableTenantScopeManager = enableTenantScopeManager;
+		this.maxTenants = maxTenants;
+		this.tenantIdleTimeout = tenantIdleTimeout;
 	}
 
 	/*
@@ -94,12 +111,13 @@ public class TenantScopePostProcessor implements BeanFactoryPostProcessor {
 					"The tenant scope cannot be registered: missing TenantResolver bean definition name");
 		}
 
-		tenantScope = new TenantScope(tenantResolverBeanName, beanFactory);
+		tenantScope = new TenantScope(tenantResolverBeanName, beanFactory, maxTenants, tenantIdleTimeout);
 
 		beanFactory.registerScope(TenantScope.SCOPE_NAME, tenantScope);
 
 		LOGGER.info("Registered scope [" + TenantScope.SCOPE_NAME + "] using TenantResolver bean name ["
-				+ tenantResolverBeanName + "]");
+				+ tenantResolverBeanName + "]" + ((maxTenants > 0) ? " - max tenants: " + maxTenants : "")
+				+ ((tenantIdleTimeout > 0) ? " - tenant idle timeout: " + tenantIdleTimeout + " ms" : ""));
 
 		// Tenant scope manager registration
 		if (enableTenantScopeManager) {
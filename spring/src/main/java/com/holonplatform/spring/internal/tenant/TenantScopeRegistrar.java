@@ -62,9 +62,21 @@ public class TenantScopeRegistrar implements ImportBeanDefinitionRegistrar, Envi
 			boolean enableTenantScopeManager = BeanRegistryUtils.getAnnotationValue(attributes,
 					"enableTenantScopeManager", true);
 
+			// eviction policies
+			int maxTenants = BeanRegistryUtils.getAnnotationValue(attributes, "maxTenants", -1);
+			if (environment.containsProperty(EnableTenantScope.MAX_TENANTS_PROPERTY_NAME)) {
+				maxTenants = environment.getProperty(EnableTenantScope.MAX_TENANTS_PROPERTY_NAME, Integer.class, -1);
+			}
+			long tenantIdleTimeout = BeanRegistryUtils.getAnnotationValue(attributes, "tenantIdleTimeout", -1L);
+			if (environment.containsProperty(EnableTenantScope.TENANT_IDLE_TIMEOUT_PROPERTY_NAME)) {
+				tenantIdleTimeout = environment.getProperty(EnableTenantScope.TENANT_IDLE_TIMEOUT_PROPERTY_NAME,
+						Long.class, -1L);
+			}
+
 			final BeanDefinitionBuilder postProcessorBuilder = BeanDefinitionBuilder
 					.genericBeanDefinition(TenantScopePostProcessor.class).setDestroyMethodName("unregister")
 					.addConstructorArgValue(tenantResolver).addConstructorArgValue(enableTenantScopeManager)
+					.addConstructorArgValue(maxTenants).addConstructorArgValue(tenantIdleTimeout)
 					.setRole(BeanDefinition.ROLE_INFRASTRUCTURE);
 			registry.registerBeanDefinition(TENANT_SCOPE_POST_PROCESSOR_NAME, postProcessorBuilder.getBeanDefinition());
 
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.spring.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.holonplatform.spring.internal.rest.JsonArrayElementsReader;
+
+public class TestJsonArrayElementsReader {
+
+	private static List<String> read(String json) throws IOException {
+		final JsonArrayElementsReader reader = new JsonArrayElementsReader(
+				new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+		final List<String> elements = new ArrayList<>();
+		byte[] element;
+		while ((element = reader.next()) != null) {
+			elements.add(new String(element, StandardCharsets.UTF_8).trim());
+		}
+		// no more elements
+		assertNull(reader.next());
+		return elements;
+	}
+
+	@Test
+	public void testElements() throws IOException {
+		assertEquals(Arrays.asList("1", "\"a\"", "true", "null", "-2.5e3"),
+				read("[1,\"a\",true,null,-2.5e3]"));
+		assertEquals(Arrays.asList("1", "2"), read(" \r\n\t[ 1 ,\n 2 ]\n"));
+		assertEquals(Collections.singletonList("{\"id\":1}"), read("[{\"id\":1}]"));
+	}
+
+	@Test
+	public void testEmpty() throws IOException {
+		assertEquals(Collections.emptyList(), read("[]"));
+		assertEquals(Collections.emptyList(), read("  [  ]  "));
+		// no body
+		assertEquals(Collections.emptyList(), read(""));
+		assertEquals(Collections.emptyList(), read(" \n"));
+	}
+
+	@Test
+	public void testNullInput() {
+		try {
+			new JsonArrayElementsReader(null);
+			fail("Expected IllegalArgumentException");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+	}
+
+	@Test
+	public void testStrings() throws IOException {
+		// escaped quotes
+		assertEquals(Arrays.asList("\"a\\\"b\"", "\"\\\\\"", "\"c\\\\\\\"\""),
+				read("[\"a\\\"b\",\"\\\\\",\"c\\\\\\\"\"]"));
+		// structural characters inside strings
+		assertEquals(Arrays.asList("\"a]b\"", "\"c,d\"", "\"{[\""), read("[\"a]b\",\"c,d\",\"{[\"]"));
+		assertEquals(Collections.singletonList("{\"k,]\":\"v}\\\",\"}"), read("[{\"k,]\":\"v}\\\",\"}]"));
+		// non ASCII characters
+		assertEquals(Arrays.asList("\"è€\"", "\"😀,\""), read("[\"è€\",\"😀,\"]"));
+	}
+
+	@Test
+	public void testNested() throws IOException {
+		assertEquals(Arrays.asList("[1,2]", "[]", "[[3],[4,[5]]]"), read("[[1,2],[],[[3],[4,[5]]]]"));
+		assertEquals(Arrays.asList("{\"a\":[1,{\"b\":{}}],\"c\":\"d\"}", "{}"),
+				read("[{\"a\":[1,{\"b\":{}}],\"c\":\"d\"},{}]"));
+	}
+
+	@Test
+	public void testInvalid() throws IOException {
+		expectIOException("{\"a\":1}", IOException.class);
+		expectIOException("[1,2", EOFException.class);
+		expectIOException("[\"a]", EOFException.class);
+		expectIOException("[1}", IOException.class);
+	}
+
+	private static void expectIOException(String json, Class<? extends IOException> expected) {
+		try (InputStream input = new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8))) {
+			final JsonArrayElementsReader reader = new JsonArrayElementsReader(input);
+			while (reader.next() != null) {
+				// consume
+			}
+			fail("Expected " + expected.getSimpleName());
+		} catch (IOException e) {
+			if (!expected.isInstance(e)) {
+				fail("Expected " + expected.getSimpleName() + " but got " + e);
+			}
+		}
+	}
+
+}
@@ -24,6 +24,8 @@ import java.io.OutputStream;
 import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.ws.rs.Consumes;
 import javax.ws.rs.FormParam;
@@ -62,6 +64,7 @@ import com.holonplatform.http.exceptions.UnsuccessfulResponseException;
 import com.holonplatform.http.rest.RequestEntity;
 import com.holonplatform.http.rest.ResponseEntity;
 import com.holonplatform.http.rest.RestClient;
+import com.holonplatform.http.rest.RestClient.RequestTemplate;
 import com.holonplatform.spring.EnableBeanContext;
 import com.holonplatform.spring.SpringRestClient;
 
@@ -385,6 +388,48 @@ public class TestRestClient extends JerseyTest {
 		Assert.assertTrue(Arrays.equals(new byte[] { 1, 2, 3 }, bytes));
 	}
 
+	@Test
+	public void testRequestTemplate() {
+		final RestClient client = SpringRestClient.create(restTemplate).defaultTarget(getBaseUri());
+
+		final RequestTemplate template = client.request().path("test").path("data/{id}").compile();
+
+		for (int i = 1; i < 4; i++) {
+			TestData td = template.request().resolve("id", i).getForEntity(TestData.class).orElse(null);
+			assertNotNull(td);
+			assertEquals(i, td.getCode());
+			assertEquals("value" + i, td.getValue());
+		}
+
+		List<TestData> tds = client.request().path("test").path("data").compile().request()
+				.getAsList(TestData.class);
+		assertEquals(2, tds.size());
+
+		TestUtils.expectedException(IllegalArgumentException.class, () -> {
+			template.request().getForEntity(TestData.class);
+		});
+	}
+
+	@Test
+	public void testStreamElements() {
+		final RestClient client = SpringRestClient.create(restTemplate).defaultTarget(getBaseUri());
+
+		try (Stream<TestData> elements = client.request().path("test").path("data").getAsStream(TestData.class)) {
+			List<TestData> tds = elements.collect(Collectors.toList());
+			assertEquals(2, tds.size());
+			assertEquals(1, tds.get(0).getCode());
+			assertEquals("Two", tds.get(1).getValue());
+		}
+
+		try (Stream<TestData> elements = client.request().path("test").path("data").getAsStream(TestData.class)) {
+			assertEquals(1, elements.findFirst().map(td -> td.getCode()).orElse(-1).intValue());
+		}
+
+		TestUtils.expectedException(UnsuccessfulResponseException.class, () -> {
+			client.request().path("test").path("data2/{id}").resolve("id", -1).getAsStream(TestData.class);
+		});
+	}
+
 	@Test
 	public void testErrors() {
 		final RestClient client = SpringRestClient.create(restTemplate).defaultTarget(getBaseUri());
@@ -0,0 +1,128 @@
+package com.holonplatform.spring.test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+import com.holonplatform.core.tenancy.TenantResolver;
+import com.holonplatform.spring.internal.tenant.TenantScope;
+
+public class TestTenantScopeEviction {
+
+	private static final ThreadLocal<String> CURRENT_TENANT_ID = new ThreadLocal<>();
+
+	private final AtomicLong time = new AtomicLong(1000L);
+
+	private TenantScope createScope(int maxTenants, long tenantIdleTimeout) {
+		final DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+		beanFactory.registerSingleton("tenantResolver",
+				(TenantResolver) () -> Optional.ofNullable(CURRENT_TENANT_ID.get()));
+		return new TenantScope("tenantResolver", beanFactory, maxTenants, tenantIdleTimeout, () -> time.get());
+	}
+
+	private static TenantManagedBeanTest getBean(TenantScope scope, String tenantId,
+			Consumer<TenantManagedBeanTest> onCreate) {
+		try {
+			CURRENT_TENANT_ID.set(tenantId);
+			return (TenantManagedBeanTest) scope.get("tenantManagedBeanTest", () -> {
+				final TenantManagedBeanTest bean = new TenantManagedBeanTest();
+				scope.registerDestructionCallback("tenantManagedBeanTest", () -> bean.preDestroy());
+				if (onCreate != null) {
+					onCreate.accept(bean);
+				}
+				return bean;
+			});
+		} finally {
+			CURRENT_TENANT_ID.remove();
+		}
+	}
+
+	private static TenantManagedBeanTest getBean(TenantScope scope, String tenantId) {
+		return getBean(scope, tenantId, null);
+	}
+
+	@Test
+	public void testMaxTenants() {
+		final TenantScope scope = createScope(2, -1L);
+
+		final TenantManagedBeanTest e1 = getBean(scope, "E1");
+		time.addAndGet(10);
+		final TenantManagedBeanTest e2 = getBean(scope, "E2");
+		time.addAndGet(10);
+		Assert.assertTrue(e1 == getBean(scope, "E1"));
+		time.addAndGet(10);
+
+		// E2 is the least recently used
+		final TenantManagedBeanTest e3 = getBean(scope, "E3");
+		Assert.assertTrue(e2.isDestroyed());
+		Assert.assertFalse(e1.isDestroyed());
+		Assert.assertFalse(e3.isDestroyed());
+		Assert.assertFalse(scope.getBeanStoreStatistics("E2").isPresent());
+		Assert.assertEquals(2, scope.getBeanStoresStatistics().size());
+
+		// a new bean store is created for E2
+		final TenantManagedBeanTest e2b = getBean(scope, "E2");
+		Assert.assertTrue(e2 != e2b);
+		Assert.assertTrue(e1.isDestroyed());
+		Assert.assertFalse(e3.isDestroyed());
+		Assert.assertEquals(2, scope.getBeanStoresStatistics().size());
+
+		scope.destroy();
+		Assert.assertTrue(e3.isDestroyed());
+		Assert.assertTrue(e2b.isDestroyed());
+	}
+
+	@Test
+	public void testIdleTimeout() {
+		final TenantScope scope = createScope(-1, 500L);
+
+		final TenantManagedBeanTest e1 = getBean(scope, "E1");
+		time.addAndGet(300);
+		final TenantManagedBeanTest e2 = getBean(scope, "E2");
+		time.addAndGet(300);
+		final TenantManagedBeanTest e3 = getBean(scope, "E3");
+
+		// E1 idle for 600 ms
+		Assert.assertTrue(e1.isDestroyed());
+		Assert.assertFalse(e2.isDestroyed());
+		Assert.assertFalse(e3.isDestroyed());
+		Assert.assertEquals(2, scope.getBeanStoresStatistics().size());
+
+		time.addAndGet(600);
+		getBean(scope, "E4");
+		Assert.assertTrue(e2.isDestroyed());
+		Assert.assertTrue(e3.isDestroyed());
+		Assert.assertEquals(1, scope.getBeanStoresStatistics().size());
+		Assert.assertTrue(scope.getBeanStoreStatistics("E4").isPresent());
+	}
+
+	@Test
+	public void testBeanStoreDestroyedWhileCreating() {
+		final TenantScope scope = createScope(2, 500L);
+
+		final List<TenantManagedBeanTest> created = new ArrayList<>();
+		final TenantManagedBeanTest e1 = getBean(scope, "E1", bean -> {
+			if (created.isEmpty()) {
+				// the bean store is destroyed concurrently while the first bean instance is created
+				scope.destroy("E1");
+			}
+			created.add(bean);
+		});
+
+		// the instance created in the destroyed bean store is discarded and a new bean store is used
+		Assert.assertEquals(2, created.size());
+		Assert.assertTrue(created.get(0).isDestroyed());
+		Assert.assertTrue(e1 == created.get(1));
+		Assert.assertFalse(e1.isDestroyed());
+		Assert.assertTrue(e1 == getBean(scope, "E1"));
+		Assert.assertEquals(1, scope.getBeanStoreStatistics("E1").get().getSize());
+		Assert.assertEquals(1, scope.getBeanStoresStatistics().size());
+	}
+
+}
@@ -18,6 +18,7 @@ import com.holonplatform.core.tenancy.TenantResolver;
 import com.holonplatform.spring.EnableTenantScope;
 import com.holonplatform.spring.ScopeTenant;
 import com.holonplatform.spring.TenantScopeManager;
+import com.holonplatform.spring.TenantScopeManager.TenantBeanStoreStatistics;
 
 @RunWith(SpringJUnit4ClassRunner.class)
 @ContextConfiguration(classes = TestTenantScopeManager.Config.class)
@@ -109,4 +110,32 @@ public class TestTenantScopeManager {
 		Assert.assertTrue(i1.isDestroyed());
 	}
 
+	@Test
+	public void testBeanStoreStatistics() {
+
+		Assert.assertFalse(manager.getTenantBeanStoreStatistics("S1").isPresent());
+
+		try {
+			CURRENT_TENANT_ID.set("S1");
+			TenantManagedBeanTest i1 = applicationContext.getBean(TenantManagedBeanTest.class);
+			TenantManagedBeanTest i2 = applicationContext.getBean(TenantManagedBeanTest.class);
+			Assert.assertTrue(i1 == i2);
+		} finally {
+			CURRENT_TENANT_ID.remove();
+		}
+
+		TenantBeanStoreStatistics statistics = manager.getTenantBeanStoreStatistics("S1").orElse(null);
+		Assert.assertNotNull(statistics);
+		Assert.assertEquals("S1", statistics.getTenantId());
+		Assert.assertEquals(1, statistics.getSize());
+		Assert.assertEquals(1L, statistics.getCreatedCount());
+		Assert.assertEquals(0L, statistics.getDestroyedCount());
+
+		Assert.assertTrue(manager.getTenantBeanStoresStatistics().stream().anyMatch(s -> "S1".equals(s.getTenantId())));
+
+		manager.discardTenantBeanStore("S1");
+
+		Assert.assertFalse(manager.getTenantBeanStoreStatistics("S1").isPresent());
+	}
+
 }